@@ -79,6 +79,10 @@ class CookieManager {
           iosBelow11WebViewController: iosBelow11WebViewController?.platform,
           webViewController: webViewController?.platform);
 
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformCookieManager.setCookies}
+  Future<bool> setCookies({required Map<WebUri, List<Cookie>> cookies}) =>
+      platform.setCookies(cookies: cookies);
+
   ///{@macro zikzak_inappwebview_platform_interface.PlatformCookieManager.getCookies}
   Future<List<Cookie>> getCookies(
           {required WebUri url,
@@ -90,6 +94,11 @@ class CookieManager {
           iosBelow11WebViewController: iosBelow11WebViewController?.platform,
           webViewController: webViewController?.platform);
 
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformCookieManager.getAllCookiesForUrls}
+  Future<Map<WebUri, List<Cookie>>> getAllCookiesForUrls(
+          {required List<WebUri> urls}) =>
+      platform.getAllCookiesForUrls(urls: urls);
+
   ///{@macro zikzak_inappwebview_platform_interface.PlatformCookieManager.getCookie}
   Future<Cookie?> getCookie(
           {required WebUri url,
@@ -143,6 +152,20 @@ class CookieManager {
 
   ///{@macro zikzak_inappwebview_platform_interface.PlatformCookieManager.removeSessionCookies}
   Future<bool> removeSessionCookies() => platform.removeSessionCookies();
+
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformCookieManager.watchCookies}
+  Future<void> watchCookies(
+          {required Map<WebUri, List<String>> cookies,
+          Duration? checkInterval,
+          required void Function(List<CookieChange> changes)
+              onCookiesChanged}) =>
+      platform.watchCookies(
+          cookies: cookies,
+          checkInterval: checkInterval,
+          onCookiesChanged: onCookiesChanged);
+
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformCookieManager.stopWatchingCookies}
+  Future<void> stopWatchingCookies() => platform.stopWatchingCookies();
 }
 
 ///Class that contains only iOS-specific methods of [CookieManager].
@@ -48,6 +48,12 @@ class HttpAuthCredentialDatabase {
       platform.setHttpAuthCredential(
           protectionSpace: protectionSpace, credential: credential);
 
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformHttpAuthCredentialDatabase.importHttpAuthCredentials}
+  Future<bool> importHttpAuthCredentials(
+          {required List<URLProtectionSpaceHttpAuthCredentials>
+              credentials}) =>
+      platform.importHttpAuthCredentials(credentials: credentials);
+
   ///{@macro zikzak_inappwebview_platform_interface.PlatformHttpAuthCredentialDatabase.removeHttpAuthCredential}
   Future<void> removeHttpAuthCredential(
           {required URLProtectionSpace protectionSpace,
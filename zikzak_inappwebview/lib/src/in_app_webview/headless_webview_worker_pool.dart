@@ -0,0 +1,76 @@
+import 'dart:ui';
+
+import 'package:zikzak_inappwebview_platform_interface/zikzak_inappwebview_platform_interface.dart';
+
+///{@macro zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPool}
+class HeadlessWebViewWorkerPool {
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPool}
+  ///
+  ///- [size]: {@macro zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPoolCreationParams.size}
+  ///- [initialSettings]: {@macro zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPoolCreationParams.initialSettings}
+  ///- [initialSize]: {@macro zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPoolCreationParams.initialSize}
+  ///- [jobTimeout]: {@macro zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPoolCreationParams.jobTimeout}
+  ///- [maxJobsPerWorker]: {@macro zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPoolCreationParams.maxJobsPerWorker}
+  ///- [clearSharedStorageBetweenJobs]: {@macro zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPoolCreationParams.clearSharedStorageBetweenJobs}
+  ///- [resultBatchSize]: {@macro zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPoolCreationParams.resultBatchSize}
+  ///- [resultBatchInterval]: {@macro zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPoolCreationParams.resultBatchInterval}
+  ///- [onJobResults]: {@macro zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPoolCreationParams.onJobResults}
+  HeadlessWebViewWorkerPool(
+      {int size = 2,
+      InAppWebViewSettings? initialSettings,
+      Size initialSize = const Size(-1, -1),
+      Duration jobTimeout = const Duration(seconds: 30),
+      int maxJobsPerWorker = 50,
+      bool clearSharedStorageBetweenJobs = false,
+      int resultBatchSize = 10,
+      Duration resultBatchInterval = const Duration(milliseconds: 500),
+      void Function(List<HeadlessWebViewJobResult> results)? onJobResults})
+      : this.fromPlatformCreationParams(
+          params: PlatformHeadlessWebViewWorkerPoolCreationParams(
+              size: size,
+              initialSettings: initialSettings,
+              initialSize: initialSize,
+              jobTimeout: jobTimeout,
+              maxJobsPerWorker: maxJobsPerWorker,
+              clearSharedStorageBetweenJobs: clearSharedStorageBetweenJobs,
+              resultBatchSize: resultBatchSize,
+              resultBatchInterval: resultBatchInterval,
+              onJobResults: onJobResults),
+        );
+
+  /// Constructs a [HeadlessWebViewWorkerPool] from creation params for a specific
+  /// platform.
+  HeadlessWebViewWorkerPool.fromPlatformCreationParams({
+    required PlatformHeadlessWebViewWorkerPoolCreationParams params,
+  }) : this.fromPlatform(platform: PlatformHeadlessWebViewWorkerPool(params));
+
+  /// Constructs a [HeadlessWebViewWorkerPool] from a specific platform implementation.
+  HeadlessWebViewWorkerPool.fromPlatform({required this.platform});
+
+  /// Implementation of [PlatformHeadlessWebViewWorkerPool] for the current platform.
+  final PlatformHeadlessWebViewWorkerPool platform;
+
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPool.id}
+  String get id => platform.id;
+
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPool.run}
+  Future<void> run() => platform.run();
+
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPool.isRunning}
+  bool isRunning() => platform.isRunning();
+
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPool.enqueue}
+  Future<void> enqueue(List<HeadlessWebViewJob> jobs) => platform.enqueue(jobs);
+
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPool.cancelPendingJobs}
+  Future<int> cancelPendingJobs() => platform.cancelPendingJobs();
+
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPool.getPendingJobCount}
+  Future<int> getPendingJobCount() => platform.getPendingJobCount();
+
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPool.getRunningJobCount}
+  Future<int> getRunningJobCount() => platform.getRunningJobCount();
+
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPool.dispose}
+  Future<void> dispose() => platform.dispose();
+}
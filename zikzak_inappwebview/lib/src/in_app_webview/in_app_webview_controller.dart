@@ -185,6 +185,47 @@ class InAppWebViewController {
           {ScreenshotConfiguration? screenshotConfiguration}) =>
       platform.takeScreenshot(screenshotConfiguration: screenshotConfiguration);
 
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.getLastScreenshotTimings}
+  Future<ScreenshotTimings?> getLastScreenshotTimings() =>
+      platform.getLastScreenshotTimings();
+
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.startThumbnailCapture}
+  Future<void> startThumbnailCapture(
+          {ThumbnailCaptureConfiguration? configuration}) =>
+      platform.startThumbnailCapture(configuration: configuration);
+
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.stopThumbnailCapture}
+  Future<void> stopThumbnailCapture() => platform.stopThumbnailCapture();
+
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.getThumbnail}
+  Future<Thumbnail?> getThumbnail() => platform.getThumbnail();
+
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.takeFullPageScreenshot}
+  Future<FullPageScreenshotResult?> takeFullPageScreenshot(
+          {FullPageScreenshotConfiguration? configuration,
+          required void Function(FullPageScreenshotTile tile) onTile}) =>
+      platform.takeFullPageScreenshot(
+          configuration: configuration, onTile: onTile);
+
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.hibernate}
+  Future<void> hibernate({required HibernationLevel level}) =>
+      platform.hibernate(level: level);
+
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.wakeUp}
+  Future<void> wakeUp() => platform.wakeUp();
+
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.getHibernationLevel}
+  Future<HibernationLevel?> getHibernationLevel() =>
+      platform.getHibernationLevel();
+
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.getBlockedTrackerRequestCounts}
+  Future<Map<String, int>> getBlockedTrackerRequestCounts() =>
+      platform.getBlockedTrackerRequestCounts();
+
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.clearBlockedTrackerRequestCounts}
+  Future<void> clearBlockedTrackerRequestCounts() =>
+      platform.clearBlockedTrackerRequestCounts();
+
   ///{@macro zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.setOptions}
   @Deprecated('Use setSettings instead')
   Future<void> setOptions({required InAppWebViewGroupOptions options}) =>
@@ -461,6 +502,14 @@ class InAppWebViewController {
   ///{@macro zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.clearFormData}
   Future<void> clearFormData() => platform.clearFormData();
 
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.getConsoleMessages}
+  Future<ConsoleMessageBatch?> getConsoleMessages() =>
+      platform.getConsoleMessages();
+
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.getInterceptedRequestBody}
+  Future<dynamic> getInterceptedRequestBody({required int bodyId}) =>
+      platform.getInterceptedRequestBody(bodyId: bodyId);
+
   ///{@macro zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.getCameraCaptureState}
   Future<MediaCaptureState?> getCameraCaptureState() =>
       platform.getCameraCaptureState();
@@ -560,6 +609,41 @@ class InAppWebViewController {
   static Future<void> disposeKeepAlive(InAppWebViewKeepAlive keepAlive) =>
       PlatformInAppWebViewController.static().disposeKeepAlive(keepAlive);
 
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.configureKeepAliveCache}
+  static Future<void> configureKeepAliveCache({required int capacity}) =>
+      PlatformInAppWebViewController.static()
+          .configureKeepAliveCache(capacity: capacity);
+
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.configureHibernationPolicy}
+  static Future<void> configureHibernationPolicy({HibernationPolicy? policy}) =>
+      PlatformInAppWebViewController.static()
+          .configureHibernationPolicy(policy: policy);
+
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.getKeepAliveThumbnail}
+  static Future<Thumbnail?> getKeepAliveThumbnail(
+          InAppWebViewKeepAlive keepAlive) =>
+      PlatformInAppWebViewController.static().getKeepAliveThumbnail(keepAlive);
+
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.configureTrackerBlocking}
+  static Future<void> configureTrackerBlocking(
+          {required bool enabled,
+          List<String>? addedTrackers,
+          List<String>? removedTrackers}) =>
+      PlatformInAppWebViewController.static().configureTrackerBlocking(
+          enabled: enabled,
+          addedTrackers: addedTrackers,
+          removedTrackers: removedTrackers);
+
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.getBlockedTrackers}
+  static Future<List<String>> getBlockedTrackers() =>
+      PlatformInAppWebViewController.static().getBlockedTrackers();
+
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.configureWarmWebViewPool}
+  static Future<void> configureWarmWebViewPool(
+          {required int size, InAppWebViewSettings? settings}) =>
+      PlatformInAppWebViewController.static()
+          .configureWarmWebViewPool(size: size, settings: settings);
+
   ///{@macro zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.clearAllCache}
   static Future<void> clearAllCache({bool includeDiskFiles = true}) =>
       PlatformInAppWebViewController.static()
@@ -1,6 +1,7 @@
 export 'in_app_webview.dart';
 export 'in_app_webview_controller.dart';
 export 'headless_in_app_webview.dart';
+export 'headless_webview_worker_pool.dart';
 export 'android/main.dart';
 export 'apple/main.dart';
 export '../find_interaction/find_interaction_controller.dart';
@@ -83,11 +83,15 @@ class ResourcesPathHandler extends PathHandler {
 ///{@macro zikzak_inappwebview_platform_interface.PlatformInternalStoragePathHandler}
 class InternalStoragePathHandler extends PathHandler {
   ///{@macro zikzak_inappwebview_platform_interface.PlatformInternalStoragePathHandler}
-  InternalStoragePathHandler({required String path, required String directory})
+  InternalStoragePathHandler(
+      {required String path,
+      required String directory,
+      bool usePrecompressedFiles = false})
       : this.fromPlatformCreationParams(
             params: PlatformInternalStoragePathHandlerCreationParams(
                 PlatformPathHandlerCreationParams(path: path),
-                directory: directory));
+                directory: directory,
+                usePrecompressedFiles: usePrecompressedFiles));
 
   /// Constructs a [InternalStoragePathHandler].
   ///
@@ -105,15 +109,50 @@ class InternalStoragePathHandler extends PathHandler {
   final PlatformInternalStoragePathHandler platform;
 
   String get directory => platform.directory;
+
+  bool get usePrecompressedFiles => platform.usePrecompressedFiles;
+}
+
+///{@macro zikzak_inappwebview_platform_interface.PlatformArchivePathHandler}
+class ArchivePathHandler extends PathHandler {
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformArchivePathHandler}
+  ArchivePathHandler(
+      {required String path, required String archivePath, Duration? cacheMaxAge})
+      : this.fromPlatformCreationParams(
+            params: PlatformArchivePathHandlerCreationParams(
+                PlatformPathHandlerCreationParams(path: path),
+                archivePath: archivePath,
+                cacheMaxAge: cacheMaxAge));
+
+  /// Constructs a [ArchivePathHandler].
+  ///
+  /// See [ArchivePathHandler.fromPlatformCreationParams] for setting parameters for
+  /// a specific platform.
+  ArchivePathHandler.fromPlatformCreationParams({
+    required PlatformArchivePathHandlerCreationParams params,
+  }) : this.fromPlatform(platform: PlatformArchivePathHandler(params));
+
+  /// Constructs a [ArchivePathHandler] from a specific platform implementation.
+  ArchivePathHandler.fromPlatform({required this.platform})
+      : super.fromPlatform(platform: platform);
+
+  /// Implementation of [PlatformArchivePathHandler] for the current platform.
+  final PlatformArchivePathHandler platform;
+
+  String get archivePath => platform.archivePath;
+
+  Duration? get cacheMaxAge => platform.cacheMaxAge;
 }
 
 ///{@macro zikzak_inappwebview_platform_interface.PlatformCustomPathHandler}
 abstract class CustomPathHandler extends PathHandler {
   ///{@macro zikzak_inappwebview_platform_interface.PlatformCustomPathHandler}
-  CustomPathHandler({required String path})
+  CustomPathHandler({required String path, Duration? timeout, int? cacheSize})
       : this.fromPlatformCreationParams(
             params: PlatformCustomPathHandlerCreationParams(
-                PlatformPathHandlerCreationParams(path: path)));
+                PlatformPathHandlerCreationParams(path: path),
+                timeout: timeout,
+                cacheSize: cacheSize));
 
   /// Constructs a [CustomPathHandler].
   ///
@@ -129,4 +168,16 @@ abstract class CustomPathHandler extends PathHandler {
 
   /// Implementation of [PlatformCustomPathHandler] for the current platform.
   final PlatformCustomPathHandler platform;
+
+  Duration? get timeout => platform.timeout;
+
+  int? get cacheSize => platform.cacheSize;
+
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformCustomPathHandler.prefetch}
+  Future<void> prefetch(
+          {required Map<String, WebResourceResponse> responses}) =>
+      platform.prefetch(responses: responses);
+
+  ///{@macro zikzak_inappwebview_platform_interface.PlatformCustomPathHandler.clearCache}
+  Future<void> clearCache() => platform.clearCache();
 }
@@ -0,0 +1,220 @@
+package wtf.zikzak.zikzak_inappwebview_android;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import wtf.zikzak.zikzak_inappwebview_android.types.Cookie;
+
+/**
+ * Parser of the cookie strings returned by the {@link android.webkit.CookieManager}.
+ * <p>
+ * Each cookie string is read in a single pass with indexes, without splitting it,
+ * and only the name, value and attribute values are extracted as new strings.
+ * The Expires dates are parsed with a date parser cached per thread,
+ * which also remembers the last parsed date, as most cookies of a site share the same expiration.
+ */
+public class CookieParser {
+  protected static final String LOG_TAG = "CookieParser";
+  public static final String COOKIE_DATE_PATTERN = "EEE, dd MMM yyyy HH:mm:ss z";
+
+  private static final ThreadLocal<ExpiresDateParser> expiresDateParser = new ThreadLocal<ExpiresDateParser>() {
+    @Override
+    protected ExpiresDateParser initialValue() {
+      return new ExpiresDateParser();
+    }
+  };
+
+  private CookieParser() {}
+
+  /**
+   * Parses the cookies returned by {@code CookieManagerCompat.getCookieInfo},
+   * one cookie with all its attributes per string.
+   */
+  @NonNull
+  public static List<Cookie> parseCookieInfo(@NonNull List<String> cookieInfo) {
+    List<Cookie> cookies = new ArrayList<>(cookieInfo.size());
+    for (String cookieString : cookieInfo) {
+      if (cookieString == null) {
+        continue;
+      }
+      Cookie cookie = parseCookie(cookieString, 0, cookieString.length(), true);
+      if (cookie != null) {
+        cookies.add(cookie);
+      }
+    }
+    return cookies;
+  }
+
+  /**
+   * Parses the cookies returned by {@code CookieManager.getCookie},
+   * in the format of the {@code Cookie} HTTP request header, without attributes.
+   */
+  @NonNull
+  public static List<Cookie> parseCookieHeader(@Nullable String cookieHeader) {
+    List<Cookie> cookies = new ArrayList<>();
+    if (cookieHeader == null) {
+      return cookies;
+    }
+    int length = cookieHeader.length();
+    int start = 0;
+    while (start < length) {
+      int end = indexOf(cookieHeader, ';', start, length);
+      Cookie cookie = parseCookie(cookieHeader, start, end, false);
+      if (cookie != null) {
+        cookies.add(cookie);
+      }
+      start = end + 1;
+    }
+    return cookies;
+  }
+
+  @Nullable
+  private static Cookie parseCookie(@NonNull String s, int start, int end, boolean parseAttributes) {
+    int pairEnd = indexOf(s, ';', start, end);
+    int separator = indexOf(s, '=', start, pairEnd);
+    String name = trimmedSubstring(s, start, separator);
+    if (name.isEmpty()) {
+      return null;
+    }
+    String value = separator < pairEnd ? trimmedSubstring(s, separator + 1, pairEnd) : "";
+    Cookie cookie = new Cookie(name, value);
+    if (!parseAttributes) {
+      return cookie;
+    }
+
+    cookie.setSecure(false);
+    cookie.setHttpOnly(false);
+    int attributeStart = pairEnd + 1;
+    while (attributeStart < end) {
+      int attributeEnd = indexOf(s, ';', attributeStart, end);
+      int attributeSeparator = indexOf(s, '=', attributeStart, attributeEnd);
+      int nameStart = skipWhitespace(s, attributeStart, attributeSeparator);
+      int nameEnd = trimEnd(s, nameStart, attributeSeparator);
+      int valueStart = Math.min(attributeSeparator + 1, attributeEnd);
+
+      if (attributeNameEquals(s, nameStart, nameEnd, "Expires")) {
+        Long expiresDate = parseExpiresDate(trimmedSubstring(s, valueStart, attributeEnd));
+        if (expiresDate != null) {
+          cookie.setExpiresDate(expiresDate);
+        }
+      } else if (attributeNameEquals(s, nameStart, nameEnd, "Max-Age")) {
+        try {
+          long maxAge = Long.parseLong(trimmedSubstring(s, valueStart, attributeEnd));
+          cookie.setExpiresDate(System.currentTimeMillis() + maxAge * 1000);
+        } catch (NumberFormatException e) {
+          Log.e(LOG_TAG, "", e);
+        }
+      } else if (attributeNameEquals(s, nameStart, nameEnd, "Domain")) {
+        cookie.setDomain(trimmedSubstring(s, valueStart, attributeEnd));
+      } else if (attributeNameEquals(s, nameStart, nameEnd, "SameSite")) {
+        cookie.setSameSite(trimmedSubstring(s, valueStart, attributeEnd));
+      } else if (attributeNameEquals(s, nameStart, nameEnd, "Secure")) {
+        cookie.setSecure(true);
+      } else if (attributeNameEquals(s, nameStart, nameEnd, "HttpOnly")) {
+        cookie.setHttpOnly(true);
+      } else if (attributeNameEquals(s, nameStart, nameEnd, "Path")) {
+        cookie.setPath(trimmedSubstring(s, valueStart, attributeEnd));
+      }
+      attributeStart = attributeEnd + 1;
+    }
+    return cookie;
+  }
+
+  /**
+   * @return the expiration date in milliseconds, or {@code null} if the date is not valid.
+   */
+  @Nullable
+  public static Long parseExpiresDate(@NonNull String date) {
+    return expiresDateParser.get().parse(date);
+  }
+
+  /**
+   * @return the given timestamp formatted for the Expires attribute of a cookie.
+   */
+  @NonNull
+  public static String formatExpiresDate(long timestamp) {
+    return expiresDateParser.get().format(timestamp);
+  }
+
+  private static int indexOf(@NonNull String s, char c, int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (s.charAt(i) == c) {
+        return i;
+      }
+    }
+    return end;
+  }
+
+  private static int skipWhitespace(@NonNull String s, int start, int end) {
+    while (start < end && s.charAt(start) <= ' ') {
+      start++;
+    }
+    return start;
+  }
+
+  private static int trimEnd(@NonNull String s, int start, int end) {
+    while (end > start && s.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    return end;
+  }
+
+  @NonNull
+  private static String trimmedSubstring(@NonNull String s, int start, int end) {
+    start = skipWhitespace(s, start, end);
+    end = trimEnd(s, start, end);
+    return s.substring(start, end);
+  }
+
+  private static boolean attributeNameEquals(@NonNull String s, int start, int end, @NonNull String name) {
+    return end - start == name.length() && s.regionMatches(true, start, name, 0, name.length());
+  }
+
+  private static class ExpiresDateParser {
+    @NonNull
+    private final SimpleDateFormat dateFormat;
+    @Nullable
+    private String lastDate;
+    @Nullable
+    private Long lastTime;
+
+    ExpiresDateParser() {
+      dateFormat = new SimpleDateFormat(COOKIE_DATE_PATTERN, Locale.US);
+      dateFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
+    }
+
+    @Nullable
+    Long parse(@NonNull String date) {
+      if (date.equals(lastDate)) {
+        return lastTime;
+      }
+      Long time = null;
+      try {
+        Date parsedDate = dateFormat.parse(date);
+        if (parsedDate != null) {
+          time = parsedDate.getTime();
+        }
+      } catch (ParseException e) {
+        Log.e(LOG_TAG, "", e);
+      }
+      lastDate = date;
+      lastTime = time;
+      return time;
+    }
+
+    @NonNull
+    String format(long timestamp) {
+      return dateFormat.format(new Date(timestamp));
+    }
+  }
+}
@@ -1,7 +1,9 @@
 package wtf.zikzak.zikzak_inappwebview_android;
 
+import android.net.Uri;
 import android.os.Build;
-import android.util.Log;
+import android.os.Handler;
+import android.os.Looper;
 import android.webkit.CookieManager;
 import android.webkit.CookieSyncManager;
 import android.webkit.ValueCallback;
@@ -12,17 +14,15 @@ import androidx.webkit.CookieManagerCompat;
 import androidx.webkit.WebViewFeature;
 
 import wtf.zikzak.zikzak_inappwebview_android.types.ChannelDelegateImpl;
+import wtf.zikzak.zikzak_inappwebview_android.types.Cookie;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Date;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
-import java.util.TimeZone;
+import java.util.Set;
 
 import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
@@ -35,6 +35,35 @@ public class MyCookieManager extends ChannelDelegateImpl {
   @Nullable
   public InAppWebViewFlutterPlugin plugin;
 
+  /**
+   * Delay used to coalesce the checks of the watched cookies requested by the WebViews.
+   */
+  private static final long COOKIE_WATCH_CHECK_DELAY = 250;
+  /**
+   * Watched cookie names by url, with the last known cookie of each name.
+   */
+  private final Map<String, Map<String, Cookie>> watchedCookies = new HashMap<>();
+  private final Set<String> watchedOrigins = new HashSet<>();
+  private long cookieWatchCheckInterval = 0;
+  private boolean cookieWatchCheckScheduled = false;
+  private final Handler cookieWatchHandler = new Handler(Looper.getMainLooper());
+  private final Runnable cookieWatchCheckRunnable = new Runnable() {
+    @Override
+    public void run() {
+      cookieWatchCheckScheduled = false;
+      checkWatchedCookies();
+    }
+  };
+  private final Runnable cookieWatchTimerRunnable = new Runnable() {
+    @Override
+    public void run() {
+      checkWatchedCookies();
+      if (cookieWatchCheckInterval > 0 && !watchedCookies.isEmpty()) {
+        cookieWatchHandler.postDelayed(this, cookieWatchCheckInterval);
+      }
+    }
+  };
+
   public MyCookieManager(@NonNull final InAppWebViewFlutterPlugin plugin) {
     super(new MethodChannel(plugin.messenger, METHOD_CHANNEL_NAME));
     this.plugin = plugin;
@@ -77,9 +106,21 @@ public class MyCookieManager extends ChannelDelegateImpl {
                   result);
         }
         break;
+      case "setCookies":
+        {
+          List<Map<String, Object>> cookies = (List<Map<String, Object>>) call.argument("cookies");
+          setCookies(cookies != null ? cookies : new ArrayList<Map<String, Object>>(), result);
+        }
+        break;
       case "getCookies":
         result.success(getCookies((String) call.argument("url")));
         break;
+      case "getAllCookiesForUrls":
+        {
+          List<String> urls = (List<String>) call.argument("urls");
+          result.success(getAllCookiesForUrls(urls != null ? urls : new ArrayList<String>()));
+        }
+        break;
       case "deleteCookie":
         {
           String url = (String) call.argument("url");
@@ -103,6 +144,19 @@ public class MyCookieManager extends ChannelDelegateImpl {
       case "removeSessionCookies":
         removeSessionCookies(result);
         break;
+      case "watchCookies":
+        {
+          Map<String, List<String>> cookies = (Map<String, List<String>>) call.argument("cookies");
+          Integer checkInterval = (Integer) call.argument("checkInterval");
+          watchCookies(cookies != null ? cookies : new HashMap<String, List<String>>(),
+                  checkInterval != null ? checkInterval : 0);
+          result.success(true);
+        }
+        break;
+      case "stopWatchingCookies":
+        stopWatchingCookies();
+        result.success(true);
+        break;
       default:
         result.notImplemented();
     }
@@ -159,27 +213,8 @@ public class MyCookieManager extends ChannelDelegateImpl {
       return;
     }
 
-    String cookieValue = name + "=" + value + "; Path=" + path;
-
-    if (domain != null)
-      cookieValue += "; Domain=" + domain;
-
-    if (expiresDate != null)
-      cookieValue += "; Expires=" + getCookieExpirationDate(expiresDate);
-
-    if (maxAge != null)
-      cookieValue += "; Max-Age=" + maxAge.toString();
-
-    if (isSecure != null && isSecure)
-      cookieValue += "; Secure";
-
-    if (isHttpOnly != null && isHttpOnly)
-      cookieValue += "; HttpOnly";
-
-    if (sameSite != null)
-      cookieValue += "; SameSite=" + sameSite;
-
-    cookieValue += ";";
+    String cookieValue = buildCookieValue(name, value, domain, path, expiresDate, maxAge,
+            isSecure, isHttpOnly, sameSite);
 
     if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
       cookieManager.setCookie(url, cookieValue, new ValueCallback<Boolean>() {
@@ -203,86 +238,140 @@ public class MyCookieManager extends ChannelDelegateImpl {
     }
   }
 
-  public List<Map<String, Object>> getCookies(final String url) {
-
-    final List<Map<String, Object>> cookieListMap = new ArrayList<>();
-
+  /**
+   * Sets all the given cookies with a single flush of the cookie store at the end,
+   * instead of one flush per cookie as {@link #setCookie} does.
+   * The result is sent when all the cookies have been set, with {@code true} if all of them were set.
+   */
+  public void setCookies(@NonNull List<Map<String, Object>> cookies, final MethodChannel.Result result) {
     cookieManager = getCookieManager();
-    if (cookieManager == null) return cookieListMap;
+    if (cookieManager == null) {
+      result.success(false);
+      return;
+    }
+    if (cookies.isEmpty()) {
+      result.success(true);
+      return;
+    }
 
-    List<String> cookies = new ArrayList<>();
-    if (WebViewFeature.isFeatureSupported(WebViewFeature.GET_COOKIE_INFO)) {
-      cookies = CookieManagerCompat.getCookieInfo(cookieManager, url);
-    } else {
-      String cookiesString = cookieManager.getCookie(url);
-      if (cookiesString != null) {
-        cookies = Arrays.asList(cookiesString.split(";"));
-      }
+    CookieSyncManager cookieSyncMngr = null;
+    if (Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP && plugin != null) {
+      cookieSyncMngr = CookieSyncManager.createInstance(plugin.applicationContext);
+      cookieSyncMngr.startSync();
     }
 
-    for (String cookie : cookies) {
-      String[] cookieParams = cookie.split(";");
-      if (cookieParams.length == 0) continue;
-
-      String[] nameValue = cookieParams[0].split("=", 2);
-      String name = nameValue[0].trim();
-      String value = (nameValue.length > 1) ? nameValue[1].trim() : "";
-
-      Map<String, Object> cookieMap = new HashMap<>();
-      cookieMap.put("name", name);
-      cookieMap.put("value", value);
-      cookieMap.put("expiresDate", null);
-      cookieMap.put("isSessionOnly", null);
-      cookieMap.put("domain", null);
-      cookieMap.put("sameSite", null);
-      cookieMap.put("isSecure", null);
-      cookieMap.put("isHttpOnly", null);
-      cookieMap.put("path", null);
-
-      if (WebViewFeature.isFeatureSupported(WebViewFeature.GET_COOKIE_INFO)) {
-        cookieMap.put("isSecure", false);
-        cookieMap.put("isHttpOnly", false);
-
-        for (int i = 1; i < cookieParams.length; i++) {
-          String[] cookieParamNameValue = cookieParams[i].split("=", 2);
-          String cookieParamName = cookieParamNameValue[0].trim();
-          String cookieParamValue = (cookieParamNameValue.length > 1) ? cookieParamNameValue[1].trim() : "";
-
-          if (cookieParamName.equalsIgnoreCase("Expires")) {
-            try {
-              final SimpleDateFormat sdf = new SimpleDateFormat("EEE, dd MMM yyyy hh:mm:ss z", Locale.US);
-              Date expiryDate = sdf.parse(cookieParamValue);
-              if (expiryDate != null) {
-                cookieMap.put("expiresDate", expiryDate.getTime());
-              }
-            } catch (ParseException e) {
-              Log.e(LOG_TAG, "", e);
-            }
-          } else if (cookieParamName.equalsIgnoreCase("Max-Age")) {
-            try {
-              long maxAge = Long.parseLong(cookieParamValue);
-              cookieMap.put("expiresDate", System.currentTimeMillis() + maxAge);
-            } catch (NumberFormatException e) {
-              Log.e(LOG_TAG, "", e);
-            }
-          } else if (cookieParamName.equalsIgnoreCase("Domain")) {
-            cookieMap.put("domain", cookieParamValue);
-          } else if (cookieParamName.equalsIgnoreCase("SameSite")) {
-            cookieMap.put("sameSite", cookieParamValue);
-          } else if (cookieParamName.equalsIgnoreCase("Secure")) {
-            cookieMap.put("isSecure", true);
-          } else if (cookieParamName.equalsIgnoreCase("HttpOnly")) {
-            cookieMap.put("isHttpOnly", true);
-          } else if (cookieParamName.equalsIgnoreCase("Path")) {
-            cookieMap.put("path", cookieParamValue);
-          }
+    // callbacks are all received on the main thread
+    final int[] remaining = {cookies.size()};
+    final boolean[] allSuccessful = {true};
+    final CookieManager finalCookieManager = cookieManager;
+    ValueCallback<Boolean> callback = new ValueCallback<Boolean>() {
+      @Override
+      public void onReceiveValue(Boolean successful) {
+        if (successful == null || !successful) {
+          allSuccessful[0] = false;
         }
+        if (--remaining[0] == 0) {
+          finalCookieManager.flush();
+          result.success(allSuccessful[0]);
+        }
+      }
+    };
+
+    for (Map<String, Object> cookie : cookies) {
+      String url = (String) cookie.get("url");
+      String expiresDateString = (String) cookie.get("expiresDate");
+      String path = (String) cookie.get("path");
+      String cookieValue = buildCookieValue((String) cookie.get("name"),
+              (String) cookie.get("value"),
+              (String) cookie.get("domain"),
+              path != null ? path : "/",
+              expiresDateString != null ? Long.valueOf(expiresDateString) : null,
+              (Integer) cookie.get("maxAge"),
+              (Boolean) cookie.get("isSecure"),
+              (Boolean) cookie.get("isHttpOnly"),
+              (String) cookie.get("sameSite"));
+      if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+        cookieManager.setCookie(url, cookieValue, callback);
+      } else {
+        cookieManager.setCookie(url, cookieValue);
       }
+    }
 
-      cookieListMap.add(cookieMap);
+    if (Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) {
+      if (cookieSyncMngr != null) {
+        cookieSyncMngr.stopSync();
+        cookieSyncMngr.sync();
+      }
+      result.success(true);
     }
-    return cookieListMap;
+  }
+
+  private String buildCookieValue(String name,
+                                  String value,
+                                  String domain,
+                                  String path,
+                                  Long expiresDate,
+                                  Integer maxAge,
+                                  Boolean isSecure,
+                                  Boolean isHttpOnly,
+                                  String sameSite) {
+    StringBuilder cookieValue = new StringBuilder();
+    cookieValue.append(name).append("=").append(value).append("; Path=").append(path);
 
+    if (domain != null)
+      cookieValue.append("; Domain=").append(domain);
+
+    if (expiresDate != null)
+      cookieValue.append("; Expires=").append(getCookieExpirationDate(expiresDate));
+
+    if (maxAge != null)
+      cookieValue.append("; Max-Age=").append(maxAge);
+
+    if (isSecure != null && isSecure)
+      cookieValue.append("; Secure");
+
+    if (isHttpOnly != null && isHttpOnly)
+      cookieValue.append("; HttpOnly");
+
+    if (sameSite != null)
+      cookieValue.append("; SameSite=").append(sameSite);
+
+    cookieValue.append(";");
+    return cookieValue.toString();
+  }
+
+  /**
+   * @return the cookies of the given url, each one encoded with {@link Cookie#toList()}.
+   */
+  public List<List<Object>> getCookies(final String url) {
+    List<Cookie> cookies = getCookieList(url);
+    final List<List<Object>> cookieList = new ArrayList<>(cookies.size());
+    for (Cookie cookie : cookies) {
+      cookieList.add(cookie.toList());
+    }
+    return cookieList;
+  }
+
+  /**
+   * Gets the cookies of each of the given urls with a single call.
+   */
+  public Map<String, List<List<Object>>> getAllCookiesForUrls(@NonNull List<String> urls) {
+    Map<String, List<List<Object>>> cookiesMap = new HashMap<>();
+    for (String url : urls) {
+      cookiesMap.put(url, getCookies(url));
+    }
+    return cookiesMap;
+  }
+
+  @NonNull
+  public List<Cookie> getCookieList(final String url) {
+    cookieManager = getCookieManager();
+    if (cookieManager == null) return new ArrayList<>();
+
+    if (WebViewFeature.isFeatureSupported(WebViewFeature.GET_COOKIE_INFO)) {
+      return CookieParser.parseCookieInfo(CookieManagerCompat.getCookieInfo(cookieManager, url));
+    }
+    return CookieParser.parseCookieHeader(cookieManager.getCookie(url));
   }
 
   public void deleteCookie(String url, String name, String domain, String path, final MethodChannel.Result result) {
@@ -423,14 +512,116 @@ public class MyCookieManager extends ChannelDelegateImpl {
     }
   }
 
+  /**
+   * Starts watching the given cookie names of each url, replacing the cookies watched before.
+   * The watched cookies are checked when a WebView finishes loading a page or loads a resource
+   * with the same origin of a watched url, and every {@code checkInterval} milliseconds if greater than 0.
+   * Dart is notified with the {@code onCookiesChanged} event only when a watched cookie has changed.
+   */
+  public void watchCookies(@NonNull Map<String, List<String>> cookies, long checkInterval) {
+    stopWatchingCookies();
+    for (Map.Entry<String, List<String>> entry : cookies.entrySet()) {
+      String url = entry.getKey();
+      Map<String, Cookie> lastCookies = new HashMap<>();
+      Map<String, Cookie> currentCookies = getWatchedCookies(url, entry.getValue());
+      for (String name : entry.getValue()) {
+        lastCookies.put(name, currentCookies.get(name));
+      }
+      watchedCookies.put(url, lastCookies);
+      String origin = getOrigin(url);
+      if (origin != null) {
+        watchedOrigins.add(origin);
+      }
+    }
+    cookieWatchCheckInterval = checkInterval;
+    if (cookieWatchCheckInterval > 0 && !watchedCookies.isEmpty()) {
+      cookieWatchHandler.postDelayed(cookieWatchTimerRunnable, cookieWatchCheckInterval);
+    }
+  }
+
+  public void stopWatchingCookies() {
+    watchedCookies.clear();
+    watchedOrigins.clear();
+    cookieWatchCheckInterval = 0;
+    cookieWatchCheckScheduled = false;
+    cookieWatchHandler.removeCallbacks(cookieWatchCheckRunnable);
+    cookieWatchHandler.removeCallbacks(cookieWatchTimerRunnable);
+  }
+
+  /**
+   * Called by the WebViews when the cookies of the given url could have changed.
+   * A check of the watched cookies is scheduled only if the url has the same origin of a watched url,
+   * and the checks requested in a short time are coalesced into one.
+   */
+  public void onCookiesMayHaveChanged(@Nullable String url) {
+    if (watchedOrigins.isEmpty() || cookieWatchCheckScheduled || url == null) {
+      return;
+    }
+    String origin = getOrigin(url);
+    if (origin == null || !watchedOrigins.contains(origin)) {
+      return;
+    }
+    cookieWatchCheckScheduled = true;
+    cookieWatchHandler.postDelayed(cookieWatchCheckRunnable, COOKIE_WATCH_CHECK_DELAY);
+  }
+
+  private void checkWatchedCookies() {
+    List<Map<String, Object>> changes = new ArrayList<>();
+    for (Map.Entry<String, Map<String, Cookie>> entry : watchedCookies.entrySet()) {
+      String url = entry.getKey();
+      Map<String, Cookie> lastCookies = entry.getValue();
+      Map<String, Cookie> currentCookies = getWatchedCookies(url, lastCookies.keySet());
+      for (Map.Entry<String, Cookie> lastCookieEntry : lastCookies.entrySet()) {
+        String name = lastCookieEntry.getKey();
+        Cookie oldCookie = lastCookieEntry.getValue();
+        Cookie newCookie = currentCookies.get(name);
+        if (Util.objEquals(oldCookie, newCookie)) {
+          continue;
+        }
+        lastCookieEntry.setValue(newCookie);
+        Map<String, Object> change = new HashMap<>();
+        change.put("url", url);
+        change.put("name", name);
+        change.put("oldCookie", oldCookie != null ? oldCookie.toMap() : null);
+        change.put("newCookie", newCookie != null ? newCookie.toMap() : null);
+        changes.add(change);
+      }
+    }
+    MethodChannel channel = getChannel();
+    if (!changes.isEmpty() && channel != null) {
+      Map<String, Object> obj = new HashMap<>();
+      obj.put("changes", changes);
+      channel.invokeMethod("onCookiesChanged", obj);
+    }
+  }
+
+  @NonNull
+  private Map<String, Cookie> getWatchedCookies(@NonNull String url, @NonNull Collection<String> names) {
+    Map<String, Cookie> cookies = new HashMap<>();
+    for (Cookie cookie : getCookieList(url)) {
+      if (names.contains(cookie.getName()) && !cookies.containsKey(cookie.getName())) {
+        cookies.put(cookie.getName(), cookie);
+      }
+    }
+    return cookies;
+  }
+
+  @Nullable
+  private static String getOrigin(@NonNull String url) {
+    Uri uri = Uri.parse(url);
+    if (uri.getScheme() == null || uri.getAuthority() == null) {
+      return null;
+    }
+    return uri.getScheme() + "://" + uri.getAuthority();
+  }
+
   public static String getCookieExpirationDate(Long timestamp) {
-    final SimpleDateFormat sdf = new SimpleDateFormat("EEE, dd MMM yyyy hh:mm:ss z", Locale.US);
-    sdf.setTimeZone(TimeZone.getTimeZone("GMT"));
-    return sdf.format(new Date(timestamp));
+    return CookieParser.formatExpiresDate(timestamp);
   }
 
   @Override
   public void dispose() {
+    stopWatchingCookies();
     super.dispose();
     plugin = null;
   }
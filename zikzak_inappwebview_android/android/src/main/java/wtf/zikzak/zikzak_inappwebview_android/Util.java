@@ -18,6 +18,7 @@ import android.util.Log;
 import android.view.WindowInsets;
 import android.view.WindowManager;
 import android.view.WindowMetrics;
+import android.webkit.MimeTypeMap;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -40,6 +41,7 @@ import java.net.HttpURLConnection;
 import java.net.Inet6Address;
 import java.net.InetAddress;
 import java.net.URL;
+import java.net.URLConnection;
 import java.net.UnknownHostException;
 import java.security.Key;
 import java.security.KeyStore;
@@ -49,9 +51,13 @@ import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.regex.Pattern;
 
 import javax.net.ssl.SSLHandshakeException;
@@ -63,6 +69,37 @@ public class Util {
   static final String LOG_TAG = "Util";
   public static final String ANDROID_ASSET_URL = "file:///android_asset/";
 
+  private static final Map<String, String> WEB_MIME_TYPES = new HashMap<>();
+  static {
+    // MimeTypeMap doesn't know some of the web file types, depending on the Android version
+    WEB_MIME_TYPES.put("html", "text/html");
+    WEB_MIME_TYPES.put("htm", "text/html");
+    WEB_MIME_TYPES.put("js", "text/javascript");
+    WEB_MIME_TYPES.put("mjs", "text/javascript");
+    WEB_MIME_TYPES.put("css", "text/css");
+    WEB_MIME_TYPES.put("json", "application/json");
+    WEB_MIME_TYPES.put("map", "application/json");
+    WEB_MIME_TYPES.put("webmanifest", "application/manifest+json");
+    WEB_MIME_TYPES.put("wasm", "application/wasm");
+    WEB_MIME_TYPES.put("xml", "text/xml");
+    WEB_MIME_TYPES.put("txt", "text/plain");
+    WEB_MIME_TYPES.put("svg", "image/svg+xml");
+    WEB_MIME_TYPES.put("png", "image/png");
+    WEB_MIME_TYPES.put("jpg", "image/jpeg");
+    WEB_MIME_TYPES.put("jpeg", "image/jpeg");
+    WEB_MIME_TYPES.put("gif", "image/gif");
+    WEB_MIME_TYPES.put("webp", "image/webp");
+    WEB_MIME_TYPES.put("avif", "image/avif");
+    WEB_MIME_TYPES.put("ico", "image/x-icon");
+    WEB_MIME_TYPES.put("woff", "font/woff");
+    WEB_MIME_TYPES.put("woff2", "font/woff2");
+    WEB_MIME_TYPES.put("ttf", "font/ttf");
+    WEB_MIME_TYPES.put("otf", "font/otf");
+    WEB_MIME_TYPES.put("mp3", "audio/mpeg");
+    WEB_MIME_TYPES.put("mp4", "video/mp4");
+    WEB_MIME_TYPES.put("webm", "video/webm");
+  }
+
   private Util() {}
 
   public static String getUrlAsset(InAppWebViewFlutterPlugin plugin, String assetFilePath) throws IOException {
@@ -110,6 +147,30 @@ public class Util {
     return callback.result;
   }
 
+  /**
+   * Same as {@link #invokeMethodAndWaitResult(MethodChannel, String, Object, SyncBaseCallbackResultImpl)},
+   * but waits for the result at most {@code timeout} milliseconds.
+   *
+   * @throws TimeoutException if the result is not received in time.
+   */
+  @Nullable
+  public static <T> T invokeMethodAndWaitResult(final @NonNull MethodChannel channel,
+                                                final @NonNull String method, final @Nullable Object arguments,
+                                                final @NonNull SyncBaseCallbackResultImpl<T> callback,
+                                                long timeout) throws InterruptedException, TimeoutException {
+    Handler handler = new Handler(Looper.getMainLooper());
+    handler.post(new Runnable() {
+      @Override
+      public void run() {
+        channel.invokeMethod(method, arguments, callback);
+      }
+    });
+    if (!callback.latch.await(timeout, TimeUnit.MILLISECONDS)) {
+      throw new TimeoutException(method + " result not received in " + timeout + "ms");
+    }
+    return callback.result;
+  }
+
   @Nullable
   public static PrivateKeyAndCertificates loadPrivateKeyAndCertificate(@NonNull InAppWebViewFlutterPlugin plugin,
                                                                        @NonNull String certificatePath,
@@ -249,6 +310,27 @@ public class Util {
     return (a == b) || (a != null && a.equals(b));
   }
 
+  /**
+   * @return the MIME type of the file at the given path, guessed from its extension,
+   * or {@code null} if unknown.
+   */
+  @Nullable
+  public static String guessMimeTypeFromPath(@NonNull String path) {
+    int dotIndex = path.lastIndexOf('.');
+    if (dotIndex < 0 || dotIndex < path.lastIndexOf('/')) {
+      return null;
+    }
+    String extension = path.substring(dotIndex + 1).toLowerCase(Locale.ROOT);
+    String mimeType = WEB_MIME_TYPES.get(extension);
+    if (mimeType == null) {
+      mimeType = MimeTypeMap.getSingleton().getMimeTypeFromExtension(extension);
+    }
+    if (mimeType == null) {
+      mimeType = URLConnection.guessContentTypeFromName(path);
+    }
+    return mimeType;
+  }
+
   public static String replaceAll(String s, String oldString, String newString) {
     return TextUtils.join(newString, s.split(Pattern.quote(oldString)));
   }
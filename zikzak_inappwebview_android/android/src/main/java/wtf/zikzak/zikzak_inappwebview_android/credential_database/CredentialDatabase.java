@@ -1,12 +1,26 @@
 package wtf.zikzak.zikzak_inappwebview_android.credential_database;
 
 import android.content.Context;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteDoneException;
+import android.database.sqlite.SQLiteStatement;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.webkit.ValueCallback;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import wtf.zikzak.zikzak_inappwebview_android.types.URLCredential;
 import wtf.zikzak.zikzak_inappwebview_android.types.URLProtectionSpace;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class CredentialDatabase {
 
@@ -14,13 +28,43 @@ public class CredentialDatabase {
   static final String LOG_TAG = "CredentialDatabase";
 
   // If you change the database schema, you must increment the database version.
-  public static final int DATABASE_VERSION = 2;
+  public static final int DATABASE_VERSION = 3;
   public static final String DATABASE_NAME = "CredentialDatabase.db";
 
+  private static final String SQL_FIND_PROTECTION_SPACE_ID =
+          "SELECT " + URLProtectionSpaceContract.FeedEntry._ID + " FROM " + URLProtectionSpaceContract.FeedEntry.TABLE_NAME +
+                  " WHERE " + URLProtectionSpaceContract.FeedEntry.COLUMN_NAME_HOST + " = ? AND " +
+                  URLProtectionSpaceContract.FeedEntry.COLUMN_NAME_PROTOCOL + " IS ? AND " +
+                  URLProtectionSpaceContract.FeedEntry.COLUMN_NAME_REALM + " IS ? AND " +
+                  URLProtectionSpaceContract.FeedEntry.COLUMN_NAME_PORT + " IS ?";
+  private static final String SQL_INSERT_PROTECTION_SPACE =
+          "INSERT INTO " + URLProtectionSpaceContract.FeedEntry.TABLE_NAME + " (" +
+                  URLProtectionSpaceContract.FeedEntry.COLUMN_NAME_HOST + ", " + URLProtectionSpaceContract.FeedEntry.COLUMN_NAME_PROTOCOL + ", " +
+                  URLProtectionSpaceContract.FeedEntry.COLUMN_NAME_REALM + ", " + URLProtectionSpaceContract.FeedEntry.COLUMN_NAME_PORT +
+                  ") VALUES (?, ?, ?, ?)";
+  // a credential with the same username and password of the protection space is already saved as is
+  private static final String SQL_INSERT_CREDENTIAL =
+          "INSERT OR IGNORE INTO " + URLCredentialContract.FeedEntry.TABLE_NAME + " (" +
+                  URLCredentialContract.FeedEntry.COLUMN_NAME_USERNAME + ", " + URLCredentialContract.FeedEntry.COLUMN_NAME_PASSWORD + ", " +
+                  URLCredentialContract.FeedEntry.COLUMN_NAME_PROTECTION_SPACE_ID +
+                  ") VALUES (?, ?, ?)";
+
   public URLProtectionSpaceDao protectionSpaceDao;
   public URLCredentialDao credentialDao;
   public CredentialDatabaseHelper db;
 
+  /**
+   * Credentials by protection space, read through on the first lookup
+   * and invalidated by every write of the protection space.
+   */
+  private final Map<String, List<URLCredential>> credentialsCache = new HashMap<>();
+  /**
+   * Incremented by every write, so that a lookup that was running during a write doesn't cache stale credentials.
+   */
+  private long cacheGeneration = 0;
+  private static final ExecutorService executor = Executors.newSingleThreadExecutor();
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
   private CredentialDatabase() {}
 
   private CredentialDatabase(CredentialDatabaseHelper db, URLProtectionSpaceDao protectionSpaceDao, URLCredentialDao credentialDao) {
@@ -38,16 +82,194 @@ public class CredentialDatabase {
   }
 
   public List<URLCredential> getHttpAuthCredentials(String host, String protocol, String realm, Integer port) {
+    String key = getCacheKey(host, protocol, realm, port);
+    long generation;
+    synchronized (credentialsCache) {
+      List<URLCredential> cachedCredentials = credentialsCache.get(key);
+      if (cachedCredentials != null) {
+        return new ArrayList<>(cachedCredentials);
+      }
+      generation = cacheGeneration;
+    }
+
     List<URLCredential> credentials = new ArrayList<>();
     URLProtectionSpace protectionSpace = protectionSpaceDao.find(host, protocol, realm, port);
     if (protectionSpace != null) {
       credentials = credentialDao.getAllByProtectionSpaceId(protectionSpace.getId());
     }
+
+    synchronized (credentialsCache) {
+      if (generation == cacheGeneration) {
+        credentialsCache.put(key, new ArrayList<>(credentials));
+      }
+    }
     return credentials;
   }
 
+  /**
+   * Same as {@link #getHttpAuthCredentials}, but the database is queried on a background thread
+   * if the credentials are not cached. The callback is always called on the main thread.
+   */
+  public void getHttpAuthCredentials(final String host, final String protocol, final String realm, final Integer port,
+                                     @NonNull final ValueCallback<List<URLCredential>> callback) {
+    List<URLCredential> cachedCredentials = getCachedHttpAuthCredentials(host, protocol, realm, port);
+    if (cachedCredentials != null) {
+      callback.onReceiveValue(cachedCredentials);
+      return;
+    }
+    executor.execute(new Runnable() {
+      @Override
+      public void run() {
+        final List<URLCredential> credentials = getHttpAuthCredentials(host, protocol, realm, port);
+        mainHandler.post(new Runnable() {
+          @Override
+          public void run() {
+            callback.onReceiveValue(credentials);
+          }
+        });
+      }
+    });
+  }
+
+  @Nullable
+  private List<URLCredential> getCachedHttpAuthCredentials(String host, String protocol, String realm, Integer port) {
+    synchronized (credentialsCache) {
+      List<URLCredential> cachedCredentials = credentialsCache.get(getCacheKey(host, protocol, realm, port));
+      return cachedCredentials != null ? new ArrayList<>(cachedCredentials) : null;
+    }
+  }
+
+  /**
+   * Same as {@link #setHttpAuthCredential}, but the database is written on a background thread.
+   */
+  public void setHttpAuthCredentialAsync(final String host, final String protocol, final String realm, final Integer port,
+                                         final String username, final String password) {
+    invalidateCache(host, protocol, realm, port);
+    executor.execute(new Runnable() {
+      @Override
+      public void run() {
+        setHttpAuthCredential(host, protocol, realm, port, username, password);
+      }
+    });
+  }
+
+  /**
+   * Saves all the given credentials in a single transaction, in background.
+   * Each entry has the {@code protectionSpace} map, with the {@code host}, {@code protocol}, {@code realm} and {@code port} keys,
+   * and the {@code credentials} list of maps, with the {@code username} and {@code password} keys.
+   * The callback is called on the main thread with {@code true} if the transaction has been committed.
+   */
+  public void importHttpAuthCredentials(@NonNull final List<Map<String, Object>> entries,
+                                        @NonNull final ValueCallback<Boolean> callback) {
+    executor.execute(new Runnable() {
+      @Override
+      public void run() {
+        boolean success = false;
+        try {
+          insertHttpAuthCredentials(entries);
+          success = true;
+        } catch (RuntimeException e) {
+          // e.g. a SQLException, or a ClassCastException for an entry with unexpected types
+          Log.e(LOG_TAG, "", e);
+        }
+
+        final boolean finalSuccess = success;
+        mainHandler.post(new Runnable() {
+          @Override
+          public void run() {
+            callback.onReceiveValue(finalSuccess);
+          }
+        });
+      }
+    });
+  }
+
+  private void insertHttpAuthCredentials(@NonNull List<Map<String, Object>> entries) {
+    SQLiteDatabase writableDatabase = db.getWritableDatabase();
+    SQLiteStatement findProtectionSpaceStatement = writableDatabase.compileStatement(SQL_FIND_PROTECTION_SPACE_ID);
+    SQLiteStatement insertProtectionSpaceStatement = writableDatabase.compileStatement(SQL_INSERT_PROTECTION_SPACE);
+    SQLiteStatement insertCredentialStatement = writableDatabase.compileStatement(SQL_INSERT_CREDENTIAL);
+    writableDatabase.beginTransaction();
+    try {
+      for (Map<String, Object> entry : entries) {
+        Map<String, Object> protectionSpace = (Map<String, Object>) entry.get("protectionSpace");
+        List<Map<String, Object>> credentials = (List<Map<String, Object>>) entry.get("credentials");
+        if (protectionSpace == null || credentials == null) {
+          continue;
+        }
+        String host = (String) protectionSpace.get("host");
+        String protocol = (String) protectionSpace.get("protocol");
+        String realm = (String) protectionSpace.get("realm");
+        Integer port = (Integer) protectionSpace.get("port");
+        if (host == null) {
+          continue;
+        }
+
+        bindProtectionSpace(findProtectionSpaceStatement, host, protocol, realm, port);
+        long protectionSpaceId;
+        try {
+          protectionSpaceId = findProtectionSpaceStatement.simpleQueryForLong();
+        } catch (SQLiteDoneException e) {
+          bindProtectionSpace(insertProtectionSpaceStatement, host, protocol, realm, port);
+          protectionSpaceId = insertProtectionSpaceStatement.executeInsert();
+        }
+
+        for (Map<String, Object> credential : credentials) {
+          String username = (String) credential.get("username");
+          String password = (String) credential.get("password");
+          if (username == null || password == null) {
+            continue;
+          }
+          insertCredentialStatement.clearBindings();
+          insertCredentialStatement.bindString(1, username);
+          insertCredentialStatement.bindString(2, password);
+          insertCredentialStatement.bindLong(3, protectionSpaceId);
+          insertCredentialStatement.executeInsert();
+        }
+      }
+      writableDatabase.setTransactionSuccessful();
+    } finally {
+      writableDatabase.endTransaction();
+      findProtectionSpaceStatement.close();
+      insertProtectionSpaceStatement.close();
+      insertCredentialStatement.close();
+      invalidateCache();
+    }
+  }
+
+  private static void bindProtectionSpace(@NonNull SQLiteStatement statement, @NonNull String host,
+                                          @Nullable String protocol, @Nullable String realm, @Nullable Integer port) {
+    statement.clearBindings();
+    statement.bindString(1, host);
+    if (protocol != null) statement.bindString(2, protocol);
+    else statement.bindNull(2);
+    if (realm != null) statement.bindString(3, realm);
+    else statement.bindNull(3);
+    if (port != null) statement.bindLong(4, port);
+    else statement.bindNull(4);
+  }
+
+  private static String getCacheKey(String host, String protocol, String realm, Integer port) {
+    return host + "|" + protocol + "|" + realm + "|" + port;
+  }
+
+  private void invalidateCache(String host, String protocol, String realm, Integer port) {
+    synchronized (credentialsCache) {
+      cacheGeneration++;
+      credentialsCache.remove(getCacheKey(host, protocol, realm, port));
+    }
+  }
+
+  private void invalidateCache() {
+    synchronized (credentialsCache) {
+      cacheGeneration++;
+      credentialsCache.clear();
+    }
+  }
+
   public void clearAllAuthCredentials() {
     db.clearAllTables(db.getWritableDatabase());
+    invalidateCache();
   }
 
   public void removeHttpAuthCredentials(String host, String protocol, String realm, Integer port) {
@@ -55,6 +277,7 @@ public class CredentialDatabase {
     if (URLProtectionSpace != null) {
       protectionSpaceDao.delete(URLProtectionSpace);
     }
+    invalidateCache(host, protocol, realm, port);
   }
 
   public void removeHttpAuthCredential(String host, String protocol, String realm, Integer port, String username, String password) {
@@ -63,33 +286,42 @@ public class CredentialDatabase {
       URLCredential credential = credentialDao.find(username, password, protectionSpace.getId());
       credentialDao.delete(credential);
     }
+    invalidateCache(host, protocol, realm, port);
   }
 
   public void setHttpAuthCredential(String host, String protocol, String realm, Integer port, String username, String password) {
-    URLProtectionSpace protectionSpace = protectionSpaceDao.find(host, protocol, realm, port);
-    Long protectionSpaceId;
-    if (protectionSpace == null) {
-      protectionSpaceId = protectionSpaceDao.insert(new URLProtectionSpace(null, host, protocol, realm, port));
-    } else {
-      protectionSpaceId = protectionSpace.getId();
-    }
-
-    URLCredential credential = credentialDao.find(username, password, protectionSpaceId);
-    if (credential != null) {
-      boolean needUpdate = false;
-      if (!credential.getUsername().equals(username)) {
-        credential.setUsername(username);
-        needUpdate = true;
+    SQLiteDatabase writableDatabase = db.getWritableDatabase();
+    writableDatabase.beginTransaction();
+    try {
+      URLProtectionSpace protectionSpace = protectionSpaceDao.find(host, protocol, realm, port);
+      Long protectionSpaceId;
+      if (protectionSpace == null) {
+        protectionSpaceId = protectionSpaceDao.insert(new URLProtectionSpace(null, host, protocol, realm, port));
+      } else {
+        protectionSpaceId = protectionSpace.getId();
       }
-      if (!credential.getPassword().equals(password)) {
-        credential.setPassword(password);
-        needUpdate = true;
+
+      URLCredential credential = credentialDao.find(username, password, protectionSpaceId);
+      if (credential != null) {
+        boolean needUpdate = false;
+        if (!credential.getUsername().equals(username)) {
+          credential.setUsername(username);
+          needUpdate = true;
+        }
+        if (!credential.getPassword().equals(password)) {
+          credential.setPassword(password);
+          needUpdate = true;
+        }
+        if (needUpdate)
+          credentialDao.update(credential);
+      } else {
+        credential = new URLCredential(null, username, password, protectionSpaceId);
+        credential.setId(credentialDao.insert(credential));
       }
-      if (needUpdate)
-        credentialDao.update(credential);
-    } else {
-      credential = new URLCredential(null, username, password, protectionSpaceId);
-      credential.setId(credentialDao.insert(credential));
+      writableDatabase.setTransactionSuccessful();
+    } finally {
+      writableDatabase.endTransaction();
     }
+    invalidateCache(host, protocol, realm, port);
   }
 }
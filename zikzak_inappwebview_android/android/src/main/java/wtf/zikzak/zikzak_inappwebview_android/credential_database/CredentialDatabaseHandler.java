@@ -1,6 +1,7 @@
 package wtf.zikzak.zikzak_inappwebview_android.credential_database;
 
 import android.os.Build;
+import android.webkit.ValueCallback;
 import android.webkit.WebViewDatabase;
 
 import androidx.annotation.NonNull;
@@ -42,7 +43,7 @@ public class CredentialDatabaseHandler extends ChannelDelegateImpl {
   }
 
   @Override
-  public void onMethodCall(@NonNull MethodCall call, @NonNull MethodChannel.Result result) {
+  public void onMethodCall(@NonNull MethodCall call, @NonNull final MethodChannel.Result result) {
     if (plugin != null) {
       init(plugin);
     }
@@ -100,6 +101,21 @@ public class CredentialDatabaseHandler extends ChannelDelegateImpl {
           }
         }
         break;
+      case "importHttpAuthCredentials":
+        {
+          List<Map<String, Object>> credentials = (List<Map<String, Object>>) call.argument("credentials");
+          if (credentialDatabase != null && credentials != null) {
+            credentialDatabase.importHttpAuthCredentials(credentials, new ValueCallback<Boolean>() {
+              @Override
+              public void onReceiveValue(Boolean success) {
+                result.success(success);
+              }
+            });
+          } else {
+            result.success(false);
+          }
+        }
+        break;
       case "removeHttpAuthCredential":
         {
           if (credentialDatabase != null) {
@@ -11,5 +11,6 @@ public class URLCredentialContract {
     public static final String COLUMN_NAME_USERNAME = "username";
     public static final String COLUMN_NAME_PASSWORD = "password";
     public static final String COLUMN_NAME_PROTECTION_SPACE_ID = "protection_space_id";
+    public static final String INDEX_NAME_PROTECTION_SPACE_ID = "credential_protection_space_id_index";
   }
 }
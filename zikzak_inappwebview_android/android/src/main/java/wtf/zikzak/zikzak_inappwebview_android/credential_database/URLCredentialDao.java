@@ -9,6 +9,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class URLCredentialDao {
+  private static final String PROTECTION_SPACE_ID_SELECTION = URLCredentialContract.FeedEntry.COLUMN_NAME_PROTECTION_SPACE_ID + " = ?";
+  private static final String FIND_SELECTION =
+          URLCredentialContract.FeedEntry.COLUMN_NAME_USERNAME + " = ? AND " +
+                  URLCredentialContract.FeedEntry.COLUMN_NAME_PASSWORD + " = ? AND " +
+                  URLCredentialContract.FeedEntry.COLUMN_NAME_PROTECTION_SPACE_ID + " = ?";
+  private static final String ID_WHERE_CLAUSE = URLCredentialContract.FeedEntry._ID + " = ?";
 
   CredentialDatabaseHelper credentialDatabaseHelper;
   String[] projection = {
@@ -23,13 +29,12 @@ public class URLCredentialDao {
   }
 
   public List<URLCredential> getAllByProtectionSpaceId(Long protectionSpaceId) {
-    String selection = URLCredentialContract.FeedEntry.COLUMN_NAME_PROTECTION_SPACE_ID + " = ?";
     String[] selectionArgs = {protectionSpaceId.toString()};
 
     Cursor cursor = credentialDatabaseHelper.getReadableDatabase().query(
             URLCredentialContract.FeedEntry.TABLE_NAME,
             projection,
-            selection,
+            PROTECTION_SPACE_ID_SELECTION,
             selectionArgs,
             null,
             null,
@@ -49,15 +54,12 @@ public class URLCredentialDao {
   }
 
   public URLCredential find(String username, String password, Long protectionSpaceId) {
-    String selection = URLCredentialContract.FeedEntry.COLUMN_NAME_USERNAME + " = ? AND " +
-            URLCredentialContract.FeedEntry.COLUMN_NAME_PASSWORD + " = ? AND " +
-            URLCredentialContract.FeedEntry.COLUMN_NAME_PROTECTION_SPACE_ID + " = ?";
     String[] selectionArgs = {username, password, protectionSpaceId.toString()};
 
     Cursor cursor = credentialDatabaseHelper.getReadableDatabase().query(
             URLCredentialContract.FeedEntry.TABLE_NAME,
             projection,
-            selection,
+            FIND_SELECTION,
             selectionArgs,
             null,
             null,
@@ -90,17 +92,15 @@ public class URLCredentialDao {
     credentialValues.put(URLCredentialContract.FeedEntry.COLUMN_NAME_USERNAME, urlCredential.getUsername());
     credentialValues.put(URLCredentialContract.FeedEntry.COLUMN_NAME_PASSWORD, urlCredential.getPassword());
 
-    String whereClause = URLCredentialContract.FeedEntry.COLUMN_NAME_PROTECTION_SPACE_ID + " = ?";
     String[] whereArgs = {urlCredential.getProtectionSpaceId().toString()};
 
-    return credentialDatabaseHelper.getWritableDatabase().update(URLCredentialContract.FeedEntry.TABLE_NAME, credentialValues, whereClause, whereArgs);
+    return credentialDatabaseHelper.getWritableDatabase().update(URLCredentialContract.FeedEntry.TABLE_NAME, credentialValues, PROTECTION_SPACE_ID_SELECTION, whereArgs);
   }
 
   public long delete(URLCredential urlCredential) {
-    String whereClause = URLCredentialContract.FeedEntry._ID + " = ?";
     String[] whereArgs = {urlCredential.getId().toString()};
 
-    return credentialDatabaseHelper.getWritableDatabase().delete(URLCredentialContract.FeedEntry.TABLE_NAME, whereClause, whereArgs);
+    return credentialDatabaseHelper.getWritableDatabase().delete(URLCredentialContract.FeedEntry.TABLE_NAME, ID_WHERE_CLAUSE, whereArgs);
   }
 
 }
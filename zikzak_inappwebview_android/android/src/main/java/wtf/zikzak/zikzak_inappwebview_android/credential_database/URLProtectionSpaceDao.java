@@ -10,6 +10,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class URLProtectionSpaceDao {
+  private static final String FIND_SELECTION =
+          URLProtectionSpaceContract.FeedEntry.COLUMN_NAME_HOST + " = ? AND " + URLProtectionSpaceContract.FeedEntry.COLUMN_NAME_PROTOCOL + " = ? AND " +
+                  URLProtectionSpaceContract.FeedEntry.COLUMN_NAME_REALM + " = ? AND " + URLProtectionSpaceContract.FeedEntry.COLUMN_NAME_PORT + " = ?";
+  private static final String ID_WHERE_CLAUSE = URLProtectionSpaceContract.FeedEntry._ID + " = ?";
+
   CredentialDatabaseHelper credentialDatabaseHelper;
   String[] projection = {
           URLProtectionSpaceContract.FeedEntry._ID,
@@ -53,14 +58,12 @@ public class URLProtectionSpaceDao {
   public URLProtectionSpace find(String host, String protocol, String realm, Integer port) {
     SQLiteDatabase readableDatabase = credentialDatabaseHelper.getReadableDatabase();
 
-    String selection = URLProtectionSpaceContract.FeedEntry.COLUMN_NAME_HOST + " = ? AND " + URLProtectionSpaceContract.FeedEntry.COLUMN_NAME_PROTOCOL + " = ? AND " +
-            URLProtectionSpaceContract.FeedEntry.COLUMN_NAME_REALM + " = ? AND " + URLProtectionSpaceContract.FeedEntry.COLUMN_NAME_PORT + " = ?";
     String[] selectionArgs = {host, protocol, realm, port.toString()};
 
     Cursor cursor = readableDatabase.query(
             URLProtectionSpaceContract.FeedEntry.TABLE_NAME,
             projection,
-            selection,
+            FIND_SELECTION,
             selectionArgs,
             null,
             null,
@@ -92,9 +95,8 @@ public class URLProtectionSpaceDao {
   };
 
   public long delete(URLProtectionSpace URLProtectionSpace) {
-    String whereClause = URLProtectionSpaceContract.FeedEntry._ID + " = ?";
     String[] whereArgs = {URLProtectionSpace.getId().toString()};
 
-    return credentialDatabaseHelper.getWritableDatabase().delete(URLProtectionSpaceContract.FeedEntry.TABLE_NAME, whereClause, whereArgs);
+    return credentialDatabaseHelper.getWritableDatabase().delete(URLProtectionSpaceContract.FeedEntry.TABLE_NAME, ID_WHERE_CLAUSE, whereArgs);
   }
 }
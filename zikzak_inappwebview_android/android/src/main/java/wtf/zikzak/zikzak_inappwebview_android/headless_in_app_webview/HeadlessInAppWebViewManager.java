@@ -30,8 +30,10 @@ import wtf.zikzak.zikzak_inappwebview_android.InAppWebViewFlutterPlugin;
 import wtf.zikzak.zikzak_inappwebview_android.types.ChannelDelegateImpl;
 import wtf.zikzak.zikzak_inappwebview_android.webview.in_app_webview.FlutterWebView;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import io.flutter.plugin.common.MethodCall;
@@ -43,6 +45,7 @@ public class HeadlessInAppWebViewManager extends ChannelDelegateImpl {
   public static final String METHOD_CHANNEL_NAME = "wtf.zikzak/flutter_headless_inappwebview";
 
   public final Map<String, HeadlessInAppWebView> webViews = new HashMap<>();
+  public final Map<String, HeadlessWebViewWorkerPool> workerPools = new HashMap<>();
   @Nullable
   public InAppWebViewFlutterPlugin plugin;
 
@@ -63,6 +66,13 @@ public class HeadlessInAppWebViewManager extends ChannelDelegateImpl {
         }
         result.success(true);
         break;
+      case "createWorkerPool":
+        {
+          Map<String, Object> params = (Map<String, Object>) call.argument("params");
+          createWorkerPool(id, params != null ? params : new HashMap<String, Object>());
+        }
+        result.success(true);
+        break;
       default:
         result.notImplemented();
     }
@@ -83,9 +93,20 @@ public class HeadlessInAppWebViewManager extends ChannelDelegateImpl {
     flutterWebView.makeInitialLoad(params);
   }
 
+  public void createWorkerPool(String id, Map<String, Object> params) {
+    if (plugin == null) return;
+    HeadlessWebViewWorkerPool workerPool = new HeadlessWebViewWorkerPool(plugin, id, params);
+    workerPools.put(id, workerPool);
+  }
+
   @Override
   public void dispose() {
     super.dispose();
+    List<HeadlessWebViewWorkerPool> headlessWebViewWorkerPools = new ArrayList<>(workerPools.values());
+    for (HeadlessWebViewWorkerPool workerPool : headlessWebViewWorkerPools) {
+      workerPool.dispose();
+    }
+    workerPools.clear();
     Collection<HeadlessInAppWebView> headlessInAppWebViews = webViews.values();
     for (HeadlessInAppWebView headlessInAppWebView : headlessInAppWebViews) {
       if (headlessInAppWebView != null) {
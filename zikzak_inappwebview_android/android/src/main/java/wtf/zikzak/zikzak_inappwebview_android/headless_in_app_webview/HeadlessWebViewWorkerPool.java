@@ -0,0 +1,556 @@
+package wtf.zikzak.zikzak_inappwebview_android.headless_in_app_webview;
+
+import android.app.Activity;
+import android.content.Context;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.view.View;
+import android.view.ViewGroup;
+import android.webkit.CookieManager;
+import android.webkit.ValueCallback;
+import android.webkit.WebStorage;
+import android.widget.FrameLayout;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.flutter.plugin.common.MethodChannel;
+import wtf.zikzak.zikzak_inappwebview_android.InAppWebViewFlutterPlugin;
+import wtf.zikzak.zikzak_inappwebview_android.Util;
+import wtf.zikzak.zikzak_inappwebview_android.in_app_browser.ActivityResultListener;
+import wtf.zikzak.zikzak_inappwebview_android.in_app_browser.InAppBrowserDelegate;
+import wtf.zikzak.zikzak_inappwebview_android.types.ContentWorld;
+import wtf.zikzak.zikzak_inappwebview_android.types.Disposable;
+import wtf.zikzak.zikzak_inappwebview_android.types.Size2D;
+import wtf.zikzak.zikzak_inappwebview_android.types.URLRequest;
+import wtf.zikzak.zikzak_inappwebview_android.types.UserScript;
+import wtf.zikzak.zikzak_inappwebview_android.webview.in_app_webview.InAppWebView;
+import wtf.zikzak.zikzak_inappwebview_android.webview.in_app_webview.InAppWebViewSettings;
+
+/**
+ * Pool of headless {@link InAppWebView}s running a queue of jobs: load a URL or an HTML string,
+ * then optionally run an extraction script and take a screenshot.
+ * <p>
+ * Each worker runs one job at a time. Between two jobs the WebView is recycled, instead of being destroyed,
+ * by clearing the session storage of the page, the cache, the form data and the SSL preferences,
+ * and by navigating to {@code about:blank} and clearing its history.
+ * The cookies and the Web Storage data, shared by all the WebViews, are deleted too
+ * only if {@code clearSharedStorageBetweenJobs} is set. A worker is recreated after {@code maxJobsPerWorker} jobs,
+ * or if the recycling doesn't complete in time. The workers have no Dart channel:
+ * their navigation events are received as an {@link InAppBrowserDelegate}.
+ * Job results, with their timings, are sent to Dart in batches.
+ */
+public class HeadlessWebViewWorkerPool implements Disposable {
+  protected static final String LOG_TAG = "HeadlessWorkerPool";
+  public static final String METHOD_CHANNEL_NAME_PREFIX = "wtf.zikzak/flutter_headless_webview_worker_pool_";
+  private static final String BLANK_URL = "about:blank";
+  private static final long RECYCLE_TIMEOUT = 10000;
+
+  @NonNull
+  public final String id;
+  @Nullable
+  public HeadlessWebViewWorkerPoolChannelDelegate channelDelegate;
+  @Nullable
+  private InAppWebViewFlutterPlugin plugin;
+  @NonNull
+  private final Handler handler = new Handler(Looper.getMainLooper());
+
+  @NonNull
+  private final List<Worker> workers = new ArrayList<>();
+  @NonNull
+  private final ArrayDeque<Map<String, Object>> jobs = new ArrayDeque<>();
+  @NonNull
+  private final List<Map<String, Object>> pendingResults = new ArrayList<>();
+
+  private int size = 2;
+  @NonNull
+  private Map<String, Object> settingsMap = new HashMap<>();
+  @Nullable
+  private Size2D initialSize;
+  private long jobTimeout = 30000;
+  private int maxJobsPerWorker = 50;
+  private boolean clearSharedStorageBetweenJobs = false;
+  private int resultBatchSize = 10;
+  private long resultBatchInterval = 500;
+  private boolean flushScheduled = false;
+
+  private final Runnable flushRunnable = new Runnable() {
+    @Override
+    public void run() {
+      flushResults();
+    }
+  };
+
+  public HeadlessWebViewWorkerPool(@NonNull InAppWebViewFlutterPlugin plugin, @NonNull String id,
+                                   @NonNull Map<String, Object> params) {
+    this.id = id;
+    this.plugin = plugin;
+    final MethodChannel channel = new MethodChannel(plugin.messenger, METHOD_CHANNEL_NAME_PREFIX + id);
+    this.channelDelegate = new HeadlessWebViewWorkerPoolChannelDelegate(this, channel);
+
+    Integer paramsSize = (Integer) params.get("size");
+    if (paramsSize != null) {
+      size = Math.max(1, paramsSize);
+    }
+    Map<String, Object> initialSettings = (Map<String, Object>) params.get("initialSettings");
+    if (initialSettings != null) {
+      settingsMap = initialSettings;
+    }
+    initialSize = Size2D.fromMap((Map<String, Object>) params.get("initialSize"));
+    Number paramsJobTimeout = (Number) params.get("jobTimeout");
+    if (paramsJobTimeout != null) {
+      jobTimeout = paramsJobTimeout.longValue();
+    }
+    Integer paramsMaxJobsPerWorker = (Integer) params.get("maxJobsPerWorker");
+    if (paramsMaxJobsPerWorker != null) {
+      maxJobsPerWorker = paramsMaxJobsPerWorker;
+    }
+    Boolean paramsClearSharedStorageBetweenJobs = (Boolean) params.get("clearSharedStorageBetweenJobs");
+    if (paramsClearSharedStorageBetweenJobs != null) {
+      clearSharedStorageBetweenJobs = paramsClearSharedStorageBetweenJobs;
+    }
+    Integer paramsResultBatchSize = (Integer) params.get("resultBatchSize");
+    if (paramsResultBatchSize != null) {
+      resultBatchSize = Math.max(1, paramsResultBatchSize);
+    }
+    Number paramsResultBatchInterval = (Number) params.get("resultBatchInterval");
+    if (paramsResultBatchInterval != null) {
+      resultBatchInterval = Math.max(0, paramsResultBatchInterval.longValue());
+    }
+  }
+
+  public void enqueue(@NonNull List<Map<String, Object>> newJobs) {
+    long now = SystemClock.uptimeMillis();
+    for (Map<String, Object> job : newJobs) {
+      Map<String, Object> queuedJob = new HashMap<>(job);
+      queuedJob.put("enqueueTime", now);
+      jobs.add(queuedJob);
+    }
+    dispatch();
+  }
+
+  /**
+   * Removes the jobs not started yet.
+   *
+   * @return the number of removed jobs.
+   */
+  public int cancelPendingJobs() {
+    int count = jobs.size();
+    jobs.clear();
+    return count;
+  }
+
+  public int getPendingJobCount() {
+    return jobs.size();
+  }
+
+  public int getRunningJobCount() {
+    int count = 0;
+    for (Worker worker : workers) {
+      if (worker.job != null) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private void dispatch() {
+    if (plugin == null) {
+      return;
+    }
+    // a job can finish synchronously and dispatch again, so the workers are iterated by index
+    for (int i = 0; i < workers.size(); i++) {
+      if (jobs.isEmpty()) {
+        return;
+      }
+      Worker worker = workers.get(i);
+      if (worker.isIdle()) {
+        worker.start(jobs.poll());
+      }
+    }
+    while (!jobs.isEmpty() && workers.size() < size) {
+      Worker worker = new Worker(workers.size());
+      if (!worker.create()) {
+        return;
+      }
+      workers.add(worker);
+      worker.start(jobs.poll());
+    }
+  }
+
+  private void addResult(@NonNull Map<String, Object> result) {
+    pendingResults.add(result);
+    if (pendingResults.size() >= resultBatchSize || (jobs.isEmpty() && getRunningJobCount() == 0)) {
+      flushResults();
+    } else if (!flushScheduled) {
+      flushScheduled = true;
+      handler.postDelayed(flushRunnable, resultBatchInterval);
+    }
+  }
+
+  private void flushResults() {
+    handler.removeCallbacks(flushRunnable);
+    flushScheduled = false;
+    if (pendingResults.isEmpty()) {
+      return;
+    }
+    List<Map<String, Object>> results = new ArrayList<>(pendingResults);
+    pendingResults.clear();
+    if (channelDelegate != null) {
+      channelDelegate.onJobResults(results);
+    }
+  }
+
+  private void attachToActivity(@NonNull View view) {
+    if (plugin == null || plugin.activity == null) {
+      return;
+    }
+    // Add the WebView to the view hierarchy, so that it is rendered and screenshots can be taken.
+    ViewGroup contentView = plugin.activity.findViewById(android.R.id.content);
+    if (contentView != null) {
+      ViewGroup mainView = (ViewGroup) contentView.getChildAt(0);
+      if (mainView != null) {
+        mainView.addView(view, 0);
+      }
+    }
+  }
+
+  private static void detachFromParent(@NonNull View view) {
+    ViewGroup parent = (ViewGroup) view.getParent();
+    if (parent != null) {
+      parent.removeView(view);
+    }
+  }
+
+  @Override
+  public void dispose() {
+    if (channelDelegate != null) {
+      channelDelegate.dispose();
+      channelDelegate = null;
+    }
+    handler.removeCallbacksAndMessages(null);
+    jobs.clear();
+    pendingResults.clear();
+    for (Worker worker : workers) {
+      worker.destroy();
+    }
+    workers.clear();
+    if (plugin != null && plugin.headlessInAppWebViewManager != null) {
+      plugin.headlessInAppWebViewManager.workerPools.remove(id);
+    }
+    plugin = null;
+  }
+
+  private class Worker implements InAppBrowserDelegate {
+    private static final int STATE_IDLE = 0;
+    private static final int STATE_LOADING = 1;
+    private static final int STATE_PROCESSING = 2;
+    private static final int STATE_RECYCLING = 3;
+
+    private final int index;
+    @Nullable
+    private InAppWebView webView;
+    private int state = STATE_IDLE;
+    private int jobCount = 0;
+    @Nullable
+    private Map<String, Object> job;
+    @Nullable
+    private Map<String, Object> result;
+    private long startTime;
+    private long loadEndTime;
+    @NonNull
+    private final List<ActivityResultListener> activityResultListeners = new ArrayList<>();
+
+    private final Runnable timeoutRunnable = new Runnable() {
+      @Override
+      public void run() {
+        finish("Job timed out after " + jobTimeout + " ms");
+      }
+    };
+
+    // about:blank has not finished loading, the WebView is recreated instead
+    private final Runnable recycleTimeoutRunnable = new Runnable() {
+      @Override
+      public void run() {
+        if (state != STATE_RECYCLING) {
+          return;
+        }
+        destroy();
+        if (create()) {
+          dispatch();
+        }
+      }
+    };
+
+    Worker(int index) {
+      this.index = index;
+    }
+
+    boolean isIdle() {
+      return webView != null && state == STATE_IDLE;
+    }
+
+    boolean create() {
+      if (plugin == null || (plugin.activity == null && plugin.applicationContext == null)) {
+        return false;
+      }
+      Context context = plugin.activity != null ? plugin.activity : plugin.applicationContext;
+      InAppWebViewSettings customSettings = new InAppWebViewSettings();
+      customSettings.parse(settingsMap);
+      webView = new InAppWebView(context, plugin, "headless_worker_" + id + "_" + index, null,
+              customSettings, null, null, new ArrayList<UserScript>());
+      // the workers report to the pool, not to a Dart controller
+      if (webView.channelDelegate != null) {
+        webView.channelDelegate.dispose();
+        webView.channelDelegate = null;
+      }
+      webView.inAppBrowserDelegate = this;
+      webView.prepare();
+
+      float scale = Util.getPixelDensity(context);
+      Size2D fullscreenSize = Util.getFullscreenSize(context);
+      int width = (int) (initialSize == null || initialSize.getWidth() == -1 ?
+              fullscreenSize.getWidth() : initialSize.getWidth() * scale);
+      int height = (int) (initialSize == null || initialSize.getHeight() == -1 ?
+              fullscreenSize.getHeight() : initialSize.getHeight() * scale);
+      webView.setLayoutParams(new FrameLayout.LayoutParams(width, height));
+      webView.setVisibility(View.INVISIBLE);
+      attachToActivity(webView);
+      if (webView.getParent() == null) {
+        webView.measure(View.MeasureSpec.makeMeasureSpec(width, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(height, View.MeasureSpec.EXACTLY));
+        webView.layout(0, 0, width, height);
+      }
+      jobCount = 0;
+      state = STATE_IDLE;
+      return true;
+    }
+
+    void start(@NonNull Map<String, Object> job) {
+      if (webView == null) {
+        return;
+      }
+      this.job = job;
+      this.result = new HashMap<>();
+      result.put("jobId", job.get("id"));
+      result.put("workerIndex", index);
+      startTime = SystemClock.uptimeMillis();
+      Long enqueueTime = (Long) job.get("enqueueTime");
+      result.put("queueDuration", enqueueTime != null ? startTime - enqueueTime : 0);
+      state = STATE_LOADING;
+      jobCount++;
+      Number timeout = (Number) job.get("timeout");
+      long currentJobTimeout = timeout != null ? timeout.longValue() : jobTimeout;
+      if (currentJobTimeout > 0) {
+        handler.postDelayed(timeoutRunnable, currentJobTimeout);
+      }
+
+      URLRequest urlRequest = URLRequest.fromMap((Map<String, Object>) job.get("urlRequest"));
+      Map<String, String> initialData = (Map<String, String>) job.get("initialData");
+      if (urlRequest != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+        webView.loadUrl(urlRequest);
+      } else if (urlRequest != null) {
+        webView.loadUrl(urlRequest.getUrl());
+      } else if (initialData != null) {
+        String data = initialData.get("data");
+        String mimeType = initialData.get("mimeType");
+        String encoding = initialData.get("encoding");
+        String baseUrl = initialData.get("baseUrl");
+        String historyUrl = initialData.get("historyUrl");
+        webView.loadDataWithBaseURL(baseUrl, data, mimeType, encoding, historyUrl);
+      } else {
+        finish("The job has no URL request nor data to load");
+      }
+    }
+
+    private void onLoaded() {
+      if (webView == null || result == null || job == null) {
+        return;
+      }
+      state = STATE_PROCESSING;
+      loadEndTime = SystemClock.uptimeMillis();
+      result.put("url", webView.getUrl());
+      result.put("loadDuration", loadEndTime - startTime);
+      runScript();
+    }
+
+    private void runScript() {
+      if (webView == null || result == null || job == null) {
+        return;
+      }
+      String script = (String) job.get("script");
+      if (script == null) {
+        takeScreenshot();
+        return;
+      }
+      if (Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) {
+        finish("Scripts are available only on Android 21+");
+        return;
+      }
+      final Map<String, Object> currentJob = job;
+      final long scriptStartTime = SystemClock.uptimeMillis();
+      webView.callAsyncJavaScript(script, new HashMap<String, Object>(), ContentWorld.PAGE, new ValueCallback<String>() {
+        @Override
+        public void onReceiveValue(String value) {
+          if (job != currentJob || result == null) {
+            return;
+          }
+          result.put("scriptResult", value);
+          result.put("scriptDuration", SystemClock.uptimeMillis() - scriptStartTime);
+          takeScreenshot();
+        }
+      });
+    }
+
+    private void takeScreenshot() {
+      if (webView == null || result == null || job == null) {
+        return;
+      }
+      if (!job.containsKey("screenshotConfiguration")) {
+        finish(null);
+        return;
+      }
+      final Map<String, Object> currentJob = job;
+      final long screenshotStartTime = SystemClock.uptimeMillis();
+      webView.takeScreenshot((Map<String, Object>) job.get("screenshotConfiguration"), new MethodChannel.Result() {
+        @Override
+        public void success(@Nullable Object screenshot) {
+          if (job != currentJob || result == null) {
+            return;
+          }
+          result.put("screenshotDuration", SystemClock.uptimeMillis() - screenshotStartTime);
+          if (screenshot == null) {
+            finish("Failed to take the screenshot");
+            return;
+          }
+          result.put("screenshot", screenshot);
+          finish(null);
+        }
+
+        @Override
+        public void error(@NonNull String errorCode, @Nullable String errorMessage, @Nullable Object errorDetails) {
+          if (job == currentJob) {
+            finish(errorMessage != null ? errorMessage : errorCode);
+          }
+        }
+
+        @Override
+        public void notImplemented() {
+          if (job == currentJob) {
+            finish("Screenshots are not supported");
+          }
+        }
+      });
+    }
+
+    private void finish(@Nullable String error) {
+      handler.removeCallbacks(timeoutRunnable);
+      Map<String, Object> currentResult = result;
+      job = null;
+      result = null;
+      if (currentResult != null) {
+        currentResult.put("success", error == null);
+        currentResult.put("error", error);
+        currentResult.put("totalDuration", SystemClock.uptimeMillis() - startTime);
+        addResult(currentResult);
+      }
+      recycle();
+    }
+
+    private void recycle() {
+      if (webView == null) {
+        return;
+      }
+      if (maxJobsPerWorker > 0 && jobCount >= maxJobsPerWorker) {
+        destroy();
+        if (!create()) {
+          return;
+        }
+        dispatch();
+        return;
+      }
+      state = STATE_RECYCLING;
+      handler.postDelayed(recycleTimeoutRunnable, RECYCLE_TIMEOUT);
+      // the session storage is kept by the WebView for each origin, so it's cleared before leaving the page
+      webView.evaluateJavascript("try { window.sessionStorage.clear(); } catch (e) {}", null);
+      webView.stopLoading();
+      webView.clearCache(true);
+      webView.clearFormData();
+      webView.clearSslPreferences();
+      if (clearSharedStorageBetweenJobs) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+          CookieManager.getInstance().removeAllCookies(null);
+        } else {
+          CookieManager.getInstance().removeAllCookie();
+        }
+        WebStorage.getInstance().deleteAllData();
+      }
+      webView.loadUrl(BLANK_URL);
+    }
+
+    void destroy() {
+      handler.removeCallbacks(timeoutRunnable);
+      handler.removeCallbacks(recycleTimeoutRunnable);
+      job = null;
+      result = null;
+      state = STATE_IDLE;
+      if (webView != null) {
+        detachFromParent(webView);
+        webView.inAppBrowserDelegate = null;
+        webView.dispose();
+        webView = null;
+      }
+    }
+
+    @Override
+    public Activity getActivity() {
+      return plugin != null ? plugin.activity : null;
+    }
+
+    @Override
+    public List<ActivityResultListener> getActivityResultListeners() {
+      return activityResultListeners;
+    }
+
+    @Override
+    public void didChangeTitle(String title) {}
+
+    @Override
+    public void didStartNavigation(String url) {}
+
+    @Override
+    public void didUpdateVisitedHistory(String url) {}
+
+    @Override
+    public void didFinishNavigation(String url) {
+      if (state == STATE_LOADING) {
+        onLoaded();
+      } else if (state == STATE_RECYCLING && BLANK_URL.equals(url)) {
+        handler.removeCallbacks(recycleTimeoutRunnable);
+        if (webView != null) {
+          webView.clearHistory();
+        }
+        state = STATE_IDLE;
+        dispatch();
+      }
+    }
+
+    @Override
+    public void didFailNavigation(String url, int errorCode, String description) {
+      if (state == STATE_LOADING) {
+        finish("Failed to load " + url + " (" + errorCode + "): " + description);
+      }
+    }
+
+    @Override
+    public void didChangeProgress(int progress) {}
+  }
+}
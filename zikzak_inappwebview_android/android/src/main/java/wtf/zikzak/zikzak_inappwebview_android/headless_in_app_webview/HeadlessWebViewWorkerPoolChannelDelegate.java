@@ -0,0 +1,73 @@
+package wtf.zikzak.zikzak_inappwebview_android.headless_in_app_webview;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import wtf.zikzak.zikzak_inappwebview_android.types.ChannelDelegateImpl;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.flutter.plugin.common.MethodCall;
+import io.flutter.plugin.common.MethodChannel;
+
+public class HeadlessWebViewWorkerPoolChannelDelegate extends ChannelDelegateImpl {
+  @Nullable
+  private HeadlessWebViewWorkerPool workerPool;
+
+  public HeadlessWebViewWorkerPoolChannelDelegate(@NonNull HeadlessWebViewWorkerPool workerPool, @NonNull MethodChannel channel) {
+    super(channel);
+    this.workerPool = workerPool;
+  }
+
+  @Override
+  public void onMethodCall(@NonNull MethodCall call, @NonNull MethodChannel.Result result) {
+    switch (call.method) {
+      case "enqueue":
+        if (workerPool != null) {
+          List<Map<String, Object>> jobs = (List<Map<String, Object>>) call.argument("jobs");
+          if (jobs != null) {
+            workerPool.enqueue(jobs);
+          }
+          result.success(true);
+        } else {
+          result.success(false);
+        }
+        break;
+      case "cancelPendingJobs":
+        result.success(workerPool != null ? workerPool.cancelPendingJobs() : 0);
+        break;
+      case "getPendingJobCount":
+        result.success(workerPool != null ? workerPool.getPendingJobCount() : 0);
+        break;
+      case "getRunningJobCount":
+        result.success(workerPool != null ? workerPool.getRunningJobCount() : 0);
+        break;
+      case "dispose":
+        if (workerPool != null) {
+          workerPool.dispose();
+          result.success(true);
+        } else {
+          result.success(false);
+        }
+        break;
+      default:
+        result.notImplemented();
+    }
+  }
+
+  public void onJobResults(@NonNull List<Map<String, Object>> results) {
+    MethodChannel channel = getChannel();
+    if (channel == null) return;
+    Map<String, Object> obj = new HashMap<>();
+    obj.put("results", results);
+    channel.invokeMethod("onJobResults", obj);
+  }
+
+  @Override
+  public void dispose() {
+    super.dispose();
+    workerPool = null;
+  }
+}
@@ -1,10 +1,14 @@
 package wtf.zikzak.zikzak_inappwebview_android.plugin_scripts_js;
 
+import androidx.annotation.Nullable;
+
 import wtf.zikzak.zikzak_inappwebview_android.types.PluginScript;
 import wtf.zikzak.zikzak_inappwebview_android.types.UserScriptInjectionTime;
+import wtf.zikzak.zikzak_inappwebview_android.webview.ConsoleMessageBuffer;
 
 public class ConsoleLogJS {
   public static final String CONSOLE_LOG_JS_PLUGIN_SCRIPT_GROUP_NAME = "IN_APP_WEBVIEW_CONSOLE_LOG_JS_PLUGIN_SCRIPT";
+  public static final String VAR_CONSOLE_MESSAGE_MINIMUM_SEVERITY_JS_SOURCE = JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + "._consoleMessageMinimumSeverity";
   public static final PluginScript CONSOLE_LOG_JS_PLUGIN_SCRIPT = new PluginScript(
           ConsoleLogJS.CONSOLE_LOG_JS_PLUGIN_SCRIPT_GROUP_NAME,
           ConsoleLogJS.CONSOLE_LOG_JS_SOURCE,
@@ -14,16 +18,44 @@ public class ConsoleLogJS {
           null
   );
 
+  public static PluginScript createConsoleMessageMinimumLevelPluginScript(@Nullable Integer minimumLevel) {
+    return new PluginScript(
+            ConsoleLogJS.CONSOLE_LOG_JS_PLUGIN_SCRIPT_GROUP_NAME,
+            "window." + VAR_CONSOLE_MESSAGE_MINIMUM_SEVERITY_JS_SOURCE + " = " +
+                    (minimumLevel != null ? ConsoleMessageBuffer.getSeverity(minimumLevel) : "null") + ";",
+            UserScriptInjectionTime.AT_DOCUMENT_START,
+            null,
+            true,
+            null
+    );
+  }
+
+  // Severities match ConsoleMessageBuffer.getSeverity: console.debug is reported as TIP,
+  // console.log and console.info as LOG.
+  // Calls below the minimum severity are forwarded untouched, without stringifying their arguments,
+  // because they are discarded natively anyway.
   public static final String CONSOLE_LOG_JS_SOURCE = "(function(console) {" +
+          "   var bridge = window." + JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + ";" +
           "   function _buildMessage(args) {" +
-          "     var message = '';" +
-          "     for (var i in args) {" +
+          "     var length = args.length;" +
+          "     if (length === 1 && typeof args[0] === 'string') {" +
+          "       return args[0];" +
+          "     }" +
+          "     var parts = [];" +
+          "     for (var i = 0; i < length; i++) {" +
           "       try {" +
-          "         message += message === '' ? args[i] : ' ' + args[i];" +
+          "         parts.push(String(args[i]));" +
           "       } catch(ignored) {}" +
           "     }" +
-          "     return message;" +
+          "     return parts.join(' ');" +
           "   }" +
+          "   var severities = {" +
+          "       'log': 1," +
+          "       'debug': 0," +
+          "       'error': 3," +
+          "       'info': 1," +
+          "       'warn': 2" +
+          "   };" +
           "   var oldLogs = {" +
           "       'log': console.log," +
           "       'debug': console.debug," +
@@ -34,6 +66,10 @@ public class ConsoleLogJS {
           "   for (var k in oldLogs) {" +
           "       (function(oldLog) {" +
           "           console[oldLog] = function() {" +
+          "               var minimumSeverity = bridge != null ? bridge._consoleMessageMinimumSeverity : null;" +
+          "               if (minimumSeverity != null && severities[oldLog] < minimumSeverity) {" +
+          "                   return oldLogs[oldLog].apply(console, arguments);" +
+          "               }" +
           "               oldLogs[oldLog].call(console, _buildMessage(arguments));" +
           "           }" +
           "       })(k);" +
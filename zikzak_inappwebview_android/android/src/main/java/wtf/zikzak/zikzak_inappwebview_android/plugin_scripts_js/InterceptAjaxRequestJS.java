@@ -1,5 +1,11 @@
 package wtf.zikzak.zikzak_inappwebview_android.plugin_scripts_js;
 
+import androidx.annotation.Nullable;
+
+import org.json.JSONObject;
+
+import java.util.Map;
+
 import wtf.zikzak.zikzak_inappwebview_android.types.PluginScript;
 import wtf.zikzak.zikzak_inappwebview_android.types.UserScriptInjectionTime;
 
@@ -8,6 +14,7 @@ public class InterceptAjaxRequestJS {
   public static final String INTERCEPT_AJAX_REQUEST_JS_PLUGIN_SCRIPT_GROUP_NAME = "IN_APP_WEBVIEW_INTERCEPT_AJAX_REQUEST_JS_PLUGIN_SCRIPT";
   public static final String FLAG_VARIABLE_FOR_SHOULD_INTERCEPT_AJAX_REQUEST_JS_SOURCE = JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + "._useShouldInterceptAjaxRequest";
   public static final String FLAG_VARIABLE_FOR_INTERCEPT_ONLY_ASYNC_AJAX_REQUESTS_JS_SOURCE = JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + "._interceptOnlyAsyncAjaxRequests";
+  public static final String VAR_SHOULD_INTERCEPT_AJAX_REQUEST_FILTER_JS_SOURCE = JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + "._shouldInterceptAjaxRequestFilter";
   public static final PluginScript INTERCEPT_AJAX_REQUEST_JS_PLUGIN_SCRIPT = new PluginScript(
           InterceptAjaxRequestJS.INTERCEPT_AJAX_REQUEST_JS_PLUGIN_SCRIPT_GROUP_NAME,
           InterceptAjaxRequestJS.INTERCEPT_AJAX_REQUEST_JS_SOURCE,
@@ -28,6 +35,20 @@ public class InterceptAjaxRequestJS {
     );
   }
 
+  public static PluginScript createShouldInterceptAjaxRequestFilterPluginScript(@Nullable Map<String, Object> filter) {
+    return new PluginScript(
+            InterceptAjaxRequestJS.INTERCEPT_AJAX_REQUEST_JS_PLUGIN_SCRIPT_GROUP_NAME,
+            "window." + VAR_SHOULD_INTERCEPT_AJAX_REQUEST_FILTER_JS_SOURCE + " = " +
+                    (filter != null ? new JSONObject(filter).toString() : "null") + ";",
+            UserScriptInjectionTime.AT_DOCUMENT_START,
+            null,
+            true,
+            null
+    );
+  }
+
+  // Requests not matching the filter and, in lazy body mode, request bodies
+  // never cross the JavaScript bridge unless the Dart side asks for them.
   public static final String INTERCEPT_AJAX_REQUEST_JS_SOURCE = "(function(ajax) {" +
           "  var w = (window.top == null || window.top === window) ? window : window.top;" +
           "  w." + FLAG_VARIABLE_FOR_SHOULD_INTERCEPT_AJAX_REQUEST_JS_SOURCE + " = true;" +
@@ -134,7 +155,8 @@ public class InterceptAjaxRequestJS {
           "  ajax.prototype.send = function(data) {" +
           "    var self = this;" +
           "    var w = (window.top == null || window.top === window) ? window : window.top;" +
-          "    var canBeIntercepted = self._zikzak_inappwebview_isAsync || w." + FLAG_VARIABLE_FOR_INTERCEPT_ONLY_ASYNC_AJAX_REQUESTS_JS_SOURCE + " === false;" +
+          "    var canBeIntercepted = (self._zikzak_inappwebview_isAsync || w." + FLAG_VARIABLE_FOR_INTERCEPT_ONLY_ASYNC_AJAX_REQUESTS_JS_SOURCE + " === false) &&" +
+          "      " + JavaScriptBridgeJS.JAVASCRIPT_UTIL_VAR_NAME + ".matchesInterceptRequestFilter(w." + VAR_SHOULD_INTERCEPT_AJAX_REQUEST_FILTER_JS_SOURCE + ", self._zikzak_inappwebview_url, self._zikzak_inappwebview_method);" +
           "    if (canBeIntercepted && (w." + FLAG_VARIABLE_FOR_SHOULD_INTERCEPT_AJAX_REQUEST_JS_SOURCE + " == null || w." + FLAG_VARIABLE_FOR_SHOULD_INTERCEPT_AJAX_REQUEST_JS_SOURCE + " == true)) {" +
           "      if (!this._zikzak_inappwebview_already_onreadystatechange_wrapped) {" +
           "        this._zikzak_inappwebview_already_onreadystatechange_wrapped = true;" +
@@ -197,9 +219,12 @@ public class InterceptAjaxRequestJS {
           "      this.addEventListener('error', handleEvent);" +
           "      this.addEventListener('abort', handleEvent);" +
           "      this.addEventListener('timeout', handleEvent);" +
-          "      " + JavaScriptBridgeJS.JAVASCRIPT_UTIL_VAR_NAME + ".convertBodyRequest(data).then(function(data) {" +
+          "      var lazyBody = " + JavaScriptBridgeJS.JAVASCRIPT_UTIL_VAR_NAME + ".shouldHoldInterceptedRequestBody(data);" +
+          "      var bodyId = lazyBody ? " + JavaScriptBridgeJS.JAVASCRIPT_UTIL_VAR_NAME + ".holdInterceptedRequestBody(data) : null;" +
+          "      (lazyBody ? Promise.resolve(data) : " + JavaScriptBridgeJS.JAVASCRIPT_UTIL_VAR_NAME + ".convertBodyRequest(data)).then(function(data) {" +
           "        var ajaxRequest = {" +
-          "          data: data," +
+          "          data: lazyBody ? null : data," +
+          "          bodyId: bodyId," +
           "          method: self._zikzak_inappwebview_method," +
           "          url: self._zikzak_inappwebview_url," +
           "          isAsync: self._zikzak_inappwebview_isAsync," +
@@ -209,7 +234,7 @@ public class InterceptAjaxRequestJS {
           "          headers: self._zikzak_inappwebview_request_headers," +
           "          responseType: self.responseType" +
           "        };" +
-          "        window." + JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + ".callHandler('shouldInterceptAjaxRequest', ajaxRequest).then(function(result) {" +
+          "        " + JavaScriptBridgeJS.JAVASCRIPT_UTIL_VAR_NAME + ".releaseInterceptedRequestBodyWhenSettled(window." + JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + ".callHandler('shouldInterceptAjaxRequest', ajaxRequest), bodyId).then(function(result) {" +
           "          if (result != null) {" +
           "            switch (result) {" +
           "              case 0:" +
@@ -227,7 +252,9 @@ public class InterceptAjaxRequestJS {
           "                }" +
           "              }" +
           "            }" +
-          "            if (" + JavaScriptBridgeJS.JAVASCRIPT_UTIL_VAR_NAME + ".isString(result.data) || result.data == null) {" +
+          "            if (lazyBody && result.data == null) {" +
+          "              /* keep the original body */" +
+          "            } else if (" + JavaScriptBridgeJS.JAVASCRIPT_UTIL_VAR_NAME + ".isString(result.data) || result.data == null) {" +
           "              data = result.data;" +
           "            } else if (result.data.length > 0) {" +
           "              data = new Uint8Array(result.data);" +
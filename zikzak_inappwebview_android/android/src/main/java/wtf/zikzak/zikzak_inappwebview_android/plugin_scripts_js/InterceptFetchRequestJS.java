@@ -1,5 +1,11 @@
 package wtf.zikzak.zikzak_inappwebview_android.plugin_scripts_js;
 
+import androidx.annotation.Nullable;
+
+import org.json.JSONObject;
+
+import java.util.Map;
+
 import wtf.zikzak.zikzak_inappwebview_android.types.PluginScript;
 import wtf.zikzak.zikzak_inappwebview_android.types.UserScriptInjectionTime;
 
@@ -7,6 +13,7 @@ public class InterceptFetchRequestJS {
 
   public static final String INTERCEPT_FETCH_REQUEST_JS_PLUGIN_SCRIPT_GROUP_NAME = "IN_APP_WEBVIEW_INTERCEPT_FETCH_REQUEST_JS_PLUGIN_SCRIPT";
   public static final String FLAG_VARIABLE_FOR_SHOULD_INTERCEPT_FETCH_REQUEST_JS_SOURCE = JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + "._useShouldInterceptFetchRequest";
+  public static final String VAR_SHOULD_INTERCEPT_FETCH_REQUEST_FILTER_JS_SOURCE = JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + "._shouldInterceptFetchRequestFilter";
   public static final PluginScript INTERCEPT_FETCH_REQUEST_JS_PLUGIN_SCRIPT = new PluginScript(
           InterceptFetchRequestJS.INTERCEPT_FETCH_REQUEST_JS_PLUGIN_SCRIPT_GROUP_NAME,
           InterceptFetchRequestJS.INTERCEPT_FETCH_REQUEST_JS_SOURCE,
@@ -16,6 +23,20 @@ public class InterceptFetchRequestJS {
           null
   );
 
+  public static PluginScript createShouldInterceptFetchRequestFilterPluginScript(@Nullable Map<String, Object> filter) {
+    return new PluginScript(
+            InterceptFetchRequestJS.INTERCEPT_FETCH_REQUEST_JS_PLUGIN_SCRIPT_GROUP_NAME,
+            "window." + VAR_SHOULD_INTERCEPT_FETCH_REQUEST_FILTER_JS_SOURCE + " = " +
+                    (filter != null ? new JSONObject(filter).toString() : "null") + ";",
+            UserScriptInjectionTime.AT_DOCUMENT_START,
+            null,
+            true,
+            null
+    );
+  }
+
+  // Requests not matching the filter and, in lazy body mode, request bodies
+  // never cross the JavaScript bridge unless the Dart side asks for them.
   public static final String INTERCEPT_FETCH_REQUEST_JS_SOURCE = "(function(fetch) {" +
           "  var w = (window.top == null || window.top === window) ? window : window.top;" +
           "  w." + FLAG_VARIABLE_FOR_SHOULD_INTERCEPT_FETCH_REQUEST_JS_SOURCE + " = true;" +
@@ -37,7 +58,8 @@ public class InterceptFetchRequestJS {
           "        referrer: null," +
           "        referrerPolicy: null," +
           "        integrity: null," +
-          "        keepalive: null" +
+          "        keepalive: null," +
+          "        bodyId: null" +
           "      };" +
           "      if (resource instanceof Request) {" +
           "        fetchRequest.url = resource.url;" +
@@ -68,13 +90,23 @@ public class InterceptFetchRequestJS {
           "          fetchRequest.keepalive = init.keepalive;" +
           "        }" +
           "      }" +
+          "      if (!" + JavaScriptBridgeJS.JAVASCRIPT_UTIL_VAR_NAME + ".matchesInterceptRequestFilter(w." + VAR_SHOULD_INTERCEPT_FETCH_REQUEST_FILTER_JS_SOURCE + ", fetchRequest.url, fetchRequest.method)) {" +
+          "        return fetch(resource, init);" +
+          "      }" +
           "      if (fetchRequest.headers instanceof Headers) {" +
           "        fetchRequest.headers = " + JavaScriptBridgeJS.JAVASCRIPT_UTIL_VAR_NAME + ".convertHeadersToJson(fetchRequest.headers);" +
           "      }" +
           "      fetchRequest.credentials = " + JavaScriptBridgeJS.JAVASCRIPT_UTIL_VAR_NAME + ".convertCredentialsToJson(fetchRequest.credentials);" +
-          "      return " + JavaScriptBridgeJS.JAVASCRIPT_UTIL_VAR_NAME + ".convertBodyRequest(fetchRequest.body).then(function(body) {" +
-          "        fetchRequest.body = body;" +
-          "        return window." + JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + ".callHandler('shouldInterceptFetchRequest', fetchRequest).then(function(result) {" +
+          "      var lazyBody = " + JavaScriptBridgeJS.JAVASCRIPT_UTIL_VAR_NAME + ".shouldHoldInterceptedRequestBody(fetchRequest.body);" +
+          "      if (lazyBody) {" +
+          "        fetchRequest.bodyId = " + JavaScriptBridgeJS.JAVASCRIPT_UTIL_VAR_NAME + ".holdInterceptedRequestBody(fetchRequest.body);" +
+          "        fetchRequest.body = null;" +
+          "      }" +
+          "      return (lazyBody ? Promise.resolve(null) : " + JavaScriptBridgeJS.JAVASCRIPT_UTIL_VAR_NAME + ".convertBodyRequest(fetchRequest.body)).then(function(body) {" +
+          "        if (!lazyBody) {" +
+          "          fetchRequest.body = body;" +
+          "        }" +
+          "        return " + JavaScriptBridgeJS.JAVASCRIPT_UTIL_VAR_NAME + ".releaseInterceptedRequestBodyWhenSettled(window." + JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + ".callHandler('shouldInterceptFetchRequest', fetchRequest), fetchRequest.bodyId).then(function(result) {" +
           "          if (result != null) {" +
           "            switch (result.action) {" +
           "              case 0:" +
@@ -110,7 +142,9 @@ public class InterceptFetchRequestJS {
           "            if (result.headers != null && Object.keys(result.headers).length > 0) {" +
           "              init.headers = " + JavaScriptBridgeJS.JAVASCRIPT_UTIL_VAR_NAME + ".convertJsonToHeaders(result.headers);" +
           "            }" +
-          "            if (" + JavaScriptBridgeJS.JAVASCRIPT_UTIL_VAR_NAME + ".isString(result.body) || result.body == null) {" +
+          "            if (lazyBody && result.body == null) {" +
+          "              /* keep the original body */" +
+          "            } else if (" + JavaScriptBridgeJS.JAVASCRIPT_UTIL_VAR_NAME + ".isString(result.body) || result.body == null) {" +
           "              init.body = result.body;" +
           "            } else if (result.body.length > 0) {" +
           "              init.body = new Uint8Array(result.body);" +
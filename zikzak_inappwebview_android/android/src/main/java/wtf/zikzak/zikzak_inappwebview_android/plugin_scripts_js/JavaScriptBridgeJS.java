@@ -1,5 +1,7 @@
 package wtf.zikzak.zikzak_inappwebview_android.plugin_scripts_js;
 
+import androidx.annotation.Nullable;
+
 import wtf.zikzak.zikzak_inappwebview_android.types.PluginScript;
 import wtf.zikzak.zikzak_inappwebview_android.types.UserScriptInjectionTime;
 
@@ -15,6 +17,37 @@ public class JavaScriptBridgeJS {
           null
   );
 
+  public static final String FLAG_VARIABLE_FOR_LAZY_INTERCEPTED_REQUEST_BODY_JS_SOURCE = JAVASCRIPT_BRIDGE_NAME + "._lazyInterceptedRequestBody";
+
+  public static PluginScript createLazyInterceptedRequestBodyPluginScript(boolean lazy) {
+    return new PluginScript(
+            JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_JS_PLUGIN_SCRIPT_GROUP_NAME,
+            "window." + FLAG_VARIABLE_FOR_LAZY_INTERCEPTED_REQUEST_BODY_JS_SOURCE + " = " + lazy + ";",
+            UserScriptInjectionTime.AT_DOCUMENT_START,
+            null,
+            true,
+            null
+    );
+  }
+
+  public static final String VAR_INTERCEPTED_REQUEST_BODY_INLINE_THRESHOLD_JS_SOURCE = JAVASCRIPT_BRIDGE_NAME + "._interceptedRequestBodyInlineThreshold";
+
+  public static PluginScript createInterceptedRequestBodyInlineThresholdPluginScript(@Nullable Integer threshold) {
+    return new PluginScript(
+            JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_JS_PLUGIN_SCRIPT_GROUP_NAME,
+            "window." + VAR_INTERCEPTED_REQUEST_BODY_INLINE_THRESHOLD_JS_SOURCE + " = " + threshold + ";",
+            UserScriptInjectionTime.AT_DOCUMENT_START,
+            null,
+            true,
+            null
+    );
+  }
+
+  /**
+   * Name of the web message listener object receiving the chunks of intercepted request bodies.
+   */
+  public static final String INTERCEPTED_REQUEST_BODY_TRANSFER_JS_OBJECT_NAME = JAVASCRIPT_BRIDGE_NAME + "_request_body";
+
   public static final String JAVASCRIPT_UTIL_VAR_NAME = "window." + JAVASCRIPT_BRIDGE_NAME + "._Util";
   public static final String WEB_MESSAGE_CHANNELS_VARIABLE_NAME = "window." + JAVASCRIPT_BRIDGE_NAME + "._webMessageChannels";
 
@@ -211,6 +244,150 @@ public class JavaScriptBridgeJS {
           "          credentials = credentialsJson.value == null ? undefined : credentialsJson.value;" +
           "        }" +
           "        return credentials;" +
+          "    }," +
+          "    matchesInterceptRequestFilter: function(filter, url, method) {" +
+          "        if (filter == null) {" +
+          "            return true;" +
+          "        }" +
+          "        if (filter._compiled == null) {" +
+          "            var compile = function(patterns) {" +
+          "                var regExps = [];" +
+          "                for (var i = 0; patterns != null && i < patterns.length; i++) {" +
+          "                    try {" +
+          "                        regExps.push(new RegExp(patterns[i]));" +
+          "                    } catch (e) {" +
+          "                        console.error(e);" +
+          "                    }" +
+          "                }" +
+          "                return regExps;" +
+          "            };" +
+          "            var methods = [];" +
+          "            for (var j = 0; filter.methods != null && j < filter.methods.length; j++) {" +
+          "                methods.push(filter.methods[j].toUpperCase());" +
+          "            }" +
+          "            filter._compiled = {allow: compile(filter.allowList), deny: compile(filter.denyList), methods: methods};" +
+          "        }" +
+          "        var compiled = filter._compiled;" +
+          "        if (compiled.methods.length > 0 && compiled.methods.indexOf((method != null ? String(method) : 'GET').toUpperCase()) < 0) {" +
+          "            return false;" +
+          "        }" +
+          "        var absoluteUrl = url != null ? String(url) : '';" +
+          "        try {" +
+          "            absoluteUrl = new URL(absoluteUrl, document.baseURI).href;" +
+          "        } catch (e) {}" +
+          "        for (var k = 0; k < compiled.deny.length; k++) {" +
+          "            if (compiled.deny[k].test(absoluteUrl)) {" +
+          "                return false;" +
+          "            }" +
+          "        }" +
+          "        if (compiled.allow.length === 0) {" +
+          "            return true;" +
+          "        }" +
+          "        for (var l = 0; l < compiled.allow.length; l++) {" +
+          "            if (compiled.allow[l].test(absoluteUrl)) {" +
+          "                return true;" +
+          "            }" +
+          "        }" +
+          "        return false;" +
+          "    }," +
+          "    getBodySize: function(body) {" +
+          "        if (body == null) {" +
+          "            return 0;" +
+          "        }" +
+          "        if (" + JAVASCRIPT_UTIL_VAR_NAME + ".isString(body)) {" +
+          "            return body.length;" +
+          "        }" +
+          "        if (" + JAVASCRIPT_UTIL_VAR_NAME + ".support.searchParams && body instanceof URLSearchParams) {" +
+          "            return body.toString().length;" +
+          "        }" +
+          "        if (" + JAVASCRIPT_UTIL_VAR_NAME + ".support.blob && body instanceof Blob) {" +
+          "            return body.size;" +
+          "        }" +
+          "        if (body.byteLength != null) {" +
+          "            return body.byteLength;" +
+          "        }" +
+          "        if (" + JAVASCRIPT_UTIL_VAR_NAME + ".support.formData && body instanceof FormData) {" +
+          "            var size = 0;" +
+          "            body.forEach(function(value) {" +
+          "                size += (value != null && value.size != null) ? value.size : String(value).length;" +
+          "            });" +
+          "            return size;" +
+          "        }" +
+          "        return 0;" +
+          "    }," +
+          "    shouldHoldInterceptedRequestBody: function(body) {" +
+          "        if (body == null) {" +
+          "            return false;" +
+          "        }" +
+          "        var w = (window.top == null || window.top === window) ? window : window.top;" +
+          "        if (w." + FLAG_VARIABLE_FOR_LAZY_INTERCEPTED_REQUEST_BODY_JS_SOURCE + " === true) {" +
+          "            return true;" +
+          "        }" +
+          "        var threshold = w." + VAR_INTERCEPTED_REQUEST_BODY_INLINE_THRESHOLD_JS_SOURCE + ";" +
+          "        return threshold != null && " + JAVASCRIPT_UTIL_VAR_NAME + ".getBodySize(body) > threshold;" +
+          "    }," +
+          "    holdInterceptedRequestBody: function(body) {" +
+          "        var bridge = window." + JAVASCRIPT_BRIDGE_NAME + ";" +
+          "        if (bridge._interceptedRequestBodies == null) {" +
+          "            bridge._interceptedRequestBodies = {};" +
+          "            bridge._interceptedRequestBodyLastId = 0;" +
+          "        }" +
+          "        var bodyId = ++bridge._interceptedRequestBodyLastId;" +
+          "        bridge._interceptedRequestBodies[bodyId] = body;" +
+          "        return bodyId;" +
+          "    }," +
+          "    releaseInterceptedRequestBody: function(bodyId) {" +
+          "        var bridge = window." + JAVASCRIPT_BRIDGE_NAME + ";" +
+          "        if (bodyId != null && bridge._interceptedRequestBodies != null) {" +
+          "            delete bridge._interceptedRequestBodies[bodyId];" +
+          "        }" +
+          "    }," +
+          "    releaseInterceptedRequestBodyWhenSettled: function(promise, bodyId) {" +
+          "        return promise.then(function(result) {" +
+          "            " + JAVASCRIPT_UTIL_VAR_NAME + ".releaseInterceptedRequestBody(bodyId);" +
+          "            return result;" +
+          "        }, function(error) {" +
+          "            " + JAVASCRIPT_UTIL_VAR_NAME + ".releaseInterceptedRequestBody(bodyId);" +
+          "            throw error;" +
+          "        });" +
+          "    }," +
+          "    getInterceptedRequestBody: function(bodyId) {" +
+          "        var bridge = window." + JAVASCRIPT_BRIDGE_NAME + ";" +
+          "        var body = bridge._interceptedRequestBodies != null ? bridge._interceptedRequestBodies[bodyId] : null;" +
+          "        return " + JAVASCRIPT_UTIL_VAR_NAME + ".convertBodyRequest(body);" +
+          "    }," +
+          "    sendInterceptedRequestBody: function(bodyId, transferId, chunkSize) {" +
+          "        var receiver = window." + INTERCEPTED_REQUEST_BODY_TRANSFER_JS_OBJECT_NAME + ";" +
+          "        if (receiver == null) {" +
+          "            return false;" +
+          "        }" +
+          "        var bridge = window." + JAVASCRIPT_BRIDGE_NAME + ";" +
+          "        var body = bridge._interceptedRequestBodies != null ? bridge._interceptedRequestBodies[bodyId] : null;" +
+          "        var sendHeader = function(size, isString) {" +
+          "            receiver.postMessage(JSON.stringify({transferId: transferId, size: size, isString: isString}));" +
+          "        };" +
+          "        if (body == null) {" +
+          "            sendHeader(-1, false);" +
+          "            return true;" +
+          "        }" +
+          "        var isString = " + JAVASCRIPT_UTIL_VAR_NAME + ".isString(body) || (" + JAVASCRIPT_UTIL_VAR_NAME + ".support.searchParams && body instanceof URLSearchParams);" +
+          "        var arrayBufferPromise;" +
+          "        if (isString) {" +
+          "            arrayBufferPromise = Promise.resolve(new TextEncoder().encode(body.toString()).buffer);" +
+          "        } else if (window.Response != null) {" +
+          "            arrayBufferPromise = new Response(body).arrayBuffer();" +
+          "        } else {" +
+          "            arrayBufferPromise = " + JAVASCRIPT_UTIL_VAR_NAME + ".convertBodyToArrayBuffer(body);" +
+          "        }" +
+          "        arrayBufferPromise.then(function(arrayBuffer) {" +
+          "            sendHeader(arrayBuffer.byteLength, isString);" +
+          "            for (var offset = 0; offset < arrayBuffer.byteLength; offset += chunkSize) {" +
+          "                receiver.postMessage(arrayBuffer.slice(offset, offset + chunkSize));" +
+          "            }" +
+          "        }).catch(function() {" +
+          "            sendHeader(-1, false);" +
+          "        });" +
+          "        return true;" +
           "    }" +
           "};";
 
@@ -6,6 +6,7 @@ import wtf.zikzak.zikzak_inappwebview_android.types.UserScriptInjectionTime;
 public class OnLoadResourceJS {
   public static final String ON_LOAD_RESOURCE_JS_PLUGIN_SCRIPT_GROUP_NAME = "IN_APP_WEBVIEW_ON_LOAD_RESOURCE_JS_PLUGIN_SCRIPT";
   public static final String FLAG_VARIABLE_FOR_ON_LOAD_RESOURCE_JS_SOURCE = JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + "._useOnLoadResource";
+  public static final String VAR_ON_LOAD_RESOURCE_BATCH_DELAY_JS_SOURCE = JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + "._onLoadResourceBatchDelay";
   public static final PluginScript ON_LOAD_RESOURCE_JS_PLUGIN_SCRIPT = new PluginScript(
           OnLoadResourceJS.ON_LOAD_RESOURCE_JS_PLUGIN_SCRIPT_GROUP_NAME,
           OnLoadResourceJS.ON_LOAD_RESOURCE_JS_SOURCE,
@@ -15,21 +16,81 @@ public class OnLoadResourceJS {
           null
   );
 
+  public static PluginScript createOnLoadResourceBatchDelayPluginScript(int batchDelay) {
+    return new PluginScript(
+            OnLoadResourceJS.ON_LOAD_RESOURCE_JS_PLUGIN_SCRIPT_GROUP_NAME,
+            "window." + VAR_ON_LOAD_RESOURCE_BATCH_DELAY_JS_SOURCE + " = " + batchDelay + ";",
+            UserScriptInjectionTime.AT_DOCUMENT_START,
+            null,
+            false,
+            null
+    );
+  }
+
+  // Resources are reported in batches: once per PerformanceObserver callback or,
+  // if a batch delay is set, once per idle period (at most after batch delay milliseconds).
   public static final String ON_LOAD_RESOURCE_JS_SOURCE = "window." + FLAG_VARIABLE_FOR_ON_LOAD_RESOURCE_JS_SOURCE + " = true;" +
           "(function() {" +
+          "   var bridge = window." + JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + ";" +
+          "   var pendingResources = [];" +
+          "   var flushScheduled = false;" +
+          "   function _duration(start, end) {" +
+          "     return (start > 0 && end >= start) ? end - start : null;" +
+          "   }" +
+          "   function _toResource(entry) {" +
+          "     return {" +
+          "       'url': entry.name," +
+          "       'initiatorType': entry.initiatorType," +
+          "       'startTime': entry.startTime," +
+          "       'duration': entry.duration," +
+          "       'redirectDuration': _duration(entry.redirectStart, entry.redirectEnd)," +
+          "       'domainLookupDuration': _duration(entry.domainLookupStart, entry.domainLookupEnd)," +
+          "       'connectDuration': _duration(entry.connectStart, entry.connectEnd)," +
+          "       'secureConnectionDuration': _duration(entry.secureConnectionStart, entry.connectEnd)," +
+          "       'timeToFirstByte': _duration(entry.requestStart, entry.responseStart)," +
+          "       'responseDuration': _duration(entry.responseStart, entry.responseEnd)," +
+          "       'transferSize': entry.transferSize != null ? entry.transferSize : null," +
+          "       'encodedBodySize': entry.encodedBodySize != null ? entry.encodedBodySize : null," +
+          "       'decodedBodySize': entry.decodedBodySize != null ? entry.decodedBodySize : null," +
+          "       'nextHopProtocol': entry.nextHopProtocol ? entry.nextHopProtocol : null" +
+          "     };" +
+          "   }" +
+          "   function _flush() {" +
+          "     flushScheduled = false;" +
+          "     if (pendingResources.length === 0) {" +
+          "       return;" +
+          "     }" +
+          "     var resources = pendingResources;" +
+          "     pendingResources = [];" +
+          "     try {" +
+          "       var target = (bridge != null && bridge._onLoadResources != null) ? bridge : window.top." + JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + ";" +
+          "       target._onLoadResources(JSON.stringify(resources));" +
+          "     } catch (e) {" +
+          "       if (bridge != null && bridge.callHandler != null) {" +
+          "         bridge.callHandler('onLoadResources', resources);" +
+          "       }" +
+          "     }" +
+          "   }" +
           "   var observer = new PerformanceObserver(function(list) {" +
-          "       list.getEntries().forEach(function(entry) {" +
-          "         if (" + FLAG_VARIABLE_FOR_ON_LOAD_RESOURCE_JS_SOURCE + " == null || " + FLAG_VARIABLE_FOR_ON_LOAD_RESOURCE_JS_SOURCE + " == true) {" +
-          "           var resource = {" +
-          "             'url': entry.name," +
-          "             'initiatorType': entry.initiatorType," +
-          "             'startTime': entry.startTime," +
-          "             'duration': entry.duration" +
-          "           };" +
-          "           window." + JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + ".callHandler('onLoadResource', resource);" +
+          "     if (" + FLAG_VARIABLE_FOR_ON_LOAD_RESOURCE_JS_SOURCE + " == null || " + FLAG_VARIABLE_FOR_ON_LOAD_RESOURCE_JS_SOURCE + " == true) {" +
+          "       var entries = list.getEntries();" +
+          "       for (var i = 0; i < entries.length; i++) {" +
+          "         pendingResources.push(_toResource(entries[i]));" +
+          "       }" +
+          "       var batchDelay = window." + VAR_ON_LOAD_RESOURCE_BATCH_DELAY_JS_SOURCE + ";" +
+          "       if (batchDelay == null || batchDelay <= 0) {" +
+          "         _flush();" +
+          "       } else if (!flushScheduled) {" +
+          "         flushScheduled = true;" +
+          "         if (window.requestIdleCallback != null) {" +
+          "           window.requestIdleCallback(_flush, {timeout: batchDelay});" +
+          "         } else {" +
+          "           setTimeout(_flush, batchDelay);" +
           "         }" +
-          "       });" +
+          "       }" +
+          "     }" +
           "   });" +
           "   observer.observe({entryTypes: ['resource']});" +
+          "   window.addEventListener('pagehide', _flush);" +
           "})();";
 }
@@ -0,0 +1,74 @@
+package wtf.zikzak.zikzak_inappwebview_android.plugin_scripts_js;
+
+import android.content.Context;
+import android.content.pm.PackageInfo;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.webkit.WebViewCompat;
+
+import wtf.zikzak.zikzak_inappwebview_android.BuildConfig;
+import wtf.zikzak.zikzak_inappwebview_android.Util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Loads the plugin scripts packaged as assets by the {@code bundlePluginScripts} Gradle task
+ * and decides which of them are actually needed by the current WebView implementation.
+ * Only the Promise polyfill is packaged this way, the other plugin scripts are Java constants.
+ */
+public class PluginScriptsBundle {
+  protected static final String LOG_TAG = "PluginScriptsBundle";
+
+  public static final String ASSETS_PATH = "zikzak_inappwebview/plugin_scripts/v" +
+          BuildConfig.PLUGIN_SCRIPTS_BUNDLE_VERSION + "/";
+
+  // Promise is natively supported since Chromium 32
+  private static final int PROMISE_MIN_CHROMIUM_VERSION = 32;
+
+  private static final Map<String, String> sources = new ConcurrentHashMap<>();
+
+  @Nullable
+  private static Integer webViewMajorVersion;
+
+  @Nullable
+  public static String getSource(@NonNull Context context, @NonNull String name) {
+    String source = sources.get(name);
+    if (source != null) {
+      return source;
+    }
+    try {
+      byte[] data = Util.readAllBytes(context.getApplicationContext().getAssets().open(ASSETS_PATH + name));
+      if (data == null) {
+        return null;
+      }
+      source = new String(data, StandardCharsets.UTF_8);
+      sources.put(name, source);
+    } catch (IOException e) {
+      Log.e(LOG_TAG, "Unable to load plugin script " + name, e);
+    }
+    return source;
+  }
+
+  public static synchronized int getWebViewMajorVersion(@NonNull Context context) {
+    if (webViewMajorVersion == null) {
+      int majorVersion = 0;
+      PackageInfo packageInfo = WebViewCompat.getCurrentWebViewPackage(context);
+      if (packageInfo != null && packageInfo.versionName != null) {
+        try {
+          majorVersion = Integer.parseInt(packageInfo.versionName.split("\\.")[0]);
+        } catch (NumberFormatException ignored) {}
+      }
+      webViewMajorVersion = majorVersion;
+    }
+    return webViewMajorVersion;
+  }
+
+  public static boolean isPromiseSupported(@NonNull Context context) {
+    return getWebViewMajorVersion(context) >= PROMISE_MIN_CHROMIUM_VERSION;
+  }
+}
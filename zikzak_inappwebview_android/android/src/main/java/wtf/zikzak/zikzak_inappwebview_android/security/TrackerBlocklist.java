@@ -0,0 +1,159 @@
+package wtf.zikzak.zikzak_inappwebview_android.security;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Thread-safe tracker blocklist compiled into a host suffix matcher.
+ *
+ * Each tracker is a domain, such as "doubleclick.net", matching the domain and all its subdomains,
+ * optionally followed by a path prefix, such as "facebook.com/tr".
+ * The trackers are compiled into an immutable map from domain to path prefixes,
+ * replaced on each change, so a request is matched without locking
+ * with one map lookup per label of its host.
+ */
+public class TrackerBlocklist {
+
+    private final Set<String> trackers = new LinkedHashSet<>();
+    private volatile Map<String, List<String>> compiledTrackers =
+        Collections.emptyMap();
+
+    /**
+     * Add trackers to the blocklist
+     *
+     * @param newTrackers Tracker domains, with an optional path prefix
+     */
+    public synchronized void addAll(@NonNull Iterable<String> newTrackers) {
+        for (String tracker : newTrackers) {
+            String normalizedTracker = normalize(tracker);
+            if (normalizedTracker != null) {
+                trackers.add(normalizedTracker);
+            }
+        }
+        compile();
+    }
+
+    /**
+     * Add a tracker to the blocklist
+     *
+     * @param tracker Tracker domain, with an optional path prefix
+     */
+    public void add(@NonNull String tracker) {
+        addAll(Collections.singletonList(tracker));
+    }
+
+    /**
+     * Remove a tracker from the blocklist
+     *
+     * @param tracker Tracker domain, with an optional path prefix
+     */
+    public synchronized void remove(@Nullable String tracker) {
+        String normalizedTracker = normalize(tracker);
+        if (normalizedTracker != null && trackers.remove(normalizedTracker)) {
+            compile();
+        }
+    }
+
+    /**
+     * Get a snapshot of the trackers
+     *
+     * @return Set of trackers
+     */
+    @NonNull
+    public synchronized Set<String> getTrackers() {
+        return new LinkedHashSet<>(trackers);
+    }
+
+    /**
+     * Find the tracker matching a request
+     *
+     * @param host Host of the request
+     * @param path Path of the request
+     * @return The matching tracker, or null if the request is not blocked
+     */
+    @Nullable
+    public String match(@Nullable String host, @Nullable String path) {
+        if (host == null || host.isEmpty()) {
+            return null;
+        }
+        Map<String, List<String>> currentTrackers = compiledTrackers;
+        if (currentTrackers.isEmpty()) {
+            return null;
+        }
+        String domain = host.toLowerCase(Locale.ROOT);
+        if (domain.endsWith(".")) {
+            domain = domain.substring(0, domain.length() - 1);
+        }
+        String requestPath = path != null ? path : "";
+        while (true) {
+            List<String> pathPrefixes = currentTrackers.get(domain);
+            if (pathPrefixes != null) {
+                for (String pathPrefix : pathPrefixes) {
+                    if (requestPath.startsWith(pathPrefix)) {
+                        return domain + pathPrefix;
+                    }
+                }
+            }
+            int dotIndex = domain.indexOf('.');
+            if (dotIndex < 0) {
+                return null;
+            }
+            domain = domain.substring(dotIndex + 1);
+        }
+    }
+
+    private void compile() {
+        Map<String, List<String>> newCompiledTrackers = new HashMap<>();
+        for (String tracker : trackers) {
+            int slashIndex = tracker.indexOf('/');
+            String domain = slashIndex >= 0
+                ? tracker.substring(0, slashIndex)
+                : tracker;
+            // an empty path prefix matches the whole domain
+            String pathPrefix = slashIndex >= 0
+                ? tracker.substring(slashIndex)
+                : "";
+            List<String> pathPrefixes = newCompiledTrackers.get(domain);
+            if (pathPrefixes == null) {
+                pathPrefixes = new ArrayList<>();
+                newCompiledTrackers.put(domain, pathPrefixes);
+            }
+            pathPrefixes.add(pathPrefix);
+        }
+        compiledTrackers = newCompiledTrackers;
+    }
+
+    @Nullable
+    private static String normalize(@Nullable String tracker) {
+        if (tracker == null) {
+            return null;
+        }
+        String normalizedTracker = tracker.trim();
+        int schemeIndex = normalizedTracker.indexOf("://");
+        if (schemeIndex >= 0) {
+            normalizedTracker = normalizedTracker.substring(schemeIndex + 3);
+        }
+        if (normalizedTracker.startsWith("*.")) {
+            normalizedTracker = normalizedTracker.substring(2);
+        } else if (normalizedTracker.startsWith(".")) {
+            normalizedTracker = normalizedTracker.substring(1);
+        }
+        int slashIndex = normalizedTracker.indexOf('/');
+        String domain = slashIndex >= 0
+            ? normalizedTracker.substring(0, slashIndex)
+            : normalizedTracker;
+        if (domain.isEmpty()) {
+            return null;
+        }
+        return domain.toLowerCase(Locale.ROOT) +
+            (slashIndex >= 0 ? normalizedTracker.substring(slashIndex) : "");
+    }
+}
@@ -2,16 +2,17 @@ package wtf.zikzak.zikzak_inappwebview_android.security;
 
 import android.annotation.SuppressLint;
 import android.content.Context;
+import android.net.Uri;
 import android.os.Build;
 import android.util.Log;
 import android.webkit.WebView;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.RequiresApi;
 import androidx.webkit.WebViewCompat;
 import androidx.webkit.WebViewFeature;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -30,13 +31,13 @@ public class ZikZakSecurityManager {
 
     private static final String TAG = "ZikZakSecurity";
 
-    private static ZikZakSecurityManager instance;
+    private static volatile ZikZakSecurityManager instance;
     private final Context context;
     private final Executor securityExecutor;
-    private final Set<String> blockedTrackers;
+    private final TrackerBlocklist blockedTrackers;
     private final Map<String, SecurityPolicy> securityPolicies;
-    private boolean securityEnhancementsEnabled = false;
-    private int securityLevel = SecurityLevel.NORMAL;
+    private volatile boolean securityEnhancementsEnabled = false;
+    private volatile int securityLevel = SecurityLevel.NORMAL;
 
     /**
      * Security levels
@@ -74,7 +75,7 @@ public class ZikZakSecurityManager {
     private ZikZakSecurityManager(@NonNull Context context) {
         this.context = context.getApplicationContext();
         this.securityExecutor = Executors.newSingleThreadExecutor();
-        this.blockedTrackers = new HashSet<>();
+        this.blockedTrackers = new TrackerBlocklist();
         this.securityPolicies = new HashMap<>();
 
         // Initialize default blocked trackers
@@ -96,6 +97,16 @@ public class ZikZakSecurityManager {
         return instance;
     }
 
+    /**
+     * Get singleton instance of ZikZakSecurityManager, without creating it
+     *
+     * @return ZikZakSecurityManager instance, or null if not created yet
+     */
+    @Nullable
+    public static ZikZakSecurityManager getInstanceIfCreated() {
+        return instance;
+    }
+
     /**
      * Initialize default trackers to block
      */
@@ -178,7 +189,41 @@ public class ZikZakSecurityManager {
      * @return Set of blocked tracker domains
      */
     public Set<String> getBlockedTrackers() {
-        return new HashSet<>(blockedTrackers);
+        return blockedTrackers.getTrackers();
+    }
+
+    /**
+     * Check if tracker requests are blocked, which is the case
+     * when security enhancements are enabled with at least the ENHANCED level
+     *
+     * @return True if tracker requests are blocked
+     */
+    public boolean isTrackerBlockingEnabled() {
+        return (
+            securityEnhancementsEnabled &&
+            securityLevel >= SecurityLevel.ENHANCED
+        );
+    }
+
+    /**
+     * Find the blocked tracker matching a request URL.
+     * This method is thread-safe and can be called from the WebView IO thread.
+     *
+     * @param url URL of the request
+     * @return The matching tracker, or null if the request must not be blocked
+     */
+    @Nullable
+    public String findBlockedTracker(@Nullable String url) {
+        if (url == null || !isTrackerBlockingEnabled()) {
+            return null;
+        }
+        try {
+            Uri uri = Uri.parse(url);
+            return blockedTrackers.match(uri.getHost(), uri.getPath());
+        } catch (Exception e) {
+            Log.e(TAG, "Error matching URL against blocked trackers: " + url, e);
+            return null;
+        }
     }
 
     /**
@@ -459,7 +504,7 @@ public class ZikZakSecurityManager {
         script.append("  const blockedDomains = [");
 
         boolean first = true;
-        for (String tracker : blockedTrackers) {
+        for (String tracker : blockedTrackers.getTrackers()) {
             if (!first) {
                 script.append(",");
             }
@@ -12,11 +12,13 @@ import androidx.webkit.WebViewFeature;
 import wtf.zikzak.zikzak_inappwebview_android.Util;
 import wtf.zikzak.zikzak_inappwebview_android.types.BaseCallbackResultImpl;
 import wtf.zikzak.zikzak_inappwebview_android.types.ChannelDelegateImpl;
+import wtf.zikzak.zikzak_inappwebview_android.types.RequestInterceptionFilter;
 import wtf.zikzak.zikzak_inappwebview_android.types.SyncBaseCallbackResultImpl;
 import wtf.zikzak.zikzak_inappwebview_android.types.WebResourceRequestExt;
 import wtf.zikzak.zikzak_inappwebview_android.types.WebResourceResponseExt;
 
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
 
 import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
@@ -42,7 +44,11 @@ public class ServiceWorkerChannelDelegate extends ChannelDelegateImpl {
       case "setServiceWorkerClient":
         if (serviceWorkerManager != null) {
           Boolean isNull = (Boolean) call.argument("isNull");
-          serviceWorkerManager.setServiceWorkerClient(isNull);
+          RequestInterceptionFilter filter = RequestInterceptionFilter.fromMap((Map<String, Object>) call.argument("filter"));
+          Integer timeout = (Integer) call.argument("timeout");
+          WebResourceResponseExt timeoutResponse = WebResourceResponseExt.fromMap((Map<String, Object>) call.argument("timeoutResponse"));
+          Integer cacheSize = (Integer) call.argument("cacheSize");
+          serviceWorkerManager.setServiceWorkerClient(isNull, filter, timeout, timeoutResponse, cacheSize);
           result.success(true);
         } else {
           result.success(false);
@@ -139,6 +145,14 @@ public class ServiceWorkerChannelDelegate extends ChannelDelegateImpl {
     return Util.invokeMethodAndWaitResult(channel, "shouldInterceptRequest", request.toMap(), callback);
   }
 
+  @Nullable
+  public WebResourceResponseExt shouldInterceptRequest(WebResourceRequestExt request, long timeout) throws InterruptedException, TimeoutException {
+    MethodChannel channel = getChannel();
+    if (channel == null) return null;
+    final SyncShouldInterceptRequestCallback callback = new SyncShouldInterceptRequestCallback();
+    return Util.invokeMethodAndWaitResult(channel, "shouldInterceptRequest", request.toMap(), callback, timeout);
+  }
+
   @Override
   public void dispose() {
     super.dispose();
@@ -14,11 +14,16 @@ import androidx.webkit.WebViewFeature;
 
 import wtf.zikzak.zikzak_inappwebview_android.InAppWebViewFlutterPlugin;
 import wtf.zikzak.zikzak_inappwebview_android.types.Disposable;
+import wtf.zikzak.zikzak_inappwebview_android.types.RequestInterceptionFilter;
 import wtf.zikzak.zikzak_inappwebview_android.types.WebResourceRequestExt;
 import wtf.zikzak.zikzak_inappwebview_android.types.WebResourceResponseExt;
 
 import java.io.ByteArrayInputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
 
 import io.flutter.plugin.common.MethodChannel;
 
@@ -34,6 +39,15 @@ public class ServiceWorkerManager implements Disposable {
   @Nullable
   public InAppWebViewFlutterPlugin plugin;
 
+  @Nullable
+  private volatile RequestInterceptionFilter filter;
+  @Nullable
+  private volatile Integer timeout;
+  @Nullable
+  private volatile WebResourceResponseExt timeoutResponse;
+  private int cacheSize = 0;
+  private final LinkedHashMap<String, WebResourceResponseExt> responseCache = new LinkedHashMap<>(16, 0.75f, true);
+
   public ServiceWorkerManager(@NonNull final InAppWebViewFlutterPlugin plugin) {
     this.plugin = plugin;
     final MethodChannel channel = new MethodChannel(plugin.messenger, METHOD_CHANNEL_NAME);
@@ -48,6 +62,28 @@ public class ServiceWorkerManager implements Disposable {
   }
 
   public void setServiceWorkerClient(Boolean isNull) {
+    setServiceWorkerClient(isNull, null, null, null, null);
+  }
+
+  /**
+   * @param filter requests that don't match it are loaded without calling Dart.
+   * @param timeout maximum time, in milliseconds, to wait for the Dart response.
+   * @param timeoutResponse response used when the timeout expires, or {@code null} to load the request as usual.
+   * @param cacheSize maximum number of Dart responses to GET requests kept in memory and reused for the same URL.
+   */
+  public void setServiceWorkerClient(Boolean isNull,
+                                     @Nullable RequestInterceptionFilter filter,
+                                     @Nullable Integer timeout,
+                                     @Nullable WebResourceResponseExt timeoutResponse,
+                                     @Nullable Integer cacheSize) {
+    this.filter = filter;
+    this.timeout = timeout;
+    this.timeoutResponse = timeoutResponse;
+    synchronized (responseCache) {
+      responseCache.clear();
+      this.cacheSize = cacheSize != null ? Math.max(0, cacheSize) : 0;
+    }
+
     if (serviceWorkerController != null) {
       // set ServiceWorkerClient as null makes the app crashes, so just set a dummy ServiceWorkerClientCompat.
       // https://github.com/arrrrny/zikzak_inappwebview/issues/1151
@@ -55,33 +91,47 @@ public class ServiceWorkerManager implements Disposable {
         @Nullable
         @Override
         public WebResourceResponse shouldInterceptRequest(@NonNull WebResourceRequest request) {
+          String url = request.getUrl().toString();
+          String method = request.getMethod();
+          RequestInterceptionFilter currentFilter = ServiceWorkerManager.this.filter;
+          if (currentFilter != null && !currentFilter.matches(url, method)) {
+            return null;
+          }
+
+          boolean cacheable = "GET".equalsIgnoreCase(method);
+          if (cacheable) {
+            WebResourceResponseExt cachedResponse = getCachedResponse(url);
+            if (cachedResponse != null) {
+              return toWebResourceResponse(cachedResponse);
+            }
+          }
+
           WebResourceRequestExt requestExt = WebResourceRequestExt.fromWebResourceRequest(request);
 
           WebResourceResponseExt response = null;
           if (channelDelegate != null) {
+            Integer currentTimeout = ServiceWorkerManager.this.timeout;
             try {
-              response = channelDelegate.shouldInterceptRequest(requestExt);
+              if (currentTimeout != null && currentTimeout > 0) {
+                response = channelDelegate.shouldInterceptRequest(requestExt, currentTimeout);
+              } else {
+                response = channelDelegate.shouldInterceptRequest(requestExt);
+              }
             } catch (InterruptedException e) {
               Log.e(LOG_TAG, "", e);
               return null;
+            } catch (TimeoutException e) {
+              Log.w(LOG_TAG, e.getMessage() != null ? e.getMessage() : "");
+              WebResourceResponseExt currentTimeoutResponse = ServiceWorkerManager.this.timeoutResponse;
+              return currentTimeoutResponse != null ? toWebResourceResponse(currentTimeoutResponse) : null;
             }
           }
 
           if (response != null) {
-            String contentType = response.getContentType();
-            String contentEncoding = response.getContentEncoding();
-            byte[] data = response.getData();
-            Map<String, String> responseHeaders = response.getHeaders();
-            Integer statusCode = response.getStatusCode();
-            String reasonPhrase = response.getReasonPhrase();
-
-            ByteArrayInputStream inputStream = (data != null) ? new ByteArrayInputStream(data) : null;
-
-            if (statusCode != null && reasonPhrase != null) {
-              return new WebResourceResponse(contentType, contentEncoding, statusCode, reasonPhrase, responseHeaders, inputStream);
-            } else {
-              return new WebResourceResponse(contentType, contentEncoding, inputStream);
+            if (cacheable) {
+              putCachedResponse(url, response);
             }
+            return toWebResourceResponse(response);
           }
 
           return null;
@@ -90,6 +140,60 @@ public class ServiceWorkerManager implements Disposable {
     }
   }
 
+  @Nullable
+  private WebResourceResponseExt getCachedResponse(@NonNull String url) {
+    synchronized (responseCache) {
+      return cacheSize > 0 ? responseCache.get(url) : null;
+    }
+  }
+
+  private void putCachedResponse(@NonNull String url, @NonNull WebResourceResponseExt response) {
+    Map<String, String> headers = response.getHeaders();
+    if (headers != null) {
+      for (Map.Entry<String, String> header : headers.entrySet()) {
+        if ("Cache-Control".equalsIgnoreCase(header.getKey()) && header.getValue() != null &&
+                header.getValue().toLowerCase(Locale.ROOT).contains("no-store")) {
+          return;
+        }
+      }
+    }
+    synchronized (responseCache) {
+      if (cacheSize <= 0) {
+        return;
+      }
+      responseCache.put(url, response);
+      Iterator<String> iterator = responseCache.keySet().iterator();
+      while (responseCache.size() > cacheSize && iterator.hasNext()) {
+        iterator.next();
+        iterator.remove();
+      }
+    }
+  }
+
+  public void clearResponseCache() {
+    synchronized (responseCache) {
+      responseCache.clear();
+    }
+  }
+
+  @NonNull
+  private static WebResourceResponse toWebResourceResponse(@NonNull WebResourceResponseExt response) {
+    String contentType = response.getContentType();
+    String contentEncoding = response.getContentEncoding();
+    byte[] data = response.getData();
+    Map<String, String> responseHeaders = response.getHeaders();
+    Integer statusCode = response.getStatusCode();
+    String reasonPhrase = response.getReasonPhrase();
+
+    ByteArrayInputStream inputStream = (data != null) ? new ByteArrayInputStream(data) : null;
+
+    if (statusCode != null && reasonPhrase != null) {
+      return new WebResourceResponse(contentType, contentEncoding, statusCode, reasonPhrase, responseHeaders, inputStream);
+    } else {
+      return new WebResourceResponse(contentType, contentEncoding, inputStream);
+    }
+  }
+
   private ServiceWorkerClientCompat dummyServiceWorkerClientCompat() {
     return DummyServiceWorkerClientCompat.INSTANCE;
   }
@@ -100,6 +204,7 @@ public class ServiceWorkerManager implements Disposable {
       channelDelegate.dispose();
       channelDelegate = null;
     }
+    clearResponseCache();
     plugin = null;
   }
 
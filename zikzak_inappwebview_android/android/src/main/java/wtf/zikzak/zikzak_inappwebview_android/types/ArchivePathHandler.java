@@ -0,0 +1,153 @@
+package wtf.zikzak.zikzak_inappwebview_android.types;
+
+import android.os.Build;
+import android.util.Log;
+import android.webkit.WebResourceResponse;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.webkit.WebViewAssetLoader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import wtf.zikzak.zikzak_inappwebview_android.Util;
+
+/**
+ * Path handler serving the entries of a zip archive.
+ * <p>
+ * The archive is opened on the first request, and its central directory is then kept in memory
+ * by the {@link ZipFile}, so each entry is found without scanning the archive.
+ * Stored entries are streamed directly from the archive file and deflated entries are inflated while streamed.
+ * An entry {@code x.gz}, without a {@code x} entry, is served decompressed for the path {@code x}.
+ */
+public class ArchivePathHandler implements WebViewAssetLoader.PathHandler, Disposable {
+  protected static final String LOG_TAG = "ArchivePathHandler";
+  private static final String INDEX_FILE_NAME = "index.html";
+  private static final String GZIP_EXTENSION = ".gz";
+
+  @NonNull
+  private final File archiveFile;
+  @Nullable
+  private final Integer cacheMaxAge;
+  @Nullable
+  private ZipFile zipFile;
+  private boolean disposed = false;
+
+  public ArchivePathHandler(@NonNull File archiveFile, @Nullable Integer cacheMaxAge) {
+    this.archiveFile = archiveFile;
+    this.cacheMaxAge = cacheMaxAge;
+  }
+
+  @Nullable
+  public static ArchivePathHandler fromMap(@Nullable Map<String, Object> map) {
+    if (map == null) {
+      return null;
+    }
+    String archivePath = (String) map.get("archivePath");
+    if (archivePath == null) {
+      return null;
+    }
+    Integer cacheMaxAge = (Integer) map.get("cacheMaxAge");
+    return new ArchivePathHandler(new File(archivePath), cacheMaxAge);
+  }
+
+  @Nullable
+  private synchronized ZipFile getZipFile() {
+    if (zipFile == null && !disposed) {
+      try {
+        zipFile = new ZipFile(archiveFile);
+      } catch (IOException e) {
+        Log.e(LOG_TAG, "", e);
+      }
+    }
+    return zipFile;
+  }
+
+  @Nullable
+  @Override
+  public WebResourceResponse handle(@NonNull String path) {
+    ZipFile zipFile = getZipFile();
+    if (zipFile == null) {
+      return null;
+    }
+    String entryName = path.startsWith("/") ? path.substring(1) : path;
+    if (entryName.isEmpty() || entryName.endsWith("/")) {
+      entryName += INDEX_FILE_NAME;
+    }
+
+    boolean gzipped = false;
+    ZipEntry entry;
+    InputStream inputStream = null;
+    try {
+      entry = zipFile.getEntry(entryName);
+      if (entry == null || entry.isDirectory()) {
+        entry = zipFile.getEntry(entryName + GZIP_EXTENSION);
+        gzipped = true;
+      }
+      if (entry == null || entry.isDirectory()) {
+        // same as the WebViewAssetLoader path handlers for a missing file
+        return new WebResourceResponse(null, null, null);
+      }
+      inputStream = zipFile.getInputStream(entry);
+      if (gzipped) {
+        // decoded here, as WebView isn't documented to decode the Content-Encoding of intercepted responses
+        inputStream = new GZIPInputStream(inputStream);
+      }
+    } catch (IOException e) {
+      Log.e(LOG_TAG, "", e);
+      closeQuietly(inputStream);
+      return new WebResourceResponse(null, null, null);
+    } catch (IllegalStateException e) {
+      // the archive has been closed by a concurrent dispose()
+      closeQuietly(inputStream);
+      return new WebResourceResponse(null, null, null);
+    }
+
+    String mimeType = Util.guessMimeTypeFromPath(entryName);
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+      return new WebResourceResponse(mimeType, null, 200, "OK", getHeaders(entry), inputStream);
+    }
+    return new WebResourceResponse(mimeType, null, inputStream);
+  }
+
+  private static void closeQuietly(@Nullable InputStream inputStream) {
+    if (inputStream != null) {
+      try {
+        inputStream.close();
+      } catch (IOException ignored) {}
+    }
+  }
+
+  @NonNull
+  private Map<String, String> getHeaders(@NonNull ZipEntry entry) {
+    Map<String, String> headers = new HashMap<>();
+    if (cacheMaxAge != null) {
+      headers.put("Cache-Control", "public, max-age=" + cacheMaxAge);
+    }
+    long crc = entry.getCrc();
+    if (crc != -1) {
+      headers.put("ETag", "\"" + Long.toHexString(crc) + "\"");
+    }
+    return headers;
+  }
+
+  @Override
+  public synchronized void dispose() {
+    disposed = true;
+    if (zipFile != null) {
+      try {
+        zipFile.close();
+      } catch (IOException e) {
+        Log.e(LOG_TAG, "", e);
+      }
+      zipFile = null;
+    }
+  }
+}
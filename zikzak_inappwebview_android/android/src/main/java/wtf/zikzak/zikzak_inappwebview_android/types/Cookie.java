@@ -0,0 +1,172 @@
+package wtf.zikzak.zikzak_inappwebview_android.types;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cookie parsed from the cookie store by {@link wtf.zikzak.zikzak_inappwebview_android.CookieParser}.
+ * The attributes not known for the cookie are {@code null}.
+ */
+public class Cookie {
+  @NonNull
+  private final String name;
+  @NonNull
+  private final String value;
+  @Nullable
+  private Long expiresDate;
+  @Nullable
+  private String domain;
+  @Nullable
+  private String sameSite;
+  @Nullable
+  private Boolean isSecure;
+  @Nullable
+  private Boolean isHttpOnly;
+  @Nullable
+  private String path;
+
+  public Cookie(@NonNull String name, @NonNull String value) {
+    this.name = name;
+    this.value = value;
+  }
+
+  /**
+   * Compact encoding used to send many cookies over the channel, without the keys of {@link #toMap()}:
+   * {@code [name, value, expiresDate, domain, sameSite, isSecure, isHttpOnly, path]}.
+   * It must be kept in sync with the decoding in {@code cookie_manager.dart}.
+   */
+  public List<Object> toList() {
+    return Arrays.<Object>asList(name, value, expiresDate, domain, sameSite, isSecure, isHttpOnly, path);
+  }
+
+  public Map<String, Object> toMap() {
+    Map<String, Object> cookieMap = new HashMap<>();
+    cookieMap.put("name", name);
+    cookieMap.put("value", value);
+    cookieMap.put("expiresDate", expiresDate);
+    cookieMap.put("isSessionOnly", null);
+    cookieMap.put("domain", domain);
+    cookieMap.put("sameSite", sameSite);
+    cookieMap.put("isSecure", isSecure);
+    cookieMap.put("isHttpOnly", isHttpOnly);
+    cookieMap.put("path", path);
+    return cookieMap;
+  }
+
+  @NonNull
+  public String getName() {
+    return name;
+  }
+
+  @NonNull
+  public String getValue() {
+    return value;
+  }
+
+  @Nullable
+  public Long getExpiresDate() {
+    return expiresDate;
+  }
+
+  public void setExpiresDate(@Nullable Long expiresDate) {
+    this.expiresDate = expiresDate;
+  }
+
+  @Nullable
+  public String getDomain() {
+    return domain;
+  }
+
+  public void setDomain(@Nullable String domain) {
+    this.domain = domain;
+  }
+
+  @Nullable
+  public String getSameSite() {
+    return sameSite;
+  }
+
+  public void setSameSite(@Nullable String sameSite) {
+    this.sameSite = sameSite;
+  }
+
+  @Nullable
+  public Boolean getSecure() {
+    return isSecure;
+  }
+
+  public void setSecure(@Nullable Boolean secure) {
+    isSecure = secure;
+  }
+
+  @Nullable
+  public Boolean getHttpOnly() {
+    return isHttpOnly;
+  }
+
+  public void setHttpOnly(@Nullable Boolean httpOnly) {
+    isHttpOnly = httpOnly;
+  }
+
+  @Nullable
+  public String getPath() {
+    return path;
+  }
+
+  public void setPath(@Nullable String path) {
+    this.path = path;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+
+    Cookie cookie = (Cookie) o;
+
+    if (!name.equals(cookie.name)) return false;
+    if (!value.equals(cookie.value)) return false;
+    if (expiresDate != null ? !expiresDate.equals(cookie.expiresDate) : cookie.expiresDate != null)
+      return false;
+    if (domain != null ? !domain.equals(cookie.domain) : cookie.domain != null) return false;
+    if (sameSite != null ? !sameSite.equals(cookie.sameSite) : cookie.sameSite != null)
+      return false;
+    if (isSecure != null ? !isSecure.equals(cookie.isSecure) : cookie.isSecure != null)
+      return false;
+    if (isHttpOnly != null ? !isHttpOnly.equals(cookie.isHttpOnly) : cookie.isHttpOnly != null)
+      return false;
+    return path != null ? path.equals(cookie.path) : cookie.path == null;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = name.hashCode();
+    result = 31 * result + value.hashCode();
+    result = 31 * result + (expiresDate != null ? expiresDate.hashCode() : 0);
+    result = 31 * result + (domain != null ? domain.hashCode() : 0);
+    result = 31 * result + (sameSite != null ? sameSite.hashCode() : 0);
+    result = 31 * result + (isSecure != null ? isSecure.hashCode() : 0);
+    result = 31 * result + (isHttpOnly != null ? isHttpOnly.hashCode() : 0);
+    result = 31 * result + (path != null ? path.hashCode() : 0);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return "Cookie{" +
+            "name='" + name + '\'' +
+            ", value='" + value + '\'' +
+            ", expiresDate=" + expiresDate +
+            ", domain='" + domain + '\'' +
+            ", sameSite='" + sameSite + '\'' +
+            ", isSecure=" + isSecure +
+            ", isHttpOnly=" + isHttpOnly +
+            ", path='" + path + '\'' +
+            '}';
+  }
+}
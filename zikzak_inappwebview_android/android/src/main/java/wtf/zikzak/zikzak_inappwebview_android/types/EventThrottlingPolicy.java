@@ -0,0 +1,96 @@
+package wtf.zikzak.zikzak_inappwebview_android.types;
+
+import androidx.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class EventThrottlingPolicy {
+  private boolean coalesceToFrame;
+  private long minimumInterval;
+  private double minimumDelta;
+
+  public EventThrottlingPolicy(boolean coalesceToFrame, long minimumInterval, double minimumDelta) {
+    this.coalesceToFrame = coalesceToFrame;
+    this.minimumInterval = minimumInterval;
+    this.minimumDelta = minimumDelta;
+  }
+
+  @Nullable
+  public static EventThrottlingPolicy fromMap(@Nullable Map<String, Object> map) {
+    if (map == null) {
+      return null;
+    }
+    Boolean coalesceToFrame = (Boolean) map.get("coalesceToFrame");
+    Number minimumInterval = (Number) map.get("minimumInterval");
+    Number minimumDelta = (Number) map.get("minimumDelta");
+    return new EventThrottlingPolicy(
+            coalesceToFrame == null || coalesceToFrame,
+            minimumInterval != null ? Math.max(0, minimumInterval.longValue()) : 0,
+            minimumDelta != null ? Math.max(0, minimumDelta.doubleValue()) : 0);
+  }
+
+  public Map<String, Object> toMap() {
+    Map<String, Object> policyMap = new HashMap<>();
+    policyMap.put("coalesceToFrame", coalesceToFrame);
+    policyMap.put("minimumInterval", minimumInterval);
+    policyMap.put("minimumDelta", minimumDelta);
+    return policyMap;
+  }
+
+  public boolean isCoalesceToFrame() {
+    return coalesceToFrame;
+  }
+
+  public void setCoalesceToFrame(boolean coalesceToFrame) {
+    this.coalesceToFrame = coalesceToFrame;
+  }
+
+  public long getMinimumInterval() {
+    return minimumInterval;
+  }
+
+  public void setMinimumInterval(long minimumInterval) {
+    this.minimumInterval = minimumInterval;
+  }
+
+  public double getMinimumDelta() {
+    return minimumDelta;
+  }
+
+  public void setMinimumDelta(double minimumDelta) {
+    this.minimumDelta = minimumDelta;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+
+    EventThrottlingPolicy that = (EventThrottlingPolicy) o;
+
+    if (coalesceToFrame != that.coalesceToFrame) return false;
+    if (minimumInterval != that.minimumInterval) return false;
+    return Double.compare(that.minimumDelta, minimumDelta) == 0;
+  }
+
+  @Override
+  public int hashCode() {
+    int result;
+    long temp;
+    result = (coalesceToFrame ? 1 : 0);
+    result = 31 * result + (int) (minimumInterval ^ (minimumInterval >>> 32));
+    temp = Double.doubleToLongBits(minimumDelta);
+    result = 31 * result + (int) (temp ^ (temp >>> 32));
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return "EventThrottlingPolicy{" +
+            "coalesceToFrame=" + coalesceToFrame +
+            ", minimumInterval=" + minimumInterval +
+            ", minimumDelta=" + minimumDelta +
+            '}';
+  }
+}
@@ -0,0 +1,35 @@
+package wtf.zikzak.zikzak_inappwebview_android.types;
+
+public enum HibernationLevel {
+  NONE(0),
+  PAUSED(1),
+  LOW_PRIORITY(2),
+  DESTROYED(3);
+
+  private final int value;
+
+  private HibernationLevel(int value) {
+    this.value = value;
+  }
+
+  public boolean equalsValue(int otherValue) {
+    return value == otherValue;
+  }
+
+  public static HibernationLevel fromValue(int value) {
+    for(HibernationLevel type : HibernationLevel.values()) {
+      if(value == type.value)
+        return type;
+    }
+    throw new IllegalArgumentException("No enum constant: " + value);
+  }
+
+  public int rawValue() {
+    return this.value;
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(this.value);
+  }
+}
@@ -0,0 +1,116 @@
+package wtf.zikzak.zikzak_inappwebview_android.types;
+
+import android.content.Context;
+import android.util.Log;
+import android.webkit.WebResourceResponse;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.webkit.WebViewAssetLoader;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import wtf.zikzak.zikzak_inappwebview_android.Util;
+
+/**
+ * Internal storage path handler serving the gzip-compressed siblings of the files, {@code file.gz},
+ * decompressed while streamed, so that less data is read from the storage.
+ * They are decoded here, like in {@link ArchivePathHandler}, as WebView isn't documented to decode
+ * the Content-Encoding of intercepted responses. Brotli isn't supported, as Android has no built-in decoder.
+ * <p>
+ * The directory is listed once, on the first request, to build a manifest
+ * with the compressed file and the MIME type for each path,
+ * so a request doesn't need any file lookup or MIME type resolution.
+ * The paths not found in the manifest, such as files added later, are served
+ * by a {@link WebViewAssetLoader.InternalStoragePathHandler}, which also validates the directory.
+ */
+public class PrecompressedStoragePathHandler implements WebViewAssetLoader.PathHandler {
+  protected static final String LOG_TAG = "PrecompressedStoragePathHandler";
+  private static final String GZIP_EXTENSION = ".gz";
+  private static final int INFLATER_BUFFER_SIZE = 32 * 1024;
+
+  @NonNull
+  private final File directory;
+  @NonNull
+  private final WebViewAssetLoader.InternalStoragePathHandler fallbackPathHandler;
+  @Nullable
+  private Map<String, ManifestEntry> manifest;
+
+  public PrecompressedStoragePathHandler(@NonNull Context context, @NonNull File directory) {
+    this.directory = directory;
+    this.fallbackPathHandler = new WebViewAssetLoader.InternalStoragePathHandler(context, directory);
+  }
+
+  /**
+   * Builds the manifest on the first call, which is made on the WebView IO thread.
+   */
+  @NonNull
+  private synchronized Map<String, ManifestEntry> getManifest() {
+    if (manifest == null) {
+      Map<String, ManifestEntry> newManifest = new HashMap<>();
+      buildManifest(newManifest, directory, "");
+      manifest = newManifest;
+    }
+    return manifest;
+  }
+
+  private static void buildManifest(@NonNull Map<String, ManifestEntry> manifest,
+                                    @NonNull File directory, @NonNull String prefix) {
+    File[] files = directory.listFiles();
+    if (files == null) {
+      return;
+    }
+    for (File file : files) {
+      String name = file.getName();
+      if (file.isDirectory()) {
+        buildManifest(manifest, file, prefix + name + "/");
+      } else if (name.endsWith(GZIP_EXTENSION)) {
+        String path = prefix + name.substring(0, name.length() - GZIP_EXTENSION.length());
+        manifest.put(path, new ManifestEntry(file, Util.guessMimeTypeFromPath(path)));
+      }
+    }
+  }
+
+  @Nullable
+  @Override
+  public WebResourceResponse handle(@NonNull String path) {
+    ManifestEntry entry = getManifest().get(path);
+    if (entry == null) {
+      return fallbackPathHandler.handle(path);
+    }
+    FileInputStream fileInputStream = null;
+    InputStream inputStream;
+    try {
+      fileInputStream = new FileInputStream(entry.file);
+      // a bigger buffer than the default 512 bytes, to inflate with fewer reads
+      inputStream = new GZIPInputStream(fileInputStream, INFLATER_BUFFER_SIZE);
+    } catch (IOException e) {
+      Log.e(LOG_TAG, "", e);
+      if (fileInputStream != null) {
+        try {
+          fileInputStream.close();
+        } catch (IOException ignored) {}
+      }
+      return fallbackPathHandler.handle(path);
+    }
+    return new WebResourceResponse(entry.mimeType, null, inputStream);
+  }
+
+  private static class ManifestEntry {
+    @NonNull
+    final File file;
+    @Nullable
+    final String mimeType;
+
+    ManifestEntry(@NonNull File file, @Nullable String mimeType) {
+      this.file = file;
+      this.mimeType = mimeType;
+    }
+  }
+}
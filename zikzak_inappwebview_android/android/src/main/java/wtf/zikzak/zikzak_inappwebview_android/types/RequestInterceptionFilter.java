@@ -0,0 +1,88 @@
+package wtf.zikzak.zikzak_inappwebview_android.types;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Native version of the Dart {@code RequestInterceptionFilter}, with the patterns compiled once.
+ * A request matches if its method is in the methods (when set), its URL doesn't match any of the deny patterns,
+ * and matches at least one of the allow patterns (when set).
+ */
+public class RequestInterceptionFilter {
+  protected static final String LOG_TAG = "RequestInterceptionFilter";
+
+  @NonNull
+  private final List<Pattern> allowList;
+  @NonNull
+  private final List<Pattern> denyList;
+  @NonNull
+  private final Set<String> methods;
+
+  public RequestInterceptionFilter(@NonNull List<Pattern> allowList, @NonNull List<Pattern> denyList, @NonNull Set<String> methods) {
+    this.allowList = allowList;
+    this.denyList = denyList;
+    this.methods = methods;
+  }
+
+  @Nullable
+  public static RequestInterceptionFilter fromMap(@Nullable Map<String, Object> map) {
+    if (map == null) {
+      return null;
+    }
+    Set<String> methods = new HashSet<>();
+    List<String> methodList = (List<String>) map.get("methods");
+    if (methodList != null) {
+      for (String method : methodList) {
+        methods.add(method.toUpperCase(Locale.ROOT));
+      }
+    }
+    return new RequestInterceptionFilter(compilePatterns((List<String>) map.get("allowList")),
+            compilePatterns((List<String>) map.get("denyList")), methods);
+  }
+
+  @NonNull
+  private static List<Pattern> compilePatterns(@Nullable List<String> regexList) {
+    List<Pattern> patterns = new ArrayList<>();
+    if (regexList != null) {
+      for (String regex : regexList) {
+        try {
+          patterns.add(Pattern.compile(regex));
+        } catch (PatternSyntaxException e) {
+          Log.e(LOG_TAG, "", e);
+        }
+      }
+    }
+    return patterns;
+  }
+
+  public boolean matches(@NonNull String url, @Nullable String method) {
+    if (!methods.isEmpty() && (method == null || !methods.contains(method.toUpperCase(Locale.ROOT)))) {
+      return false;
+    }
+    for (Pattern pattern : denyList) {
+      if (pattern.matcher(url).find()) {
+        return false;
+      }
+    }
+    if (allowList.isEmpty()) {
+      return true;
+    }
+    for (Pattern pattern : allowList) {
+      if (pattern.matcher(url).find()) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
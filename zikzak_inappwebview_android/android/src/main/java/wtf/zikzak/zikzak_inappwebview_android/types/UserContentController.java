@@ -16,6 +16,9 @@ import wtf.zikzak.zikzak_inappwebview_android.plugin_scripts_js.PluginScriptsUti
 
 import org.json.JSONObject;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -24,6 +27,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
 @SuppressLint("RestrictedApi")
 public class UserContentController implements Disposable {
@@ -36,6 +40,17 @@ public class UserContentController implements Disposable {
 
   private final Map<UserScript, ScriptHandler> scriptHandlerMap = new HashMap<>();
 
+  /**
+   * Document start scripts registered natively, keyed by the hash of their wrapped source
+   * and allowed origin rules, so that identical scripts are registered only once.
+   */
+  private final Map<String, DocumentStartScript> documentStartScripts = new HashMap<>();
+
+  @Nullable
+  private String cachedWrappedCodeForDocumentStart;
+  @Nullable
+  private String cachedWrappedCodeForDocumentEnd;
+
   @Nullable
   private ScriptHandler contentWorldsCreatorScript;
 
@@ -58,13 +73,23 @@ public class UserContentController implements Disposable {
   }
 
   public String generateWrappedCodeForDocumentStart() {
-    return Util.replaceAll(
-            DOCUMENT_READY_WRAPPER_JS_SOURCE,
-            PluginScriptsUtil.VAR_PLACEHOLDER_VALUE,
-            generateCodeForDocumentStart());
+    if (cachedWrappedCodeForDocumentStart == null) {
+      cachedWrappedCodeForDocumentStart = Util.replaceAll(
+              DOCUMENT_READY_WRAPPER_JS_SOURCE,
+              PluginScriptsUtil.VAR_PLACEHOLDER_VALUE,
+              generateCodeForDocumentStart());
+    }
+    return cachedWrappedCodeForDocumentStart;
   }
 
   public String generateWrappedCodeForDocumentEnd() {
+    if (cachedWrappedCodeForDocumentEnd == null) {
+      cachedWrappedCodeForDocumentEnd = generateCodeForDocumentEnd();
+    }
+    return cachedWrappedCodeForDocumentEnd;
+  }
+
+  private String generateCodeForDocumentEnd() {
     UserScriptInjectionTime injectionTime = UserScriptInjectionTime.AT_DOCUMENT_END;
     String js = "";
     if (!WebViewFeature.isFeatureSupported(WebViewFeature.DOCUMENT_START_SCRIPT)) {
@@ -138,6 +163,7 @@ public class UserContentController implements Disposable {
       StringBuilder sourceWrapped = new StringBuilder();
       if (!contentWorlds.contains(contentWorld)) {
         contentWorlds.add(contentWorld);
+        invalidateGeneratedCode();
 
         StringBuilder pluginScriptsSource = new StringBuilder();
         LinkedHashSet<PluginScript> pluginScriptsRequired = this.getPluginScriptsRequiredInAllContentWorlds();
@@ -177,11 +203,18 @@ public class UserContentController implements Disposable {
     return new LinkedHashSet<>(this.userOnlyScripts.get(injectionTime));
   }
 
+  private void invalidateGeneratedCode() {
+    cachedWrappedCodeForDocumentStart = null;
+    cachedWrappedCodeForDocumentEnd = null;
+  }
+
   private void updateContentWorldsCreatorScript() {
+    invalidateGeneratedCode();
     String source = generateContentWorldsCreatorCode();
     if (WebViewFeature.isFeatureSupported(WebViewFeature.DOCUMENT_START_SCRIPT)) {
       if (contentWorldsCreatorScript != null) {
         contentWorldsCreatorScript.remove();
+        contentWorldsCreatorScript = null;
       }
       if (!source.isEmpty() && webView != null) {
         contentWorldsCreatorScript = WebViewCompat.addDocumentStartJavaScript(
@@ -195,21 +228,81 @@ public class UserContentController implements Disposable {
     }
   }
 
+  private void addDocumentStartScript(UserScript userScript) {
+    if (webView == null || userScript.getInjectionTime() != UserScriptInjectionTime.AT_DOCUMENT_START
+            || !WebViewFeature.isFeatureSupported(WebViewFeature.DOCUMENT_START_SCRIPT)
+            || scriptHandlerMap.containsKey(userScript)) {
+      return;
+    }
+    String source = wrapSourceCodeInContentWorld(userScript.getContentWorld(), userScript.getSource());
+    String key = getDocumentStartScriptKey(source, userScript.getAllowedOriginRules());
+    DocumentStartScript documentStartScript = documentStartScripts.get(key);
+    if (documentStartScript == null) {
+      ScriptHandler scriptHandler = WebViewCompat.addDocumentStartJavaScript(
+              webView,
+              source,
+              userScript.getAllowedOriginRules()
+      );
+      documentStartScript = new DocumentStartScript(key, scriptHandler);
+      documentStartScripts.put(key, documentStartScript);
+    }
+    documentStartScript.refCount++;
+    scriptHandlerMap.put(userScript, documentStartScript.scriptHandler);
+  }
+
+  private void removeDocumentStartScript(UserScript userScript) {
+    if (!WebViewFeature.isFeatureSupported(WebViewFeature.DOCUMENT_START_SCRIPT)) {
+      return;
+    }
+    ScriptHandler scriptHandler = scriptHandlerMap.remove(userScript);
+    if (scriptHandler == null) {
+      return;
+    }
+    DocumentStartScript documentStartScript = null;
+    for (DocumentStartScript script : documentStartScripts.values()) {
+      if (script.scriptHandler == scriptHandler) {
+        documentStartScript = script;
+        break;
+      }
+    }
+    if (documentStartScript == null) {
+      scriptHandler.remove();
+      return;
+    }
+    documentStartScript.refCount--;
+    if (documentStartScript.refCount <= 0) {
+      documentStartScript.scriptHandler.remove();
+      documentStartScripts.remove(documentStartScript.key);
+    }
+  }
+
+  @NonNull
+  private static String getDocumentStartScriptKey(@NonNull String source, @NonNull Set<String> allowedOriginRules) {
+    StringBuilder content = new StringBuilder(source);
+    // sort the rules so that the same set always produces the same key
+    for (String rule : new TreeSet<>(allowedOriginRules)) {
+      content.append('\n').append(rule);
+    }
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      byte[] hash = digest.digest(content.toString().getBytes(StandardCharsets.UTF_8));
+      StringBuilder key = new StringBuilder(hash.length * 2);
+      for (byte b : hash) {
+        key.append(String.format("%02x", b));
+      }
+      return key.toString();
+    } catch (NoSuchAlgorithmException e) {
+      return content.toString();
+    }
+  }
+
   public boolean addUserOnlyScript(UserScript userOnlyScript) {
     ContentWorld contentWorld = userOnlyScript.getContentWorld();
     if (contentWorld != null) {
       contentWorlds.add(contentWorld);
     }
     this.updateContentWorldsCreatorScript();
-    if (webView != null && userOnlyScript.getInjectionTime() == UserScriptInjectionTime.AT_DOCUMENT_START
-            && WebViewFeature.isFeatureSupported(WebViewFeature.DOCUMENT_START_SCRIPT)) {
-      ScriptHandler scriptHandler = WebViewCompat.addDocumentStartJavaScript(
-              webView,
-              wrapSourceCodeInContentWorld(userOnlyScript.getContentWorld(), userOnlyScript.getSource()),
-              userOnlyScript.getAllowedOriginRules()
-      );
-      this.scriptHandlerMap.put(userOnlyScript, scriptHandler);
-    }
+    this.addDocumentStartScript(userOnlyScript);
     return this.userOnlyScripts.get(userOnlyScript.getInjectionTime()).add(userOnlyScript);
   }
 
@@ -220,15 +313,10 @@ public class UserContentController implements Disposable {
   }
 
   public boolean removeUserOnlyScript(UserScript userOnlyScript) {
-    if (WebViewFeature.isFeatureSupported(WebViewFeature.DOCUMENT_START_SCRIPT)) {
-      ScriptHandler scriptHandler = this.scriptHandlerMap.get(userOnlyScript);
-      if (scriptHandler != null) {
-        scriptHandler.remove();
-        this.scriptHandlerMap.remove(userOnlyScript);
-      }
-      this.updateContentWorldsCreatorScript();
-    }
-    return this.userOnlyScripts.get(userOnlyScript.getInjectionTime()).remove(userOnlyScript);
+    this.removeDocumentStartScript(userOnlyScript);
+    boolean removed = this.userOnlyScripts.get(userOnlyScript.getInjectionTime()).remove(userOnlyScript);
+    this.updateContentWorldsCreatorScript();
+    return removed;
   }
 
   public boolean removeUserOnlyScriptAt(int index, UserScriptInjectionTime injectionTime) {
@@ -237,17 +325,12 @@ public class UserContentController implements Disposable {
   }
 
   public void removeAllUserOnlyScripts() {
-    if (WebViewFeature.isFeatureSupported(WebViewFeature.DOCUMENT_START_SCRIPT)) {
-      for (UserScript userOnlyScript : this.userOnlyScripts.get(UserScriptInjectionTime.AT_DOCUMENT_START)) {
-        ScriptHandler scriptHandler = this.scriptHandlerMap.get(userOnlyScript);
-        if (scriptHandler != null) {
-          scriptHandler.remove();
-          this.scriptHandlerMap.remove(userOnlyScript);
-        }
-      }
+    for (UserScript userOnlyScript : this.userOnlyScripts.get(UserScriptInjectionTime.AT_DOCUMENT_START)) {
+      this.removeDocumentStartScript(userOnlyScript);
     }
     this.userOnlyScripts.get(UserScriptInjectionTime.AT_DOCUMENT_START).clear();
     this.userOnlyScripts.get(UserScriptInjectionTime.AT_DOCUMENT_END).clear();
+    invalidateGeneratedCode();
   }
 
   public LinkedHashSet<PluginScript> getPluginScriptsAt(UserScriptInjectionTime injectionTime) {
@@ -271,15 +354,7 @@ public class UserContentController implements Disposable {
       contentWorlds.add(contentWorld);
     }
     this.updateContentWorldsCreatorScript();
-    if (webView != null && pluginScript.getInjectionTime() == UserScriptInjectionTime.AT_DOCUMENT_START
-            && WebViewFeature.isFeatureSupported(WebViewFeature.DOCUMENT_START_SCRIPT)) {
-      ScriptHandler scriptHandler = WebViewCompat.addDocumentStartJavaScript(
-              webView,
-              wrapSourceCodeInContentWorld(pluginScript.getContentWorld(), pluginScript.getSource()),
-              pluginScript.getAllowedOriginRules()
-      );
-      this.scriptHandlerMap.put(pluginScript, scriptHandler);
-    }
+    this.addDocumentStartScript(pluginScript);
     return this.pluginScripts.get(pluginScript.getInjectionTime()).add(pluginScript);
   }
 
@@ -290,29 +365,19 @@ public class UserContentController implements Disposable {
   }
 
   public boolean removePluginScript(PluginScript pluginScript) {
-    if (WebViewFeature.isFeatureSupported(WebViewFeature.DOCUMENT_START_SCRIPT)) {
-      ScriptHandler scriptHandler = this.scriptHandlerMap.get(pluginScript);
-      if (scriptHandler != null) {
-        scriptHandler.remove();
-        this.scriptHandlerMap.remove(pluginScript);
-      }
-      this.updateContentWorldsCreatorScript();
-    }
-    return this.pluginScripts.get(pluginScript.getInjectionTime()).remove(pluginScript);
+    this.removeDocumentStartScript(pluginScript);
+    boolean removed = this.pluginScripts.get(pluginScript.getInjectionTime()).remove(pluginScript);
+    this.updateContentWorldsCreatorScript();
+    return removed;
   }
 
   public void removeAllPluginScripts() {
-    if (WebViewFeature.isFeatureSupported(WebViewFeature.DOCUMENT_START_SCRIPT)) {
-      for (PluginScript pluginScript : this.pluginScripts.get(UserScriptInjectionTime.AT_DOCUMENT_START)) {
-        ScriptHandler scriptHandler = this.scriptHandlerMap.get(pluginScript);
-        if (scriptHandler != null) {
-          scriptHandler.remove();
-          this.scriptHandlerMap.remove(pluginScript);
-        }
-      }
+    for (PluginScript pluginScript : this.pluginScripts.get(UserScriptInjectionTime.AT_DOCUMENT_START)) {
+      this.removeDocumentStartScript(pluginScript);
     }
     this.pluginScripts.get(UserScriptInjectionTime.AT_DOCUMENT_START).clear();
     this.pluginScripts.get(UserScriptInjectionTime.AT_DOCUMENT_END).clear();
+    invalidateGeneratedCode();
   }
 
   public LinkedHashSet<UserScript> getUserOnlyScriptAsList() {
@@ -334,6 +399,7 @@ public class UserContentController implements Disposable {
   }
 
   public void resetContentWorlds() {
+    Set<ContentWorld> previousContentWorlds = new HashSet<>(this.contentWorlds);
     this.contentWorlds.clear();
     this.contentWorlds.add(ContentWorld.PAGE);
 
@@ -348,6 +414,10 @@ public class UserContentController implements Disposable {
       ContentWorld contentWorld = userOnlyScript.getContentWorld();
       this.contentWorlds.add(contentWorld);
     }
+
+    if (!previousContentWorlds.equals(this.contentWorlds)) {
+      invalidateGeneratedCode();
+    }
   }
 
   public boolean containsPluginScript(PluginScript pluginScript) {
@@ -461,13 +531,32 @@ public class UserContentController implements Disposable {
           "  " + PluginScriptsUtil.VAR_PLACEHOLDER_VALUE +
           "}";
 
+  private static class DocumentStartScript {
+    @NonNull
+    private final String key;
+    @NonNull
+    private final ScriptHandler scriptHandler;
+    private int refCount = 0;
+
+    private DocumentStartScript(@NonNull String key, @NonNull ScriptHandler scriptHandler) {
+      this.key = key;
+      this.scriptHandler = scriptHandler;
+    }
+  }
+
   @Override
   public void dispose() {
     if (WebViewFeature.isFeatureSupported(WebViewFeature.DOCUMENT_START_SCRIPT) && contentWorldsCreatorScript != null) {
       contentWorldsCreatorScript.remove();
+      contentWorldsCreatorScript = null;
     }
     removeAllUserOnlyScripts();
     removeAllPluginScripts();
+    for (DocumentStartScript documentStartScript : documentStartScripts.values()) {
+      documentStartScript.scriptHandler.remove();
+    }
+    documentStartScripts.clear();
+    scriptHandlerMap.clear();
     webView = null;
   }
 }
@@ -16,9 +16,14 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
 
+import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 
 public class WebViewAssetLoaderExt implements Disposable {
@@ -26,10 +31,14 @@ public class WebViewAssetLoaderExt implements Disposable {
   public WebViewAssetLoader loader;
   @NonNull
   public List<PathHandlerExt> customPathHandlers;
+  @NonNull
+  public List<Disposable> nativePathHandlers;
 
-  public WebViewAssetLoaderExt(@Nullable WebViewAssetLoader loader, @NonNull List<PathHandlerExt> customPathHandlers) {
+  public WebViewAssetLoaderExt(@Nullable WebViewAssetLoader loader, @NonNull List<PathHandlerExt> customPathHandlers,
+                               @NonNull List<Disposable> nativePathHandlers) {
     this.loader = loader;
     this.customPathHandlers = customPathHandlers;
+    this.nativePathHandlers = nativePathHandlers;
   }
 
   @Nullable
@@ -42,6 +51,7 @@ public class WebViewAssetLoaderExt implements Disposable {
     Boolean httpAllowed = (Boolean) map.get("httpAllowed");
     List<Map<String, Object>> pathHandlers = (List<Map<String, Object>>) map.get("pathHandlers");
     List<PathHandlerExt> customPathHandlers = new ArrayList<>();
+    List<Disposable> nativePathHandlers = new ArrayList<>();
     if (domain != null && !domain.isEmpty()) {
       builder.setDomain(domain);
     }
@@ -67,6 +77,11 @@ public class WebViewAssetLoaderExt implements Disposable {
               continue;
             }
             File dir = new File(directory);
+            Boolean usePrecompressedFiles = (Boolean) pathHandler.get("usePrecompressedFiles");
+            if (usePrecompressedFiles != null && usePrecompressedFiles) {
+              builder.addPathHandler(path, new PrecompressedStoragePathHandler(context, dir));
+              break;
+            }
             WebViewAssetLoader.InternalStoragePathHandler internalStoragePathHandler =
                     new WebViewAssetLoader.InternalStoragePathHandler(context, dir);
             builder.addPathHandler(path, internalStoragePathHandler);
@@ -75,80 +90,227 @@ public class WebViewAssetLoaderExt implements Disposable {
             WebViewAssetLoader.ResourcesPathHandler resourcesPathHandler = new WebViewAssetLoader.ResourcesPathHandler(context);
             builder.addPathHandler(path, resourcesPathHandler);
             break;
+          case "ArchivePathHandler":
+            ArchivePathHandler archivePathHandler = ArchivePathHandler.fromMap(pathHandler);
+            if (archivePathHandler == null) {
+              continue;
+            }
+            builder.addPathHandler(path, archivePathHandler);
+            nativePathHandlers.add(archivePathHandler);
+            break;
           default:
             String id = (String) pathHandler.get("id");
             if (id == null) {
               continue;
             }
-            PathHandlerExt customPathHandler = new PathHandlerExt(id, plugin);
+            PathHandlerExt customPathHandler = PathHandlerExt.obtain(id, plugin,
+                    (Integer) pathHandler.get("timeout"), (Integer) pathHandler.get("cacheSize"));
+            customPathHandler.prefetch((Map<String, Map<String, Object>>) pathHandler.get("prefetchedResponses"));
             builder.addPathHandler(path, customPathHandler);
             customPathHandlers.add(customPathHandler);
             break;
         }
       }
     }
-    return new WebViewAssetLoaderExt(builder.build(), customPathHandlers);
+    return new WebViewAssetLoaderExt(builder.build(), customPathHandlers, nativePathHandlers);
   }
 
   @Override
   public void dispose() {
     for (PathHandlerExt pathHandler : customPathHandlers) {
-      pathHandler.dispose();
+      pathHandler.release();
     }
     customPathHandlers.clear();
+    for (Disposable pathHandler : nativePathHandlers) {
+      pathHandler.dispose();
+    }
+    nativePathHandlers.clear();
   }
 
   public static class PathHandlerExt implements WebViewAssetLoader.PathHandler, Disposable {
 
     protected static final String LOG_TAG = "PathHandlerExt";
     public static final String METHOD_CHANNEL_NAME_PREFIX = "wtf.zikzak/zikzak_inappwebview_custompathhandler_";
+    private static final Map<String, PathHandlerExt> sharedPathHandlers = new HashMap<>();
 
     @NonNull
     public String id;
     @Nullable
     public PathHandlerExtChannelDelegate channelDelegate;
+    @Nullable
+    private final Integer timeout;
+    private final int cacheSize;
+    private final LinkedHashMap<String, WebResourceResponseExt> responseCache = new LinkedHashMap<>(16, 0.75f, true);
+    private int referenceCount = 0;
 
     public PathHandlerExt(@NonNull String id, @NonNull InAppWebViewFlutterPlugin plugin) {
+      this(id, plugin, null, null);
+    }
+
+    /**
+     * @param timeout maximum time, in milliseconds, to wait for the Dart response,
+     *                after which the path is handled as not found by this handler.
+     * @param cacheSize maximum number of responses kept in memory and reused for the same path.
+     */
+    public PathHandlerExt(@NonNull String id, @NonNull InAppWebViewFlutterPlugin plugin,
+                          @Nullable Integer timeout, @Nullable Integer cacheSize) {
       this.id = id;
+      this.timeout = timeout;
+      this.cacheSize = cacheSize != null ? Math.max(0, cacheSize) : 0;
       final MethodChannel channel = new MethodChannel(plugin.messenger, METHOD_CHANNEL_NAME_PREFIX + id);
       this.channelDelegate = new PathHandlerExtChannelDelegate(this, channel);
     }
 
+    /**
+     * Returns the path handler with the given id, creating it if needed.
+     * The same instance, and so the same channel and response cache, is shared by all the WebViews
+     * using the same Dart path handler. Each call must be balanced by a call to {@link #release()}.
+     */
+    @NonNull
+    public static PathHandlerExt obtain(@NonNull String id, @NonNull InAppWebViewFlutterPlugin plugin,
+                                        @Nullable Integer timeout, @Nullable Integer cacheSize) {
+      synchronized (sharedPathHandlers) {
+        PathHandlerExt pathHandler = sharedPathHandlers.get(id);
+        if (pathHandler == null) {
+          pathHandler = new PathHandlerExt(id, plugin, timeout, cacheSize);
+          sharedPathHandlers.put(id, pathHandler);
+        }
+        pathHandler.referenceCount++;
+        return pathHandler;
+      }
+    }
+
+    /**
+     * Disposes this path handler when it's no longer used by any WebView.
+     */
+    public void release() {
+      synchronized (sharedPathHandlers) {
+        if (--referenceCount > 0) {
+          return;
+        }
+        if (sharedPathHandlers.get(id) == this) {
+          sharedPathHandlers.remove(id);
+        }
+      }
+      dispose();
+    }
+
+    public boolean isCacheEnabled() {
+      return cacheSize > 0;
+    }
+
     @Nullable
     @Override
     public WebResourceResponse handle(@NonNull String path) {
+      WebResourceResponseExt cachedResponse = getCachedResponse(path);
+      if (cachedResponse != null) {
+        return toWebResourceResponse(cachedResponse);
+      }
+
       if (channelDelegate != null) {
         WebResourceResponseExt response = null;
 
         try {
-          response = channelDelegate.handle(path);
+          if (timeout != null && timeout > 0) {
+            response = channelDelegate.handle(path, timeout);
+          } else {
+            response = channelDelegate.handle(path);
+          }
         } catch (InterruptedException e) {
           Log.e(LOG_TAG, "", e);
           return null;
+        } catch (TimeoutException e) {
+          Log.w(LOG_TAG, e.getMessage() != null ? e.getMessage() : "");
+          return null;
         }
 
         if (response != null) {
-          String contentType = response.getContentType();
-          String contentEncoding = response.getContentEncoding();
-          byte[] data = response.getData();
-          Map<String, String> responseHeaders = response.getHeaders();
-          Integer statusCode = response.getStatusCode();
-          String reasonPhrase = response.getReasonPhrase();
+          if (!isNoStore(response)) {
+            putCachedResponse(path, response);
+          }
+          return toWebResourceResponse(response);
+        }
+      }
+      return null;
+    }
 
-          ByteArrayInputStream inputStream = (data != null) ? new ByteArrayInputStream(data) : null;
+    @NonNull
+    private static WebResourceResponse toWebResourceResponse(@NonNull WebResourceResponseExt response) {
+      String contentType = response.getContentType();
+      String contentEncoding = response.getContentEncoding();
+      byte[] data = response.getData();
+      Map<String, String> responseHeaders = response.getHeaders();
+      Integer statusCode = response.getStatusCode();
+      String reasonPhrase = response.getReasonPhrase();
 
-          if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP && statusCode != null && reasonPhrase != null) {
-            return new WebResourceResponse(contentType, contentEncoding, statusCode, reasonPhrase, responseHeaders, inputStream);
-          } else {
-            return new WebResourceResponse(contentType, contentEncoding, inputStream);
+      ByteArrayInputStream inputStream = (data != null) ? new ByteArrayInputStream(data) : null;
+
+      if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP && statusCode != null && reasonPhrase != null) {
+        return new WebResourceResponse(contentType, contentEncoding, statusCode, reasonPhrase, responseHeaders, inputStream);
+      } else {
+        return new WebResourceResponse(contentType, contentEncoding, inputStream);
+      }
+    }
+
+    private static boolean isNoStore(@NonNull WebResourceResponseExt response) {
+      Map<String, String> headers = response.getHeaders();
+      if (headers != null) {
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+          if ("Cache-Control".equalsIgnoreCase(header.getKey()) && header.getValue() != null &&
+                  header.getValue().toLowerCase(Locale.ROOT).contains("no-store")) {
+            return true;
           }
         }
       }
-      return null;
+      return false;
+    }
+
+    @Nullable
+    private WebResourceResponseExt getCachedResponse(@NonNull String path) {
+      synchronized (responseCache) {
+        return cacheSize > 0 ? responseCache.get(path) : null;
+      }
+    }
+
+    private void putCachedResponse(@NonNull String path, @NonNull WebResourceResponseExt response) {
+      synchronized (responseCache) {
+        if (cacheSize <= 0) {
+          return;
+        }
+        responseCache.put(path, response);
+        Iterator<String> iterator = responseCache.keySet().iterator();
+        while (responseCache.size() > cacheSize && iterator.hasNext()) {
+          iterator.next();
+          iterator.remove();
+        }
+      }
+    }
+
+    /**
+     * Puts the given responses, by path, in the response cache,
+     * so they are served without calling Dart.
+     */
+    public void prefetch(@Nullable Map<String, Map<String, Object>> responses) {
+      if (responses == null) {
+        return;
+      }
+      for (Map.Entry<String, Map<String, Object>> entry : responses.entrySet()) {
+        WebResourceResponseExt response = WebResourceResponseExt.fromMap(entry.getValue());
+        if (entry.getKey() != null && response != null) {
+          putCachedResponse(entry.getKey(), response);
+        }
+      }
+    }
+
+    public void clearCache() {
+      synchronized (responseCache) {
+        responseCache.clear();
+      }
     }
 
     @Override
     public void dispose() {
+      clearCache();
       if (channelDelegate != null) {
         channelDelegate.dispose();
         channelDelegate = null;
@@ -157,6 +319,7 @@ public class WebViewAssetLoaderExt implements Disposable {
   }
 
   public static class PathHandlerExtChannelDelegate extends ChannelDelegateImpl {
+    protected static final String LOG_TAG = "PathHandlerExtChannelDelegate";
 
     @Nullable
     private PathHandlerExt pathHandler;
@@ -166,6 +329,33 @@ public class WebViewAssetLoaderExt implements Disposable {
       this.pathHandler = pathHandler;
     }
 
+    @Override
+    public void onMethodCall(@NonNull MethodCall call, @NonNull MethodChannel.Result result) {
+      switch (call.method) {
+        case "prefetch":
+          if (pathHandler != null && !pathHandler.isCacheEnabled()) {
+            result.error(LOG_TAG, "prefetch requires a cacheSize greater than 0", null);
+          } else if (pathHandler != null) {
+            Map<String, Map<String, Object>> responses = (Map<String, Map<String, Object>>) call.argument("responses");
+            pathHandler.prefetch(responses);
+            result.success(true);
+          } else {
+            result.success(false);
+          }
+          break;
+        case "clearCache":
+          if (pathHandler != null) {
+            pathHandler.clearCache();
+            result.success(true);
+          } else {
+            result.success(false);
+          }
+          break;
+        default:
+          result.notImplemented();
+      }
+    }
+
     public static class HandleCallback extends BaseCallbackResultImpl<WebResourceResponseExt> {
       @Nullable
       @Override
@@ -200,6 +390,16 @@ public class WebViewAssetLoaderExt implements Disposable {
       return Util.invokeMethodAndWaitResult(channel, "handle", obj, callback);
     }
 
+    @Nullable
+    public WebResourceResponseExt handle(String path, long timeout) throws InterruptedException, TimeoutException {
+      MethodChannel channel = getChannel();
+      if (channel == null) return null;
+      final SyncHandleCallback callback = new SyncHandleCallback();
+      Map<String, Object> obj = new HashMap<>();
+      obj.put("path", path);
+      return Util.invokeMethodAndWaitResult(channel, "handle", obj, callback, timeout);
+    }
+
     @Override
     public void dispose() {
       super.dispose();
@@ -0,0 +1,209 @@
+package wtf.zikzak.zikzak_inappwebview_android.webview;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import wtf.zikzak.zikzak_inappwebview_android.types.Disposable;
+
+/**
+ * Native console message pipeline: messages below the minimum level are discarded,
+ * the others are kept in a bounded ring buffer (the oldest message is discarded when it is full)
+ * and delivered in batches every batch interval, or pulled on demand with {@link #drain()}.
+ * <p>
+ * Message levels are the ordinals of {@link android.webkit.ConsoleMessage.MessageLevel}.
+ */
+public class ConsoleMessageBuffer implements Disposable {
+  private static final int LEVEL_TIP = 0;
+  private static final int LEVEL_LOG = 1;
+  private static final int LEVEL_WARNING = 2;
+  private static final int LEVEL_ERROR = 3;
+  private static final int LEVEL_DEBUG = 4;
+
+  public interface Delivery {
+    void deliver(@NonNull List<Map<String, Object>> messages);
+  }
+
+  @Nullable
+  private Delivery delivery;
+  @NonNull
+  private final Handler handler = new Handler(Looper.getMainLooper());
+
+  @Nullable
+  private Integer minimumLevel;
+  private long batchInterval = 0;
+  @NonNull
+  private String[] messages = new String[0];
+  @NonNull
+  private int[] levels = new int[0];
+  private int head = 0;
+  private int size = 0;
+  private int droppedCount = 0;
+  private int filteredCount = 0;
+  private boolean flushScheduled = false;
+
+  private final Runnable flushRunnable = new Runnable() {
+    @Override
+    public void run() {
+      flushScheduled = false;
+      if (size > 0 && delivery != null) {
+        delivery.deliver(drainMessages());
+      }
+    }
+  };
+
+  public ConsoleMessageBuffer(@NonNull Delivery delivery) {
+    this.delivery = delivery;
+  }
+
+  /**
+   * Severity of a console message level, from the least to the most severe.
+   * {@code DEBUG} and {@code TIP} are both verbose levels and share the lowest severity.
+   */
+  public static int getSeverity(int level) {
+    switch (level) {
+      case LEVEL_LOG:
+        return 1;
+      case LEVEL_WARNING:
+        return 2;
+      case LEVEL_ERROR:
+        return 3;
+      case LEVEL_TIP:
+      case LEVEL_DEBUG:
+      default:
+        return 0;
+    }
+  }
+
+  public void configure(@Nullable Integer minimumLevel, @Nullable Integer capacity, @Nullable Integer batchInterval) {
+    this.minimumLevel = minimumLevel;
+    int newCapacity = capacity != null ? Math.max(0, capacity) : 0;
+    if (newCapacity != messages.length) {
+      resize(newCapacity);
+    }
+    long newBatchInterval = batchInterval != null ? Math.max(0, batchInterval) : 0;
+    if (newBatchInterval != this.batchInterval) {
+      this.batchInterval = newBatchInterval;
+      handler.removeCallbacks(flushRunnable);
+      flushScheduled = false;
+      if (newBatchInterval > 0 && size > 0) {
+        flushScheduled = true;
+        handler.postDelayed(flushRunnable, newBatchInterval);
+      }
+    }
+  }
+
+  public boolean isEnabled() {
+    return messages.length > 0;
+  }
+
+  /**
+   * @return {@code false} if the message must be discarded because of the minimum level.
+   */
+  public boolean isLevelEnabled(int level) {
+    if (minimumLevel != null && getSeverity(level) < getSeverity(minimumLevel)) {
+      filteredCount++;
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * @return {@code false} if the buffer is disabled and the message must be delivered directly.
+   */
+  public boolean add(@Nullable String message, int level) {
+    int capacity = messages.length;
+    if (capacity == 0) {
+      return false;
+    }
+    int index = (head + size) % capacity;
+    if (size == capacity) {
+      head = (head + 1) % capacity;
+      droppedCount++;
+    } else {
+      size++;
+    }
+    messages[index] = message != null ? message : "";
+    levels[index] = level;
+    if (batchInterval > 0 && !flushScheduled) {
+      flushScheduled = true;
+      handler.postDelayed(flushRunnable, batchInterval);
+    }
+    return true;
+  }
+
+  /**
+   * Removes all the buffered messages and resets the drop counters.
+   *
+   * @return the buffered messages and the drop counters since the last call.
+   */
+  @NonNull
+  public Map<String, Object> drain() {
+    handler.removeCallbacks(flushRunnable);
+    flushScheduled = false;
+    Map<String, Object> obj = new HashMap<>();
+    obj.put("messages", drainMessages());
+    obj.put("droppedCount", droppedCount);
+    obj.put("filteredCount", filteredCount);
+    droppedCount = 0;
+    filteredCount = 0;
+    return obj;
+  }
+
+  @NonNull
+  private List<Map<String, Object>> drainMessages() {
+    List<Map<String, Object>> list = new ArrayList<>(size);
+    int capacity = messages.length;
+    for (int i = 0; i < size; i++) {
+      int index = (head + i) % capacity;
+      Map<String, Object> consoleMessage = new HashMap<>();
+      consoleMessage.put("message", messages[index]);
+      consoleMessage.put("messageLevel", levels[index]);
+      list.add(consoleMessage);
+      messages[index] = null;
+    }
+    head = 0;
+    size = 0;
+    return list;
+  }
+
+  private void resize(int capacity) {
+    String[] newMessages = new String[capacity];
+    int[] newLevels = new int[capacity];
+    // keep the newest messages
+    int kept = Math.min(size, capacity);
+    int oldCapacity = messages.length;
+    for (int i = 0; i < kept; i++) {
+      int index = (head + size - kept + i) % oldCapacity;
+      newMessages[i] = messages[index];
+      newLevels[i] = levels[index];
+    }
+    droppedCount += size - kept;
+    messages = newMessages;
+    levels = newLevels;
+    head = 0;
+    size = kept;
+    if (size == 0) {
+      handler.removeCallbacks(flushRunnable);
+      flushScheduled = false;
+    }
+  }
+
+  @Override
+  public void dispose() {
+    handler.removeCallbacks(flushRunnable);
+    flushScheduled = false;
+    messages = new String[0];
+    levels = new int[0];
+    head = 0;
+    size = 0;
+    delivery = null;
+  }
+}
@@ -0,0 +1,178 @@
+package wtf.zikzak.zikzak_inappwebview_android.webview;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.view.Choreographer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import wtf.zikzak.zikzak_inappwebview_android.types.Disposable;
+import wtf.zikzak.zikzak_inappwebview_android.types.EventThrottlingPolicy;
+
+/**
+ * Coalesces a high-frequency event following an {@link EventThrottlingPolicy}:
+ * only the latest submitted value is kept and it is delivered at most once per
+ * display frame and per {@link EventThrottlingPolicy#getMinimumInterval()}.
+ * Values closer than {@link EventThrottlingPolicy#getMinimumDelta()} to the last
+ * delivered one are held back and delivered once the event goes idle,
+ * so the final value is never lost.
+ * <p>
+ * It must be used from a thread with a {@link Looper}, usually the UI thread.
+ */
+public class EventThrottler implements Choreographer.FrameCallback, Disposable {
+  /**
+   * Delay after the last submitted value before a value held back by the
+   * minimum delta is delivered anyway.
+   */
+  private static final long IDLE_FLUSH_DELAY = 100;
+
+  public interface Delivery {
+    void deliver(double x, double y);
+  }
+
+  @NonNull
+  private final EventThrottlingPolicy policy;
+  @Nullable
+  private Delivery delivery;
+  @NonNull
+  private final Handler handler;
+  @Nullable
+  private Choreographer choreographer;
+
+  private double pendingX;
+  private double pendingY;
+  private boolean hasPending = false;
+  private double lastX;
+  private double lastY;
+  private boolean hasDelivered = false;
+  private long lastDeliveryTime = 0;
+  private boolean frameScheduled = false;
+  private boolean intervalScheduled = false;
+
+  private final Runnable intervalRunnable = new Runnable() {
+    @Override
+    public void run() {
+      intervalScheduled = false;
+      scheduleFrame();
+    }
+  };
+
+  private final Runnable idleFlushRunnable = new Runnable() {
+    @Override
+    public void run() {
+      if (hasPending && (!hasDelivered || pendingX != lastX || pendingY != lastY)) {
+        deliverPending();
+      }
+    }
+  };
+
+  public EventThrottler(@NonNull EventThrottlingPolicy policy, @NonNull Delivery delivery) {
+    this.policy = policy;
+    this.delivery = delivery;
+    Looper looper = Looper.myLooper();
+    this.handler = new Handler(looper != null ? looper : Looper.getMainLooper());
+  }
+
+  @NonNull
+  public EventThrottlingPolicy getPolicy() {
+    return policy;
+  }
+
+  /**
+   * Submits a new value of the event.
+   *
+   * @param force if {@code true}, the value and any pending one are delivered immediately.
+   */
+  public void submit(double x, double y, boolean force) {
+    pendingX = x;
+    pendingY = y;
+    hasPending = true;
+
+    if (force) {
+      flush();
+      return;
+    }
+
+    double minimumDelta = policy.getMinimumDelta();
+    if (hasDelivered && minimumDelta > 0 &&
+            Math.max(Math.abs(x - lastX), Math.abs(y - lastY)) < minimumDelta) {
+      handler.removeCallbacks(idleFlushRunnable);
+      handler.postDelayed(idleFlushRunnable, Math.max(IDLE_FLUSH_DELAY, policy.getMinimumInterval()));
+      return;
+    }
+
+    if (frameScheduled || intervalScheduled) {
+      return;
+    }
+    long wait = lastDeliveryTime + policy.getMinimumInterval() - SystemClock.uptimeMillis();
+    if (hasDelivered && wait > 0) {
+      intervalScheduled = true;
+      handler.postDelayed(intervalRunnable, wait);
+    } else {
+      scheduleFrame();
+    }
+  }
+
+  /**
+   * Delivers the pending value, if any, right away.
+   */
+  public void flush() {
+    cancelScheduled();
+    if (hasPending) {
+      deliverPending();
+    }
+  }
+
+  @Override
+  public void doFrame(long frameTimeNanos) {
+    frameScheduled = false;
+    if (hasPending) {
+      deliverPending();
+    }
+  }
+
+  private void scheduleFrame() {
+    if (!policy.isCoalesceToFrame()) {
+      deliverPending();
+      return;
+    }
+    if (!frameScheduled) {
+      frameScheduled = true;
+      if (choreographer == null) {
+        choreographer = Choreographer.getInstance();
+      }
+      choreographer.postFrameCallback(this);
+    }
+  }
+
+  private void deliverPending() {
+    handler.removeCallbacks(idleFlushRunnable);
+    hasPending = false;
+    hasDelivered = true;
+    lastX = pendingX;
+    lastY = pendingY;
+    lastDeliveryTime = SystemClock.uptimeMillis();
+    if (delivery != null) {
+      delivery.deliver(pendingX, pendingY);
+    }
+  }
+
+  private void cancelScheduled() {
+    handler.removeCallbacks(intervalRunnable);
+    handler.removeCallbacks(idleFlushRunnable);
+    intervalScheduled = false;
+    if (frameScheduled && choreographer != null) {
+      choreographer.removeFrameCallback(this);
+    }
+    frameScheduled = false;
+  }
+
+  @Override
+  public void dispose() {
+    cancelScheduled();
+    hasPending = false;
+    delivery = null;
+  }
+}
@@ -1,6 +1,7 @@
 package wtf.zikzak.zikzak_inappwebview_android.webview;
 
 import android.content.Context;
+import android.os.Bundle;
 import android.view.View;
 import android.view.ViewGroup;
 
@@ -68,11 +69,21 @@ public class FlutterWebViewFactory extends PlatformViewFactory {
     }
 
     if (keepAliveId != null && inAppWebViewManager != null) {
+      flutterWebView.detached = false;
+      if (flutterWebView.webView != null) {
+        flutterWebView.webView.wakeUp();
+      }
       inAppWebViewManager.keepAliveWebViews.put(keepAliveId, flutterWebView);
     }
 
     if (shouldMakeInitialLoad) {
-      flutterWebView.makeInitialLoad(params);
+      Bundle evictedState = keepAliveId != null && inAppWebViewManager != null ?
+              inAppWebViewManager.evictedKeepAliveStates.remove(keepAliveId) : null;
+      if (evictedState != null && flutterWebView.restoreState(evictedState)) {
+        inAppWebViewManager.onKeepAliveRestored(keepAliveId);
+      } else {
+        flutterWebView.makeInitialLoad(params);
+      }
     }
 
     return flutterWebView;
@@ -1,9 +1,15 @@
 package wtf.zikzak.zikzak_inappwebview_android.webview;
 
+import android.content.ComponentCallbacks2;
 import android.content.Context;
 import android.content.pm.PackageInfo;
+import android.content.res.Configuration;
 import android.os.Build;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.os.Message;
+import android.os.SystemClock;
 import android.view.View;
 import android.view.ViewGroup;
 import android.webkit.ValueCallback;
@@ -16,12 +22,18 @@ import androidx.webkit.WebViewCompat;
 import androidx.webkit.WebViewFeature;
 
 import wtf.zikzak.zikzak_inappwebview_android.InAppWebViewFlutterPlugin;
+import wtf.zikzak.zikzak_inappwebview_android.security.ZikZakSecurityManager;
 import wtf.zikzak.zikzak_inappwebview_android.types.ChannelDelegateImpl;
+import wtf.zikzak.zikzak_inappwebview_android.types.HibernationLevel;
 import wtf.zikzak.zikzak_inappwebview_android.webview.in_app_webview.FlutterWebView;
+import wtf.zikzak.zikzak_inappwebview_android.webview.in_app_webview.InAppWebView;
+import wtf.zikzak.zikzak_inappwebview_android.webview.in_app_webview.ScreenshotPipeline;
+import wtf.zikzak.zikzak_inappwebview_android.webview.in_app_webview.WarmWebViewPool;
 
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -36,16 +48,83 @@ public class InAppWebViewManager extends ChannelDelegateImpl {
   @Nullable
   public InAppWebViewFlutterPlugin plugin;
 
-  public final Map<String, FlutterWebView> keepAliveWebViews = new HashMap<>();
+  /**
+   * Kept alive WebViews, ordered from the least to the most recently used.
+   */
+  public final Map<String, FlutterWebView> keepAliveWebViews = new LinkedHashMap<>(16, 0.75f, true);
+  /**
+   * State saved by {@link WebView#saveState(Bundle)} of the evicted kept alive WebViews,
+   * restored when a widget with the same keep alive id is created again.
+   */
+  public final Map<String, Bundle> evictedKeepAliveStates = new HashMap<>();
+  /**
+   * Maximum number of kept alive WebViews that are not displayed. {@code 0} means no limit.
+   */
+  public int keepAliveCapacity = 0;
+  public static final String EVICTED_KEEP_ALIVE_URL_KEY = "wtf.zikzak.zikzak_inappwebview.url";
+  public static final String EVICTED_KEEP_ALIVE_SCROLL_X_KEY = "wtf.zikzak.zikzak_inappwebview.scrollX";
+  public static final String EVICTED_KEEP_ALIVE_SCROLL_Y_KEY = "wtf.zikzak.zikzak_inappwebview.scrollY";
+  public static final String EVICTED_KEEP_ALIVE_THUMBNAIL_KEY = "wtf.zikzak.zikzak_inappwebview.thumbnail";
+
+  /**
+   * Delays, in milliseconds since a kept alive WebView is not displayed anymore,
+   * before it is hibernated to {@link HibernationLevel#PAUSED}, {@link HibernationLevel#LOW_PRIORITY}
+   * and {@link HibernationLevel#DESTROYED}. A negative delay disables the level.
+   */
+  public long hibernationPauseDelay = -1;
+  public long hibernationLowPriorityDelay = -1;
+  public long hibernationDestroyDelay = -1;
+  @NonNull
+  private final Handler hibernationHandler = new Handler(Looper.getMainLooper());
+  private final Runnable hibernationRunnable = new Runnable() {
+    @Override
+    public void run() {
+      applyHibernationPolicy();
+    }
+  };
 
   public final Map<Integer, Message> windowWebViewMessages = new HashMap<>();
   public int windowAutoincrementId = 0;
 
+  @NonNull
+  public final WarmWebViewPool warmWebViewPool;
+
   public InAppWebViewManager(final InAppWebViewFlutterPlugin plugin) {
     super(new MethodChannel(plugin.messenger, METHOD_CHANNEL_NAME));
     this.plugin = plugin;
+    this.warmWebViewPool = new WarmWebViewPool(plugin);
+    if (plugin.applicationContext != null) {
+      plugin.applicationContext.registerComponentCallbacks(componentCallbacks);
+      // created here so that the WebView clients can check the tracker blocklist
+      ZikZakSecurityManager.getInstance(plugin.applicationContext);
+    }
   }
 
+  private final ComponentCallbacks2 componentCallbacks = new ComponentCallbacks2() {
+    @Override
+    public void onTrimMemory(int level) {
+      if (level == TRIM_MEMORY_RUNNING_CRITICAL || level >= TRIM_MEMORY_MODERATE) {
+        evictKeepAliveWebViews(0);
+        warmWebViewPool.clear();
+        ScreenshotPipeline.clearBitmapPool();
+      } else if (level == TRIM_MEMORY_RUNNING_LOW || level >= TRIM_MEMORY_BACKGROUND) {
+        evictKeepAliveWebViews(getDetachedKeepAliveCount() / 2);
+        hibernateKeepAliveWebViews(HibernationLevel.LOW_PRIORITY);
+        ScreenshotPipeline.clearBitmapPool();
+      } else if (level == TRIM_MEMORY_RUNNING_MODERATE) {
+        hibernateKeepAliveWebViews(HibernationLevel.LOW_PRIORITY);
+      }
+    }
+
+    @Override
+    public void onConfigurationChanged(@NonNull Configuration newConfig) {}
+
+    @Override
+    public void onLowMemory() {
+      onTrimMemory(TRIM_MEMORY_COMPLETE);
+    }
+  };
+
   @Override
   public void onMethodCall(@NonNull MethodCall call, @NonNull final MethodChannel.Result result) {
     switch (call.method) {
@@ -162,6 +241,58 @@ public class InAppWebViewManager extends ChannelDelegateImpl {
         }
         result.success(true);
         break;
+      case "configureWarmWebViewPool":
+        {
+          Integer size = (Integer) call.argument("size");
+          Map<String, Object> settings = (Map<String, Object>) call.argument("settings");
+          warmWebViewPool.configure(size != null ? size : 0, settings);
+        }
+        result.success(true);
+        break;
+      case "configureKeepAliveCache":
+        {
+          Integer capacity = (Integer) call.argument("capacity");
+          keepAliveCapacity = capacity != null ? Math.max(0, capacity) : 0;
+          trimKeepAliveWebViews();
+        }
+        result.success(true);
+        break;
+      case "configureHibernationPolicy":
+        {
+          Map<String, Object> policy = (Map<String, Object>) call.argument("policy");
+          hibernationPauseDelay = getHibernationDelay(policy, "pauseDelay");
+          hibernationLowPriorityDelay = getHibernationDelay(policy, "lowPriorityDelay");
+          hibernationDestroyDelay = getHibernationDelay(policy, "destroyDelay");
+          applyHibernationPolicy();
+        }
+        result.success(true);
+        break;
+      case "configureTrackerBlocking":
+        {
+          ZikZakSecurityManager securityManager = ZikZakSecurityManager.getInstanceIfCreated();
+          if (securityManager != null) {
+            Boolean enabled = (Boolean) call.argument("enabled");
+            List<String> addedTrackers = (List<String>) call.argument("addedTrackers");
+            List<String> removedTrackers = (List<String>) call.argument("removedTrackers");
+            configureTrackerBlocking(securityManager, enabled != null && enabled,
+                    addedTrackers, removedTrackers);
+          }
+          result.success(securityManager != null);
+        }
+        break;
+      case "getBlockedTrackers":
+        {
+          ZikZakSecurityManager securityManager = ZikZakSecurityManager.getInstanceIfCreated();
+          result.success(securityManager != null ?
+                  new ArrayList<>(securityManager.getBlockedTrackers()) : new ArrayList<String>());
+        }
+        break;
+      case "getKeepAliveThumbnail":
+        {
+          String id = (String) call.argument("keepAliveId");
+          result.success(id != null ? getKeepAliveThumbnail(id) : null);
+        }
+        break;
       default:
         result.notImplemented();
     }
@@ -177,6 +308,29 @@ public class InAppWebViewManager extends ChannelDelegateImpl {
     return webViewPackageInfoMap;
   }
 
+  /**
+   * Tracker blocking is enabled by turning the security enhancements on
+   * at the {@link ZikZakSecurityManager.SecurityLevel#ENHANCED} level.
+   */
+  private void configureTrackerBlocking(@NonNull ZikZakSecurityManager securityManager,
+                                        boolean enabled,
+                                        @Nullable List<String> addedTrackers,
+                                        @Nullable List<String> removedTrackers) {
+    if (removedTrackers != null) {
+      for (String tracker : removedTrackers) {
+        securityManager.removeBlockedTracker(tracker);
+      }
+    }
+    if (addedTrackers != null) {
+      for (String tracker : addedTrackers) {
+        securityManager.addBlockedTracker(tracker);
+      }
+    }
+    securityManager.setSecurityLevel(enabled ?
+            ZikZakSecurityManager.SecurityLevel.ENHANCED : ZikZakSecurityManager.SecurityLevel.NORMAL);
+    securityManager.setSecurityEnhancementsEnabled(enabled);
+  }
+
   public void disposeKeepAlive(@NonNull String keepAliveId) {
     FlutterWebView flutterWebView = keepAliveWebViews.get(keepAliveId);
     if (flutterWebView != null) {
@@ -191,9 +345,192 @@ public class InAppWebViewManager extends ChannelDelegateImpl {
       }
       flutterWebView.dispose();
     }
-    if (keepAliveWebViews.containsKey(keepAliveId)) {
-      keepAliveWebViews.put(keepAliveId, null);
+    keepAliveWebViews.remove(keepAliveId);
+    evictedKeepAliveStates.remove(keepAliveId);
+  }
+
+  private int getDetachedKeepAliveCount() {
+    int count = 0;
+    for (FlutterWebView flutterWebView : keepAliveWebViews.values()) {
+      if (flutterWebView != null && flutterWebView.detached) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Evicts the least recently used kept alive WebViews that are not displayed
+   * beyond {@link #keepAliveCapacity}.
+   */
+  public void trimKeepAliveWebViews() {
+    if (keepAliveCapacity > 0) {
+      evictKeepAliveWebViews(keepAliveCapacity);
+    }
+  }
+
+  /**
+   * Evicts the least recently used kept alive WebViews that are not displayed,
+   * until at most {@code maxDetachedCount} of them remain.
+   */
+  public void evictKeepAliveWebViews(int maxDetachedCount) {
+    int detachedCount = getDetachedKeepAliveCount();
+    // copy the entries, iterating from the least recently used one
+    List<Map.Entry<String, FlutterWebView>> entries = new ArrayList<>(keepAliveWebViews.entrySet());
+    for (Map.Entry<String, FlutterWebView> entry : entries) {
+      if (detachedCount <= maxDetachedCount) {
+        break;
+      }
+      FlutterWebView flutterWebView = entry.getValue();
+      if (flutterWebView != null && flutterWebView.detached) {
+        evictKeepAlive(entry.getKey(), flutterWebView);
+        detachedCount--;
+      }
+    }
+  }
+
+  /**
+   * Evicts the kept alive WebView using the given {@link InAppWebView} if it is not displayed.
+   *
+   * @return {@code true} if the WebView has been evicted.
+   */
+  public boolean evictKeepAliveWebView(@NonNull InAppWebView webView) {
+    List<Map.Entry<String, FlutterWebView>> entries = new ArrayList<>(keepAliveWebViews.entrySet());
+    for (Map.Entry<String, FlutterWebView> entry : entries) {
+      FlutterWebView flutterWebView = entry.getValue();
+      if (flutterWebView != null && flutterWebView.webView == webView) {
+        if (!flutterWebView.detached) {
+          return false;
+        }
+        evictKeepAlive(entry.getKey(), flutterWebView);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void evictKeepAlive(@NonNull String keepAliveId, @NonNull FlutterWebView flutterWebView) {
+    InAppWebView webView = flutterWebView.webView;
+    if (webView != null) {
+      Bundle state = new Bundle();
+      if (webView.saveState(state) == null) {
+        state.clear();
+      }
+      state.putString(EVICTED_KEEP_ALIVE_URL_KEY, webView.getUrl());
+      state.putInt(EVICTED_KEEP_ALIVE_SCROLL_X_KEY, webView.getScrollX());
+      state.putInt(EVICTED_KEEP_ALIVE_SCROLL_Y_KEY, webView.getScrollY());
+      Map<String, Object> thumbnail = webView.thumbnailCaptureService.getThumbnail();
+      if (thumbnail != null) {
+        Bundle thumbnailState = new Bundle();
+        thumbnailState.putByteArray("data", (byte[]) thumbnail.get("data"));
+        thumbnailState.putInt("width", (int) thumbnail.get("width"));
+        thumbnailState.putInt("height", (int) thumbnail.get("height"));
+        thumbnailState.putLong("captureTime", (long) thumbnail.get("captureTime"));
+        state.putBundle(EVICTED_KEEP_ALIVE_THUMBNAIL_KEY, thumbnailState);
+      }
+      evictedKeepAliveStates.put(keepAliveId, state);
+    }
+    keepAliveWebViews.remove(keepAliveId);
+    flutterWebView.keepAliveId = null;
+    flutterWebView.dispose();
+    onKeepAliveEvicted(keepAliveId);
+  }
+
+  /**
+   * @return the last thumbnail of a kept alive WebView, also available after its eviction,
+   * or {@code null} if none has been captured.
+   */
+  @Nullable
+  public Map<String, Object> getKeepAliveThumbnail(@NonNull String keepAliveId) {
+    FlutterWebView flutterWebView = keepAliveWebViews.get(keepAliveId);
+    if (flutterWebView != null && flutterWebView.webView != null) {
+      return flutterWebView.webView.thumbnailCaptureService.getThumbnail();
+    }
+    Bundle state = evictedKeepAliveStates.get(keepAliveId);
+    Bundle thumbnailState = state != null ? state.getBundle(EVICTED_KEEP_ALIVE_THUMBNAIL_KEY) : null;
+    if (thumbnailState == null) {
+      return null;
     }
+    Map<String, Object> thumbnail = new HashMap<>();
+    thumbnail.put("data", thumbnailState.getByteArray("data"));
+    thumbnail.put("width", thumbnailState.getInt("width"));
+    thumbnail.put("height", thumbnailState.getInt("height"));
+    thumbnail.put("captureTime", thumbnailState.getLong("captureTime"));
+    return thumbnail;
+  }
+
+  private static long getHibernationDelay(@Nullable Map<String, Object> policy, @NonNull String key) {
+    Number delay = policy != null ? (Number) policy.get(key) : null;
+    return delay != null ? delay.longValue() : -1;
+  }
+
+  /**
+   * Hibernates the kept alive WebViews that are not displayed according to the time elapsed
+   * since they have been detached, and schedules the next check.
+   */
+  public void applyHibernationPolicy() {
+    hibernationHandler.removeCallbacks(hibernationRunnable);
+    long now = SystemClock.uptimeMillis();
+    long nextCheckTime = Long.MAX_VALUE;
+    HibernationLevel[] levels = {HibernationLevel.PAUSED, HibernationLevel.LOW_PRIORITY, HibernationLevel.DESTROYED};
+    long[] delays = {hibernationPauseDelay, hibernationLowPriorityDelay, hibernationDestroyDelay};
+    List<Map.Entry<String, FlutterWebView>> entries = new ArrayList<>(keepAliveWebViews.entrySet());
+    for (Map.Entry<String, FlutterWebView> entry : entries) {
+      FlutterWebView flutterWebView = entry.getValue();
+      if (flutterWebView == null || !flutterWebView.detached || flutterWebView.webView == null) {
+        continue;
+      }
+      long elapsed = now - flutterWebView.detachedTime;
+      HibernationLevel targetLevel = HibernationLevel.NONE;
+      for (int i = 0; i < levels.length; i++) {
+        if (delays[i] < 0) {
+          continue;
+        }
+        if (elapsed >= delays[i]) {
+          targetLevel = levels[i];
+        } else {
+          nextCheckTime = Math.min(nextCheckTime, flutterWebView.detachedTime + delays[i]);
+        }
+      }
+      if (targetLevel == HibernationLevel.DESTROYED) {
+        evictKeepAlive(entry.getKey(), flutterWebView);
+      } else if (targetLevel.rawValue() > flutterWebView.webView.hibernationLevel.rawValue()) {
+        flutterWebView.webView.hibernate(targetLevel);
+      }
+    }
+    if (nextCheckTime != Long.MAX_VALUE) {
+      hibernationHandler.postAtTime(hibernationRunnable, nextCheckTime);
+    }
+  }
+
+  /**
+   * Hibernates all the kept alive WebViews that are not displayed to at least the given level,
+   * e.g. when the system is running low on memory.
+   */
+  public void hibernateKeepAliveWebViews(@NonNull HibernationLevel level) {
+    List<FlutterWebView> flutterWebViews = new ArrayList<>(keepAliveWebViews.values());
+    for (FlutterWebView flutterWebView : flutterWebViews) {
+      if (flutterWebView != null && flutterWebView.detached && flutterWebView.webView != null &&
+              level.rawValue() > flutterWebView.webView.hibernationLevel.rawValue()) {
+        flutterWebView.webView.hibernate(level);
+      }
+    }
+  }
+
+  public void onKeepAliveEvicted(@NonNull String keepAliveId) {
+    MethodChannel channel = getChannel();
+    if (channel == null) return;
+    Map<String, Object> obj = new HashMap<>();
+    obj.put("keepAliveId", keepAliveId);
+    channel.invokeMethod("onKeepAliveEvicted", obj);
+  }
+
+  public void onKeepAliveRestored(@NonNull String keepAliveId) {
+    MethodChannel channel = getChannel();
+    if (channel == null) return;
+    Map<String, Object> obj = new HashMap<>();
+    obj.put("keepAliveId", keepAliveId);
+    channel.invokeMethod("onKeepAliveRestored", obj);
   }
 
   public void clearAllCache(@NonNull Context context, boolean includeDiskFiles) {
@@ -205,15 +542,21 @@ public class InAppWebViewManager extends ChannelDelegateImpl {
   @Override
   public void dispose() {
     super.dispose();
-    Collection<FlutterWebView> flutterWebViews = keepAliveWebViews.values();
+    hibernationHandler.removeCallbacks(hibernationRunnable);
+    if (plugin != null && plugin.applicationContext != null) {
+      plugin.applicationContext.unregisterComponentCallbacks(componentCallbacks);
+    }
+    List<FlutterWebView> flutterWebViews = new ArrayList<>(keepAliveWebViews.values());
     for (FlutterWebView flutterWebView : flutterWebViews) {
-      String keepAliveId = flutterWebView.keepAliveId;
+      String keepAliveId = flutterWebView != null ? flutterWebView.keepAliveId : null;
       if (keepAliveId != null) {
-        disposeKeepAlive(flutterWebView.keepAliveId);
+        disposeKeepAlive(keepAliveId);
       }
     }
     keepAliveWebViews.clear();
+    evictedKeepAliveStates.clear();
     windowWebViewMessages.clear();
+    warmWebViewPool.dispose();
     plugin = null;
   }
 }
@@ -0,0 +1,230 @@
+package wtf.zikzak.zikzak_inappwebview_android.webview;
+
+import android.net.Uri;
+import android.util.Log;
+import android.webkit.ValueCallback;
+import android.webkit.WebView;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.webkit.JavaScriptReplyProxy;
+import androidx.webkit.WebMessageCompat;
+import androidx.webkit.WebViewCompat;
+import androidx.webkit.WebViewFeature;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.flutter.plugin.common.MethodChannel;
+import wtf.zikzak.zikzak_inappwebview_android.Util;
+import wtf.zikzak.zikzak_inappwebview_android.plugin_scripts_js.JavaScriptBridgeJS;
+import wtf.zikzak.zikzak_inappwebview_android.types.Disposable;
+import wtf.zikzak.zikzak_inappwebview_android.webview.in_app_webview.InAppWebView;
+
+/**
+ * Transfers the bodies of intercepted requests held on the page
+ * (see {@code lazyInterceptedRequestBody} and {@code interceptedRequestBodyInlineThreshold})
+ * as {@code ArrayBuffer} chunks through a web message listener,
+ * instead of serializing them as JSON through the JavaScript bridge.
+ * <p>
+ * Each transfer starts with a JSON header message ({@code transferId}, {@code size}, {@code isString})
+ * followed by the binary chunks, which are all posted in the same JavaScript task
+ * and therefore never interleave with the chunks of another transfer.
+ * <p>
+ * The listener is registered for any origin, as the page can navigate anywhere,
+ * but only the messages of the main frame with the origin of the page at the time of the request are accepted.
+ */
+public class InterceptedRequestBodyTransfer implements Disposable {
+  protected static final String LOG_TAG = "InterceptedRequestBody";
+  private static final int CHUNK_SIZE = 256 * 1024;
+  // the size is declared by the page, bigger bodies are not transferred to avoid an OutOfMemoryError
+  private static final int MAX_BODY_SIZE = 32 * 1024 * 1024;
+
+  @Nullable
+  private InAppWebView webView;
+  @NonNull
+  private final Map<Integer, PendingTransfer> pendingTransfers = new HashMap<>();
+  private int lastTransferId = 0;
+
+  @Nullable
+  private MethodChannel.Result currentResult;
+  @Nullable
+  private String currentOrigin;
+  @Nullable
+  private byte[] currentBody;
+  private int currentOffset = 0;
+  private boolean currentIsString = false;
+
+  private final WebViewCompat.WebMessageListener listener = new WebViewCompat.WebMessageListener() {
+    @Override
+    public void onPostMessage(@NonNull WebView view, @NonNull WebMessageCompat message, @NonNull Uri sourceOrigin,
+                              boolean isMainFrame, @NonNull JavaScriptReplyProxy replyProxy) {
+      // transfers are only requested to the main frame
+      if (!isMainFrame) {
+        return;
+      }
+      String origin = getOrigin(sourceOrigin.toString());
+      if (message.getType() == WebMessageCompat.TYPE_ARRAY_BUFFER) {
+        onChunk(message.getArrayBuffer(), origin);
+      } else {
+        onHeader(message.getData(), origin);
+      }
+    }
+  };
+
+  public InterceptedRequestBodyTransfer(@NonNull InAppWebView webView) {
+    this.webView = webView;
+    WebViewCompat.addWebMessageListener(webView,
+            JavaScriptBridgeJS.INTERCEPTED_REQUEST_BODY_TRANSFER_JS_OBJECT_NAME,
+            Collections.singleton("*"),
+            listener);
+  }
+
+  public static boolean isSupported() {
+    return WebViewFeature.isFeatureSupported(WebViewFeature.WEB_MESSAGE_LISTENER) &&
+            WebViewFeature.isFeatureSupported(WebViewFeature.WEB_MESSAGE_ARRAY_BUFFER);
+  }
+
+  /**
+   * Requests the body held with the given id.
+   * The result is a {@link String}, a {@code byte[]} or {@code null} if the body is no longer available.
+   */
+  public void request(int bodyId, @NonNull MethodChannel.Result result) {
+    if (webView == null) {
+      result.success(null);
+      return;
+    }
+    final int transferId = ++lastTransferId;
+    String url = webView.getUrl();
+    pendingTransfers.put(transferId, new PendingTransfer(result, url != null ? getOrigin(url) : null));
+    webView.evaluateJavascript(JavaScriptBridgeJS.JAVASCRIPT_UTIL_VAR_NAME +
+            ".sendInterceptedRequestBody(" + bodyId + ", " + transferId + ", " + CHUNK_SIZE + ");", new ValueCallback<String>() {
+      @Override
+      public void onReceiveValue(String value) {
+        // the page has no receiver, e.g. it has been loaded before the transfer was enabled
+        if (!"true".equals(value)) {
+          PendingTransfer pendingTransfer = pendingTransfers.remove(transferId);
+          if (pendingTransfer != null) {
+            pendingTransfer.result.success(null);
+          }
+        }
+      }
+    });
+  }
+
+  @Nullable
+  private static String getOrigin(@NonNull String url) {
+    Uri uri = Uri.parse(url);
+    if (uri.getScheme() == null || uri.getAuthority() == null) {
+      return null;
+    }
+    return uri.getScheme() + "://" + uri.getAuthority();
+  }
+
+  private void onHeader(@Nullable String data, @Nullable String origin) {
+    if (data == null) {
+      return;
+    }
+    int transferId;
+    int size;
+    boolean isString;
+    try {
+      JSONObject header = new JSONObject(data);
+      transferId = header.getInt("transferId");
+      size = header.getInt("size");
+      isString = header.optBoolean("isString", false);
+    } catch (JSONException e) {
+      Log.e(LOG_TAG, "", e);
+      return;
+    }
+    PendingTransfer pendingTransfer = pendingTransfers.get(transferId);
+    if (pendingTransfer == null || !Util.objEquals(pendingTransfer.origin, origin)) {
+      return;
+    }
+    pendingTransfers.remove(transferId);
+    MethodChannel.Result result = pendingTransfer.result;
+    if (currentResult != null) {
+      // the previous transfer has been interrupted
+      currentResult.success(null);
+    }
+    currentResult = null;
+    currentBody = null;
+    if (size < 0 || size > MAX_BODY_SIZE) {
+      if (size > MAX_BODY_SIZE) {
+        Log.w(LOG_TAG, "Intercepted request body of " + size + " bytes exceeds the maximum of " + MAX_BODY_SIZE + " bytes");
+      }
+      result.success(null);
+      return;
+    }
+    currentResult = result;
+    currentOrigin = origin;
+    currentBody = new byte[size];
+    currentOffset = 0;
+    currentIsString = isString;
+    if (size == 0) {
+      completeCurrent();
+    }
+  }
+
+  private void onChunk(@Nullable byte[] chunk, @Nullable String origin) {
+    if (chunk == null || currentBody == null || !Util.objEquals(currentOrigin, origin)) {
+      return;
+    }
+    int length = Math.min(chunk.length, currentBody.length - currentOffset);
+    System.arraycopy(chunk, 0, currentBody, currentOffset, length);
+    currentOffset += length;
+    if (currentOffset >= currentBody.length) {
+      completeCurrent();
+    }
+  }
+
+  private void completeCurrent() {
+    MethodChannel.Result result = currentResult;
+    byte[] body = currentBody;
+    currentResult = null;
+    currentBody = null;
+    currentOffset = 0;
+    if (result != null && body != null) {
+      result.success(currentIsString ? new String(body, StandardCharsets.UTF_8) : body);
+    }
+  }
+
+  @Override
+  public void dispose() {
+    for (PendingTransfer pendingTransfer : pendingTransfers.values()) {
+      pendingTransfer.result.success(null);
+    }
+    pendingTransfers.clear();
+    if (currentResult != null) {
+      currentResult.success(null);
+    }
+    currentResult = null;
+    currentBody = null;
+    if (webView != null && WebViewFeature.isFeatureSupported(WebViewFeature.WEB_MESSAGE_LISTENER)) {
+      try {
+        WebViewCompat.removeWebMessageListener(webView,
+                JavaScriptBridgeJS.INTERCEPTED_REQUEST_BODY_TRANSFER_JS_OBJECT_NAME);
+      } catch (Exception e) {
+        Log.e(LOG_TAG, "", e);
+      }
+    }
+    webView = null;
+  }
+
+  private static class PendingTransfer {
+    @NonNull
+    final MethodChannel.Result result;
+    @Nullable
+    final String origin;
+
+    PendingTransfer(@NonNull MethodChannel.Result result, @Nullable String origin) {
+      this.result = result;
+      this.origin = origin;
+    }
+  }
+}
@@ -43,6 +43,23 @@ public class JavaScriptBridgeInterface {
     });
   }
 
+  @JavascriptInterface
+  public void _onLoadResources(final String resources) {
+    if (inAppWebView == null) {
+      return;
+    }
+
+    final Handler handler = new Handler(inAppWebView.getWebViewLooper());
+    handler.post(new Runnable() {
+      @Override
+      public void run() {
+        if (inAppWebView != null && inAppWebView.channelDelegate != null) {
+          inAppWebView.channelDelegate.onLoadResources(resources);
+        }
+      }
+    });
+  }
+
   @JavascriptInterface
   public void _callHandler(final String handlerName, final String _callHandlerID, final String args) {
     if (inAppWebView == null) {
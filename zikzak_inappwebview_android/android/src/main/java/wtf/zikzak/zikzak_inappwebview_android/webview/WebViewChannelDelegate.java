@@ -2,6 +2,7 @@ package wtf.zikzak.zikzak_inappwebview_android.webview;
 
 import android.net.Uri;
 import android.os.Build;
+import android.util.Log;
 import android.webkit.ValueCallback;
 import android.webkit.WebView;
 
@@ -16,6 +17,7 @@ import wtf.zikzak.zikzak_inappwebview_android.Util;
 import wtf.zikzak.zikzak_inappwebview_android.find_interaction.FindInteractionChannelDelegate;
 import wtf.zikzak.zikzak_inappwebview_android.in_app_browser.InAppBrowserActivity;
 import wtf.zikzak.zikzak_inappwebview_android.in_app_browser.InAppBrowserSettings;
+import wtf.zikzak.zikzak_inappwebview_android.plugin_scripts_js.JavaScriptBridgeJS;
 import wtf.zikzak.zikzak_inappwebview_android.print_job.PrintJobSettings;
 import wtf.zikzak.zikzak_inappwebview_android.types.BaseCallbackResultImpl;
 import wtf.zikzak.zikzak_inappwebview_android.types.ChannelDelegateImpl;
@@ -24,8 +26,11 @@ import wtf.zikzak.zikzak_inappwebview_android.types.ClientCertResponse;
 import wtf.zikzak.zikzak_inappwebview_android.types.ContentWorld;
 import wtf.zikzak.zikzak_inappwebview_android.types.CreateWindowAction;
 import wtf.zikzak.zikzak_inappwebview_android.types.CustomSchemeResponse;
+import wtf.zikzak.zikzak_inappwebview_android.types.Disposable;
 import wtf.zikzak.zikzak_inappwebview_android.types.DownloadStartRequest;
+import wtf.zikzak.zikzak_inappwebview_android.types.EventThrottlingPolicy;
 import wtf.zikzak.zikzak_inappwebview_android.types.GeolocationPermissionShowPromptResponse;
+import wtf.zikzak.zikzak_inappwebview_android.types.HibernationLevel;
 import wtf.zikzak.zikzak_inappwebview_android.types.HitTestResult;
 import wtf.zikzak.zikzak_inappwebview_android.types.HttpAuthResponse;
 import wtf.zikzak.zikzak_inappwebview_android.types.HttpAuthenticationChallenge;
@@ -53,6 +58,10 @@ import wtf.zikzak.zikzak_inappwebview_android.webview.in_app_webview.InAppWebVie
 import wtf.zikzak.zikzak_inappwebview_android.webview.web_message.WebMessageChannel;
 import wtf.zikzak.zikzak_inappwebview_android.webview.web_message.WebMessageListener;
 
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -68,6 +77,42 @@ public class WebViewChannelDelegate extends ChannelDelegateImpl {
   @Nullable
   private InAppWebView webView;
 
+  private final ThrottledEvent scrollChangedEvent = new ThrottledEvent(new EventThrottler.Delivery() {
+    @Override
+    public void deliver(double x, double y) {
+      invokeOnScrollChanged((int) x, (int) y);
+    }
+  });
+  private final ThrottledEvent overScrolledEvent = new ThrottledEvent(new EventThrottler.Delivery() {
+    @Override
+    public void deliver(double x, double y) {
+      invokeOnOverScrolled((int) x, (int) y, overScrolledClampedX, overScrolledClampedY);
+    }
+  });
+  private boolean overScrolledClampedX = false;
+  private boolean overScrolledClampedY = false;
+  private final ThrottledEvent progressChangedEvent = new ThrottledEvent(new EventThrottler.Delivery() {
+    @Override
+    public void deliver(double x, double y) {
+      invokeOnProgressChanged((int) x);
+    }
+  });
+  private final ThrottledEvent zoomScaleChangedEvent = new ThrottledEvent(new EventThrottler.Delivery() {
+    @Override
+    public void deliver(double x, double y) {
+      float oldScale = Float.isNaN(zoomScaleChangedOldScale) ? (float) x : zoomScaleChangedOldScale;
+      zoomScaleChangedOldScale = Float.NaN;
+      invokeOnZoomScaleChanged(oldScale, (float) x);
+    }
+  });
+  private float zoomScaleChangedOldScale = Float.NaN;
+  private final ConsoleMessageBuffer consoleMessageBuffer = new ConsoleMessageBuffer(new ConsoleMessageBuffer.Delivery() {
+    @Override
+    public void deliver(@NonNull List<Map<String, Object>> messages) {
+      onConsoleMessages(messages);
+    }
+  });
+
   public WebViewChannelDelegate(@NonNull InAppWebView webView, @NonNull MethodChannel channel) {
     super(channel);
     this.webView = webView;
@@ -675,9 +720,142 @@ public class WebViewChannelDelegate extends ChannelDelegateImpl {
           webView.clearFormData();
         }
         result.success(true);
+        break;
+      case getConsoleMessages:
+        configureConsoleMessageBuffer();
+        result.success(consoleMessageBuffer.drain());
+        break;
+      case getInterceptedRequestBody:
+        if (webView instanceof InAppWebView && Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+          Integer bodyId = (Integer) call.argument("bodyId");
+          InterceptedRequestBodyTransfer interceptedRequestBodyTransfer = ((InAppWebView) webView).interceptedRequestBodyTransfer;
+          if (bodyId == null) {
+            result.success(null);
+          } else if (interceptedRequestBodyTransfer != null) {
+            interceptedRequestBodyTransfer.request(bodyId, result);
+          } else {
+            // binary web messages are not supported: fall back to the JavaScript bridge
+            Map<String, Object> functionArguments = new HashMap<>();
+            functionArguments.put("bodyId", bodyId);
+            webView.callAsyncJavaScript("return await " + JavaScriptBridgeJS.JAVASCRIPT_UTIL_VAR_NAME + ".getInterceptedRequestBody(bodyId);",
+                    functionArguments, null, new ValueCallback<String>() {
+              @Override
+              public void onReceiveValue(String value) {
+                result.success(parseInterceptedRequestBody(value));
+              }
+            });
+          }
+        } else {
+          result.success(null);
+        }
+        break;
+      case getLastScreenshotTimings:
+        if (webView instanceof InAppWebView) {
+          result.success(((InAppWebView) webView).screenshotPipeline.getLastTimings());
+        } else {
+          result.success(null);
+        }
+        break;
+      case startThumbnailCapture:
+        if (webView instanceof InAppWebView) {
+          Map<String, Object> configuration = (Map<String, Object>) call.argument("configuration");
+          ((InAppWebView) webView).thumbnailCaptureService.start(configuration);
+        }
+        result.success(true);
+        break;
+      case stopThumbnailCapture:
+        if (webView instanceof InAppWebView) {
+          ((InAppWebView) webView).thumbnailCaptureService.stop();
+        }
+        result.success(true);
+        break;
+      case getThumbnail:
+        if (webView instanceof InAppWebView) {
+          result.success(((InAppWebView) webView).thumbnailCaptureService.getThumbnail());
+        } else {
+          result.success(null);
+        }
+        break;
+      case takeFullPageScreenshot:
+        if (webView instanceof InAppWebView) {
+          Integer captureId = (Integer) call.argument("captureId");
+          if (captureId == null) {
+            result.error(LOG_TAG, "captureId is required", null);
+            break;
+          }
+          Map<String, Object> configuration = (Map<String, Object>) call.argument("configuration");
+          ((InAppWebView) webView).fullPageScreenshotEngine.capture(captureId, configuration, result);
+        } else {
+          result.success(null);
+        }
+        break;
+      case hibernate:
+        if (webView instanceof InAppWebView) {
+          Integer level = (Integer) call.argument("level");
+          ((InAppWebView) webView).hibernate(HibernationLevel.fromValue(level != null ? level : 0));
+          result.success(true);
+        } else {
+          result.success(false);
+        }
+        break;
+      case wakeUp:
+        if (webView instanceof InAppWebView) {
+          ((InAppWebView) webView).wakeUp();
+          result.success(true);
+        } else {
+          result.success(false);
+        }
+        break;
+      case getHibernationLevel:
+        if (webView instanceof InAppWebView) {
+          result.success(((InAppWebView) webView).hibernationLevel.rawValue());
+        } else {
+          result.success(null);
+        }
+        break;
+      case getBlockedTrackerRequestCounts:
+        if (webView instanceof InAppWebView) {
+          result.success(((InAppWebView) webView).getBlockedTrackerRequestCounts());
+        } else {
+          result.success(null);
+        }
+        break;
+      case clearBlockedTrackerRequestCounts:
+        if (webView instanceof InAppWebView) {
+          ((InAppWebView) webView).clearBlockedTrackerRequestCounts();
+        }
+        result.success(true);
+        break;
     }
   }
 
+  /**
+   * @return the body, as a {@link String} or a {@code byte[]}, from the result of a {@code callAsyncJavaScript} call.
+   */
+  @Nullable
+  private static Object parseInterceptedRequestBody(@Nullable String callAsyncJavaScriptResult) {
+    if (callAsyncJavaScriptResult == null) {
+      return null;
+    }
+    try {
+      Object value = new JSONObject(callAsyncJavaScriptResult).opt("value");
+      if (value instanceof String) {
+        return value;
+      }
+      if (value instanceof JSONArray) {
+        JSONArray array = (JSONArray) value;
+        byte[] body = new byte[array.length()];
+        for (int i = 0; i < body.length; i++) {
+          body[i] = (byte) array.getInt(i);
+        }
+        return body;
+      }
+    } catch (JSONException e) {
+      Log.e(LOG_TAG, "", e);
+    }
+    return null;
+  }
+
   /**
    * @deprecated Use {@link FindInteractionChannelDelegate#onFindResultReceived} instead.
    */
@@ -699,6 +877,13 @@ public class WebViewChannelDelegate extends ChannelDelegateImpl {
   }
 
   public void onScrollChanged(int x, int y) {
+    Map<String, Object> policy = webView != null ? webView.customSettings.onScrollChangedThrottlingPolicy : null;
+    if (!scrollChangedEvent.submit(policy, x, y, false)) {
+      invokeOnScrollChanged(x, y);
+    }
+  }
+
+  private void invokeOnScrollChanged(int x, int y) {
     MethodChannel channel = getChannel();
     if (channel == null) return;
     Map<String, Object> obj = new HashMap<>();
@@ -707,6 +892,17 @@ public class WebViewChannelDelegate extends ChannelDelegateImpl {
     channel.invokeMethod("onScrollChanged", obj);
   }
 
+  /**
+   * @param resources JSON encoded list of the resources loaded since the last batch.
+   */
+  public void onLoadResources(String resources) {
+    MethodChannel channel = getChannel();
+    if (channel == null) return;
+    Map<String, Object> obj = new HashMap<>();
+    obj.put("resources", resources);
+    channel.invokeMethod("onLoadResources", obj);
+  }
+
   public void onDownloadStartRequest(DownloadStartRequest downloadStartRequest) {
     MethodChannel channel = getChannel();
     if (channel == null) return;
@@ -720,6 +916,15 @@ public class WebViewChannelDelegate extends ChannelDelegateImpl {
   }
 
   public void onOverScrolled(int scrollX, int scrollY, boolean clampedX, boolean clampedY) {
+    Map<String, Object> policy = webView != null ? webView.customSettings.onOverScrolledThrottlingPolicy : null;
+    overScrolledClampedX = clampedX;
+    overScrolledClampedY = clampedY;
+    if (!overScrolledEvent.submit(policy, scrollX, scrollY, false)) {
+      invokeOnOverScrolled(scrollX, scrollY, clampedX, clampedY);
+    }
+  }
+
+  private void invokeOnOverScrolled(int scrollX, int scrollY, boolean clampedX, boolean clampedY) {
     MethodChannel channel = getChannel();
     if (channel == null) return;
     Map<String, Object> obj = new HashMap<>();
@@ -896,7 +1101,20 @@ public class WebViewChannelDelegate extends ChannelDelegateImpl {
     channel.invokeMethod("onGeolocationPermissionsHidePrompt", obj);
   }
 
+  private void configureConsoleMessageBuffer() {
+    if (webView != null) {
+      consoleMessageBuffer.configure(webView.customSettings.consoleMessageMinimumLevel,
+              webView.customSettings.consoleMessageBufferSize,
+              webView.customSettings.consoleMessageBatchInterval);
+    }
+  }
+
   public void onConsoleMessage(String message, int messageLevel) {
+    configureConsoleMessageBuffer();
+    if (!consoleMessageBuffer.isLevelEnabled(messageLevel) ||
+            consoleMessageBuffer.add(message, messageLevel)) {
+      return;
+    }
     MethodChannel channel = getChannel();
     if (channel == null) return;
     Map<String, Object> obj = new HashMap<>();
@@ -905,7 +1123,29 @@ public class WebViewChannelDelegate extends ChannelDelegateImpl {
     channel.invokeMethod("onConsoleMessage", obj);
   }
 
+  public void onConsoleMessages(List<Map<String, Object>> messages) {
+    MethodChannel channel = getChannel();
+    if (channel == null) return;
+    Map<String, Object> obj = new HashMap<>();
+    obj.put("messages", messages);
+    channel.invokeMethod("onConsoleMessages", obj);
+  }
+
+  public void onFullPageScreenshotTile(Map<String, Object> tile) {
+    MethodChannel channel = getChannel();
+    if (channel == null) return;
+    channel.invokeMethod("onFullPageScreenshotTile", tile);
+  }
+
   public void onProgressChanged(int progress) {
+    Map<String, Object> policy = webView != null ? webView.customSettings.onProgressChangedThrottlingPolicy : null;
+    // the final progress is always delivered right away
+    if (!progressChangedEvent.submit(policy, progress, 0, progress >= 100)) {
+      invokeOnProgressChanged(progress);
+    }
+  }
+
+  private void invokeOnProgressChanged(int progress) {
     MethodChannel channel = getChannel();
     if (channel == null) return;
     Map<String, Object> obj = new HashMap<>();
@@ -1081,6 +1321,17 @@ public class WebViewChannelDelegate extends ChannelDelegateImpl {
   }
 
   public void onZoomScaleChanged(float oldScale, float newScale) {
+    Map<String, Object> policy = webView != null ? webView.customSettings.onZoomScaleChangedThrottlingPolicy : null;
+    if (policy != null && Float.isNaN(zoomScaleChangedOldScale)) {
+      zoomScaleChangedOldScale = oldScale;
+    }
+    if (!zoomScaleChangedEvent.submit(policy, newScale, 0, false)) {
+      zoomScaleChangedOldScale = Float.NaN;
+      invokeOnZoomScaleChanged(oldScale, newScale);
+    }
+  }
+
+  private void invokeOnZoomScaleChanged(float oldScale, float newScale) {
     MethodChannel channel = getChannel();
     if (channel == null) return;
     Map<String, Object> obj = new HashMap<>();
@@ -1312,7 +1563,61 @@ public class WebViewChannelDelegate extends ChannelDelegateImpl {
 
   @Override
   public void dispose() {
+    scrollChangedEvent.dispose();
+    overScrolledEvent.dispose();
+    progressChangedEvent.dispose();
+    zoomScaleChangedEvent.dispose();
+    consoleMessageBuffer.dispose();
     super.dispose();
     webView = null;
   }
+
+  /**
+   * Keeps the {@link EventThrottler} of an event in sync with its throttling policy setting,
+   * which can be changed at runtime.
+   */
+  private static class ThrottledEvent implements Disposable {
+    @NonNull
+    private final EventThrottler.Delivery delivery;
+    @Nullable
+    private Map<String, Object> policyMap;
+    @Nullable
+    private EventThrottler throttler;
+
+    ThrottledEvent(@NonNull EventThrottler.Delivery delivery) {
+      this.delivery = delivery;
+    }
+
+    /**
+     * @return {@code false} if there is no throttling policy and the event must be delivered directly.
+     */
+    boolean submit(@Nullable Map<String, Object> policyMap, double x, double y, boolean force) {
+      if (policyMap != this.policyMap) {
+        this.policyMap = policyMap;
+        if (throttler != null) {
+          throttler.flush();
+          throttler.dispose();
+          throttler = null;
+        }
+        EventThrottlingPolicy policy = EventThrottlingPolicy.fromMap(policyMap);
+        if (policy != null) {
+          throttler = new EventThrottler(policy, delivery);
+        }
+      }
+      if (throttler == null) {
+        return false;
+      }
+      throttler.submit(x, y, force);
+      return true;
+    }
+
+    @Override
+    public void dispose() {
+      if (throttler != null) {
+        throttler.dispose();
+        throttler = null;
+      }
+      policyMap = null;
+    }
+  }
 }
@@ -82,5 +82,17 @@ public enum WebViewChannelDelegateMethods {
   canScrollVertically,
   canScrollHorizontally,
   isInFullscreen,
-  clearFormData
+  clearFormData,
+  getConsoleMessages,
+  getInterceptedRequestBody,
+  getLastScreenshotTimings,
+  startThumbnailCapture,
+  stopThumbnailCapture,
+  getThumbnail,
+  takeFullPageScreenshot,
+  hibernate,
+  wakeUp,
+  getHibernationLevel,
+  getBlockedTrackerRequestCounts,
+  clearBlockedTrackerRequestCounts
 }
@@ -2,8 +2,12 @@ package wtf.zikzak.zikzak_inappwebview_android.webview.in_app_webview;
 
 import android.annotation.SuppressLint;
 import android.content.Context;
+import android.graphics.Point;
 import android.hardware.display.DisplayManager;
+import android.os.Build;
+import android.os.Bundle;
 import android.os.Message;
+import android.os.SystemClock;
 import android.util.Log;
 import android.view.View;
 import android.view.ViewGroup;
@@ -18,6 +22,7 @@ import wtf.zikzak.zikzak_inappwebview_android.InAppWebViewFlutterPlugin;
 import wtf.zikzak.zikzak_inappwebview_android.find_interaction.FindInteractionController;
 import wtf.zikzak.zikzak_inappwebview_android.pull_to_refresh.PullToRefreshLayout;
 import wtf.zikzak.zikzak_inappwebview_android.pull_to_refresh.PullToRefreshSettings;
+import wtf.zikzak.zikzak_inappwebview_android.webview.InAppWebViewManager;
 import wtf.zikzak.zikzak_inappwebview_android.webview.PlatformWebView;
 import wtf.zikzak.zikzak_inappwebview_android.types.URLRequest;
 import wtf.zikzak.zikzak_inappwebview_android.types.UserScript;
@@ -37,7 +42,17 @@ public class FlutterWebView implements PlatformWebView {
   @Nullable
   public PullToRefreshLayout pullToRefreshLayout;
   @Nullable
+  public FramePacingLayout framePacingLayout;
+  @Nullable
   public String keepAliveId;
+  /**
+   * Whether the WebView is kept alive while its widget is not displayed.
+   */
+  public boolean detached = false;
+  /**
+   * Time, in {@link SystemClock#uptimeMillis()}, since the WebView is {@link #detached}.
+   */
+  public long detachedTime = 0;
 
   public FlutterWebView(final InAppWebViewFlutterPlugin plugin, final Context context, Object id,
                         HashMap<String, Object> params) {
@@ -63,8 +78,17 @@ public class FlutterWebView implements PlatformWebView {
       }
     }
 
-    webView = new InAppWebView(context, plugin, id, windowId, customSettings, contextMenu,
-            null, userScripts);
+    InAppWebView warmWebView = null;
+    if (windowId == null && plugin.inAppWebViewManager != null) {
+      warmWebView = plugin.inAppWebViewManager.warmWebViewPool.acquire(context, customSettings);
+    }
+    if (warmWebView != null) {
+      webView = warmWebView;
+      webView.bindWarmWebView(id, customSettings, (HashMap<String, Object>) initialSettings, contextMenu, userScripts);
+    } else {
+      webView = new InAppWebView(context, plugin, id, windowId, customSettings, contextMenu,
+              null, userScripts);
+    }
     displayListenerProxy.onPostWebViewInitialization(displayManager);
 
     // set MATCH_PARENT layout params to the WebView, otherwise it won't take all the available space!
@@ -75,15 +99,26 @@ public class FlutterWebView implements PlatformWebView {
     pullToRefreshLayout.addView(webView);
     pullToRefreshLayout.prepare();
 
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O &&
+            customSettings.framePacingMaxFrameRate != null && customSettings.framePacingMaxFrameRate > 0) {
+      framePacingLayout = new FramePacingLayout(context, webView);
+      framePacingLayout.addView(pullToRefreshLayout);
+    }
+
     FindInteractionController findInteractionController = new FindInteractionController(webView, plugin, id, null);
     webView.findInteractionController = findInteractionController;
     findInteractionController.prepare();
 
-    webView.prepare();
+    if (warmWebView == null) {
+      webView.prepare();
+    }
   }
 
   @Override
   public View getView() {
+    if (framePacingLayout != null) {
+      return framePacingLayout;
+    }
     return pullToRefreshLayout != null ? pullToRefreshLayout : webView;
   }
 
@@ -148,8 +183,50 @@ public class FlutterWebView implements PlatformWebView {
     }
   }
 
+  /**
+   * Restores the state of an evicted kept alive WebView instead of making the initial load.
+   *
+   * @return {@code true} if the state or at least the last URL has been restored.
+   */
+  public boolean restoreState(@NonNull Bundle state) {
+    if (webView == null) {
+      return false;
+    }
+    String url = state.getString(InAppWebViewManager.EVICTED_KEEP_ALIVE_URL_KEY);
+    state.remove(InAppWebViewManager.EVICTED_KEEP_ALIVE_URL_KEY);
+    if (state.containsKey(InAppWebViewManager.EVICTED_KEEP_ALIVE_SCROLL_X_KEY)) {
+      webView.pendingScrollRestore = new Point(
+              state.getInt(InAppWebViewManager.EVICTED_KEEP_ALIVE_SCROLL_X_KEY),
+              state.getInt(InAppWebViewManager.EVICTED_KEEP_ALIVE_SCROLL_Y_KEY));
+    }
+    state.remove(InAppWebViewManager.EVICTED_KEEP_ALIVE_SCROLL_X_KEY);
+    state.remove(InAppWebViewManager.EVICTED_KEEP_ALIVE_SCROLL_Y_KEY);
+    state.remove(InAppWebViewManager.EVICTED_KEEP_ALIVE_THUMBNAIL_KEY);
+    if (!state.isEmpty() && webView.restoreState(state) != null) {
+      return true;
+    }
+    if (url != null) {
+      webView.loadUrl(url);
+      return true;
+    }
+    return false;
+  }
+
   @Override
   public void dispose() {
+    if (keepAliveId != null) {
+      detached = true;
+      detachedTime = SystemClock.uptimeMillis();
+      InAppWebViewManager inAppWebViewManager = webView != null && webView.plugin != null ?
+              webView.plugin.inAppWebViewManager : null;
+      if (inAppWebViewManager != null) {
+        // this WebView can be evicted and disposed by the trim, if it's the least recently used one
+        inAppWebViewManager.trimKeepAliveWebViews();
+        if (webView != null) {
+          inAppWebViewManager.applyHibernationPolicy();
+        }
+      }
+    }
     if (keepAliveId == null && webView != null) {
       webView.dispose();
       webView = null;
@@ -158,6 +235,10 @@ public class FlutterWebView implements PlatformWebView {
         pullToRefreshLayout.dispose();
         pullToRefreshLayout = null;
       }
+      if (framePacingLayout != null) {
+        framePacingLayout.dispose();
+        framePacingLayout = null;
+      }
     }
   }
 
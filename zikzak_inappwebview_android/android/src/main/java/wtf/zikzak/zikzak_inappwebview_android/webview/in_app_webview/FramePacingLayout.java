@@ -0,0 +1,80 @@
+package wtf.zikzak.zikzak_inappwebview_android.webview.in_app_webview;
+
+import android.content.Context;
+import android.os.Build;
+import android.os.SystemClock;
+import android.view.View;
+import android.widget.FrameLayout;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import wtf.zikzak.zikzak_inappwebview_android.types.Disposable;
+
+/**
+ * Root view of a {@link FlutterWebView} pacing its redraws
+ * (see {@code InAppWebViewSettings.framePacingMaxFrameRate}).
+ * <p>
+ * Every invalidation of the WebView redraws it, e.g. into the texture of the platform view.
+ * This layout coalesces the invalidations received faster than the maximum frame rate
+ * into a single deferred frame, so animated pages don't redraw at the display refresh rate.
+ * It relies on {@link #onDescendantInvalidated}, called only on Android 8.0+.
+ */
+public class FramePacingLayout extends FrameLayout implements Disposable {
+  @Nullable
+  private InAppWebView webView;
+
+  private long lastFrameTime = 0;
+  private boolean pendingFrame = false;
+
+  private final Runnable frameRunnable = new Runnable() {
+    @Override
+    public void run() {
+      pendingFrame = false;
+      lastFrameTime = SystemClock.uptimeMillis();
+      invalidate();
+    }
+  };
+
+  public FramePacingLayout(@NonNull Context context, @NonNull InAppWebView webView) {
+    super(context);
+    this.webView = webView;
+  }
+
+  private long getMinFrameInterval() {
+    if (webView == null || webView.customSettings.framePacingMaxFrameRate == null ||
+            webView.customSettings.framePacingMaxFrameRate <= 0) {
+      return 0;
+    }
+    return 1000 / webView.customSettings.framePacingMaxFrameRate;
+  }
+
+  @Override
+  public void onDescendantInvalidated(@NonNull View child, @NonNull View target) {
+    // on Android 8.0+, hardware accelerated invalidations are propagated to the parents with this method
+    long minFrameInterval = getMinFrameInterval();
+    if (minFrameInterval <= 0 || Build.VERSION.SDK_INT < Build.VERSION_CODES.O) {
+      super.onDescendantInvalidated(child, target);
+      return;
+    }
+    if (pendingFrame) {
+      return;
+    }
+    long now = SystemClock.uptimeMillis();
+    long wait = lastFrameTime + minFrameInterval - now;
+    if (wait <= 0) {
+      lastFrameTime = now;
+      super.onDescendantInvalidated(child, target);
+      return;
+    }
+    pendingFrame = true;
+    postDelayed(frameRunnable, wait);
+  }
+
+  @Override
+  public void dispose() {
+    removeCallbacks(frameRunnable);
+    pendingFrame = false;
+    webView = null;
+  }
+}
@@ -0,0 +1,245 @@
+package wtf.zikzak.zikzak_inappwebview_android.webview.in_app_webview;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.webkit.WebViewCompat;
+import androidx.webkit.WebViewFeature;
+
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.flutter.plugin.common.MethodChannel;
+import wtf.zikzak.zikzak_inappwebview_android.Util;
+import wtf.zikzak.zikzak_inappwebview_android.types.Disposable;
+
+/**
+ * Captures the whole page of an {@link InAppWebView}, not only the visible viewport.
+ * <p>
+ * The page is scrolled one viewport at a time and each viewport is drawn into a tile
+ * of at most the viewport size, which is compressed in background and streamed to Dart
+ * before the next one is captured. Peak memory is one tile bitmap and one encoded tile,
+ * regardless of the page height. The original scroll position is restored at the end.
+ */
+public class FullPageScreenshotEngine implements Disposable {
+  protected static final String LOG_TAG = "FullPageScreenshot";
+  /**
+   * Delay given to the WebView to render a new scroll position when visual state callbacks are not supported.
+   */
+  private static final long FALLBACK_RENDER_DELAY = 100;
+
+  @Nullable
+  private InAppWebView webView;
+
+  private boolean running = false;
+  private int captureId;
+  @Nullable
+  private MethodChannel.Result result;
+  private int originalScrollX;
+  private int originalScrollY;
+  private int viewWidth;
+  private int viewHeight;
+  private int totalHeight;
+  private float scale;
+  private int outputWidth;
+  private int outputHeight;
+  private int nextY;
+  private int tileIndex;
+  private long visualStateRequestId = 0;
+  @NonNull
+  private Bitmap.CompressFormat compressFormat = Bitmap.CompressFormat.PNG;
+  private int quality = 100;
+
+  private final Runnable captureTileRunnable = new Runnable() {
+    @Override
+    public void run() {
+      captureTile();
+    }
+  };
+
+  public FullPageScreenshotEngine(@NonNull InAppWebView webView) {
+    this.webView = webView;
+  }
+
+  public void capture(int captureId, @Nullable Map<String, Object> configuration, @NonNull MethodChannel.Result result) {
+    if (running || webView == null) {
+      result.success(null);
+      return;
+    }
+    viewWidth = webView.getWidth();
+    viewHeight = webView.getHeight();
+    if (viewWidth <= 0 || viewHeight <= 0) {
+      result.success(null);
+      return;
+    }
+    float pixelDensity = Util.getPixelDensity(webView.getContext());
+    totalHeight = Math.max(viewHeight, webView.getVerticalScrollRange());
+    scale = 1;
+    compressFormat = Bitmap.CompressFormat.PNG;
+    quality = 100;
+    if (configuration != null) {
+      Double maxHeight = (Double) configuration.get("maxHeight");
+      if (maxHeight != null && maxHeight > 0) {
+        totalHeight = Math.min(totalHeight, (int) Math.floor(maxHeight * pixelDensity + 0.5));
+      }
+      Double snapshotWidth = (Double) configuration.get("snapshotWidth");
+      if (snapshotWidth != null && snapshotWidth > 0) {
+        scale = Math.min(1, (float) Math.floor(snapshotWidth * pixelDensity + 0.5) / viewWidth);
+      }
+      try {
+        compressFormat = Bitmap.CompressFormat.valueOf((String) configuration.get("compressFormat"));
+      } catch (IllegalArgumentException | NullPointerException e) {
+        Log.e(LOG_TAG, "", e);
+      }
+      Integer configurationQuality = (Integer) configuration.get("quality");
+      if (configurationQuality != null) {
+        quality = configurationQuality;
+      }
+    }
+
+    this.running = true;
+    this.captureId = captureId;
+    this.result = result;
+    originalScrollX = webView.getScrollX();
+    originalScrollY = webView.getScrollY();
+    outputWidth = Math.max(1, Math.round(viewWidth * scale));
+    outputHeight = Math.max(1, Math.round(totalHeight * scale));
+    nextY = 0;
+    tileIndex = 0;
+    scrollToNextTile();
+  }
+
+  private void scrollToNextTile() {
+    if (webView == null) {
+      return;
+    }
+    // the last tile is captured from the bottom-most scroll position
+    int scrollY = Math.min(nextY, Math.max(0, totalHeight - viewHeight));
+    webView.scrollTo(originalScrollX, scrollY);
+    if (WebViewFeature.isFeatureSupported(WebViewFeature.VISUAL_STATE_CALLBACK)) {
+      final long requestId = ++visualStateRequestId;
+      WebViewCompat.postVisualStateCallback(webView, requestId, new WebViewCompat.VisualStateCallback() {
+        @Override
+        public void onComplete(long completedRequestId) {
+          if (running && webView != null && completedRequestId == visualStateRequestId) {
+            webView.postOnAnimation(captureTileRunnable);
+          }
+        }
+      });
+    } else {
+      webView.postDelayed(captureTileRunnable, FALLBACK_RENDER_DELAY);
+    }
+  }
+
+  private void captureTile() {
+    if (!running || webView == null) {
+      return;
+    }
+    final int tileY = nextY;
+    int tileHeight = Math.min(viewHeight, totalHeight - tileY);
+    final int outputTileY = Math.round(tileY * scale);
+    final int outputTileHeight = Math.max(1, Math.min(outputHeight - outputTileY, Math.round(tileHeight * scale)));
+
+    final Bitmap bitmap;
+    try {
+      bitmap = ScreenshotPipeline.acquireBitmap(outputWidth, outputTileHeight);
+    } catch (OutOfMemoryError e) {
+      Log.e(LOG_TAG, "", e);
+      finish(false);
+      return;
+    }
+    Canvas canvas = new Canvas(bitmap);
+    canvas.scale(scale, scale);
+    canvas.translate(-webView.getScrollX(), -tileY);
+    webView.draw(canvas);
+
+    nextY = tileY + tileHeight;
+    final int index = tileIndex++;
+    final Bitmap.CompressFormat finalCompressFormat = compressFormat;
+    final int finalQuality = quality;
+    ScreenshotPipeline.executor.execute(new Runnable() {
+      @Override
+      public void run() {
+        byte[] data = null;
+        try {
+          ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+          bitmap.compress(finalCompressFormat, finalQuality, byteArrayOutputStream);
+          data = byteArrayOutputStream.toByteArray();
+        } catch (IllegalArgumentException | OutOfMemoryError e) {
+          Log.e(LOG_TAG, "", e);
+        } finally {
+          ScreenshotPipeline.releaseBitmap(bitmap);
+        }
+        final byte[] finalData = data;
+        InAppWebView currentWebView = webView;
+        if (currentWebView == null) {
+          return;
+        }
+        currentWebView.post(new Runnable() {
+          @Override
+          public void run() {
+            onTileCompressed(index, outputTileY, outputTileHeight, finalData);
+          }
+        });
+      }
+    });
+  }
+
+  private void onTileCompressed(int index, int y, int height, @Nullable byte[] data) {
+    if (!running || webView == null) {
+      return;
+    }
+    if (data == null) {
+      finish(false);
+      return;
+    }
+    if (webView.channelDelegate != null) {
+      Map<String, Object> tile = new HashMap<>();
+      tile.put("captureId", captureId);
+      tile.put("index", index);
+      tile.put("y", y);
+      tile.put("width", outputWidth);
+      tile.put("height", height);
+      tile.put("data", data);
+      webView.channelDelegate.onFullPageScreenshotTile(tile);
+    }
+    if (nextY >= totalHeight) {
+      finish(true);
+    } else {
+      scrollToNextTile();
+    }
+  }
+
+  private void finish(boolean success) {
+    running = false;
+    if (webView != null) {
+      webView.removeCallbacks(captureTileRunnable);
+      webView.scrollTo(originalScrollX, originalScrollY);
+    }
+    MethodChannel.Result currentResult = result;
+    result = null;
+    if (currentResult != null) {
+      if (success) {
+        Map<String, Object> obj = new HashMap<>();
+        obj.put("width", outputWidth);
+        obj.put("height", outputHeight);
+        obj.put("tileCount", tileIndex);
+        currentResult.success(obj);
+      } else {
+        currentResult.success(null);
+      }
+    }
+  }
+
+  @Override
+  public void dispose() {
+    if (running) {
+      finish(false);
+    }
+    webView = null;
+  }
+}
@@ -10,7 +10,6 @@ import android.annotation.TargetApi;
 import android.content.Context;
 import android.content.pm.PackageInfo;
 import android.graphics.Bitmap;
-import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Point;
 import android.graphics.drawable.ColorDrawable;
@@ -61,7 +60,6 @@ import androidx.webkit.WebSettingsCompat;
 import androidx.webkit.WebViewCompat;
 import androidx.webkit.WebViewFeature;
 import io.flutter.plugin.common.MethodChannel;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -95,6 +93,7 @@ import wtf.zikzak.zikzak_inappwebview_android.print_job.PrintJobSettings;
 import wtf.zikzak.zikzak_inappwebview_android.pull_to_refresh.PullToRefreshLayout;
 import wtf.zikzak.zikzak_inappwebview_android.types.ContentWorld;
 import wtf.zikzak.zikzak_inappwebview_android.types.DownloadStartRequest;
+import wtf.zikzak.zikzak_inappwebview_android.types.HibernationLevel;
 import wtf.zikzak.zikzak_inappwebview_android.types.PluginScript;
 import wtf.zikzak.zikzak_inappwebview_android.types.PreferredContentModeOptionType;
 import wtf.zikzak.zikzak_inappwebview_android.types.URLRequest;
@@ -103,6 +102,7 @@ import wtf.zikzak.zikzak_inappwebview_android.types.UserScript;
 import wtf.zikzak.zikzak_inappwebview_android.types.WebViewAssetLoaderExt;
 import wtf.zikzak.zikzak_inappwebview_android.webview.ContextMenuSettings;
 import wtf.zikzak.zikzak_inappwebview_android.webview.InAppWebViewInterface;
+import wtf.zikzak.zikzak_inappwebview_android.webview.InterceptedRequestBodyTransfer;
 import wtf.zikzak.zikzak_inappwebview_android.webview.JavaScriptBridgeInterface;
 import wtf.zikzak.zikzak_inappwebview_android.webview.WebViewChannelDelegate;
 import wtf.zikzak.zikzak_inappwebview_android.webview.web_message.WebMessageChannel;
@@ -163,6 +163,34 @@ public final class InAppWebView
     public Map<String, Object> contextMenu = null;
 
     public Handler mainLooperHandler = new Handler(getWebViewLooper());
+
+    @NonNull
+    public final ScreenshotPipeline screenshotPipeline = new ScreenshotPipeline(
+        this
+    );
+
+    @NonNull
+    public final ThumbnailCaptureService thumbnailCaptureService =
+        new ThumbnailCaptureService(this);
+
+    @NonNull
+    public final FullPageScreenshotEngine fullPageScreenshotEngine =
+        new FullPageScreenshotEngine(this);
+
+    @NonNull
+    public HibernationLevel hibernationLevel = HibernationLevel.NONE;
+
+    /**
+     * Number of requests blocked by the tracker blocklist, by tracker.
+     * Updated from the WebView IO thread.
+     */
+    private final Map<String, Integer> blockedTrackerRequestCounts = new HashMap<>();
+
+    /**
+     * Scroll position to apply when the restored page finishes loading.
+     */
+    @Nullable
+    public Point pendingScrollRestore = null;
     static Handler mHandler = new Handler();
 
     public Runnable checkScrollStoppedTask;
@@ -196,6 +224,27 @@ public final class InAppWebView
     @Nullable
     private PluginScript interceptOnlyAsyncAjaxRequestsPluginScript;
 
+    @Nullable
+    private PluginScript onLoadResourceBatchDelayPluginScript;
+
+    @Nullable
+    private PluginScript consoleMessageMinimumLevelPluginScript;
+
+    @Nullable
+    private PluginScript lazyInterceptedRequestBodyPluginScript;
+
+    @Nullable
+    private PluginScript interceptedRequestBodyInlineThresholdPluginScript;
+
+    @Nullable
+    public InterceptedRequestBodyTransfer interceptedRequestBodyTransfer;
+
+    @Nullable
+    private PluginScript shouldInterceptAjaxRequestFilterPluginScript;
+
+    @Nullable
+    private PluginScript shouldInterceptFetchRequestFilterPluginScript;
+
     public InAppWebView(Context context) {
         super(context);
     }
@@ -235,6 +284,50 @@ public final class InAppWebView
         }
     }
 
+    /**
+     * Binds a WebView created in advance by the {@link WarmWebViewPool}
+     * to the id and the settings of the platform view that acquired it.
+     */
+    public void bindWarmWebView(
+        @NonNull Object id,
+        @NonNull InAppWebViewSettings newCustomSettings,
+        @NonNull HashMap<String, Object> newSettingsMap,
+        @Nullable Map<String, Object> contextMenu,
+        @NonNull List<UserScript> userScripts
+    ) {
+        this.id = id;
+        if (channelDelegate != null) {
+            channelDelegate.dispose();
+        }
+        if (plugin != null) {
+            final MethodChannel channel = new MethodChannel(
+                plugin.messenger,
+                METHOD_CHANNEL_NAME_PREFIX + id
+            );
+            this.channelDelegate = new WebViewChannelDelegate(this, channel);
+        }
+        this.contextMenu = contextMenu;
+        setSettings(newCustomSettings, newSettingsMap);
+
+        // the state built only by prepare() was built with the pool settings
+        if (plugin != null) {
+            if (webViewAssetLoaderExt != null) {
+                webViewAssetLoaderExt.dispose();
+            }
+            webViewAssetLoaderExt = WebViewAssetLoaderExt.fromMap(
+                newCustomSettings.webViewAssetLoader,
+                plugin,
+                getContext()
+            );
+        }
+        regexToCancelSubFramesLoadingCompiled =
+            newCustomSettings.regexToCancelSubFramesLoading != null
+                ? Pattern.compile(newCustomSettings.regexToCancelSubFramesLoading)
+                : null;
+
+        userContentController.addUserOnlyScripts(userScripts);
+    }
+
     public WebViewClient createWebViewClient(
         InAppBrowserDelegate inAppBrowserDelegate
     ) {
@@ -288,6 +381,7 @@ public final class InAppWebView
             javaScriptBridgeInterface,
             JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME
         );
+        prepareInterceptedRequestBodyTransfer();
 
         inAppWebViewChromeClient = new InAppWebViewChromeClient(
             plugin,
@@ -836,11 +930,38 @@ public final class InAppWebView
     }
 
     public void prepareAndAddUserScripts() {
+        PluginScript promisePolyfillPluginScript =
+            PromisePolyfillJS.getPluginScript(getContext());
+        if (promisePolyfillPluginScript != null) {
+            userContentController.addPluginScript(promisePolyfillPluginScript);
+        }
         userContentController.addPluginScript(
-            PromisePolyfillJS.PROMISE_POLYFILL_JS_PLUGIN_SCRIPT
+            JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_JS_PLUGIN_SCRIPT
         );
+        if (customSettings.lazyInterceptedRequestBody) {
+            lazyInterceptedRequestBodyPluginScript =
+                JavaScriptBridgeJS.createLazyInterceptedRequestBodyPluginScript(
+                    true
+                );
+            userContentController.addPluginScript(
+                lazyInterceptedRequestBodyPluginScript
+            );
+        }
+        if (customSettings.interceptedRequestBodyInlineThreshold != null) {
+            interceptedRequestBodyInlineThresholdPluginScript =
+                JavaScriptBridgeJS.createInterceptedRequestBodyInlineThresholdPluginScript(
+                    customSettings.interceptedRequestBodyInlineThreshold
+                );
+            userContentController.addPluginScript(
+                interceptedRequestBodyInlineThresholdPluginScript
+            );
+        }
+        consoleMessageMinimumLevelPluginScript =
+            ConsoleLogJS.createConsoleMessageMinimumLevelPluginScript(
+                customSettings.consoleMessageMinimumLevel
+            );
         userContentController.addPluginScript(
-            JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_JS_PLUGIN_SCRIPT
+            consoleMessageMinimumLevelPluginScript
         );
         userContentController.addPluginScript(
             ConsoleLogJS.CONSOLE_LOG_JS_PLUGIN_SCRIPT
@@ -864,12 +985,37 @@ public final class InAppWebView
                 InterceptAjaxRequestJS.INTERCEPT_AJAX_REQUEST_JS_PLUGIN_SCRIPT
             );
         }
+        if (customSettings.shouldInterceptAjaxRequestFilter != null) {
+            shouldInterceptAjaxRequestFilterPluginScript =
+                InterceptAjaxRequestJS.createShouldInterceptAjaxRequestFilterPluginScript(
+                    customSettings.shouldInterceptAjaxRequestFilter
+                );
+            userContentController.addPluginScript(
+                shouldInterceptAjaxRequestFilterPluginScript
+            );
+        }
+        if (customSettings.shouldInterceptFetchRequestFilter != null) {
+            shouldInterceptFetchRequestFilterPluginScript =
+                InterceptFetchRequestJS.createShouldInterceptFetchRequestFilterPluginScript(
+                    customSettings.shouldInterceptFetchRequestFilter
+                );
+            userContentController.addPluginScript(
+                shouldInterceptFetchRequestFilterPluginScript
+            );
+        }
         if (customSettings.useShouldInterceptFetchRequest) {
             userContentController.addPluginScript(
                 InterceptFetchRequestJS.INTERCEPT_FETCH_REQUEST_JS_PLUGIN_SCRIPT
             );
         }
+        onLoadResourceBatchDelayPluginScript =
+            OnLoadResourceJS.createOnLoadResourceBatchDelayPluginScript(
+                customSettings.onLoadResourceBatchDelay
+            );
         if (customSettings.useOnLoadResource) {
+            userContentController.addPluginScript(
+                onLoadResourceBatchDelayPluginScript
+            );
             userContentController.addPluginScript(
                 OnLoadResourceJS.ON_LOAD_RESOURCE_JS_PLUGIN_SCRIPT
             );
@@ -1008,117 +1154,7 @@ public final class InAppWebView
         final @Nullable Map<String, Object> screenshotConfiguration,
         final MethodChannel.Result result
     ) {
-        final float pixelDensity = Util.getPixelDensity(getContext());
-
-        mainLooperHandler.post(
-            new Runnable() {
-                @Override
-                public void run() {
-                    try {
-                        Bitmap screenshotBitmap = Bitmap.createBitmap(
-                            getMeasuredWidth(),
-                            getMeasuredHeight(),
-                            Bitmap.Config.ARGB_8888
-                        );
-                        Canvas c = new Canvas(screenshotBitmap);
-                        c.translate(-getScrollX(), -getScrollY());
-                        draw(c);
-
-                        ByteArrayOutputStream byteArrayOutputStream =
-                            new ByteArrayOutputStream();
-                        Bitmap.CompressFormat compressFormat =
-                            Bitmap.CompressFormat.PNG;
-                        int quality = 100;
-
-                        if (screenshotConfiguration != null) {
-                            Map<String, Double> rect = (Map<
-                                    String,
-                                    Double
-                                >) screenshotConfiguration.get("rect");
-                            if (rect != null) {
-                                int rectX = (int) Math.floor(
-                                    rect.get("x") * pixelDensity + 0.5
-                                );
-                                int rectY = (int) Math.floor(
-                                    rect.get("y") * pixelDensity + 0.5
-                                );
-                                int rectWidth = Math.min(
-                                    screenshotBitmap.getWidth(),
-                                    (int) Math.floor(
-                                        rect.get("width") * pixelDensity + 0.5
-                                    )
-                                );
-                                int rectHeight = Math.min(
-                                    screenshotBitmap.getHeight(),
-                                    (int) Math.floor(
-                                        rect.get("height") * pixelDensity + 0.5
-                                    )
-                                );
-                                screenshotBitmap = Bitmap.createBitmap(
-                                    screenshotBitmap,
-                                    rectX,
-                                    rectY,
-                                    rectWidth,
-                                    rectHeight
-                                );
-                            }
-
-                            Double snapshotWidth =
-                                (Double) screenshotConfiguration.get(
-                                    "snapshotWidth"
-                                );
-                            if (snapshotWidth != null) {
-                                int dstWidth = (int) Math.floor(
-                                    snapshotWidth * pixelDensity + 0.5
-                                );
-                                float ratioBitmap =
-                                    (float) screenshotBitmap.getWidth() /
-                                    (float) screenshotBitmap.getHeight();
-                                int dstHeight = (int) ((float) dstWidth /
-                                    ratioBitmap);
-                                screenshotBitmap = Bitmap.createScaledBitmap(
-                                    screenshotBitmap,
-                                    dstWidth,
-                                    dstHeight,
-                                    true
-                                );
-                            }
-
-                            try {
-                                compressFormat = Bitmap.CompressFormat.valueOf(
-                                    (String) screenshotConfiguration.get(
-                                        "compressFormat"
-                                    )
-                                );
-                            } catch (IllegalArgumentException e) {
-                                Log.e(LOG_TAG, "", e);
-                            }
-
-                            quality = (Integer) screenshotConfiguration.get(
-                                "quality"
-                            );
-                        }
-
-                        screenshotBitmap.compress(
-                            compressFormat,
-                            quality,
-                            byteArrayOutputStream
-                        );
-
-                        try {
-                            byteArrayOutputStream.close();
-                        } catch (IOException e) {
-                            Log.e(LOG_TAG, "", e);
-                        }
-                        screenshotBitmap.recycle();
-                        result.success(byteArrayOutputStream.toByteArray());
-                    } catch (IllegalArgumentException e) {
-                        Log.e(LOG_TAG, "", e);
-                        result.success(null);
-                    }
-                }
-            }
-        );
+        screenshotPipeline.takeScreenshot(screenshotConfiguration, result);
     }
 
     @SuppressLint("RestrictedApi")
@@ -1175,6 +1211,22 @@ public final class InAppWebView
             customSettings.useOnLoadResource !=
             newCustomSettings.useOnLoadResource
         ) {
+            if (
+                newCustomSettings.useOnLoadResource &&
+                onLoadResourceBatchDelayPluginScript != null &&
+                !userContentController.containsPluginScript(
+                    onLoadResourceBatchDelayPluginScript
+                )
+            ) {
+                userContentController.addPluginScript(
+                    onLoadResourceBatchDelayPluginScript
+                );
+                evaluateJavascript(
+                    onLoadResourceBatchDelayPluginScript.getSource(),
+                    null,
+                    null
+                );
+            }
             enablePluginScriptAtRuntime(
                 OnLoadResourceJS.FLAG_VARIABLE_FOR_ON_LOAD_RESOURCE_JS_SOURCE,
                 newCustomSettings.useOnLoadResource,
@@ -1182,6 +1234,175 @@ public final class InAppWebView
             );
         }
 
+        if (
+            newSettingsMap.get("onLoadResourceBatchDelay") != null &&
+            !customSettings.onLoadResourceBatchDelay.equals(
+                newCustomSettings.onLoadResourceBatchDelay
+            )
+        ) {
+            boolean wasAdded = onLoadResourceBatchDelayPluginScript != null &&
+                userContentController.containsPluginScript(
+                    onLoadResourceBatchDelayPluginScript
+                );
+            if (onLoadResourceBatchDelayPluginScript != null) {
+                userContentController.removePluginScript(
+                    onLoadResourceBatchDelayPluginScript
+                );
+            }
+            onLoadResourceBatchDelayPluginScript =
+                OnLoadResourceJS.createOnLoadResourceBatchDelayPluginScript(
+                    newCustomSettings.onLoadResourceBatchDelay
+                );
+            if (wasAdded || newCustomSettings.useOnLoadResource) {
+                userContentController.addPluginScript(
+                    onLoadResourceBatchDelayPluginScript
+                );
+            }
+            evaluateJavascript(
+                onLoadResourceBatchDelayPluginScript.getSource(),
+                null,
+                null
+            );
+        }
+
+        if (
+            newSettingsMap.get("lazyInterceptedRequestBody") != null &&
+            !Util.objEquals(
+                customSettings.lazyInterceptedRequestBody,
+                newCustomSettings.lazyInterceptedRequestBody
+            )
+        ) {
+            if (lazyInterceptedRequestBodyPluginScript != null) {
+                userContentController.removePluginScript(
+                    lazyInterceptedRequestBodyPluginScript
+                );
+            }
+            lazyInterceptedRequestBodyPluginScript =
+                JavaScriptBridgeJS.createLazyInterceptedRequestBodyPluginScript(
+                    newCustomSettings.lazyInterceptedRequestBody
+                );
+            if (newCustomSettings.lazyInterceptedRequestBody) {
+                userContentController.addPluginScript(
+                    lazyInterceptedRequestBodyPluginScript
+                );
+            }
+            evaluateJavascript(
+                lazyInterceptedRequestBodyPluginScript.getSource(),
+                null,
+                null
+            );
+        }
+
+        if (
+            newSettingsMap.containsKey("interceptedRequestBodyInlineThreshold") &&
+            !Util.objEquals(
+                customSettings.interceptedRequestBodyInlineThreshold,
+                newCustomSettings.interceptedRequestBodyInlineThreshold
+            )
+        ) {
+            if (interceptedRequestBodyInlineThresholdPluginScript != null) {
+                userContentController.removePluginScript(
+                    interceptedRequestBodyInlineThresholdPluginScript
+                );
+            }
+            interceptedRequestBodyInlineThresholdPluginScript =
+                JavaScriptBridgeJS.createInterceptedRequestBodyInlineThresholdPluginScript(
+                    newCustomSettings.interceptedRequestBodyInlineThreshold
+                );
+            if (newCustomSettings.interceptedRequestBodyInlineThreshold != null) {
+                userContentController.addPluginScript(
+                    interceptedRequestBodyInlineThresholdPluginScript
+                );
+            }
+            evaluateJavascript(
+                interceptedRequestBodyInlineThresholdPluginScript.getSource(),
+                null,
+                null
+            );
+        }
+
+        if (
+            newSettingsMap.containsKey("shouldInterceptAjaxRequestFilter") &&
+            !Util.objEquals(
+                customSettings.shouldInterceptAjaxRequestFilter,
+                newCustomSettings.shouldInterceptAjaxRequestFilter
+            )
+        ) {
+            if (shouldInterceptAjaxRequestFilterPluginScript != null) {
+                userContentController.removePluginScript(
+                    shouldInterceptAjaxRequestFilterPluginScript
+                );
+            }
+            shouldInterceptAjaxRequestFilterPluginScript =
+                InterceptAjaxRequestJS.createShouldInterceptAjaxRequestFilterPluginScript(
+                    newCustomSettings.shouldInterceptAjaxRequestFilter
+                );
+            if (newCustomSettings.shouldInterceptAjaxRequestFilter != null) {
+                userContentController.addPluginScript(
+                    shouldInterceptAjaxRequestFilterPluginScript
+                );
+            }
+            evaluateJavascript(
+                shouldInterceptAjaxRequestFilterPluginScript.getSource(),
+                null,
+                null
+            );
+        }
+
+        if (
+            newSettingsMap.containsKey("shouldInterceptFetchRequestFilter") &&
+            !Util.objEquals(
+                customSettings.shouldInterceptFetchRequestFilter,
+                newCustomSettings.shouldInterceptFetchRequestFilter
+            )
+        ) {
+            if (shouldInterceptFetchRequestFilterPluginScript != null) {
+                userContentController.removePluginScript(
+                    shouldInterceptFetchRequestFilterPluginScript
+                );
+            }
+            shouldInterceptFetchRequestFilterPluginScript =
+                InterceptFetchRequestJS.createShouldInterceptFetchRequestFilterPluginScript(
+                    newCustomSettings.shouldInterceptFetchRequestFilter
+                );
+            if (newCustomSettings.shouldInterceptFetchRequestFilter != null) {
+                userContentController.addPluginScript(
+                    shouldInterceptFetchRequestFilterPluginScript
+                );
+            }
+            evaluateJavascript(
+                shouldInterceptFetchRequestFilterPluginScript.getSource(),
+                null,
+                null
+            );
+        }
+
+        if (
+            newSettingsMap.containsKey("consoleMessageMinimumLevel") &&
+            !Util.objEquals(
+                customSettings.consoleMessageMinimumLevel,
+                newCustomSettings.consoleMessageMinimumLevel
+            )
+        ) {
+            if (consoleMessageMinimumLevelPluginScript != null) {
+                userContentController.removePluginScript(
+                    consoleMessageMinimumLevelPluginScript
+                );
+            }
+            consoleMessageMinimumLevelPluginScript =
+                ConsoleLogJS.createConsoleMessageMinimumLevelPluginScript(
+                    newCustomSettings.consoleMessageMinimumLevel
+                );
+            userContentController.addPluginScript(
+                consoleMessageMinimumLevelPluginScript
+            );
+            evaluateJavascript(
+                consoleMessageMinimumLevelPluginScript.getSource(),
+                null,
+                null
+            );
+        }
+
         if (
             newSettingsMap.get("javaScriptCanOpenWindowsAutomatically") !=
                 null &&
@@ -1686,7 +1907,7 @@ public final class InAppWebView
                 newCustomSettings.regexToCancelSubFramesLoading == null
             ) regexToCancelSubFramesLoadingCompiled = null;
             else regexToCancelSubFramesLoadingCompiled = Pattern.compile(
-                customSettings.regexToCancelSubFramesLoading
+                newCustomSettings.regexToCancelSubFramesLoading
             );
         }
 
@@ -1937,6 +2158,7 @@ public final class InAppWebView
         }
 
         customSettings = newCustomSettings;
+        prepareInterceptedRequestBodyTransfer();
     }
 
     public Map<String, Object> getCustomSettings() {
@@ -2285,6 +2507,8 @@ public final class InAppWebView
         }
 
         if (channelDelegate != null) channelDelegate.onScrollChanged(x, y);
+
+        thumbnailCaptureService.invalidate();
     }
 
     public void scrollTo(Integer x, Integer y, Boolean animated) {
@@ -3026,6 +3250,101 @@ public final class InAppWebView
         return computeHorizontalScrollRange() > computeHorizontalScrollExtent();
     }
 
+    /**
+     * @return the height of the content in physical pixels, at the current zoom scale.
+     */
+    public int getVerticalScrollRange() {
+        return computeVerticalScrollRange();
+    }
+
+    /**
+     * Lowers the resource usage of the WebView while it is not displayed.
+     * <p>
+     * {@link HibernationLevel#PAUSED} pauses the WebView (animations, geolocation, media),
+     * {@link HibernationLevel#LOW_PRIORITY} also lets the system kill its renderer process.
+     * {@link HibernationLevel#DESTROYED} evicts the WebView if it is a kept alive one not displayed,
+     * otherwise it is the same as {@link HibernationLevel#LOW_PRIORITY}.
+     */
+    public void hibernate(@NonNull HibernationLevel level) {
+        if (level == HibernationLevel.NONE) {
+            wakeUp();
+            return;
+        }
+        if (level == HibernationLevel.DESTROYED) {
+            if (plugin != null && plugin.inAppWebViewManager != null &&
+                plugin.inAppWebViewManager.evictKeepAliveWebView(this)) {
+                return;
+            }
+            level = HibernationLevel.LOW_PRIORITY;
+        }
+        if (hibernationLevel == HibernationLevel.NONE) {
+            // pauseTimers() is not used because it pauses the JavaScript timers of all the WebViews of the app
+            onPause();
+        }
+        if (level == HibernationLevel.LOW_PRIORITY && Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+            setRendererPriorityPolicy(RENDERER_PRIORITY_WAIVED, true);
+        }
+        hibernationLevel = level;
+    }
+
+    /**
+     * Restores a WebView lowered with {@link #hibernate(HibernationLevel)}.
+     */
+    public void wakeUp() {
+        if (hibernationLevel == HibernationLevel.NONE) {
+            return;
+        }
+        if (hibernationLevel == HibernationLevel.LOW_PRIORITY && Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+            if (customSettings.rendererPriorityPolicy != null && !customSettings.rendererPriorityPolicy.isEmpty()) {
+                setRendererPriorityPolicy(
+                    (int) customSettings.rendererPriorityPolicy.get("rendererRequestedPriority"),
+                    (boolean) customSettings.rendererPriorityPolicy.get("waivedWhenNotVisible")
+                );
+            } else {
+                setRendererPriorityPolicy(RENDERER_PRIORITY_IMPORTANT, false);
+            }
+        }
+        onResume();
+        hibernationLevel = HibernationLevel.NONE;
+    }
+
+    public void incrementBlockedTrackerRequestCount(@NonNull String tracker) {
+        synchronized (blockedTrackerRequestCounts) {
+            Integer count = blockedTrackerRequestCounts.get(tracker);
+            blockedTrackerRequestCounts.put(tracker, count != null ? count + 1 : 1);
+        }
+    }
+
+    @NonNull
+    public Map<String, Integer> getBlockedTrackerRequestCounts() {
+        synchronized (blockedTrackerRequestCounts) {
+            return new HashMap<>(blockedTrackerRequestCounts);
+        }
+    }
+
+    public void clearBlockedTrackerRequestCounts() {
+        synchronized (blockedTrackerRequestCounts) {
+            blockedTrackerRequestCounts.clear();
+        }
+    }
+
+    /**
+     * Applies the {@link #pendingScrollRestore} once the page has been laid out.
+     */
+    public void applyPendingScrollRestore() {
+        final Point scroll = pendingScrollRestore;
+        if (scroll == null) {
+            return;
+        }
+        pendingScrollRestore = null;
+        postOnAnimation(new Runnable() {
+            @Override
+            public void run() {
+                scrollTo(scroll.x, scroll.y);
+            }
+        });
+    }
+
     public WebMessageChannel createCompatWebMessageChannel() {
         String id = UUID.randomUUID().toString();
         WebMessageChannel webMessageChannel = new WebMessageChannel(id, this);
@@ -3067,6 +3386,23 @@ public final class InAppWebView
         webMessageChannels.clear();
     }
 
+    /**
+     * Starts receiving the bodies of intercepted requests held on the page, if needed.
+     * The receiver is available only on the pages loaded after this call.
+     */
+    public void prepareInterceptedRequestBodyTransfer() {
+        if (
+            interceptedRequestBodyTransfer == null &&
+            (customSettings.lazyInterceptedRequestBody ||
+                customSettings.interceptedRequestBodyInlineThreshold != null) &&
+            InterceptedRequestBodyTransfer.isSupported()
+        ) {
+            interceptedRequestBodyTransfer = new InterceptedRequestBodyTransfer(
+                this
+            );
+        }
+    }
+
     public void disposeWebMessageListeners() {
         for (WebMessageListener webMessageListener : webMessageListeners) {
             webMessageListener.dispose();
@@ -3244,6 +3580,12 @@ public final class InAppWebView
             }
         );
         interceptOnlyAsyncAjaxRequestsPluginScript = null;
+        onLoadResourceBatchDelayPluginScript = null;
+        consoleMessageMinimumLevelPluginScript = null;
+        lazyInterceptedRequestBodyPluginScript = null;
+        interceptedRequestBodyInlineThresholdPluginScript = null;
+        shouldInterceptAjaxRequestFilterPluginScript = null;
+        shouldInterceptFetchRequestFilterPluginScript = null;
         userContentController.dispose();
         if (findInteractionController != null) {
             findInteractionController.dispose();
@@ -3264,6 +3606,13 @@ public final class InAppWebView
         mHandler.removeCallbacksAndMessages(null);
         disposeWebMessageChannels();
         disposeWebMessageListeners();
+        screenshotPipeline.dispose();
+        thumbnailCaptureService.dispose();
+        fullPageScreenshotEngine.dispose();
+        if (interceptedRequestBodyTransfer != null) {
+            interceptedRequestBodyTransfer.dispose();
+            interceptedRequestBodyTransfer = null;
+        }
         removeAllViews();
         if (checkContextMenuShouldBeClosedTask != null) removeCallbacks(
             checkContextMenuShouldBeClosedTask
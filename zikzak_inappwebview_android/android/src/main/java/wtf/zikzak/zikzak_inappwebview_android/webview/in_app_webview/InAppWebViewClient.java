@@ -38,6 +38,7 @@ import wtf.zikzak.zikzak_inappwebview_android.Util;
 import wtf.zikzak.zikzak_inappwebview_android.credential_database.CredentialDatabase;
 import wtf.zikzak.zikzak_inappwebview_android.in_app_browser.InAppBrowserDelegate;
 import wtf.zikzak.zikzak_inappwebview_android.plugin_scripts_js.JavaScriptBridgeJS;
+import wtf.zikzak.zikzak_inappwebview_android.security.ZikZakSecurityManager;
 import wtf.zikzak.zikzak_inappwebview_android.types.ClientCertChallenge;
 import wtf.zikzak.zikzak_inappwebview_android.types.ClientCertResponse;
 import wtf.zikzak.zikzak_inappwebview_android.types.CustomSchemeResponse;
@@ -306,6 +307,8 @@ public class InAppWebViewClient extends WebViewClient {
     public void onPageFinished(WebView view, String url) {
         final InAppWebView webView = (InAppWebView) view;
         webView.isLoading = false;
+        webView.thumbnailCaptureService.invalidate();
+        webView.applyPendingScrollRestore();
         loadCustomJavaScriptOnPageFinished(webView);
         previousAuthRequestFailureCount = 0;
         credentialsProposed = null;
@@ -322,6 +325,9 @@ public class InAppWebViewClient extends WebViewClient {
         } else {
             CookieSyncManager.getInstance().sync();
         }
+        if (webView.plugin != null && webView.plugin.myCookieManager != null) {
+            webView.plugin.myCookieManager.onCookiesMayHaveChanged(url);
+        }
 
         String js = JavaScriptBridgeJS.PLATFORM_READY_JS_SOURCE;
 
@@ -336,6 +342,15 @@ public class InAppWebViewClient extends WebViewClient {
         }
     }
 
+    @Override
+    public void onLoadResource(WebView view, String url) {
+        final InAppWebView webView = (InAppWebView) view;
+        if (webView.plugin != null && webView.plugin.myCookieManager != null) {
+            webView.plugin.myCookieManager.onCookiesMayHaveChanged(url);
+        }
+        super.onLoadResource(view, url);
+    }
+
     @Override
     public void doUpdateVisitedHistory(
         WebView view,
@@ -484,11 +499,44 @@ public class InAppWebViewClient extends WebViewClient {
 
         previousAuthRequestFailureCount++;
 
-        if (credentialsProposed == null) credentialsProposed =
-            CredentialDatabase.getInstance(
-                view.getContext()
-            ).getHttpAuthCredentials(host, protocol, realm, port);
+        if (credentialsProposed != null) {
+            onReceivedHttpAuthRequest(view, handler, host, realm, protocol, port);
+            return;
+        }
+
+        // the credentials are read from the database in background if not cached
+        final String finalProtocol = protocol;
+        final int finalPort = port;
+        CredentialDatabase.getInstance(view.getContext()).getHttpAuthCredentials(
+            host,
+            protocol,
+            realm,
+            port,
+            new ValueCallback<List<URLCredential>>() {
+                @Override
+                public void onReceiveValue(List<URLCredential> credentials) {
+                    credentialsProposed = credentials;
+                    onReceivedHttpAuthRequest(
+                        view,
+                        handler,
+                        host,
+                        realm,
+                        finalProtocol,
+                        finalPort
+                    );
+                }
+            }
+        );
+    }
 
+    private void onReceivedHttpAuthRequest(
+        final WebView view,
+        final HttpAuthHandler handler,
+        final String host,
+        final String realm,
+        final String protocol,
+        final int port
+    ) {
         URLCredential credentialProposed = null;
         if (credentialsProposed != null && credentialsProposed.size() > 0) {
             credentialProposed = credentialsProposed.get(0);
@@ -528,7 +576,7 @@ public class InAppWebViewClient extends WebViewClient {
                                 if (permanentPersistence) {
                                     CredentialDatabase.getInstance(
                                         view.getContext()
-                                    ).setHttpAuthCredential(
+                                    ).setHttpAuthCredentialAsync(
                                         host,
                                         finalProtocol,
                                         realm,
@@ -909,6 +957,19 @@ public class InAppWebViewClient extends WebViewClient {
     ) {
         final InAppWebView webView = (InAppWebView) view;
 
+        // main-frame navigations are never blocked, otherwise the user would get a blank page
+        // instead of the site they explicitly asked for. Before Android 5.0 every request is
+        // reported as a main-frame one, so trackers are not blocked there.
+        ZikZakSecurityManager securityManager = ZikZakSecurityManager.getInstanceIfCreated();
+        if (securityManager != null && !request.isForMainFrame()) {
+            String blockedTracker = securityManager.findBlockedTracker(request.getUrl());
+            if (blockedTracker != null) {
+                webView.incrementBlockedTrackerRequestCount(blockedTracker);
+                // empty response, so that the request never reaches the network
+                return new WebResourceResponse("text/plain", "UTF-8", null);
+            }
+        }
+
         if (
             webView.webViewAssetLoaderExt != null &&
             webView.webViewAssetLoaderExt.loader != null
@@ -1123,6 +1184,7 @@ public class InAppWebViewClient extends WebViewClient {
         super.onPageCommitVisible(view, url);
 
         final InAppWebView webView = (InAppWebView) view;
+        webView.thumbnailCaptureService.invalidate();
         if (webView.channelDelegate != null) {
             webView.channelDelegate.onPageCommitVisible(url);
         }
@@ -149,6 +149,41 @@ public class InAppWebViewSettings implements ISettings<InAppWebViewInterface> {
     @Nullable
     public Set<String> requestedWithHeaderOriginAllowList;
 
+    public Integer onLoadResourceBatchDelay = 0;
+
+    @Nullable
+    public Map<String, Object> onScrollChangedThrottlingPolicy;
+
+    @Nullable
+    public Map<String, Object> onOverScrolledThrottlingPolicy;
+
+    @Nullable
+    public Map<String, Object> onProgressChangedThrottlingPolicy;
+
+    @Nullable
+    public Map<String, Object> onZoomScaleChangedThrottlingPolicy;
+
+    @Nullable
+    public Integer consoleMessageMinimumLevel;
+
+    public Integer consoleMessageBufferSize = 0;
+
+    public Integer consoleMessageBatchInterval = 250;
+
+    @Nullable
+    public Map<String, Object> shouldInterceptAjaxRequestFilter;
+
+    @Nullable
+    public Map<String, Object> shouldInterceptFetchRequestFilter;
+
+    public Boolean lazyInterceptedRequestBody = false;
+
+    @Nullable
+    public Integer interceptedRequestBodyInlineThreshold;
+
+    @Nullable
+    public Integer framePacingMaxFrameRate;
+
     @NonNull
     @Override
     public InAppWebViewSettings parse(@NonNull Map<String, Object> settings) {
@@ -435,6 +470,45 @@ public class InAppWebViewSettings implements ISettings<InAppWebViewInterface> {
                         (List<String>) value
                     );
                     break;
+                case "onLoadResourceBatchDelay":
+                    onLoadResourceBatchDelay = (Integer) value;
+                    break;
+                case "onScrollChangedThrottlingPolicy":
+                    onScrollChangedThrottlingPolicy = (Map<String, Object>) value;
+                    break;
+                case "onOverScrolledThrottlingPolicy":
+                    onOverScrolledThrottlingPolicy = (Map<String, Object>) value;
+                    break;
+                case "onProgressChangedThrottlingPolicy":
+                    onProgressChangedThrottlingPolicy = (Map<String, Object>) value;
+                    break;
+                case "onZoomScaleChangedThrottlingPolicy":
+                    onZoomScaleChangedThrottlingPolicy = (Map<String, Object>) value;
+                    break;
+                case "consoleMessageMinimumLevel":
+                    consoleMessageMinimumLevel = (Integer) value;
+                    break;
+                case "consoleMessageBufferSize":
+                    consoleMessageBufferSize = (Integer) value;
+                    break;
+                case "consoleMessageBatchInterval":
+                    consoleMessageBatchInterval = (Integer) value;
+                    break;
+                case "shouldInterceptAjaxRequestFilter":
+                    shouldInterceptAjaxRequestFilter = (Map<String, Object>) value;
+                    break;
+                case "shouldInterceptFetchRequestFilter":
+                    shouldInterceptFetchRequestFilter = (Map<String, Object>) value;
+                    break;
+                case "lazyInterceptedRequestBody":
+                    lazyInterceptedRequestBody = (Boolean) value;
+                    break;
+                case "interceptedRequestBodyInlineThreshold":
+                    interceptedRequestBodyInlineThreshold = (Integer) value;
+                    break;
+                case "framePacingMaxFrameRate":
+                    framePacingMaxFrameRate = (Integer) value;
+                    break;
             }
         }
 
@@ -599,6 +673,40 @@ public class InAppWebViewSettings implements ISettings<InAppWebViewInterface> {
                 ? new ArrayList<>(requestedWithHeaderOriginAllowList)
                 : null
         );
+        settings.put("onLoadResourceBatchDelay", onLoadResourceBatchDelay);
+        settings.put(
+            "onScrollChangedThrottlingPolicy",
+            onScrollChangedThrottlingPolicy
+        );
+        settings.put(
+            "onOverScrolledThrottlingPolicy",
+            onOverScrolledThrottlingPolicy
+        );
+        settings.put(
+            "onProgressChangedThrottlingPolicy",
+            onProgressChangedThrottlingPolicy
+        );
+        settings.put(
+            "onZoomScaleChangedThrottlingPolicy",
+            onZoomScaleChangedThrottlingPolicy
+        );
+        settings.put("consoleMessageMinimumLevel", consoleMessageMinimumLevel);
+        settings.put("consoleMessageBufferSize", consoleMessageBufferSize);
+        settings.put("consoleMessageBatchInterval", consoleMessageBatchInterval);
+        settings.put(
+            "shouldInterceptAjaxRequestFilter",
+            shouldInterceptAjaxRequestFilter
+        );
+        settings.put(
+            "shouldInterceptFetchRequestFilter",
+            shouldInterceptFetchRequestFilter
+        );
+        settings.put("lazyInterceptedRequestBody", lazyInterceptedRequestBody);
+        settings.put(
+            "interceptedRequestBodyInlineThreshold",
+            interceptedRequestBodyInlineThreshold
+        );
+        settings.put("framePacingMaxFrameRate", framePacingMaxFrameRate);
         return settings;
     }
 
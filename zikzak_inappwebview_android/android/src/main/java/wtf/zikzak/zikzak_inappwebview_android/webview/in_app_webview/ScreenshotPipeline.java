@@ -0,0 +1,254 @@
+package wtf.zikzak.zikzak_inappwebview_android.webview.in_app_webview;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import io.flutter.plugin.common.MethodChannel;
+import wtf.zikzak.zikzak_inappwebview_android.Util;
+import wtf.zikzak.zikzak_inappwebview_android.types.Disposable;
+
+/**
+ * Screenshot pipeline of {@link InAppWebView}.
+ * <p>
+ * Only the requested rect is drawn on the UI thread, into a pooled bitmap of the rect size,
+ * so no full view bitmap is allocated and cropped afterwards.
+ * Scaling and compression run on a background executor and the result is delivered on the main thread.
+ * The duration of each stage of the last screenshot is available with {@link #getLastTimings()}.
+ */
+public class ScreenshotPipeline implements Disposable {
+  protected static final String LOG_TAG = "ScreenshotPipeline";
+  private static final int MAX_POOLED_BITMAPS = 4;
+
+  static final ExecutorService executor = Executors.newSingleThreadExecutor();
+  private static final List<Bitmap> bitmapPool = new ArrayList<>();
+  // number of pipelines not yet disposed, the bitmap pool is shared by all of them
+  private static int activePipelineCount = 0;
+
+  @Nullable
+  private InAppWebView webView;
+  @NonNull
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+  @Nullable
+  private Map<String, Object> lastTimings;
+
+  public ScreenshotPipeline(@NonNull InAppWebView webView) {
+    this.webView = webView;
+    synchronized (bitmapPool) {
+      activePipelineCount++;
+    }
+  }
+
+  public void takeScreenshot(@Nullable final Map<String, Object> screenshotConfiguration,
+                             @NonNull final MethodChannel.Result result) {
+    if (webView == null) {
+      result.success(null);
+      return;
+    }
+    final long requestTime = SystemClock.elapsedRealtimeNanos();
+    webView.mainLooperHandler.post(new Runnable() {
+      @Override
+      public void run() {
+        if (webView == null) {
+          result.success(null);
+          return;
+        }
+        final float pixelDensity = Util.getPixelDensity(webView.getContext());
+        int viewWidth = webView.getMeasuredWidth();
+        int viewHeight = webView.getMeasuredHeight();
+        int rectX = 0;
+        int rectY = 0;
+        int rectWidth = viewWidth;
+        int rectHeight = viewHeight;
+        Double snapshotWidth = null;
+        Bitmap.CompressFormat compressFormat = Bitmap.CompressFormat.PNG;
+        int quality = 100;
+
+        if (screenshotConfiguration != null) {
+          Map<String, Double> rect = (Map<String, Double>) screenshotConfiguration.get("rect");
+          if (rect != null) {
+            rectX = Math.max(0, Math.min(viewWidth, (int) Math.floor(rect.get("x") * pixelDensity + 0.5)));
+            rectY = Math.max(0, Math.min(viewHeight, (int) Math.floor(rect.get("y") * pixelDensity + 0.5)));
+            rectWidth = Math.min(viewWidth - rectX, (int) Math.floor(rect.get("width") * pixelDensity + 0.5));
+            rectHeight = Math.min(viewHeight - rectY, (int) Math.floor(rect.get("height") * pixelDensity + 0.5));
+          }
+          snapshotWidth = (Double) screenshotConfiguration.get("snapshotWidth");
+          try {
+            compressFormat = Bitmap.CompressFormat.valueOf((String) screenshotConfiguration.get("compressFormat"));
+          } catch (IllegalArgumentException e) {
+            Log.e(LOG_TAG, "", e);
+          }
+          Integer configurationQuality = (Integer) screenshotConfiguration.get("quality");
+          if (configurationQuality != null) {
+            quality = configurationQuality;
+          }
+        }
+
+        if (rectWidth <= 0 || rectHeight <= 0) {
+          result.success(null);
+          return;
+        }
+
+        final long captureStartTime = SystemClock.elapsedRealtimeNanos();
+        final Bitmap capturedBitmap;
+        try {
+          capturedBitmap = acquireBitmap(rectWidth, rectHeight);
+        } catch (OutOfMemoryError e) {
+          Log.e(LOG_TAG, "", e);
+          result.success(null);
+          return;
+        }
+        Canvas canvas = new Canvas(capturedBitmap);
+        canvas.translate(-webView.getScrollX() - rectX, -webView.getScrollY() - rectY);
+        webView.draw(canvas);
+        final long captureEndTime = SystemClock.elapsedRealtimeNanos();
+
+        final int dstWidth = snapshotWidth != null ? (int) Math.floor(snapshotWidth * pixelDensity + 0.5) : 0;
+        final Bitmap.CompressFormat finalCompressFormat = compressFormat;
+        final int finalQuality = quality;
+        executor.execute(new Runnable() {
+          @Override
+          public void run() {
+            byte[] screenshot = null;
+            Bitmap bitmap = capturedBitmap;
+            long scaleEndTime = SystemClock.elapsedRealtimeNanos();
+            long compressEndTime = scaleEndTime;
+            try {
+              if (dstWidth > 0) {
+                float ratioBitmap = (float) bitmap.getWidth() / (float) bitmap.getHeight();
+                int dstHeight = Math.max(1, (int) ((float) dstWidth / ratioBitmap));
+                bitmap = Bitmap.createScaledBitmap(capturedBitmap, dstWidth, dstHeight, true);
+                if (bitmap != capturedBitmap) {
+                  releaseBitmap(capturedBitmap);
+                }
+              }
+              scaleEndTime = SystemClock.elapsedRealtimeNanos();
+
+              ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+              bitmap.compress(finalCompressFormat, finalQuality, byteArrayOutputStream);
+              screenshot = byteArrayOutputStream.toByteArray();
+              compressEndTime = SystemClock.elapsedRealtimeNanos();
+            } catch (IllegalArgumentException | OutOfMemoryError e) {
+              Log.e(LOG_TAG, "", e);
+            } finally {
+              if (bitmap == capturedBitmap) {
+                releaseBitmap(capturedBitmap);
+              } else {
+                bitmap.recycle();
+              }
+            }
+
+            final byte[] finalScreenshot = screenshot;
+            final Map<String, Object> timings = new HashMap<>();
+            timings.put("queueDuration", toMillis(captureStartTime - requestTime));
+            timings.put("captureDuration", toMillis(captureEndTime - captureStartTime));
+            timings.put("scaleDuration", toMillis(scaleEndTime - captureEndTime));
+            timings.put("compressDuration", toMillis(compressEndTime - scaleEndTime));
+            timings.put("totalDuration", toMillis(compressEndTime - requestTime));
+            mainHandler.post(new Runnable() {
+              @Override
+              public void run() {
+                if (finalScreenshot != null) {
+                  lastTimings = timings;
+                }
+                result.success(finalScreenshot);
+              }
+            });
+          }
+        });
+      }
+    });
+  }
+
+  /**
+   * @return the duration in milliseconds of each stage of the last successful screenshot.
+   */
+  @Nullable
+  public Map<String, Object> getLastTimings() {
+    return lastTimings;
+  }
+
+  private static double toMillis(long nanos) {
+    return nanos / 1000000.0;
+  }
+
+  /**
+   * @return a pooled bitmap of the given size, cleared, or a new one.
+   */
+  @NonNull
+  static Bitmap acquireBitmap(int width, int height) {
+    synchronized (bitmapPool) {
+      for (int i = 0; i < bitmapPool.size(); i++) {
+        Bitmap bitmap = bitmapPool.get(i);
+        if (bitmap.getWidth() == width && bitmap.getHeight() == height) {
+          bitmapPool.remove(i);
+          bitmap.eraseColor(Color.TRANSPARENT);
+          return bitmap;
+        }
+      }
+    }
+    return Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+  }
+
+  /**
+   * Gives back a bitmap to the pool. The oldest pooled bitmap is recycled if the pool is full.
+   */
+  static void releaseBitmap(@NonNull Bitmap bitmap) {
+    if (bitmap.isRecycled()) {
+      return;
+    }
+    Bitmap evicted = null;
+    synchronized (bitmapPool) {
+      if (bitmapPool.size() >= MAX_POOLED_BITMAPS) {
+        evicted = bitmapPool.remove(0);
+      }
+      bitmapPool.add(bitmap);
+    }
+    if (evicted != null) {
+      evicted.recycle();
+    }
+  }
+
+  /**
+   * Releases the pooled bitmaps, e.g. when the system is low on memory.
+   * They are also released when the last pipeline is disposed.
+   */
+  public static void clearBitmapPool() {
+    synchronized (bitmapPool) {
+      for (Bitmap bitmap : bitmapPool) {
+        bitmap.recycle();
+      }
+      bitmapPool.clear();
+    }
+  }
+
+  @Override
+  public void dispose() {
+    if (webView == null) {
+      return;
+    }
+    webView = null;
+    boolean isLastPipeline;
+    synchronized (bitmapPool) {
+      isLastPipeline = --activePipelineCount == 0;
+    }
+    if (isLastPipeline) {
+      clearBitmapPool();
+    }
+  }
+}
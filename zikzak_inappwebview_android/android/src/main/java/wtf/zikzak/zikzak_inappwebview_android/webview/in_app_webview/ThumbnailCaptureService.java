@@ -0,0 +1,200 @@
+package wtf.zikzak.zikzak_inappwebview_android.webview.in_app_webview;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import wtf.zikzak.zikzak_inappwebview_android.Util;
+import wtf.zikzak.zikzak_inappwebview_android.types.Disposable;
+
+/**
+ * Keeps an up-to-date, downscaled and compressed thumbnail of an {@link InAppWebView}.
+ * <p>
+ * A new thumbnail is captured only after a visual change ({@link #invalidate()}),
+ * once the WebView has been idle for a short delay and at most once per minimum interval.
+ * The WebView is drawn directly at the thumbnail size into a pooled bitmap,
+ * and the compression runs on a background thread shared by all the WebViews.
+ */
+public class ThumbnailCaptureService implements Disposable {
+  protected static final String LOG_TAG = "ThumbnailCapture";
+  /**
+   * Delay without visual changes, e.g. while scrolling, before capturing a thumbnail.
+   */
+  private static final long IDLE_DELAY = 300;
+
+  private static final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+  @Nullable
+  private InAppWebView webView;
+  @NonNull
+  private final Handler handler = new Handler(Looper.getMainLooper());
+
+  private boolean running = false;
+  private double width = 160;
+  private long minimumInterval = 1000;
+  @NonNull
+  private Bitmap.CompressFormat compressFormat = Bitmap.CompressFormat.JPEG;
+  private int quality = 70;
+
+  private boolean dirty = false;
+  private boolean capturing = false;
+  private long lastCaptureTime = 0;
+  @Nullable
+  private Map<String, Object> thumbnail;
+
+  private final Runnable captureRunnable = new Runnable() {
+    @Override
+    public void run() {
+      capture();
+    }
+  };
+
+  public ThumbnailCaptureService(@NonNull InAppWebView webView) {
+    this.webView = webView;
+  }
+
+  public void start(@Nullable Map<String, Object> configuration) {
+    if (configuration != null) {
+      Double configurationWidth = (Double) configuration.get("width");
+      if (configurationWidth != null && configurationWidth > 0) {
+        width = configurationWidth;
+      }
+      Integer configurationMinimumInterval = (Integer) configuration.get("minimumInterval");
+      if (configurationMinimumInterval != null) {
+        minimumInterval = Math.max(0, configurationMinimumInterval);
+      }
+      try {
+        compressFormat = Bitmap.CompressFormat.valueOf((String) configuration.get("compressFormat"));
+      } catch (IllegalArgumentException | NullPointerException e) {
+        Log.e(LOG_TAG, "", e);
+      }
+      Integer configurationQuality = (Integer) configuration.get("quality");
+      if (configurationQuality != null) {
+        quality = configurationQuality;
+      }
+    }
+    running = true;
+    invalidate();
+  }
+
+  public void stop() {
+    running = false;
+    dirty = false;
+    handler.removeCallbacks(captureRunnable);
+  }
+
+  public boolean isRunning() {
+    return running;
+  }
+
+  /**
+   * Notifies a visual change of the WebView, e.g. a page commit or a scroll.
+   */
+  public void invalidate() {
+    if (!running) {
+      return;
+    }
+    dirty = true;
+    if (capturing) {
+      // the capture in progress reschedules itself
+      return;
+    }
+    handler.removeCallbacks(captureRunnable);
+    long wait = Math.max(IDLE_DELAY, lastCaptureTime + minimumInterval - SystemClock.uptimeMillis());
+    handler.postDelayed(captureRunnable, wait);
+  }
+
+  /**
+   * @return the last captured thumbnail, or {@code null} if none has been captured yet.
+   */
+  @Nullable
+  public Map<String, Object> getThumbnail() {
+    return thumbnail;
+  }
+
+  private void capture() {
+    if (!running || !dirty || webView == null) {
+      return;
+    }
+    int viewWidth = webView.getWidth();
+    int viewHeight = webView.getHeight();
+    if (viewWidth <= 0 || viewHeight <= 0 || !webView.isAttachedToWindow()) {
+      // capture again on the next visual change
+      return;
+    }
+    float pixelDensity = Util.getPixelDensity(webView.getContext());
+    final int thumbnailWidth = Math.min(viewWidth, Math.max(1, (int) Math.floor(width * pixelDensity + 0.5)));
+    final int thumbnailHeight = Math.max(1, (int) ((long) viewHeight * thumbnailWidth / viewWidth));
+    final float scale = (float) thumbnailWidth / viewWidth;
+
+    final Bitmap bitmap;
+    try {
+      bitmap = ScreenshotPipeline.acquireBitmap(thumbnailWidth, thumbnailHeight);
+    } catch (OutOfMemoryError e) {
+      Log.e(LOG_TAG, "", e);
+      return;
+    }
+    Canvas canvas = new Canvas(bitmap);
+    canvas.scale(scale, scale);
+    canvas.translate(-webView.getScrollX(), -webView.getScrollY());
+    webView.draw(canvas);
+
+    dirty = false;
+    capturing = true;
+    lastCaptureTime = SystemClock.uptimeMillis();
+    final Bitmap.CompressFormat finalCompressFormat = compressFormat;
+    final int finalQuality = quality;
+    executor.execute(new Runnable() {
+      @Override
+      public void run() {
+        byte[] data = null;
+        try {
+          ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+          bitmap.compress(finalCompressFormat, finalQuality, byteArrayOutputStream);
+          data = byteArrayOutputStream.toByteArray();
+        } catch (IllegalArgumentException | OutOfMemoryError e) {
+          Log.e(LOG_TAG, "", e);
+        } finally {
+          ScreenshotPipeline.releaseBitmap(bitmap);
+        }
+        final byte[] finalData = data;
+        handler.post(new Runnable() {
+          @Override
+          public void run() {
+            capturing = false;
+            if (finalData != null && running) {
+              Map<String, Object> newThumbnail = new HashMap<>();
+              newThumbnail.put("data", finalData);
+              newThumbnail.put("width", thumbnailWidth);
+              newThumbnail.put("height", thumbnailHeight);
+              newThumbnail.put("captureTime", System.currentTimeMillis());
+              thumbnail = newThumbnail;
+            }
+            if (dirty) {
+              invalidate();
+            }
+          }
+        });
+      }
+    });
+  }
+
+  @Override
+  public void dispose() {
+    stop();
+    thumbnail = null;
+    webView = null;
+  }
+}
@@ -0,0 +1,170 @@
+package wtf.zikzak.zikzak_inappwebview_android.webview.in_app_webview;
+
+import android.content.Context;
+import android.content.MutableContextWrapper;
+import android.hardware.display.DisplayManager;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.util.Log;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import wtf.zikzak.zikzak_inappwebview_android.InAppWebViewFlutterPlugin;
+import wtf.zikzak.zikzak_inappwebview_android.Util;
+import wtf.zikzak.zikzak_inappwebview_android.types.Disposable;
+import wtf.zikzak.zikzak_inappwebview_android.types.UserScript;
+
+/**
+ * Pool of {@link InAppWebView}s created and prepared in advance with base settings,
+ * so that a new {@link FlutterWebView} doesn't pay the WebView construction
+ * (and the Chromium initialization for the first one) on its creation.
+ * <p>
+ * WebViews are created on the main thread only when its message queue is idle,
+ * one per idle callback, and the pool is refilled the same way after each hand-out.
+ */
+public class WarmWebViewPool implements Disposable {
+  protected static final String LOG_TAG = "WarmWebViewPool";
+  private static final String ID_PREFIX = "warm_pool_";
+
+  @Nullable
+  private InAppWebViewFlutterPlugin plugin;
+  @NonNull
+  private final List<InAppWebView> webViews = new ArrayList<>();
+  private int size = 0;
+  @NonNull
+  private Map<String, Object> settingsMap = new HashMap<>();
+  @NonNull
+  private InAppWebViewSettings settings = new InAppWebViewSettings();
+  private boolean refillScheduled = false;
+  private int autoincrementId = 0;
+
+  private final MessageQueue.IdleHandler refillIdleHandler = new MessageQueue.IdleHandler() {
+    @Override
+    public boolean queueIdle() {
+      if (plugin == null || webViews.size() >= size) {
+        refillScheduled = false;
+        return false;
+      }
+      try {
+        webViews.add(createWebView(plugin));
+      } catch (Exception e) {
+        Log.e(LOG_TAG, "", e);
+        refillScheduled = false;
+        return false;
+      }
+      refillScheduled = webViews.size() < size;
+      return refillScheduled;
+    }
+  };
+
+  public WarmWebViewPool(@NonNull InAppWebViewFlutterPlugin plugin) {
+    this.plugin = plugin;
+  }
+
+  /**
+   * Sets the number of WebViews to keep ready and the settings they are created with.
+   * The WebViews already created with different settings are destroyed.
+   */
+  public void configure(int size, @Nullable Map<String, Object> settingsMap) {
+    Map<String, Object> newSettingsMap = settingsMap != null ? settingsMap : new HashMap<String, Object>();
+    if (!newSettingsMap.equals(this.settingsMap)) {
+      clear();
+      this.settingsMap = newSettingsMap;
+      this.settings = new InAppWebViewSettings();
+      this.settings.parse(newSettingsMap);
+    }
+    this.size = Math.max(0, size);
+    while (webViews.size() > this.size) {
+      webViews.remove(webViews.size() - 1).dispose();
+    }
+    scheduleRefill();
+  }
+
+  public int getSize() {
+    return size;
+  }
+
+  public int getAvailableCount() {
+    return webViews.size();
+  }
+
+  /**
+   * @return a prepared WebView attached to the given context, or {@code null} if none is available
+   * or if the pooled WebViews are not compatible with the given settings.
+   */
+  @Nullable
+  public InAppWebView acquire(@NonNull Context context, @NonNull InAppWebViewSettings customSettings) {
+    if (webViews.isEmpty()) {
+      scheduleRefill();
+      return null;
+    }
+    // the composition mode is applied on the WebView construction
+    if (!Util.objEquals(settings.useHybridComposition, customSettings.useHybridComposition)) {
+      return null;
+    }
+    InAppWebView webView = webViews.remove(0);
+    Context webViewContext = webView.getContext();
+    if (webViewContext instanceof MutableContextWrapper) {
+      ((MutableContextWrapper) webViewContext).setBaseContext(context);
+    }
+    scheduleRefill();
+    return webView;
+  }
+
+  private void scheduleRefill() {
+    if (refillScheduled || plugin == null || webViews.size() >= size) {
+      return;
+    }
+    refillScheduled = true;
+    Looper.myQueue().addIdleHandler(refillIdleHandler);
+  }
+
+  @NonNull
+  private InAppWebView createWebView(@NonNull InAppWebViewFlutterPlugin plugin) {
+    // the application context is used so that a pooled WebView doesn't keep a destroyed Activity alive,
+    // it is replaced with the context of the platform view when the WebView is acquired
+    Context baseContext = plugin.applicationContext != null ? plugin.applicationContext : plugin.activity;
+    MutableContextWrapper context = new MutableContextWrapper(baseContext);
+
+    DisplayListenerProxy displayListenerProxy = new DisplayListenerProxy();
+    DisplayManager displayManager = (DisplayManager) context.getSystemService(Context.DISPLAY_SERVICE);
+    displayListenerProxy.onPreWebViewInitialization(displayManager);
+
+    InAppWebViewSettings customSettings = new InAppWebViewSettings();
+    customSettings.parse(settingsMap);
+    InAppWebView webView = new InAppWebView(context, plugin, ID_PREFIX + (++autoincrementId), null,
+            customSettings, null, null, new ArrayList<UserScript>());
+    displayListenerProxy.onPostWebViewInitialization(displayManager);
+
+    webView.setLayoutParams(new FrameLayout.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT));
+    webView.prepare();
+    return webView;
+  }
+
+  /**
+   * Destroys the WebViews of the pool. The pool is refilled on the next acquisition.
+   */
+  public void clear() {
+    for (InAppWebView webView : webViews) {
+      webView.dispose();
+    }
+    webViews.clear();
+  }
+
+  @Override
+  public void dispose() {
+    Looper.myQueue().removeIdleHandler(refillIdleHandler);
+    refillScheduled = false;
+    size = 0;
+    clear();
+    plugin = null;
+  }
+}
@@ -0,0 +1,145 @@
+package wtf.zikzak.zikzak_inappwebview_android;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+
+import wtf.zikzak.zikzak_inappwebview_android.types.Cookie;
+
+/**
+ * Compares {@link CookieParser} with the previous split-based parsing of {@code MyCookieManager.getCookies}
+ * over real-world cookie strings, repeated to get a site with 96 cookies.
+ * The timings are printed, only the parsed names and values are asserted.
+ */
+public class CookieParserBenchmarkTest {
+  private static final String[] REAL_WORLD_COOKIES = {
+          "NID=511=dGhpcyBpcyBub3QgYSByZWFsIGNvb2tpZSB2YWx1ZQ; Expires=Sat, 18 Apr 2026 14:05:12 GMT; Path=/; Domain=.google.com; HttpOnly; SameSite=None; Secure",
+          "1P_JAR=2025-10-19-14; Expires=Tue, 18 Nov 2025 14:05:12 GMT; Path=/; Domain=.google.com; SameSite=None; Secure",
+          "AEC=Ackid1Q2w3e4r5t6y7u8i9o0p; Expires=Fri, 17 Apr 2026 14:05:12 GMT; Path=/; Domain=.google.com; HttpOnly; SameSite=Lax; Secure",
+          "fr=0abcDEF123.AWX_yz.Bk1.AbC.AAA.0.0.Bk1.AWXyz; Expires=Sat, 17 Jan 2026 14:05:12 GMT; Path=/; Domain=.facebook.com; HttpOnly; SameSite=None; Secure",
+          "datr=q1w2e3r4t5y6u7i8o9p0; Expires=Mon, 23 Nov 2026 14:05:12 GMT; Path=/; Domain=.facebook.com; HttpOnly; SameSite=None; Secure",
+          "__cf_bm=Xy1.Zw2-1697724312-0-AbCdEfGhIjKlMnOpQrStUvWxYz0123456789+/=; Expires=Sun, 19 Oct 2025 14:35:12 GMT; Path=/; Domain=.example.com; HttpOnly; SameSite=None; Secure",
+          "_ga=GA1.1.1234567890.1697724312; Expires=Tue, 23 Nov 2027 14:05:12 GMT; Path=/; Domain=.example.com; SameSite=Lax",
+          "_ga_ABC123XYZ=GS1.1.1697724312.1.1.1697724400.0.0.0; Expires=Tue, 23 Nov 2027 14:05:12 GMT; Path=/; Domain=.example.com; SameSite=Lax",
+          "session=\"eyJ1c2VyIjoxMjM0NX0.ZTA1Mw.abc-def_ghi\"; Path=/; HttpOnly; Secure; SameSite=Strict",
+          "csrftoken=k9L8m7N6b5V4c3X2z1A0s9D8f7G6h5J4; Max-Age=31449600; Path=/; SameSite=Lax; Secure",
+          "lang=en-US; Path=/",
+          "consent=YES+cb.20231019-14-p0.en+FX+123; Expires=Thu, 01 Jan 2026 00:00:00 GMT; Path=/; Domain=.example.com; Secure",
+  };
+  private static final int COOKIES_PER_SITE = 96;
+  private static final int WARMUP_ITERATIONS = 2000;
+  private static final int ITERATIONS = 5000;
+
+  @Test
+  public void benchmarkParseCookieInfo() {
+    List<String> cookieInfo = new ArrayList<>(COOKIES_PER_SITE);
+    for (int i = 0; i < COOKIES_PER_SITE; i++) {
+      cookieInfo.add(REAL_WORLD_COOKIES[i % REAL_WORLD_COOKIES.length]);
+    }
+
+    List<Cookie> cookies = CookieParser.parseCookieInfo(cookieInfo);
+    List<Map<String, Object>> legacyCookies = legacyParse(cookieInfo);
+    assertEquals(legacyCookies.size(), cookies.size());
+    for (int i = 0; i < cookies.size(); i++) {
+      assertEquals(legacyCookies.get(i).get("name"), cookies.get(i).getName());
+      assertEquals(legacyCookies.get(i).get("value"), cookies.get(i).getValue());
+      assertEquals(legacyCookies.get(i).get("domain"), cookies.get(i).getDomain());
+      assertEquals(legacyCookies.get(i).get("path"), cookies.get(i).getPath());
+    }
+
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      consume(CookieParser.parseCookieInfo(cookieInfo));
+      consume(legacyParse(cookieInfo));
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      consume(CookieParser.parseCookieInfo(cookieInfo));
+    }
+    long parserTime = System.nanoTime() - start;
+    start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      consume(legacyParse(cookieInfo));
+    }
+    long legacyTime = System.nanoTime() - start;
+
+    System.out.println(String.format(Locale.US,
+            "CookieParser: %.1f us per site of %d cookies, split-based parser: %.1f us (%.1fx)",
+            parserTime / 1000.0 / ITERATIONS, COOKIES_PER_SITE, legacyTime / 1000.0 / ITERATIONS,
+            (double) legacyTime / parserTime));
+  }
+
+  private int sink;
+
+  private void consume(List<?> cookies) {
+    sink += cookies.size();
+  }
+
+  // The parsing of MyCookieManager.getCookies before CookieParser, with a new date parser per call.
+  private static List<Map<String, Object>> legacyParse(List<String> cookies) {
+    SimpleDateFormat expiresDateParser = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss z", Locale.US);
+    expiresDateParser.setTimeZone(TimeZone.getTimeZone("GMT"));
+    List<Map<String, Object>> cookieListMap = new ArrayList<>();
+    for (String cookie : cookies) {
+      String[] cookieParams = cookie.split(";");
+      if (cookieParams.length == 0) continue;
+
+      String[] nameValue = cookieParams[0].split("=", 2);
+      String name = nameValue[0].trim();
+      String value = (nameValue.length > 1) ? nameValue[1].trim() : "";
+
+      Map<String, Object> cookieMap = new HashMap<>();
+      cookieMap.put("name", name);
+      cookieMap.put("value", value);
+      cookieMap.put("expiresDate", null);
+      cookieMap.put("isSessionOnly", null);
+      cookieMap.put("domain", null);
+      cookieMap.put("sameSite", null);
+      cookieMap.put("isSecure", false);
+      cookieMap.put("isHttpOnly", false);
+      cookieMap.put("path", null);
+
+      for (int i = 1; i < cookieParams.length; i++) {
+        String[] cookieParamNameValue = cookieParams[i].split("=", 2);
+        String cookieParamName = cookieParamNameValue[0].trim();
+        String cookieParamValue = (cookieParamNameValue.length > 1) ? cookieParamNameValue[1].trim() : "";
+
+        if (cookieParamName.equalsIgnoreCase("Expires")) {
+          try {
+            Date expiryDate = expiresDateParser.parse(cookieParamValue);
+            if (expiryDate != null) {
+              cookieMap.put("expiresDate", expiryDate.getTime());
+            }
+          } catch (ParseException ignored) {
+          }
+        } else if (cookieParamName.equalsIgnoreCase("Max-Age")) {
+          try {
+            cookieMap.put("expiresDate", System.currentTimeMillis() + Long.parseLong(cookieParamValue) * 1000);
+          } catch (NumberFormatException ignored) {
+          }
+        } else if (cookieParamName.equalsIgnoreCase("Domain")) {
+          cookieMap.put("domain", cookieParamValue);
+        } else if (cookieParamName.equalsIgnoreCase("SameSite")) {
+          cookieMap.put("sameSite", cookieParamValue);
+        } else if (cookieParamName.equalsIgnoreCase("Secure")) {
+          cookieMap.put("isSecure", true);
+        } else if (cookieParamName.equalsIgnoreCase("HttpOnly")) {
+          cookieMap.put("isHttpOnly", true);
+        } else if (cookieParamName.equalsIgnoreCase("Path")) {
+          cookieMap.put("path", cookieParamValue);
+        }
+      }
+      cookieListMap.add(cookieMap);
+    }
+    return cookieListMap;
+  }
+}
@@ -0,0 +1,155 @@
+package wtf.zikzak.zikzak_inappwebview_android;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import wtf.zikzak.zikzak_inappwebview_android.types.Cookie;
+
+public class CookieParserTest {
+
+  // Wed, 21 Oct 2015 19:28:00 GMT
+  private static final long PM_EXPIRES_DATE = 1445455680000L;
+
+  private static Cookie parseOne(String cookieString) {
+    List<Cookie> cookies = CookieParser.parseCookieInfo(Collections.singletonList(cookieString));
+    assertEquals(1, cookies.size());
+    return cookies.get(0);
+  }
+
+  @Test
+  public void parsesAllAttributes() {
+    Cookie cookie = parseOne("SID=31d4d96e407aad42; Path=/; Domain=example.com; Secure; HttpOnly; SameSite=Lax");
+    assertEquals("SID", cookie.getName());
+    assertEquals("31d4d96e407aad42", cookie.getValue());
+    assertEquals("/", cookie.getPath());
+    assertEquals("example.com", cookie.getDomain());
+    assertEquals("Lax", cookie.getSameSite());
+    assertTrue(cookie.getSecure());
+    assertTrue(cookie.getHttpOnly());
+    assertNull(cookie.getExpiresDate());
+  }
+
+  @Test
+  public void attributeNamesAreCaseInsensitive() {
+    Cookie cookie = parseOne("a=b;path=/docs;DOMAIN=example.com;secure;httponly");
+    assertEquals("/docs", cookie.getPath());
+    assertEquals("example.com", cookie.getDomain());
+    assertTrue(cookie.getSecure());
+    assertTrue(cookie.getHttpOnly());
+  }
+
+  @Test
+  public void flagsDefaultToFalse() {
+    Cookie cookie = parseOne("a=b; Path=/");
+    assertFalse(cookie.getSecure());
+    assertFalse(cookie.getHttpOnly());
+  }
+
+  @Test
+  public void parsesExpiresInPmHours() {
+    Cookie cookie = parseOne("id=a3fWa; Expires=Wed, 21 Oct 2015 19:28:00 GMT; Path=/");
+    assertEquals(Long.valueOf(PM_EXPIRES_DATE), cookie.getExpiresDate());
+  }
+
+  @Test
+  public void formatsExpiresInPmHours() {
+    assertEquals("Wed, 21 Oct 2015 19:28:00 GMT", CookieParser.formatExpiresDate(PM_EXPIRES_DATE));
+    assertEquals(Long.valueOf(PM_EXPIRES_DATE),
+            CookieParser.parseExpiresDate(CookieParser.formatExpiresDate(PM_EXPIRES_DATE)));
+  }
+
+  @Test
+  public void reusesTheLastParsedExpiresDate() {
+    List<Cookie> cookies = CookieParser.parseCookieInfo(Arrays.asList(
+            "a=1; Expires=Wed, 21 Oct 2015 19:28:00 GMT",
+            "b=2; Expires=Wed, 21 Oct 2015 19:28:00 GMT",
+            "c=3; Expires=Thu, 01 Jan 2015 00:00:00 GMT"));
+    assertEquals(Long.valueOf(PM_EXPIRES_DATE), cookies.get(0).getExpiresDate());
+    assertEquals(Long.valueOf(PM_EXPIRES_DATE), cookies.get(1).getExpiresDate());
+    assertEquals(Long.valueOf(1420070400000L), cookies.get(2).getExpiresDate());
+  }
+
+  @Test
+  public void ignoresAnInvalidExpiresDate() {
+    Cookie cookie = parseOne("a=b; Expires=not a date");
+    assertNull(cookie.getExpiresDate());
+  }
+
+  @Test
+  public void readsMaxAgeAsSeconds() {
+    long before = System.currentTimeMillis();
+    Cookie cookie = parseOne("a=b; Max-Age=3600");
+    long after = System.currentTimeMillis();
+    long expiresDate = cookie.getExpiresDate();
+    assertTrue(expiresDate >= before + 3600 * 1000);
+    assertTrue(expiresDate <= after + 3600 * 1000);
+  }
+
+  @Test
+  public void ignoresAnInvalidMaxAge() {
+    Cookie cookie = parseOne("a=b; Max-Age=soon");
+    assertNull(cookie.getExpiresDate());
+  }
+
+  @Test
+  public void keepsQuotedValues() {
+    Cookie cookie = parseOne("lang=\"en-US\"; Path=/");
+    assertEquals("lang", cookie.getName());
+    assertEquals("\"en-US\"", cookie.getValue());
+  }
+
+  @Test
+  public void keepsEqualSignsInValues() {
+    Cookie cookie = parseOne("token=YWJjZA==; Path=/");
+    assertEquals("token", cookie.getName());
+    assertEquals("YWJjZA==", cookie.getValue());
+    cookie = parseOne("q=a=b=c");
+    assertEquals("a=b=c", cookie.getValue());
+  }
+
+  @Test
+  public void parsesAnEmptyValue() {
+    Cookie cookie = parseOne("empty=; Path=/");
+    assertEquals("empty", cookie.getName());
+    assertEquals("", cookie.getValue());
+  }
+
+  @Test
+  public void skipsCookiesWithoutName() {
+    assertTrue(CookieParser.parseCookieInfo(Collections.singletonList("=value; Path=/")).isEmpty());
+  }
+
+  @Test
+  public void parsesCookieHeader() {
+    List<Cookie> cookies = CookieParser.parseCookieHeader("a=1; b=x=y; c; d=\"q\"");
+    assertEquals(4, cookies.size());
+    assertEquals("1", cookies.get(0).getValue());
+    assertEquals("x=y", cookies.get(1).getValue());
+    assertEquals("c", cookies.get(2).getName());
+    assertEquals("", cookies.get(2).getValue());
+    assertEquals("\"q\"", cookies.get(3).getValue());
+    // without attributes, the flags are unknown
+    assertNull(cookies.get(0).getSecure());
+    assertNull(cookies.get(0).getHttpOnly());
+  }
+
+  @Test
+  public void parsesNullCookieHeader() {
+    assertTrue(CookieParser.parseCookieHeader(null).isEmpty());
+  }
+
+  @Test
+  public void encodesCookieAsList() {
+    Cookie cookie = parseOne("SID=31; Expires=Wed, 21 Oct 2015 19:28:00 GMT; Domain=example.com; SameSite=Strict; Secure; Path=/");
+    assertEquals(Arrays.<Object>asList("SID", "31", PM_EXPIRES_DATE, "example.com", "Strict", true, false, "/"),
+            cookie.toList());
+  }
+}
@@ -57,7 +57,24 @@ class AndroidCookieManager extends PlatformCookieManager
     return _instance!;
   }
 
-  Future<dynamic> _handleMethod(MethodCall call) async {}
+  void Function(List<CookieChange> changes)? _onCookiesChanged;
+
+  Future<dynamic> _handleMethod(MethodCall call) async {
+    switch (call.method) {
+      case "onCookiesChanged":
+        if (_onCookiesChanged != null) {
+          List<CookieChange> changes = (call.arguments["changes"] as List)
+              .map((change) =>
+                  CookieChange.fromMap(change.cast<String, dynamic>())!)
+              .toList();
+          _onCookiesChanged!(changes);
+        }
+        break;
+      default:
+        throw UnimplementedError("Unimplemented ${call.method} method");
+    }
+    return null;
+  }
 
   @override
   Future<bool> setCookie(
@@ -94,6 +111,32 @@ class AndroidCookieManager extends PlatformCookieManager
     return await channel?.invokeMethod<bool>('setCookie', args) ?? false;
   }
 
+  @override
+  Future<bool> setCookies({required Map<WebUri, List<Cookie>> cookies}) async {
+    List<Map<String, dynamic>> cookieList = [];
+    cookies.forEach((url, urlCookies) {
+      assert(url.toString().isNotEmpty);
+      for (final cookie in urlCookies) {
+        assert(cookie.name.isNotEmpty);
+        cookieList.add({
+          'url': url.toString(),
+          'name': cookie.name,
+          'value': cookie.value?.toString(),
+          'domain': cookie.domain,
+          'path': cookie.path,
+          'expiresDate': cookie.expiresDate?.toString(),
+          'isSecure': cookie.isSecure,
+          'isHttpOnly': cookie.isHttpOnly,
+          'sameSite': cookie.sameSite?.toNativeValue(),
+        });
+      }
+    });
+
+    Map<String, dynamic> args = <String, dynamic>{};
+    args.putIfAbsent('cookies', () => cookieList);
+    return await channel?.invokeMethod<bool>('setCookies', args) ?? false;
+  }
+
   @override
   Future<List<Cookie>> getCookies(
       {required WebUri url,
@@ -106,26 +149,33 @@ class AndroidCookieManager extends PlatformCookieManager
 
     Map<String, dynamic> args = <String, dynamic>{};
     args.putIfAbsent('url', () => url.toString());
-    List<dynamic> cookieListMap =
+    List<dynamic> cookieList =
         await channel?.invokeMethod<List>('getCookies', args) ?? [];
-    cookieListMap = cookieListMap.cast<Map<dynamic, dynamic>>();
-
-    cookieListMap.forEach((cookieMap) {
-      cookies.add(Cookie(
-          name: cookieMap["name"],
-          value: cookieMap["value"],
-          expiresDate: cookieMap["expiresDate"],
-          isSessionOnly: cookieMap["isSessionOnly"],
-          domain: cookieMap["domain"],
-          sameSite:
-              HTTPCookieSameSitePolicy.fromNativeValue(cookieMap["sameSite"]),
-          isSecure: cookieMap["isSecure"],
-          isHttpOnly: cookieMap["isHttpOnly"],
-          path: cookieMap["path"]));
+
+    cookieList.forEach((cookieData) {
+      cookies.add(_cookieFromList(cookieData));
     });
     return cookies;
   }
 
+  @override
+  Future<Map<WebUri, List<Cookie>>> getAllCookiesForUrls(
+      {required List<WebUri> urls}) async {
+    Map<WebUri, List<Cookie>> cookies = {};
+
+    Map<String, dynamic> args = <String, dynamic>{};
+    args.putIfAbsent('urls', () => urls.map((url) => url.toString()).toList());
+    Map<dynamic, dynamic> cookiesMap =
+        await channel?.invokeMethod<Map>('getAllCookiesForUrls', args) ?? {};
+
+    for (final url in urls) {
+      List<dynamic> cookieList = cookiesMap[url.toString()] ?? [];
+      cookies[url] =
+          cookieList.map((cookieData) => _cookieFromList(cookieData)).toList();
+    }
+    return cookies;
+  }
+
   @override
   Future<Cookie?> getCookie(
       {required WebUri url,
@@ -140,25 +190,26 @@ class AndroidCookieManager extends PlatformCookieManager
     args.putIfAbsent('url', () => url.toString());
     List<dynamic> cookies =
         await channel?.invokeMethod<List>('getCookies', args) ?? [];
-    cookies = cookies.cast<Map<dynamic, dynamic>>();
-    for (var i = 0; i < cookies.length; i++) {
-      cookies[i] = cookies[i].cast<String, dynamic>();
-      if (cookies[i]["name"] == name)
-        return Cookie(
-            name: cookies[i]["name"],
-            value: cookies[i]["value"],
-            expiresDate: cookies[i]["expiresDate"],
-            isSessionOnly: cookies[i]["isSessionOnly"],
-            domain: cookies[i]["domain"],
-            sameSite: HTTPCookieSameSitePolicy.fromNativeValue(
-                cookies[i]["sameSite"]),
-            isSecure: cookies[i]["isSecure"],
-            isHttpOnly: cookies[i]["isHttpOnly"],
-            path: cookies[i]["path"]);
+    for (final cookieData in cookies) {
+      if (cookieData[0] == name) return _cookieFromList(cookieData);
     }
     return null;
   }
 
+  // Decodes a cookie sent as a list, see Cookie.toList() on the native side:
+  // [name, value, expiresDate, domain, sameSite, isSecure, isHttpOnly, path]
+  static Cookie _cookieFromList(List<dynamic> cookieData) {
+    return Cookie(
+        name: cookieData[0],
+        value: cookieData[1],
+        expiresDate: cookieData[2],
+        domain: cookieData[3],
+        sameSite: HTTPCookieSameSitePolicy.fromNativeValue(cookieData[4]),
+        isSecure: cookieData[5],
+        isHttpOnly: cookieData[6],
+        path: cookieData[7]);
+  }
+
   @override
   Future<bool> deleteCookie(
       {required WebUri url,
@@ -209,6 +260,29 @@ class AndroidCookieManager extends PlatformCookieManager
         false;
   }
 
+  @override
+  Future<void> watchCookies(
+      {required Map<WebUri, List<String>> cookies,
+      Duration? checkInterval,
+      required void Function(List<CookieChange> changes)
+          onCookiesChanged}) async {
+    _onCookiesChanged = onCookiesChanged;
+
+    Map<String, dynamic> args = <String, dynamic>{};
+    args.putIfAbsent('cookies',
+        () => cookies.map((url, names) => MapEntry(url.toString(), names)));
+    args.putIfAbsent('checkInterval', () => checkInterval?.inMilliseconds);
+    await channel?.invokeMethod('watchCookies', args);
+  }
+
+  @override
+  Future<void> stopWatchingCookies() async {
+    _onCookiesChanged = null;
+
+    Map<String, dynamic> args = <String, dynamic>{};
+    await channel?.invokeMethod('stopWatchingCookies', args);
+  }
+
   @override
   void dispose() {
     // empty
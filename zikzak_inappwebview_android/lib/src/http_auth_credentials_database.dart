@@ -112,6 +112,39 @@ class AndroidHttpAuthCredentialDatabase
     await channel?.invokeMethod('setHttpAuthCredential', args);
   }
 
+  @override
+  Future<bool> importHttpAuthCredentials(
+      {required List<URLProtectionSpaceHttpAuthCredentials>
+          credentials}) async {
+    List<Map<String, dynamic>> credentialList = [];
+    for (final element in credentials) {
+      final protectionSpace = element.protectionSpace;
+      if (protectionSpace == null) {
+        continue;
+      }
+      credentialList.add({
+        "protectionSpace": {
+          "host": protectionSpace.host,
+          "protocol": protectionSpace.protocol,
+          "realm": protectionSpace.realm,
+          "port": protectionSpace.port,
+        },
+        "credentials": (element.credentials ?? [])
+            .map((credential) => {
+                  "username": credential.username,
+                  "password": credential.password,
+                })
+            .toList(),
+      });
+    }
+
+    Map<String, dynamic> args = <String, dynamic>{};
+    args.putIfAbsent("credentials", () => credentialList);
+    return await channel?.invokeMethod<bool>(
+            'importHttpAuthCredentials', args) ??
+        false;
+  }
+
   @override
   Future<void> removeHttpAuthCredential(
       {required URLProtectionSpace protectionSpace,
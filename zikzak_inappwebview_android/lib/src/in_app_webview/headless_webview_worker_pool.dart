@@ -0,0 +1,182 @@
+import 'dart:convert';
+
+import 'package:flutter/foundation.dart';
+import 'package:flutter/services.dart';
+import 'package:zikzak_inappwebview_platform_interface/zikzak_inappwebview_platform_interface.dart';
+
+/// Object specifying creation parameters for creating a [AndroidHeadlessWebViewWorkerPool].
+///
+/// When adding additional fields make sure they can be null or have a default
+/// value to avoid breaking changes. See [PlatformHeadlessWebViewWorkerPoolCreationParams] for
+/// more information.
+@immutable
+class AndroidHeadlessWebViewWorkerPoolCreationParams
+    extends PlatformHeadlessWebViewWorkerPoolCreationParams {
+  /// Creates a new [AndroidHeadlessWebViewWorkerPoolCreationParams] instance.
+  const AndroidHeadlessWebViewWorkerPoolCreationParams(
+      {super.size,
+      super.initialSettings,
+      super.initialSize,
+      super.jobTimeout,
+      super.maxJobsPerWorker,
+      super.clearSharedStorageBetweenJobs,
+      super.resultBatchSize,
+      super.resultBatchInterval,
+      super.onJobResults});
+
+  /// Creates a [AndroidHeadlessWebViewWorkerPoolCreationParams] instance based on [PlatformHeadlessWebViewWorkerPoolCreationParams].
+  factory AndroidHeadlessWebViewWorkerPoolCreationParams.fromPlatformHeadlessWebViewWorkerPoolCreationParams(
+      PlatformHeadlessWebViewWorkerPoolCreationParams params) {
+    return AndroidHeadlessWebViewWorkerPoolCreationParams(
+        size: params.size,
+        initialSettings: params.initialSettings,
+        initialSize: params.initialSize,
+        jobTimeout: params.jobTimeout,
+        maxJobsPerWorker: params.maxJobsPerWorker,
+        clearSharedStorageBetweenJobs: params.clearSharedStorageBetweenJobs,
+        resultBatchSize: params.resultBatchSize,
+        resultBatchInterval: params.resultBatchInterval,
+        onJobResults: params.onJobResults);
+  }
+}
+
+///{@macro zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPool}
+class AndroidHeadlessWebViewWorkerPool extends PlatformHeadlessWebViewWorkerPool
+    with ChannelController {
+  @override
+  late final String id;
+
+  bool _running = false;
+
+  static const MethodChannel _sharedChannel =
+      const MethodChannel('wtf.zikzak/flutter_headless_inappwebview');
+
+  /// Constructs a [AndroidHeadlessWebViewWorkerPool].
+  AndroidHeadlessWebViewWorkerPool(
+      PlatformHeadlessWebViewWorkerPoolCreationParams params)
+      : super.implementation(
+          params is AndroidHeadlessWebViewWorkerPoolCreationParams
+              ? params
+              : AndroidHeadlessWebViewWorkerPoolCreationParams
+                  .fromPlatformHeadlessWebViewWorkerPoolCreationParams(params),
+        ) {
+    id = IdGenerator.generate();
+  }
+
+  _init() {
+    channel = MethodChannel(
+        'wtf.zikzak/flutter_headless_webview_worker_pool_$id');
+    handler = _handleMethod;
+    initMethodCallHandler();
+  }
+
+  Future<dynamic> _handleMethod(MethodCall call) async {
+    switch (call.method) {
+      case "onJobResults":
+        if (params.onJobResults != null) {
+          List<dynamic> resultMaps = call.arguments["results"] ?? [];
+          List<HeadlessWebViewJobResult> results = [];
+          for (var resultMap in resultMaps) {
+            Map<String, dynamic> map = resultMap.cast<String, dynamic>();
+            String? scriptResult = map['scriptResult'];
+            if (scriptResult != null) {
+              // same format as the callAsyncJavaScript result
+              final data = json.decode(scriptResult);
+              map['scriptValue'] = data["value"];
+              if (data["error"] != null) {
+                map['success'] = false;
+                map['error'] ??= data["error"].toString();
+              }
+            }
+            final result = HeadlessWebViewJobResult.fromMap(map);
+            if (result != null) {
+              results.add(result);
+            }
+          }
+          params.onJobResults!(results);
+        }
+        break;
+      default:
+        throw UnimplementedError("Unimplemented ${call.method} method");
+    }
+    return null;
+  }
+
+  @override
+  Future<void> run() async {
+    if (_running) {
+      return;
+    }
+    _init();
+    Map<String, dynamic> args = <String, dynamic>{};
+    args.putIfAbsent('id', () => id);
+    args.putIfAbsent(
+        'params',
+        () => <String, dynamic>{
+              'size': params.size,
+              'initialSettings': params.initialSettings?.toMap(),
+              'initialSize': params.initialSize.toMap(),
+              'jobTimeout': params.jobTimeout.inMilliseconds,
+              'maxJobsPerWorker': params.maxJobsPerWorker,
+              'clearSharedStorageBetweenJobs':
+                  params.clearSharedStorageBetweenJobs,
+              'resultBatchSize': params.resultBatchSize,
+              'resultBatchInterval': params.resultBatchInterval.inMilliseconds,
+            });
+    await _sharedChannel.invokeMethod('createWorkerPool', args);
+    _running = true;
+  }
+
+  @override
+  bool isRunning() {
+    return _running;
+  }
+
+  @override
+  Future<void> enqueue(List<HeadlessWebViewJob> jobs) async {
+    if (!_running) {
+      return;
+    }
+    Map<String, dynamic> args = <String, dynamic>{};
+    args.putIfAbsent('jobs', () => jobs.map((e) => e.toMap()).toList());
+    await channel?.invokeMethod('enqueue', args);
+  }
+
+  @override
+  Future<int> cancelPendingJobs() async {
+    if (!_running) {
+      return 0;
+    }
+    Map<String, dynamic> args = <String, dynamic>{};
+    return await channel?.invokeMethod<int>('cancelPendingJobs', args) ?? 0;
+  }
+
+  @override
+  Future<int> getPendingJobCount() async {
+    if (!_running) {
+      return 0;
+    }
+    Map<String, dynamic> args = <String, dynamic>{};
+    return await channel?.invokeMethod<int>('getPendingJobCount', args) ?? 0;
+  }
+
+  @override
+  Future<int> getRunningJobCount() async {
+    if (!_running) {
+      return 0;
+    }
+    Map<String, dynamic> args = <String, dynamic>{};
+    return await channel?.invokeMethod<int>('getRunningJobCount', args) ?? 0;
+  }
+
+  @override
+  Future<void> dispose() async {
+    if (!_running) {
+      return;
+    }
+    Map<String, dynamic> args = <String, dynamic>{};
+    await channel?.invokeMethod('dispose', args);
+    disposeChannel();
+    _running = false;
+  }
+}
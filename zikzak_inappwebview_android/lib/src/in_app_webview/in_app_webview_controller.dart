@@ -24,6 +24,7 @@ import '../print_job/main.dart';
 // ignore: non_constant_identifier_names
 final _JAVASCRIPT_HANDLER_FORBIDDEN_NAMES = UnmodifiableListView<String>([
   "onLoadResource",
+  "onLoadResources",
   "shouldInterceptAjaxRequest",
   "onAjaxReadyStateChange",
   "onAjaxProgress",
@@ -77,6 +78,11 @@ class AndroidInAppWebViewController extends PlatformInAppWebViewController
   Set<AndroidWebMessageChannel> _webMessageChannels = Set();
   Set<AndroidWebMessageListener> _webMessageListeners = Set();
 
+  // tile callbacks of the full-page screenshots in progress, by capture id
+  Map<int, void Function(FullPageScreenshotTile tile)>
+      _fullPageScreenshotTileCallbacks = {};
+  int _lastFullPageScreenshotId = 0;
+
   // static map that contains the properties to be saved and restored for keep alive feature
   static final Map<InAppWebViewKeepAlive, InAppWebViewControllerKeepAliveProps?>
       _keepAliveMap = {};
@@ -173,6 +179,7 @@ class AndroidInAppWebViewController extends PlatformInAppWebViewController
           (params.webviewParams as PlatformInAppWebViewWidgetCreationParams)
               .keepAlive;
       if (keepAlive != null) {
+        _staticChannel.setMethodCallHandler(_handleStaticMethod);
         InAppWebViewControllerKeepAliveProps? props = _keepAliveMap[keepAlive];
         if (props == null) {
           // save controller properties to restore it later
@@ -198,6 +205,55 @@ class AndroidInAppWebViewController extends PlatformInAppWebViewController
     }
   }
 
+  static Future<dynamic> _handleStaticMethod(MethodCall call) async {
+    switch (call.method) {
+      case "onKeepAliveEvicted":
+        String keepAliveId = call.arguments["keepAliveId"];
+        for (final keepAlive in _keepAliveMap.keys) {
+          if (keepAlive.id == keepAliveId) {
+            _resetKeepAliveProps(keepAlive);
+            keepAlive.onEvicted?.call();
+            break;
+          }
+        }
+        break;
+      case "onKeepAliveRestored":
+        String keepAliveId = call.arguments["keepAliveId"];
+        for (final keepAlive in _keepAliveMap.keys) {
+          if (keepAlive.id == keepAliveId) {
+            keepAlive.onRestored?.call();
+            break;
+          }
+        }
+        break;
+    }
+    return null;
+  }
+
+  // The native WebView of an evicted keep alive is recreated only with the widget parameters,
+  // so the saved properties, that the new native WebView doesn't have, are discarded.
+  static void _resetKeepAliveProps(InAppWebViewKeepAlive keepAlive) {
+    final props = _keepAliveMap[keepAlive];
+    if (props == null) {
+      return;
+    }
+    for (final webMessageChannel in props.webMessageChannels) {
+      webMessageChannel.dispose();
+    }
+    for (final webMessageListener in props.webMessageListeners) {
+      webMessageListener.dispose();
+    }
+    // the same collections are still used by the controller of the evicted WebView
+    props.webMessageChannels.clear();
+    props.webMessageListeners.clear();
+    props.webMessageListenerObjNames.clear();
+    props.injectedScriptsFromURL.clear();
+    props.javaScriptHandlersMap.clear();
+    props.userScripts.forEach((injectionTime, userScripts) => userScripts.clear());
+    // the properties of the next controller are saved instead
+    _keepAliveMap[keepAlive] = null;
+  }
+
   _debugLog(String method, dynamic args) {
     debugLog(
         className: this.runtimeType.toString(),
@@ -352,6 +408,35 @@ class AndroidInAppWebViewController extends PlatformInAppWebViewController
             _inAppBrowserEventHandler!.onConsoleMessage(consoleMessage);
         }
         break;
+      case "onLoadResources":
+        _onLoadResources(jsonDecode(call.arguments["resources"]));
+        break;
+      case "onConsoleMessages":
+        if ((webviewParams != null &&
+                webviewParams!.onConsoleMessage != null) ||
+            _inAppBrowserEventHandler != null) {
+          List<dynamic> messages = call.arguments["messages"];
+          for (var message in messages) {
+            ConsoleMessage consoleMessage =
+                ConsoleMessage.fromMap(message.cast<String, dynamic>())!;
+            if (webviewParams != null &&
+                webviewParams!.onConsoleMessage != null)
+              webviewParams!.onConsoleMessage!(
+                  _controllerFromPlatform, consoleMessage);
+            else
+              _inAppBrowserEventHandler!.onConsoleMessage(consoleMessage);
+          }
+        }
+        break;
+      case "onFullPageScreenshotTile":
+        int captureId = call.arguments["captureId"];
+        var onTile = _fullPageScreenshotTileCallbacks[captureId];
+        if (onTile != null) {
+          FullPageScreenshotTile tile = FullPageScreenshotTile.fromMap(
+              call.arguments.cast<String, dynamic>())!;
+          onTile(tile);
+        }
+        break;
       case "onScrollChanged":
         if ((webviewParams != null && webviewParams!.onScrollChanged != null) ||
             _inAppBrowserEventHandler != null) {
@@ -1415,26 +1500,10 @@ class AndroidInAppWebViewController extends PlatformInAppWebViewController
 
         switch (handlerName) {
           case "onLoadResource":
-            if ((webviewParams != null &&
-                    webviewParams!.onLoadResource != null) ||
-                _inAppBrowserEventHandler != null) {
-              Map<String, dynamic> arguments = args[0].cast<String, dynamic>();
-              arguments["startTime"] = arguments["startTime"] is int
-                  ? arguments["startTime"].toDouble()
-                  : arguments["startTime"];
-              arguments["duration"] = arguments["duration"] is int
-                  ? arguments["duration"].toDouble()
-                  : arguments["duration"];
-
-              var response = LoadedResource.fromMap(arguments)!;
-
-              if (webviewParams != null &&
-                  webviewParams!.onLoadResource != null)
-                webviewParams!.onLoadResource!(
-                    _controllerFromPlatform, response);
-              else
-                _inAppBrowserEventHandler!.onLoadResource(response);
-            }
+            _onLoadResources([args[0]]);
+            return null;
+          case "onLoadResources":
+            _onLoadResources(args[0]);
             return null;
           case "shouldInterceptAjaxRequest":
             if ((webviewParams != null &&
@@ -1737,6 +1806,37 @@ class AndroidInAppWebViewController extends PlatformInAppWebViewController
     return favicons;
   }
 
+  void _onLoadResources(List<dynamic> resources) {
+    if ((webviewParams == null || webviewParams!.onLoadResource == null) &&
+        _inAppBrowserEventHandler == null) {
+      return;
+    }
+
+    for (var resource in resources) {
+      Map<String, dynamic> arguments = resource.cast<String, dynamic>();
+      for (var key in const [
+        "startTime",
+        "duration",
+        "redirectDuration",
+        "domainLookupDuration",
+        "connectDuration",
+        "secureConnectionDuration",
+        "timeToFirstByte",
+        "responseDuration"
+      ]) {
+        arguments[key] =
+            arguments[key] is int ? arguments[key].toDouble() : arguments[key];
+      }
+
+      var response = LoadedResource.fromMap(arguments)!;
+
+      if (webviewParams != null && webviewParams!.onLoadResource != null)
+        webviewParams!.onLoadResource!(_controllerFromPlatform, response);
+      else
+        _inAppBrowserEventHandler!.onLoadResource(response);
+    }
+  }
+
   bool _isUrlAbsolute(String url) {
     return url.startsWith("http://") || url.startsWith("https://");
   }
@@ -2013,6 +2113,91 @@ class AndroidInAppWebViewController extends PlatformInAppWebViewController
     return await channel?.invokeMethod<Uint8List?>('takeScreenshot', args);
   }
 
+  @override
+  Future<ScreenshotTimings?> getLastScreenshotTimings() async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    Map<String, dynamic>? result =
+        (await channel?.invokeMethod('getLastScreenshotTimings', args))
+            ?.cast<String, dynamic>();
+    return ScreenshotTimings.fromMap(result);
+  }
+
+  @override
+  Future<void> startThumbnailCapture(
+      {ThumbnailCaptureConfiguration? configuration}) async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    args.putIfAbsent('configuration', () => configuration?.toMap());
+    await channel?.invokeMethod('startThumbnailCapture', args);
+  }
+
+  @override
+  Future<void> stopThumbnailCapture() async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    await channel?.invokeMethod('stopThumbnailCapture', args);
+  }
+
+  @override
+  Future<Thumbnail?> getThumbnail() async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    Map<String, dynamic>? result =
+        (await channel?.invokeMethod('getThumbnail', args))
+            ?.cast<String, dynamic>();
+    return Thumbnail.fromMap(result);
+  }
+
+  @override
+  Future<FullPageScreenshotResult?> takeFullPageScreenshot(
+      {FullPageScreenshotConfiguration? configuration,
+      required void Function(FullPageScreenshotTile tile) onTile}) async {
+    int captureId = ++_lastFullPageScreenshotId;
+    _fullPageScreenshotTileCallbacks[captureId] = onTile;
+    try {
+      Map<String, dynamic> args = <String, dynamic>{};
+      args.putIfAbsent('captureId', () => captureId);
+      args.putIfAbsent('configuration', () => configuration?.toMap());
+      Map<String, dynamic>? result =
+          (await channel?.invokeMethod('takeFullPageScreenshot', args))
+              ?.cast<String, dynamic>();
+      return FullPageScreenshotResult.fromMap(result);
+    } finally {
+      _fullPageScreenshotTileCallbacks.remove(captureId);
+    }
+  }
+
+  @override
+  Future<void> hibernate({required HibernationLevel level}) async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    args.putIfAbsent('level', () => level.toNativeValue());
+    await channel?.invokeMethod('hibernate', args);
+  }
+
+  @override
+  Future<void> wakeUp() async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    await channel?.invokeMethod('wakeUp', args);
+  }
+
+  @override
+  Future<HibernationLevel?> getHibernationLevel() async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    return HibernationLevel.fromNativeValue(
+        await channel?.invokeMethod<int?>('getHibernationLevel', args));
+  }
+
+  @override
+  Future<Map<String, int>> getBlockedTrackerRequestCounts() async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    Map<dynamic, dynamic>? counts =
+        await channel?.invokeMethod('getBlockedTrackerRequestCounts', args);
+    return counts?.cast<String, int>() ?? {};
+  }
+
+  @override
+  Future<void> clearBlockedTrackerRequestCounts() async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    await channel?.invokeMethod('clearBlockedTrackerRequestCounts', args);
+  }
+
   @override
   @Deprecated('Use setSettings instead')
   Future<void> setOptions({required InAppWebViewGroupOptions options}) async {
@@ -2648,6 +2833,22 @@ class AndroidInAppWebViewController extends PlatformInAppWebViewController
     return await channel?.invokeMethod('clearFormData', args);
   }
 
+  @override
+  Future<ConsoleMessageBatch?> getConsoleMessages() async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    Map<String, dynamic>? result =
+        (await channel?.invokeMethod('getConsoleMessages', args))
+            ?.cast<String, dynamic>();
+    return ConsoleMessageBatch.fromMap(result);
+  }
+
+  @override
+  Future<dynamic> getInterceptedRequestBody({required int bodyId}) async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    args.putIfAbsent('bodyId', () => bodyId);
+    return await channel?.invokeMethod('getInterceptedRequestBody', args);
+  }
+
   @override
   Future<String> getDefaultUserAgent() async {
     Map<String, dynamic> args = <String, dynamic>{};
@@ -2731,6 +2932,61 @@ class AndroidInAppWebViewController extends PlatformInAppWebViewController
     _keepAliveMap[keepAlive] = null;
   }
 
+  @override
+  Future<void> configureKeepAliveCache({required int capacity}) async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    args.putIfAbsent('capacity', () => capacity);
+    await _staticChannel.invokeMethod('configureKeepAliveCache', args);
+  }
+
+  @override
+  Future<void> configureHibernationPolicy({HibernationPolicy? policy}) async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    args.putIfAbsent('policy', () => policy?.toMap());
+    await _staticChannel.invokeMethod('configureHibernationPolicy', args);
+  }
+
+  @override
+  Future<Thumbnail?> getKeepAliveThumbnail(
+      InAppWebViewKeepAlive keepAlive) async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    args.putIfAbsent('keepAliveId', () => keepAlive.id);
+    Map<String, dynamic>? result =
+        (await _staticChannel.invokeMethod('getKeepAliveThumbnail', args))
+            ?.cast<String, dynamic>();
+    return Thumbnail.fromMap(result);
+  }
+
+  @override
+  Future<void> configureTrackerBlocking(
+      {required bool enabled,
+      List<String>? addedTrackers,
+      List<String>? removedTrackers}) async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    args.putIfAbsent('enabled', () => enabled);
+    args.putIfAbsent('addedTrackers', () => addedTrackers);
+    args.putIfAbsent('removedTrackers', () => removedTrackers);
+    await _staticChannel.invokeMethod('configureTrackerBlocking', args);
+  }
+
+  @override
+  Future<List<String>> getBlockedTrackers() async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    List<dynamic>? result =
+        await _staticChannel.invokeMethod('getBlockedTrackers', args);
+    return result?.cast<String>() ?? [];
+  }
+
+  @override
+  Future<void> configureWarmWebViewPool(
+      {required int size, InAppWebViewSettings? settings}) async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    args.putIfAbsent('size', () => size);
+    args.putIfAbsent(
+        'settings', () => (settings ?? InAppWebViewSettings()).toMap());
+    await _staticChannel.invokeMethod('configureWarmWebViewPool', args);
+  }
+
   @override
   Future<void> clearAllCache({bool includeDiskFiles = true}) async {
     Map<String, dynamic> args = <String, dynamic>{};
@@ -2756,6 +3012,7 @@ class AndroidInAppWebViewController extends PlatformInAppWebViewController
     disposeChannel(removeMethodCallHandler: !isKeepAlive);
     _inAppBrowser = null;
     webStorage.dispose();
+    _fullPageScreenshotTileCallbacks.clear();
     if (!isKeepAlive) {
       _controllerFromPlatform = null;
       _javaScriptHandlersMap.clear();
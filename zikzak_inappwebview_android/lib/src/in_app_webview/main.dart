@@ -1,3 +1,4 @@
 export 'in_app_webview_controller.dart' hide InternalInAppWebViewController;
 export 'in_app_webview.dart';
 export 'headless_in_app_webview.dart' hide InternalHeadlessInAppWebView;
+export 'headless_webview_worker_pool.dart';
@@ -196,6 +196,17 @@ class AndroidInAppWebViewPlatform extends InAppWebViewPlatform {
     return AndroidHeadlessInAppWebView(params);
   }
 
+  /// Creates a new [AndroidHeadlessWebViewWorkerPool].
+  ///
+  /// This function should only be called by the app-facing package.
+  /// Look at using [HeadlessWebViewWorkerPool] in `zikzak_inappwebview` instead.
+  @override
+  AndroidHeadlessWebViewWorkerPool createPlatformHeadlessWebViewWorkerPool(
+    PlatformHeadlessWebViewWorkerPoolCreationParams params,
+  ) {
+    return AndroidHeadlessWebViewWorkerPool(params);
+  }
+
   /// Creates a new [AndroidHttpAuthCredentialDatabase].
   ///
   /// This function should only be called by the app-facing package.
@@ -313,6 +324,17 @@ class AndroidInAppWebViewPlatform extends InAppWebViewPlatform {
     return AndroidInternalStoragePathHandler(params);
   }
 
+  /// Creates a new [AndroidArchivePathHandler].
+  ///
+  /// This function should only be called by the app-facing package.
+  /// Look at using [ArchivePathHandler] in `zikzak_inappwebview` instead.
+  @override
+  AndroidArchivePathHandler createPlatformArchivePathHandler(
+    PlatformArchivePathHandlerCreationParams params,
+  ) {
+    return AndroidArchivePathHandler(params);
+  }
+
   /// Creates a new [AndroidCustomPathHandler].
   ///
   /// This function should only be called by the app-facing package.
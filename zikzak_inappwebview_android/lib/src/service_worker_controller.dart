@@ -70,6 +70,10 @@ class AndroidServiceWorkerController extends PlatformServiceWorkerController
   Future<void> setServiceWorkerClient(ServiceWorkerClient? value) async {
     Map<String, dynamic> args = <String, dynamic>{};
     args.putIfAbsent('isNull', () => value == null);
+    args.putIfAbsent('filter', () => value?.filter?.toMap());
+    args.putIfAbsent('timeout', () => value?.timeout?.inMilliseconds);
+    args.putIfAbsent('timeoutResponse', () => value?.timeoutResponse?.toMap());
+    args.putIfAbsent('cacheSize', () => value?.cacheSize);
     await channel?.invokeMethod("setServiceWorkerClient", args);
     _serviceWorkerClient = value;
   }
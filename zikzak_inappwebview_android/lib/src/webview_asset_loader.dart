@@ -162,7 +162,9 @@ class AndroidInternalStoragePathHandlerCreationParams
     // This parameter prevents breaking changes later.
     // ignore: avoid_unused_constructor_parameters
     PlatformInternalStoragePathHandlerCreationParams params,
-  ) : super(params, directory: params.directory);
+  ) : super(params,
+            directory: params.directory,
+            usePrecompressedFiles: params.usePrecompressedFiles);
 
   /// Creates a [AndroidInternalStoragePathHandlerCreationParams] instance based on [PlatformInternalStoragePathHandlerCreationParams].
   factory AndroidInternalStoragePathHandlerCreationParams.fromPlatformInternalStoragePathHandlerCreationParams(
@@ -193,9 +195,72 @@ class AndroidInternalStoragePathHandler
   @override
   String get directory => _internalParams.directory;
 
+  @override
+  bool get usePrecompressedFiles => _internalParams.usePrecompressedFiles;
+
+  @override
+  Map<String, dynamic> toMap() {
+    return {
+      ...super.toMap(),
+      'directory': directory,
+      'usePrecompressedFiles': usePrecompressedFiles
+    };
+  }
+}
+
+/// Object specifying creation parameters for creating a [AndroidArchivePathHandler].
+///
+/// When adding additional fields make sure they can be null or have a default
+/// value to avoid breaking changes. See [PlatformArchivePathHandlerCreationParams] for
+/// more information.
+@immutable
+class AndroidArchivePathHandlerCreationParams
+    extends PlatformArchivePathHandlerCreationParams {
+  /// Creates a new [AndroidArchivePathHandlerCreationParams] instance.
+  AndroidArchivePathHandlerCreationParams(
+    // This parameter prevents breaking changes later.
+    // ignore: avoid_unused_constructor_parameters
+    PlatformArchivePathHandlerCreationParams params,
+  ) : super(params,
+            archivePath: params.archivePath, cacheMaxAge: params.cacheMaxAge);
+
+  /// Creates a [AndroidArchivePathHandlerCreationParams] instance based on [PlatformArchivePathHandlerCreationParams].
+  factory AndroidArchivePathHandlerCreationParams.fromPlatformArchivePathHandlerCreationParams(
+      PlatformArchivePathHandlerCreationParams params) {
+    return AndroidArchivePathHandlerCreationParams(params);
+  }
+}
+
+///{@macro zikzak_inappwebview_platform_interface.PlatformArchivePathHandler}
+class AndroidArchivePathHandler extends PlatformArchivePathHandler
+    with AndroidPathHandler, ChannelController {
+  /// Constructs a [AndroidArchivePathHandler].
+  AndroidArchivePathHandler(PlatformArchivePathHandlerCreationParams params)
+      : super.implementation(
+          params is AndroidArchivePathHandlerCreationParams
+              ? params
+              : AndroidArchivePathHandlerCreationParams
+                  .fromPlatformArchivePathHandlerCreationParams(params),
+        ) {
+    _init(params);
+  }
+
+  AndroidArchivePathHandlerCreationParams get _archiveParams =>
+      params as AndroidArchivePathHandlerCreationParams;
+
+  @override
+  String get archivePath => _archiveParams.archivePath;
+
+  @override
+  Duration? get cacheMaxAge => _archiveParams.cacheMaxAge;
+
   @override
   Map<String, dynamic> toMap() {
-    return {...toMap(), 'directory': directory};
+    return {
+      ...super.toMap(),
+      'archivePath': archivePath,
+      'cacheMaxAge': cacheMaxAge?.inSeconds
+    };
   }
 }
 
@@ -212,7 +277,7 @@ class AndroidCustomPathHandlerCreationParams
     // This parameter prevents breaking changes later.
     // ignore: avoid_unused_constructor_parameters
     PlatformCustomPathHandlerCreationParams params,
-  ) : super(params);
+  ) : super(params, timeout: params.timeout, cacheSize: params.cacheSize);
 
   /// Creates a [AndroidCustomPathHandlerCreationParams] instance based on [PlatformCustomPathHandlerCreationParams].
   factory AndroidCustomPathHandlerCreationParams.fromPlatformCustomPathHandlerCreationParams(
@@ -234,4 +299,62 @@ class AndroidCustomPathHandler extends PlatformCustomPathHandler
         ) {
     _init(params);
   }
+
+  final Map<String, WebResourceResponse> _prefetchedResponses = {};
+
+  AndroidCustomPathHandlerCreationParams get _customParams =>
+      params as AndroidCustomPathHandlerCreationParams;
+
+  @override
+  Duration? get timeout => _customParams.timeout;
+
+  @override
+  int? get cacheSize => _customParams.cacheSize;
+
+  @override
+  Future<void> prefetch(
+      {required Map<String, WebResourceResponse> responses}) async {
+    final cacheSize = this.cacheSize;
+    if (cacheSize == null || cacheSize <= 0) {
+      throw ArgumentError('prefetch requires a cacheSize greater than 0');
+    }
+    responses.forEach((path, response) {
+      _prefetchedResponses.remove(path);
+      _prefetchedResponses[path] = response;
+    });
+    // keep only the most recent responses, like the native cache
+    while (_prefetchedResponses.length > cacheSize) {
+      _prefetchedResponses.remove(_prefetchedResponses.keys.first);
+    }
+    Map<String, dynamic> args = <String, dynamic>{};
+    args.putIfAbsent('responses',
+        () => responses.map((path, response) => MapEntry(path, response.toMap())));
+    try {
+      await channel?.invokeMethod('prefetch', args);
+    } on MissingPluginException {
+      // not used by a WebView yet, the responses are sent with toMap
+    }
+  }
+
+  @override
+  Future<void> clearCache() async {
+    _prefetchedResponses.clear();
+    Map<String, dynamic> args = <String, dynamic>{};
+    try {
+      await channel?.invokeMethod('clearCache', args);
+    } on MissingPluginException {
+      // not used by a WebView yet
+    }
+  }
+
+  @override
+  Map<String, dynamic> toMap() {
+    return {
+      ...super.toMap(),
+      'timeout': timeout?.inMilliseconds,
+      'cacheSize': cacheSize,
+      'prefetchedResponses': _prefetchedResponses
+          .map((path, response) => MapEntry(path, response.toMap()))
+    };
+  }
 }
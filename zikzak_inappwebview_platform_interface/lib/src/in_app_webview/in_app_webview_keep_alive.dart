@@ -8,6 +8,31 @@ import 'platform_inappwebview_controller.dart';
 ///Class used to keep alive a [PlatformInAppWebViewWidget].
 class InAppWebViewKeepAlive {
   String _id = IdGenerator.generate();
+
+  ///Event fired when the kept alive WebView, while not displayed, has been destroyed
+  ///to free memory, because of the [PlatformInAppWebViewController.configureKeepAliveCache] capacity
+  ///or because the system is low on memory.
+  ///Its navigation history is saved and restored when a widget with this instance is displayed again,
+  ///but the page is reloaded and its JavaScript state is lost.
+  ///
+  ///The controller state isn't kept either: the user scripts, the web message listeners and channels
+  ///and the JavaScript handlers added at runtime are removed, and the web message listeners and channels are disposed.
+  ///The recreated WebView gets only the widget parameters, such as [PlatformInAppWebViewWidgetCreationParams.initialUserScripts],
+  ///and a new controller is passed to [PlatformInAppWebViewWidgetCreationParams.onWebViewCreated],
+  ///where the runtime state can be added again.
+  ///This also applies to a WebView destroyed by [HibernationLevel.DESTROYED].
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  void Function()? onEvicted;
+
+  ///Event fired when a WebView evicted after [onEvicted] has been recreated and its navigation history restored.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  void Function()? onRestored;
+
+  InAppWebViewKeepAlive({this.onEvicted, this.onRestored});
 }
 
 ///Used internally
@@ -13,7 +13,9 @@ import '../platform_webview_asset_loader.dart';
 import '../platform_webview_feature.dart';
 import '../types/action_mode_menu_item.dart';
 import '../types/cache_mode.dart';
+import '../types/console_message_level.dart';
 import '../types/data_detector_types.dart';
+import '../types/event_throttling_policy.dart';
 import '../types/force_dark.dart';
 import '../types/force_dark_strategy.dart';
 import '../types/layout_algorithm.dart';
@@ -22,6 +24,7 @@ import '../types/mixed_content_mode.dart';
 import '../types/over_scroll_mode.dart';
 import '../types/referrer_policy.dart';
 import '../types/renderer_priority_policy.dart';
+import '../types/request_interception_filter.dart';
 import '../types/sandbox.dart';
 import '../types/scrollbar_style.dart';
 import '../types/scrollview_content_inset_adjustment_behavior.dart';
@@ -1626,6 +1629,109 @@ as it can cause framerate drops on animations in Android 9 and lower (see [Hybri
   ])
   String? iframeCsp;
 
+  ///Sets the maximum delay, in milliseconds, used to batch the resources reported by the [PlatformWebViewCreationParams.onLoadResource] event.
+  ///
+  ///Resources are always sent from JavaScript to the native side in batches.
+  ///If the value is `0`, a batch is sent for each `PerformanceObserver` callback,
+  ///otherwise resources are accumulated and sent when the page is idle, at most after this delay.
+  ///
+  ///The default value is `0`.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  int? onLoadResourceBatchDelay;
+
+  ///Policy used to throttle and coalesce the [PlatformWebViewCreationParams.onScrollChanged] event.
+  ///If `null`, every scroll change is delivered.
+  ///The default value is `null`.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  EventThrottlingPolicy_? onScrollChangedThrottlingPolicy;
+
+  ///Policy used to throttle and coalesce the [PlatformWebViewCreationParams.onOverScrolled] event.
+  ///If `null`, every over-scroll is delivered.
+  ///The default value is `null`.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  EventThrottlingPolicy_? onOverScrolledThrottlingPolicy;
+
+  ///Policy used to throttle and coalesce the [PlatformWebViewCreationParams.onProgressChanged] event.
+  ///A progress of `100` is always delivered.
+  ///If `null`, every progress change is delivered.
+  ///The default value is `null`.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  EventThrottlingPolicy_? onProgressChangedThrottlingPolicy;
+
+  ///Policy used to throttle and coalesce the [PlatformWebViewCreationParams.onZoomScaleChanged] event.
+  ///The coalesced event reports the old scale of the first dropped change and the latest new scale.
+  ///If `null`, every zoom scale change is delivered.
+  ///The default value is `null`.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  EventThrottlingPolicy_? onZoomScaleChangedThrottlingPolicy;
+
+  ///Minimum level of the console messages delivered to [PlatformWebViewCreationParams.onConsoleMessage] or buffered.
+  ///Messages below this level are discarded natively and their arguments are not stringified by the injected console script.
+  ///Levels are ordered as [ConsoleMessageLevel.DEBUG], [ConsoleMessageLevel.TIP], [ConsoleMessageLevel.LOG], [ConsoleMessageLevel.WARNING] and [ConsoleMessageLevel.ERROR].
+  ///If `null`, all the console messages are delivered.
+  ///The default value is `null`.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  ConsoleMessageLevel_? consoleMessageMinimumLevel;
+
+  ///Maximum number of console messages kept in a native ring buffer instead of being delivered one by one to [PlatformWebViewCreationParams.onConsoleMessage].
+  ///When the buffer is full, the oldest message is discarded.
+  ///Buffered messages are delivered every [consoleMessageBatchInterval] milliseconds and can be pulled at any time with [PlatformInAppWebViewController.getConsoleMessages].
+  ///If `0`, every console message is delivered as soon as it is received.
+  ///The default value is `0`.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  int? consoleMessageBufferSize;
+
+  ///Interval, in milliseconds, at which the console messages buffered because of [consoleMessageBufferSize] are delivered to [PlatformWebViewCreationParams.onConsoleMessage].
+  ///If `0`, buffered messages are never delivered automatically and must be pulled with [PlatformInAppWebViewController.getConsoleMessages].
+  ///The default value is `250`.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  int? consoleMessageBatchInterval;
+
+  ///Rules evaluated inside the injected JavaScript to decide which `XMLHttpRequest` requests are sent to [PlatformWebViewCreationParams.shouldInterceptAjaxRequest],
+  ///[PlatformWebViewCreationParams.onAjaxReadyStateChange] and [PlatformWebViewCreationParams.onAjaxProgress] when [useShouldInterceptAjaxRequest] is `true`.
+  ///Requests that don't match are sent without crossing the JavaScript bridge.
+  ///If `null`, all the requests are intercepted.
+  ///The default value is `null`.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  RequestInterceptionFilter_? shouldInterceptAjaxRequestFilter;
+
+  ///Rules evaluated inside the injected JavaScript to decide which `fetch` requests are sent to [PlatformWebViewCreationParams.shouldInterceptFetchRequest]
+  ///when [useShouldInterceptFetchRequest] is `true`.
+  ///Requests that don't match are sent without crossing the JavaScript bridge.
+  ///If `null`, all the requests are intercepted.
+  ///The default value is `null`.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  RequestInterceptionFilter_? shouldInterceptFetchRequestFilter;
+
+  ///Set to `true` to avoid serializing the body of the requests intercepted with [useShouldInterceptAjaxRequest] and [useShouldInterceptFetchRequest].
+  ///In that case, [AjaxRequest.data] and [FetchRequest.body] are `null` and the body can be retrieved, only if needed, using
+  ///[PlatformInAppWebViewController.getInterceptedRequestBody] with [AjaxRequest.bodyId] or [FetchRequest.bodyId] before the interception callback returns.
+  ///If the returned request has a `null` body, the original body is sent.
+  ///The default value is `false`.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  bool? lazyInterceptedRequestBody;
+
+  ///Size in bytes (characters for strings) above which the body of a request intercepted with [useShouldInterceptAjaxRequest] or [useShouldInterceptFetchRequest]
+  ///is not serialized and sent inline with the request.
+  ///Instead, the intercepted request carries a [AjaxRequest.bodyId] or [FetchRequest.bodyId] handle
+  ///and the body can be fetched with [PlatformInAppWebViewController.getInterceptedRequestBody],
+  ///which transfers it in binary chunks when the WebView supports it.
+  ///The default value is `null`, which means that bodies are always sent inline.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  int? interceptedRequestBodyInlineThreshold;
+
+  ///Maximum number of frames per second at which the WebView is redrawn.
+  ///Invalidations received faster than this rate are coalesced into a single deferred frame,
+  ///e.g. to limit the cost of animated pages in a scrolling list of WebViews.
+  ///It must be set when the WebView is created, and it has effect only on Android 8.0+.
+  ///If `null` or `0`, the frame rate is not limited.
+  ///The default value is `null`.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  int? framePacingMaxFrameRate;
+
   @ExchangeableObjectConstructor()
   InAppWebViewSettings_({
     this.useShouldOverrideUrlLoading,
@@ -1769,6 +1875,19 @@ as it can cause framerate drops on animations in Android 9 and lower (see [Hybri
     this.iframeReferrerPolicy,
     this.iframeName,
     this.iframeCsp,
+    this.onLoadResourceBatchDelay = 0,
+    this.onScrollChangedThrottlingPolicy,
+    this.onOverScrolledThrottlingPolicy,
+    this.onProgressChangedThrottlingPolicy,
+    this.onZoomScaleChangedThrottlingPolicy,
+    this.consoleMessageMinimumLevel,
+    this.consoleMessageBufferSize = 0,
+    this.consoleMessageBatchInterval = 250,
+    this.shouldInterceptAjaxRequestFilter,
+    this.shouldInterceptFetchRequestFilter,
+    this.lazyInterceptedRequestBody = false,
+    this.interceptedRequestBodyInlineThreshold,
+    this.framePacingMaxFrameRate,
   }) {
     if (this.minimumFontSize == null)
       this.minimumFontSize = Util.isAndroid ? 8 : 0;
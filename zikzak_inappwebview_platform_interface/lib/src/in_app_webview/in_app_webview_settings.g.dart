@@ -296,6 +296,34 @@ class InAppWebViewSettings {
   @Deprecated('Use CookieManager.removeSessionCookies instead')
   bool? clearSessionCache;
 
+  ///Interval, in milliseconds, at which the console messages buffered because of [consoleMessageBufferSize] are delivered to [PlatformWebViewCreationParams.onConsoleMessage].
+  ///If `0`, buffered messages are never delivered automatically and must be pulled with [PlatformInAppWebViewController.getConsoleMessages].
+  ///The default value is `250`.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  int? consoleMessageBatchInterval;
+
+  ///Maximum number of console messages kept in a native ring buffer instead of being delivered one by one to [PlatformWebViewCreationParams.onConsoleMessage].
+  ///When the buffer is full, the oldest message is discarded.
+  ///Buffered messages are delivered every [consoleMessageBatchInterval] milliseconds and can be pulled at any time with [PlatformInAppWebViewController.getConsoleMessages].
+  ///If `0`, every console message is delivered as soon as it is received.
+  ///The default value is `0`.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  int? consoleMessageBufferSize;
+
+  ///Minimum level of the console messages delivered to [PlatformWebViewCreationParams.onConsoleMessage] or buffered.
+  ///Messages below this level are discarded natively and their arguments are not stringified by the injected console script.
+  ///Levels are ordered as [ConsoleMessageLevel.DEBUG], [ConsoleMessageLevel.TIP], [ConsoleMessageLevel.LOG], [ConsoleMessageLevel.WARNING] and [ConsoleMessageLevel.ERROR].
+  ///If `null`, all the console messages are delivered.
+  ///The default value is `null`.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ConsoleMessageLevel? consoleMessageMinimumLevel;
+
   ///List of [ContentBlocker] that are a set of rules used to block content in the browser window.
   ///
   ///**Officially Supported Platforms/Implementations**:
@@ -485,6 +513,17 @@ class InAppWebViewSettings {
   ///- Android native WebView ([Official API - WebSettingsCompat.setForceDarkStrategy](https://developer.android.com/reference/androidx/webkit/WebSettingsCompat#setForceDarkStrategy(android.webkit.WebSettings,int)))
   ForceDarkStrategy? forceDarkStrategy;
 
+  ///Maximum number of frames per second at which the WebView is redrawn.
+  ///Invalidations received faster than this rate are coalesced into a single deferred frame,
+  ///e.g. to limit the cost of animated pages in a scrolling list of WebViews.
+  ///It must be set when the WebView is created, and it has effect only on Android 8.0+.
+  ///If `null` or `0`, the frame rate is not limited.
+  ///The default value is `null`.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  int? framePacingMaxFrameRate;
+
   ///Sets whether Geolocation is enabled. The default is `true`.
   ///
   ///**NOTE for Android native WebView**: Please note that in order for the Geolocation API to be usable by a page in the WebView, the following requirements must be met:
@@ -604,6 +643,17 @@ class InAppWebViewSettings {
   ///- MacOS
   bool? interceptOnlyAsyncAjaxRequests;
 
+  ///Size in bytes (characters for strings) above which the body of a request intercepted with [useShouldInterceptAjaxRequest] or [useShouldInterceptFetchRequest]
+  ///is not serialized and sent inline with the request.
+  ///Instead, the intercepted request carries a [AjaxRequest.bodyId] or [FetchRequest.bodyId] handle
+  ///and the body can be fetched with [PlatformInAppWebViewController.getInterceptedRequestBody],
+  ///which transfers it in binary chunks when the WebView supports it.
+  ///The default value is `null`, which means that bodies are always sent inline.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  int? interceptedRequestBodyInlineThreshold;
+
   ///A Boolean value that determines whether scrolling is disabled in a particular direction.
   ///If this property is `false`, scrolling is permitted in both horizontal and vertical directions.
   ///If this property is `true` and the user begins dragging in one general direction (horizontally or vertically),
@@ -699,6 +749,16 @@ class InAppWebViewSettings {
   ///- Android native WebView ([Official API - WebSettings.setLayoutAlgorithm](https://developer.android.com/reference/android/webkit/WebSettings?hl=en#setLayoutAlgorithm(android.webkit.WebSettings.LayoutAlgorithm)))
   LayoutAlgorithm? layoutAlgorithm;
 
+  ///Set to `true` to avoid serializing the body of the requests intercepted with [useShouldInterceptAjaxRequest] and [useShouldInterceptFetchRequest].
+  ///In that case, [AjaxRequest.data] and [FetchRequest.body] are `null` and the body can be retrieved, only if needed, using
+  ///[PlatformInAppWebViewController.getInterceptedRequestBody] with [AjaxRequest.bodyId] or [FetchRequest.bodyId] before the interception callback returns.
+  ///If the returned request has a `null` body, the original body is sent.
+  ///The default value is `false`.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  bool? lazyInterceptedRequestBody;
+
   ///A Boolean value that indicates whether the web view limits navigation to pages within the app’s domain.
   ///Check [App-Bound Domains](https://webkit.org/blog/10882/app-bound-domains/) for more details.
   ///The default value is `false`.
@@ -814,6 +874,52 @@ class InAppWebViewSettings {
   ///- Android native WebView 23+ ([Official API - WebSettings.setOffscreenPreRaster](https://developer.android.com/reference/android/webkit/WebSettings?hl=en#setOffscreenPreRaster(boolean)))
   bool? offscreenPreRaster;
 
+  ///Sets the maximum delay, in milliseconds, used to batch the resources reported by the [PlatformWebViewCreationParams.onLoadResource] event.
+  ///
+  ///Resources are always sent from JavaScript to the native side in batches.
+  ///If the value is `0`, a batch is sent for each `PerformanceObserver` callback,
+  ///otherwise resources are accumulated and sent when the page is idle, at most after this delay.
+  ///
+  ///The default value is `0`.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  int? onLoadResourceBatchDelay;
+
+  ///Policy used to throttle and coalesce the [PlatformWebViewCreationParams.onOverScrolled] event.
+  ///If `null`, every over-scroll is delivered.
+  ///The default value is `null`.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  EventThrottlingPolicy? onOverScrolledThrottlingPolicy;
+
+  ///Policy used to throttle and coalesce the [PlatformWebViewCreationParams.onProgressChanged] event.
+  ///A progress of `100` is always delivered.
+  ///If `null`, every progress change is delivered.
+  ///The default value is `null`.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  EventThrottlingPolicy? onProgressChangedThrottlingPolicy;
+
+  ///Policy used to throttle and coalesce the [PlatformWebViewCreationParams.onScrollChanged] event.
+  ///If `null`, every scroll change is delivered.
+  ///The default value is `null`.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  EventThrottlingPolicy? onScrollChangedThrottlingPolicy;
+
+  ///Policy used to throttle and coalesce the [PlatformWebViewCreationParams.onZoomScaleChanged] event.
+  ///The coalesced event reports the old scale of the first dropped change and the latest new scale.
+  ///If `null`, every zoom scale change is delivered.
+  ///The default value is `null`.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  EventThrottlingPolicy? onZoomScaleChangedThrottlingPolicy;
+
   ///Sets the WebView's over-scroll mode.
   ///Setting the over-scroll mode of a WebView will have an effect only if the WebView is capable of scrolling.
   ///The default value is [OverScrollMode.IF_CONTENT_SCROLLS].
@@ -962,6 +1068,26 @@ class InAppWebViewSettings {
   ///- MacOS 10.13+
   bool? sharedCookiesEnabled;
 
+  ///Rules evaluated inside the injected JavaScript to decide which `XMLHttpRequest` requests are sent to [PlatformWebViewCreationParams.shouldInterceptAjaxRequest],
+  ///[PlatformWebViewCreationParams.onAjaxReadyStateChange] and [PlatformWebViewCreationParams.onAjaxProgress] when [useShouldInterceptAjaxRequest] is `true`.
+  ///Requests that don't match are sent without crossing the JavaScript bridge.
+  ///If `null`, all the requests are intercepted.
+  ///The default value is `null`.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  RequestInterceptionFilter? shouldInterceptAjaxRequestFilter;
+
+  ///Rules evaluated inside the injected JavaScript to decide which `fetch` requests are sent to [PlatformWebViewCreationParams.shouldInterceptFetchRequest]
+  ///when [useShouldInterceptFetchRequest] is `true`.
+  ///Requests that don't match are sent without crossing the JavaScript bridge.
+  ///If `null`, all the requests are intercepted.
+  ///The default value is `null`.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  RequestInterceptionFilter? shouldInterceptFetchRequestFilter;
+
   ///A Boolean value that indicates whether to include any background color or graphics when printing content.
   ///
   ///The default value is `false`.
@@ -1339,7 +1465,20 @@ class InAppWebViewSettings {
       this.iframeSandbox,
       this.iframeReferrerPolicy,
       this.iframeName,
-      this.iframeCsp}) {
+      this.iframeCsp,
+      this.onLoadResourceBatchDelay = 0,
+      this.onScrollChangedThrottlingPolicy,
+      this.onOverScrolledThrottlingPolicy,
+      this.onProgressChangedThrottlingPolicy,
+      this.onZoomScaleChangedThrottlingPolicy,
+      this.consoleMessageMinimumLevel,
+      this.consoleMessageBufferSize = 0,
+      this.consoleMessageBatchInterval = 250,
+      this.shouldInterceptAjaxRequestFilter,
+      this.shouldInterceptFetchRequestFilter,
+      this.lazyInterceptedRequestBody = false,
+      this.interceptedRequestBodyInlineThreshold,
+      this.framePacingMaxFrameRate}) {
     if (this.minimumFontSize == null)
       this.minimumFontSize = Util.isAndroid ? 8 : 0;
     assert(this.resourceCustomSchemes == null ||
@@ -1371,9 +1510,12 @@ class InAppWebViewSettings {
           ? WebUri(map['allowingReadAccessTo'])
           : null,
       appCachePath: map['appCachePath'],
+      consoleMessageMinimumLevel: ConsoleMessageLevel.fromNativeValue(
+          map['consoleMessageMinimumLevel']),
       defaultVideoPoster: map['defaultVideoPoster'],
       disabledActionModeMenuItems: ActionModeMenuItem.fromNativeValue(
           map['disabledActionModeMenuItems']),
+      framePacingMaxFrameRate: map['framePacingMaxFrameRate'],
       horizontalScrollbarThumbColor:
           map['horizontalScrollbarThumbColor'] != null
               ? UtilColor.fromStringRepresentation(
@@ -1394,6 +1536,8 @@ class InAppWebViewSettings {
           ? Set<Sandbox>.from(
               map['iframeSandbox'].map((e) => Sandbox.fromNativeValue(e)!))
           : null,
+      interceptedRequestBodyInlineThreshold:
+          map['interceptedRequestBodyInlineThreshold'],
       layoutAlgorithm: LayoutAlgorithm.fromNativeValue(map['layoutAlgorithm']),
       maximumViewportInset: MapEdgeInsets.fromMap(
           map['maximumViewportInset']?.cast<String, dynamic>()),
@@ -1404,6 +1548,14 @@ class InAppWebViewSettings {
       mixedContentMode:
           MixedContentMode.fromNativeValue(map['mixedContentMode']),
       networkAvailable: map['networkAvailable'],
+      onOverScrolledThrottlingPolicy: EventThrottlingPolicy.fromMap(
+          map['onOverScrolledThrottlingPolicy']?.cast<String, dynamic>()),
+      onProgressChangedThrottlingPolicy: EventThrottlingPolicy.fromMap(
+          map['onProgressChangedThrottlingPolicy']?.cast<String, dynamic>()),
+      onScrollChangedThrottlingPolicy: EventThrottlingPolicy.fromMap(
+          map['onScrollChangedThrottlingPolicy']?.cast<String, dynamic>()),
+      onZoomScaleChangedThrottlingPolicy: EventThrottlingPolicy.fromMap(
+          map['onZoomScaleChangedThrottlingPolicy']?.cast<String, dynamic>()),
       regexToCancelOverrideUrlLoading: map['regexToCancelOverrideUrlLoading'],
       regexToCancelSubFramesLoading: map['regexToCancelSubFramesLoading'],
       rendererPriorityPolicy: RendererPriorityPolicy.fromMap(
@@ -1415,6 +1567,10 @@ class InAppWebViewSettings {
               : null,
       scrollBarDefaultDelayBeforeFade: map['scrollBarDefaultDelayBeforeFade'],
       scrollBarFadeDuration: map['scrollBarFadeDuration'],
+      shouldInterceptAjaxRequestFilter: RequestInterceptionFilter.fromMap(
+          map['shouldInterceptAjaxRequestFilter']?.cast<String, dynamic>()),
+      shouldInterceptFetchRequestFilter: RequestInterceptionFilter.fromMap(
+          map['shouldInterceptFetchRequestFilter']?.cast<String, dynamic>()),
       underPageBackgroundColor: map['underPageBackgroundColor'] != null
           ? UtilColor.fromStringRepresentation(map['underPageBackgroundColor'])
           : null,
@@ -1467,6 +1623,8 @@ class InAppWebViewSettings {
     instance.cacheMode = CacheMode.fromNativeValue(map['cacheMode']);
     instance.clearCache = map['InAppWebViewController.clearAllCache'];
     instance.clearSessionCache = map['CookieManager.removeSessionCookies'];
+    instance.consoleMessageBatchInterval = map['consoleMessageBatchInterval'];
+    instance.consoleMessageBufferSize = map['consoleMessageBufferSize'];
     instance.contentBlockers =
         _deserializeContentBlockers(map['contentBlockers']);
     instance.contentInsetAdjustmentBehavior =
@@ -1522,6 +1680,7 @@ class InAppWebViewSettings {
     instance.javaScriptCanOpenWindowsAutomatically =
         map['javaScriptCanOpenWindowsAutomatically'];
     instance.javaScriptEnabled = map['javaScriptEnabled'];
+    instance.lazyInterceptedRequestBody = map['lazyInterceptedRequestBody'];
     instance.limitsNavigationsToAppBoundDomains =
         map['limitsNavigationsToAppBoundDomains'];
     instance.loadWithOverviewMode = map['loadWithOverviewMode'];
@@ -1533,6 +1692,7 @@ class InAppWebViewSettings {
     instance.minimumZoomScale = map['minimumZoomScale'];
     instance.needInitialFocus = map['needInitialFocus'];
     instance.offscreenPreRaster = map['offscreenPreRaster'];
+    instance.onLoadResourceBatchDelay = map['onLoadResourceBatchDelay'];
     instance.overScrollMode =
         OverScrollMode.fromNativeValue(map['overScrollMode']);
     instance.pageZoom = map['pageZoom'];
@@ -1602,6 +1762,9 @@ class InAppWebViewSettings {
       "builtInZoomControls": builtInZoomControls,
       "cacheEnabled": cacheEnabled,
       "cacheMode": cacheMode?.toNativeValue(),
+      "consoleMessageBatchInterval": consoleMessageBatchInterval,
+      "consoleMessageBufferSize": consoleMessageBufferSize,
+      "consoleMessageMinimumLevel": consoleMessageMinimumLevel?.toNativeValue(),
       "contentBlockers": contentBlockers?.map((e) => e.toMap()).toList(),
       "contentInsetAdjustmentBehavior":
           contentInsetAdjustmentBehavior?.toNativeValue(),
@@ -1632,6 +1795,7 @@ class InAppWebViewSettings {
       "fixedFontFamily": fixedFontFamily,
       "forceDark": forceDark?.toNativeValue(),
       "forceDarkStrategy": forceDarkStrategy?.toNativeValue(),
+      "framePacingMaxFrameRate": framePacingMaxFrameRate,
       "geolocationEnabled": geolocationEnabled,
       "hardwareAcceleration": hardwareAcceleration,
       "horizontalScrollBarEnabled": horizontalScrollBarEnabled,
@@ -1647,6 +1811,8 @@ class InAppWebViewSettings {
       "incognito": incognito,
       "initialScale": initialScale,
       "interceptOnlyAsyncAjaxRequests": interceptOnlyAsyncAjaxRequests,
+      "interceptedRequestBodyInlineThreshold":
+          interceptedRequestBodyInlineThreshold,
       "isDirectionalLockEnabled": isDirectionalLockEnabled,
       "isElementFullscreenEnabled": isElementFullscreenEnabled,
       "isFindInteractionEnabled": isFindInteractionEnabled,
@@ -1659,6 +1825,7 @@ class InAppWebViewSettings {
           javaScriptCanOpenWindowsAutomatically,
       "javaScriptEnabled": javaScriptEnabled,
       "layoutAlgorithm": layoutAlgorithm?.toNativeValue(),
+      "lazyInterceptedRequestBody": lazyInterceptedRequestBody,
       "limitsNavigationsToAppBoundDomains": limitsNavigationsToAppBoundDomains,
       "loadWithOverviewMode": loadWithOverviewMode,
       "loadsImagesAutomatically": loadsImagesAutomatically,
@@ -1674,6 +1841,15 @@ class InAppWebViewSettings {
       "needInitialFocus": needInitialFocus,
       "networkAvailable": networkAvailable,
       "offscreenPreRaster": offscreenPreRaster,
+      "onLoadResourceBatchDelay": onLoadResourceBatchDelay,
+      "onOverScrolledThrottlingPolicy":
+          onOverScrolledThrottlingPolicy?.toMap(),
+      "onProgressChangedThrottlingPolicy":
+          onProgressChangedThrottlingPolicy?.toMap(),
+      "onScrollChangedThrottlingPolicy":
+          onScrollChangedThrottlingPolicy?.toMap(),
+      "onZoomScaleChangedThrottlingPolicy":
+          onZoomScaleChangedThrottlingPolicy?.toMap(),
       "overScrollMode": overScrollMode?.toNativeValue(),
       "pageZoom": pageZoom,
       "preferredContentMode": preferredContentMode?.toNativeValue(),
@@ -1694,6 +1870,10 @@ class InAppWebViewSettings {
       "selectionGranularity": selectionGranularity?.toNativeValue(),
       "serifFontFamily": serifFontFamily,
       "sharedCookiesEnabled": sharedCookiesEnabled,
+      "shouldInterceptAjaxRequestFilter":
+          shouldInterceptAjaxRequestFilter?.toMap(),
+      "shouldInterceptFetchRequestFilter":
+          shouldInterceptFetchRequestFilter?.toMap(),
       "shouldPrintBackgrounds": shouldPrintBackgrounds,
       "standardFontFamily": standardFontFamily,
       "supportMultipleWindows": supportMultipleWindows,
@@ -1735,6 +1915,6 @@ class InAppWebViewSettings {
 
   @override
   String toString() {
-    return 'InAppWebViewSettings{accessibilityIgnoresInvertColors: $accessibilityIgnoresInvertColors, algorithmicDarkeningAllowed: $algorithmicDarkeningAllowed, allowBackgroundAudioPlaying: $allowBackgroundAudioPlaying, allowContentAccess: $allowContentAccess, allowFileAccess: $allowFileAccess, allowFileAccessFromFileURLs: $allowFileAccessFromFileURLs, allowUniversalAccessFromFileURLs: $allowUniversalAccessFromFileURLs, allowingReadAccessTo: $allowingReadAccessTo, allowsAirPlayForMediaPlayback: $allowsAirPlayForMediaPlayback, allowsBackForwardNavigationGestures: $allowsBackForwardNavigationGestures, allowsInlineMediaPlayback: $allowsInlineMediaPlayback, allowsLinkPreview: $allowsLinkPreview, allowsPictureInPictureMediaPlayback: $allowsPictureInPictureMediaPlayback, alwaysBounceHorizontal: $alwaysBounceHorizontal, alwaysBounceVertical: $alwaysBounceVertical, appCachePath: $appCachePath, applePayAPIEnabled: $applePayAPIEnabled, applicationNameForUserAgent: $applicationNameForUserAgent, automaticallyAdjustsScrollIndicatorInsets: $automaticallyAdjustsScrollIndicatorInsets, blockNetworkImage: $blockNetworkImage, blockNetworkLoads: $blockNetworkLoads, builtInZoomControls: $builtInZoomControls, cacheEnabled: $cacheEnabled, cacheMode: $cacheMode, contentBlockers: $contentBlockers, contentInsetAdjustmentBehavior: $contentInsetAdjustmentBehavior, cursiveFontFamily: $cursiveFontFamily, dataDetectorTypes: $dataDetectorTypes, databaseEnabled: $databaseEnabled, decelerationRate: $decelerationRate, defaultFixedFontSize: $defaultFixedFontSize, defaultFontSize: $defaultFontSize, defaultTextEncodingName: $defaultTextEncodingName, defaultVideoPoster: $defaultVideoPoster, disableContextMenu: $disableContextMenu, disableDefaultErrorPage: $disableDefaultErrorPage, disableHorizontalScroll: $disableHorizontalScroll, disableInputAccessoryView: $disableInputAccessoryView, disableLongPressContextMenuOnLinks: $disableLongPressContextMenuOnLinks, disableVerticalScroll: $disableVerticalScroll, disabledActionModeMenuItems: $disabledActionModeMenuItems, disallowOverScroll: $disallowOverScroll, displayZoomControls: $displayZoomControls, domStorageEnabled: $domStorageEnabled, enableViewportScale: $enableViewportScale, enterpriseAuthenticationAppLinkPolicyEnabled: $enterpriseAuthenticationAppLinkPolicyEnabled, fantasyFontFamily: $fantasyFontFamily, fixedFontFamily: $fixedFontFamily, forceDark: $forceDark, forceDarkStrategy: $forceDarkStrategy, geolocationEnabled: $geolocationEnabled, hardwareAcceleration: $hardwareAcceleration, horizontalScrollBarEnabled: $horizontalScrollBarEnabled, horizontalScrollbarThumbColor: $horizontalScrollbarThumbColor, horizontalScrollbarTrackColor: $horizontalScrollbarTrackColor, iframeAllow: $iframeAllow, iframeAllowFullscreen: $iframeAllowFullscreen, iframeCsp: $iframeCsp, iframeName: $iframeName, iframeReferrerPolicy: $iframeReferrerPolicy, iframeSandbox: $iframeSandbox, ignoresViewportScaleLimits: $ignoresViewportScaleLimits, incognito: $incognito, initialScale: $initialScale, interceptOnlyAsyncAjaxRequests: $interceptOnlyAsyncAjaxRequests, isDirectionalLockEnabled: $isDirectionalLockEnabled, isElementFullscreenEnabled: $isElementFullscreenEnabled, isFindInteractionEnabled: $isFindInteractionEnabled, isFraudulentWebsiteWarningEnabled: $isFraudulentWebsiteWarningEnabled, isInspectable: $isInspectable, isPagingEnabled: $isPagingEnabled, isSiteSpecificQuirksModeEnabled: $isSiteSpecificQuirksModeEnabled, isTextInteractionEnabled: $isTextInteractionEnabled, javaScriptCanOpenWindowsAutomatically: $javaScriptCanOpenWindowsAutomatically, javaScriptEnabled: $javaScriptEnabled, layoutAlgorithm: $layoutAlgorithm, limitsNavigationsToAppBoundDomains: $limitsNavigationsToAppBoundDomains, loadWithOverviewMode: $loadWithOverviewMode, loadsImagesAutomatically: $loadsImagesAutomatically, maximumViewportInset: $maximumViewportInset, maximumZoomScale: $maximumZoomScale, mediaPlaybackRequiresUserGesture: $mediaPlaybackRequiresUserGesture, mediaType: $mediaType, minimumFontSize: $minimumFontSize, minimumLogicalFontSize: $minimumLogicalFontSize, minimumViewportInset: $minimumViewportInset, minimumZoomScale: $minimumZoomScale, mixedContentMode: $mixedContentMode, needInitialFocus: $needInitialFocus, networkAvailable: $networkAvailable, offscreenPreRaster: $offscreenPreRaster, overScrollMode: $overScrollMode, pageZoom: $pageZoom, preferredContentMode: $preferredContentMode, regexToCancelOverrideUrlLoading: $regexToCancelOverrideUrlLoading, regexToCancelSubFramesLoading: $regexToCancelSubFramesLoading, rendererPriorityPolicy: $rendererPriorityPolicy, requestedWithHeaderOriginAllowList: $requestedWithHeaderOriginAllowList, resourceCustomSchemes: $resourceCustomSchemes, safeBrowsingEnabled: $safeBrowsingEnabled, sansSerifFontFamily: $sansSerifFontFamily, saveFormData: $saveFormData, scrollBarDefaultDelayBeforeFade: $scrollBarDefaultDelayBeforeFade, scrollBarFadeDuration: $scrollBarFadeDuration, scrollBarStyle: $scrollBarStyle, scrollbarFadingEnabled: $scrollbarFadingEnabled, scrollsToTop: $scrollsToTop, selectionGranularity: $selectionGranularity, serifFontFamily: $serifFontFamily, sharedCookiesEnabled: $sharedCookiesEnabled, shouldPrintBackgrounds: $shouldPrintBackgrounds, standardFontFamily: $standardFontFamily, supportMultipleWindows: $supportMultipleWindows, supportZoom: $supportZoom, suppressesIncrementalRendering: $suppressesIncrementalRendering, textZoom: $textZoom, thirdPartyCookiesEnabled: $thirdPartyCookiesEnabled, transparentBackground: $transparentBackground, underPageBackgroundColor: $underPageBackgroundColor, upgradeKnownHostsToHTTPS: $upgradeKnownHostsToHTTPS, useHybridComposition: $useHybridComposition, useOnDownloadStart: $useOnDownloadStart, useOnLoadResource: $useOnLoadResource, useOnNavigationResponse: $useOnNavigationResponse, useOnRenderProcessGone: $useOnRenderProcessGone, useShouldInterceptAjaxRequest: $useShouldInterceptAjaxRequest, useShouldInterceptFetchRequest: $useShouldInterceptFetchRequest, useShouldInterceptRequest: $useShouldInterceptRequest, useShouldOverrideUrlLoading: $useShouldOverrideUrlLoading, useWideViewPort: $useWideViewPort, userAgent: $userAgent, verticalScrollBarEnabled: $verticalScrollBarEnabled, verticalScrollbarPosition: $verticalScrollbarPosition, verticalScrollbarThumbColor: $verticalScrollbarThumbColor, verticalScrollbarTrackColor: $verticalScrollbarTrackColor, webViewAssetLoader: $webViewAssetLoader}';
+    return 'InAppWebViewSettings{accessibilityIgnoresInvertColors: $accessibilityIgnoresInvertColors, algorithmicDarkeningAllowed: $algorithmicDarkeningAllowed, allowBackgroundAudioPlaying: $allowBackgroundAudioPlaying, allowContentAccess: $allowContentAccess, allowFileAccess: $allowFileAccess, allowFileAccessFromFileURLs: $allowFileAccessFromFileURLs, allowUniversalAccessFromFileURLs: $allowUniversalAccessFromFileURLs, allowingReadAccessTo: $allowingReadAccessTo, allowsAirPlayForMediaPlayback: $allowsAirPlayForMediaPlayback, allowsBackForwardNavigationGestures: $allowsBackForwardNavigationGestures, allowsInlineMediaPlayback: $allowsInlineMediaPlayback, allowsLinkPreview: $allowsLinkPreview, allowsPictureInPictureMediaPlayback: $allowsPictureInPictureMediaPlayback, alwaysBounceHorizontal: $alwaysBounceHorizontal, alwaysBounceVertical: $alwaysBounceVertical, appCachePath: $appCachePath, applePayAPIEnabled: $applePayAPIEnabled, applicationNameForUserAgent: $applicationNameForUserAgent, automaticallyAdjustsScrollIndicatorInsets: $automaticallyAdjustsScrollIndicatorInsets, blockNetworkImage: $blockNetworkImage, blockNetworkLoads: $blockNetworkLoads, builtInZoomControls: $builtInZoomControls, cacheEnabled: $cacheEnabled, cacheMode: $cacheMode, consoleMessageBatchInterval: $consoleMessageBatchInterval, consoleMessageBufferSize: $consoleMessageBufferSize, consoleMessageMinimumLevel: $consoleMessageMinimumLevel, contentBlockers: $contentBlockers, contentInsetAdjustmentBehavior: $contentInsetAdjustmentBehavior, cursiveFontFamily: $cursiveFontFamily, dataDetectorTypes: $dataDetectorTypes, databaseEnabled: $databaseEnabled, decelerationRate: $decelerationRate, defaultFixedFontSize: $defaultFixedFontSize, defaultFontSize: $defaultFontSize, defaultTextEncodingName: $defaultTextEncodingName, defaultVideoPoster: $defaultVideoPoster, disableContextMenu: $disableContextMenu, disableDefaultErrorPage: $disableDefaultErrorPage, disableHorizontalScroll: $disableHorizontalScroll, disableInputAccessoryView: $disableInputAccessoryView, disableLongPressContextMenuOnLinks: $disableLongPressContextMenuOnLinks, disableVerticalScroll: $disableVerticalScroll, disabledActionModeMenuItems: $disabledActionModeMenuItems, disallowOverScroll: $disallowOverScroll, displayZoomControls: $displayZoomControls, domStorageEnabled: $domStorageEnabled, enableViewportScale: $enableViewportScale, enterpriseAuthenticationAppLinkPolicyEnabled: $enterpriseAuthenticationAppLinkPolicyEnabled, fantasyFontFamily: $fantasyFontFamily, fixedFontFamily: $fixedFontFamily, forceDark: $forceDark, forceDarkStrategy: $forceDarkStrategy, framePacingMaxFrameRate: $framePacingMaxFrameRate, geolocationEnabled: $geolocationEnabled, hardwareAcceleration: $hardwareAcceleration, horizontalScrollBarEnabled: $horizontalScrollBarEnabled, horizontalScrollbarThumbColor: $horizontalScrollbarThumbColor, horizontalScrollbarTrackColor: $horizontalScrollbarTrackColor, iframeAllow: $iframeAllow, iframeAllowFullscreen: $iframeAllowFullscreen, iframeCsp: $iframeCsp, iframeName: $iframeName, iframeReferrerPolicy: $iframeReferrerPolicy, iframeSandbox: $iframeSandbox, ignoresViewportScaleLimits: $ignoresViewportScaleLimits, incognito: $incognito, initialScale: $initialScale, interceptOnlyAsyncAjaxRequests: $interceptOnlyAsyncAjaxRequests, interceptedRequestBodyInlineThreshold: $interceptedRequestBodyInlineThreshold, isDirectionalLockEnabled: $isDirectionalLockEnabled, isElementFullscreenEnabled: $isElementFullscreenEnabled, isFindInteractionEnabled: $isFindInteractionEnabled, isFraudulentWebsiteWarningEnabled: $isFraudulentWebsiteWarningEnabled, isInspectable: $isInspectable, isPagingEnabled: $isPagingEnabled, isSiteSpecificQuirksModeEnabled: $isSiteSpecificQuirksModeEnabled, isTextInteractionEnabled: $isTextInteractionEnabled, javaScriptCanOpenWindowsAutomatically: $javaScriptCanOpenWindowsAutomatically, javaScriptEnabled: $javaScriptEnabled, layoutAlgorithm: $layoutAlgorithm, lazyInterceptedRequestBody: $lazyInterceptedRequestBody, limitsNavigationsToAppBoundDomains: $limitsNavigationsToAppBoundDomains, loadWithOverviewMode: $loadWithOverviewMode, loadsImagesAutomatically: $loadsImagesAutomatically, maximumViewportInset: $maximumViewportInset, maximumZoomScale: $maximumZoomScale, mediaPlaybackRequiresUserGesture: $mediaPlaybackRequiresUserGesture, mediaType: $mediaType, minimumFontSize: $minimumFontSize, minimumLogicalFontSize: $minimumLogicalFontSize, minimumViewportInset: $minimumViewportInset, minimumZoomScale: $minimumZoomScale, mixedContentMode: $mixedContentMode, needInitialFocus: $needInitialFocus, networkAvailable: $networkAvailable, offscreenPreRaster: $offscreenPreRaster, onLoadResourceBatchDelay: $onLoadResourceBatchDelay, onOverScrolledThrottlingPolicy: $onOverScrolledThrottlingPolicy, onProgressChangedThrottlingPolicy: $onProgressChangedThrottlingPolicy, onScrollChangedThrottlingPolicy: $onScrollChangedThrottlingPolicy, onZoomScaleChangedThrottlingPolicy: $onZoomScaleChangedThrottlingPolicy, overScrollMode: $overScrollMode, pageZoom: $pageZoom, preferredContentMode: $preferredContentMode, regexToCancelOverrideUrlLoading: $regexToCancelOverrideUrlLoading, regexToCancelSubFramesLoading: $regexToCancelSubFramesLoading, rendererPriorityPolicy: $rendererPriorityPolicy, requestedWithHeaderOriginAllowList: $requestedWithHeaderOriginAllowList, resourceCustomSchemes: $resourceCustomSchemes, safeBrowsingEnabled: $safeBrowsingEnabled, sansSerifFontFamily: $sansSerifFontFamily, saveFormData: $saveFormData, scrollBarDefaultDelayBeforeFade: $scrollBarDefaultDelayBeforeFade, scrollBarFadeDuration: $scrollBarFadeDuration, scrollBarStyle: $scrollBarStyle, scrollbarFadingEnabled: $scrollbarFadingEnabled, scrollsToTop: $scrollsToTop, selectionGranularity: $selectionGranularity, serifFontFamily: $serifFontFamily, sharedCookiesEnabled: $sharedCookiesEnabled, shouldInterceptAjaxRequestFilter: $shouldInterceptAjaxRequestFilter, shouldInterceptFetchRequestFilter: $shouldInterceptFetchRequestFilter, shouldPrintBackgrounds: $shouldPrintBackgrounds, standardFontFamily: $standardFontFamily, supportMultipleWindows: $supportMultipleWindows, supportZoom: $supportZoom, suppressesIncrementalRendering: $suppressesIncrementalRendering, textZoom: $textZoom, thirdPartyCookiesEnabled: $thirdPartyCookiesEnabled, transparentBackground: $transparentBackground, underPageBackgroundColor: $underPageBackgroundColor, upgradeKnownHostsToHTTPS: $upgradeKnownHostsToHTTPS, useHybridComposition: $useHybridComposition, useOnDownloadStart: $useOnDownloadStart, useOnLoadResource: $useOnLoadResource, useOnNavigationResponse: $useOnNavigationResponse, useOnRenderProcessGone: $useOnRenderProcessGone, useShouldInterceptAjaxRequest: $useShouldInterceptAjaxRequest, useShouldInterceptFetchRequest: $useShouldInterceptFetchRequest, useShouldInterceptRequest: $useShouldInterceptRequest, useShouldOverrideUrlLoading: $useShouldOverrideUrlLoading, useWideViewPort: $useWideViewPort, userAgent: $userAgent, verticalScrollBarEnabled: $verticalScrollBarEnabled, verticalScrollbarPosition: $verticalScrollbarPosition, verticalScrollbarThumbColor: $verticalScrollbarThumbColor, verticalScrollbarTrackColor: $verticalScrollbarTrackColor, webViewAssetLoader: $webViewAssetLoader}';
   }
 }
@@ -8,6 +8,7 @@ export 'in_app_webview_settings.dart'
         WebViewOptions,
         InAppWebViewOptions;
 export 'platform_headless_in_app_webview.dart';
+export 'platform_headless_webview_worker_pool.dart';
 export 'in_app_webview_keep_alive.dart';
 export 'android/main.dart';
 export 'apple/main.dart';
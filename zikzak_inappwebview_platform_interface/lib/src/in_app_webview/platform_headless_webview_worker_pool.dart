@@ -0,0 +1,213 @@
+import 'dart:ui';
+
+import 'package:flutter/foundation.dart';
+import 'package:plugin_platform_interface/plugin_platform_interface.dart';
+import '../inappwebview_platform.dart';
+import '../types/disposable.dart';
+import '../types/main.dart';
+import 'in_app_webview_settings.dart';
+import 'platform_headless_in_app_webview.dart';
+
+/// Object specifying creation parameters for creating a [PlatformHeadlessWebViewWorkerPool].
+///
+/// Platform specific implementations can add additional fields by extending
+/// this class.
+@immutable
+class PlatformHeadlessWebViewWorkerPoolCreationParams {
+  /// Used by the platform implementation to create a new [PlatformHeadlessWebViewWorkerPool].
+  const PlatformHeadlessWebViewWorkerPoolCreationParams(
+      {this.size = 2,
+      this.initialSettings,
+      this.initialSize = const Size(-1, -1),
+      this.jobTimeout = const Duration(seconds: 30),
+      this.maxJobsPerWorker = 50,
+      this.clearSharedStorageBetweenJobs = false,
+      this.resultBatchSize = 10,
+      this.resultBatchInterval = const Duration(milliseconds: 500),
+      this.onJobResults});
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPoolCreationParams.size}
+  ///Maximum number of headless WebViews running jobs in parallel.
+  ///The WebViews are created when jobs are enqueued.
+  ///{@endtemplate}
+  final int size;
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPoolCreationParams.initialSettings}
+  ///Settings of the headless WebViews.
+  ///{@endtemplate}
+  final InAppWebViewSettings? initialSettings;
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPoolCreationParams.initialSize}
+  ///The size of the headless WebViews, like [PlatformHeadlessInAppWebViewCreationParams.initialSize].
+  ///{@endtemplate}
+  final Size initialSize;
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPoolCreationParams.jobTimeout}
+  ///Maximum duration of a job, unless [HeadlessWebViewJob.timeout] is set.
+  ///{@endtemplate}
+  final Duration jobTimeout;
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPoolCreationParams.maxJobsPerWorker}
+  ///Number of jobs after which a headless WebView is destroyed and created again,
+  ///to release the memory it may have accumulated. Set `0` to never recreate it.
+  ///{@endtemplate}
+  final int maxJobsPerWorker;
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPoolCreationParams.clearSharedStorageBetweenJobs}
+  ///Whether all the cookies and the Web Storage data are deleted between two jobs.
+  ///The cache, form data, SSL preferences and session storage of a headless WebView are always cleared.
+  ///
+  ///**NOTE**: the cookies and the Web Storage data are shared by all the WebViews of the app,
+  ///including the other headless WebViews of the pool that may be running a job.
+  ///{@endtemplate}
+  final bool clearSharedStorageBetweenJobs;
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPoolCreationParams.resultBatchSize}
+  ///Maximum number of job results delivered in a single [onJobResults] call.
+  ///{@endtemplate}
+  final int resultBatchSize;
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPoolCreationParams.resultBatchInterval}
+  ///Maximum delay before delivering the job results when fewer than [resultBatchSize] are available.
+  ///The results are delivered immediately when the pool becomes idle.
+  ///{@endtemplate}
+  final Duration resultBatchInterval;
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPoolCreationParams.onJobResults}
+  ///Event fired with a batch of results of completed or failed jobs.
+  ///{@endtemplate}
+  final void Function(List<HeadlessWebViewJobResult> results)? onJobResults;
+}
+
+///{@template zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPool}
+///Pool of headless WebViews running a queue of [HeadlessWebViewJob]s in parallel,
+///e.g. to render or scrape a batch of pages.
+///
+///Each headless WebView runs one job at a time: the page is loaded, then the job script is run
+///and a screenshot is taken, if requested. Between two jobs, the WebView is reused after clearing
+///the page, its history, cache, form data and session storage, instead of being destroyed and created again
+///(see [PlatformHeadlessWebViewWorkerPoolCreationParams.clearSharedStorageBetweenJobs]).
+///The results, with the timing of each step, are delivered in batches to
+///[PlatformHeadlessWebViewWorkerPoolCreationParams.onJobResults].
+///
+///Remember to dispose it when you don't need it anymore.
+///
+///**Officially Supported Platforms/Implementations**:
+///- Android native WebView
+///{@endtemplate}
+abstract class PlatformHeadlessWebViewWorkerPool extends PlatformInterface
+    implements Disposable {
+  /// Creates a new [PlatformHeadlessWebViewWorkerPool]
+  factory PlatformHeadlessWebViewWorkerPool(
+      PlatformHeadlessWebViewWorkerPoolCreationParams params) {
+    assert(
+      InAppWebViewPlatform.instance != null,
+      'A platform implementation for `zikzak_inappwebview` has not been set. Please '
+      'ensure that an implementation of `InAppWebViewPlatform` has been set to '
+      '`InAppWebViewPlatform.instance` before use. For unit testing, '
+      '`InAppWebViewPlatform.instance` can be set with your own test implementation.',
+    );
+    final PlatformHeadlessWebViewWorkerPool workerPool = InAppWebViewPlatform
+        .instance!
+        .createPlatformHeadlessWebViewWorkerPool(params);
+    PlatformInterface.verify(workerPool, _token);
+    return workerPool;
+  }
+
+  /// Used by the platform implementation to create a new [PlatformHeadlessWebViewWorkerPool].
+  ///
+  /// Should only be used by platform implementations because they can't extend
+  /// a class that only contains a factory constructor.
+  @protected
+  PlatformHeadlessWebViewWorkerPool.implementation(this.params)
+      : super(token: _token);
+
+  static final Object _token = Object();
+
+  /// The parameters used to initialize the [PlatformHeadlessWebViewWorkerPool].
+  final PlatformHeadlessWebViewWorkerPoolCreationParams params;
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPool.id}
+  ///Worker pool ID.
+  ///{@endtemplate}
+  String get id =>
+      throw UnimplementedError('id is not implemented on the current platform');
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPool.run}
+  ///Creates the native worker pool. It must be called before enqueuing jobs.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<void> run() {
+    throw UnimplementedError('run is not implemented on the current platform');
+  }
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPool.isRunning}
+  ///Indicates if the worker pool is running or not.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  bool isRunning() {
+    throw UnimplementedError(
+        'isRunning is not implemented on the current platform');
+  }
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPool.enqueue}
+  ///Adds [jobs] to the queue. They are started as soon as a headless WebView is available.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<void> enqueue(List<HeadlessWebViewJob> jobs) {
+    throw UnimplementedError(
+        'enqueue is not implemented on the current platform');
+  }
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPool.cancelPendingJobs}
+  ///Removes the jobs that are not started yet from the queue and returns their number.
+  ///The running jobs are not cancelled.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<int> cancelPendingJobs() {
+    throw UnimplementedError(
+        'cancelPendingJobs is not implemented on the current platform');
+  }
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPool.getPendingJobCount}
+  ///Gets the number of jobs waiting for a headless WebView.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<int> getPendingJobCount() {
+    throw UnimplementedError(
+        'getPendingJobCount is not implemented on the current platform');
+  }
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPool.getRunningJobCount}
+  ///Gets the number of jobs currently running.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<int> getRunningJobCount() {
+    throw UnimplementedError(
+        'getRunningJobCount is not implemented on the current platform');
+  }
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformHeadlessWebViewWorkerPool.dispose}
+  ///Disposes the worker pool and destroys its headless WebViews.
+  ///The pending and running jobs are dropped without results.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<void> dispose() {
+    throw UnimplementedError(
+        'dispose is not implemented on the current platform');
+  }
+}
@@ -758,6 +758,145 @@ abstract class PlatformInAppWebViewController extends PlatformInterface
         'takeScreenshot is not implemented on the current platform');
   }
 
+  ///{@template zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.getLastScreenshotTimings}
+  ///Gets the duration of each stage of the last screenshot successfully taken with [takeScreenshot].
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<ScreenshotTimings?> getLastScreenshotTimings() {
+    throw UnimplementedError(
+        'getLastScreenshotTimings is not implemented on the current platform');
+  }
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.startThumbnailCapture}
+  ///Starts keeping an up-to-date thumbnail of the WebView natively, e.g. for a tab switcher.
+  ///
+  ///A new thumbnail is captured only after a visual change (page commit, page load or scroll),
+  ///once the WebView is idle and at most once per [ThumbnailCaptureConfiguration.minimumInterval].
+  ///The WebView is drawn directly at the thumbnail size and compressed in background,
+  ///so it is much cheaper than calling [takeScreenshot] periodically.
+  ///Use [getThumbnail] to get the last captured thumbnail.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<void> startThumbnailCapture(
+      {ThumbnailCaptureConfiguration? configuration}) {
+    throw UnimplementedError(
+        'startThumbnailCapture is not implemented on the current platform');
+  }
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.stopThumbnailCapture}
+  ///Stops the thumbnail capture started with [startThumbnailCapture].
+  ///The last captured thumbnail is still available with [getThumbnail].
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<void> stopThumbnailCapture() {
+    throw UnimplementedError(
+        'stopThumbnailCapture is not implemented on the current platform');
+  }
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.getThumbnail}
+  ///Gets the last thumbnail captured after [startThumbnailCapture], or `null` if none has been captured yet.
+  ///Compare [Thumbnail.captureTime] to skip thumbnails that have not changed.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<Thumbnail?> getThumbnail() {
+    throw UnimplementedError(
+        'getThumbnail is not implemented on the current platform');
+  }
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.takeFullPageScreenshot}
+  ///Takes a screenshot of the whole page, not only of the visible viewport.
+  ///
+  ///The page is scrolled one viewport at a time and each viewport is captured as a separate tile,
+  ///which is delivered to [onTile] as soon as it is compressed, from the top to the bottom of the page.
+  ///Tiles are not stitched into a single image, so the memory used doesn't grow with the page height.
+  ///The original scroll position is restored at the end.
+  ///
+  ///Returns the size of the full-page image and the number of tiles,
+  ///or `null` if the screenshot failed or another full-page screenshot is in progress.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<FullPageScreenshotResult?> takeFullPageScreenshot(
+      {FullPageScreenshotConfiguration? configuration,
+      required void Function(FullPageScreenshotTile tile) onTile}) {
+    throw UnimplementedError(
+        'takeFullPageScreenshot is not implemented on the current platform');
+  }
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.hibernate}
+  ///Lowers the resource usage of the WebView while it is not displayed, e.g. for a background tab.
+  ///Call [wakeUp] before displaying it again.
+  ///
+  ///Unlike [pauseTimers], only this WebView is affected.
+  ///See [HibernationLevel] for the effect of each level.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView ([Official API - WebView.onPause](https://developer.android.com/reference/android/webkit/WebView#onPause()))
+  ///{@endtemplate}
+  Future<void> hibernate({required HibernationLevel level}) {
+    throw UnimplementedError(
+        'hibernate is not implemented on the current platform');
+  }
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.wakeUp}
+  ///Restores a WebView hibernated with [hibernate].
+  ///
+  ///Kept alive WebViews are woken up automatically when they are displayed again.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView ([Official API - WebView.onResume](https://developer.android.com/reference/android/webkit/WebView#onResume()))
+  ///{@endtemplate}
+  Future<void> wakeUp() {
+    throw UnimplementedError(
+        'wakeUp is not implemented on the current platform');
+  }
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.getHibernationLevel}
+  ///Gets the current [HibernationLevel] of the WebView.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<HibernationLevel?> getHibernationLevel() {
+    throw UnimplementedError(
+        'getHibernationLevel is not implemented on the current platform');
+  }
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.getBlockedTrackerRequestCounts}
+  ///Gets the number of requests of the WebView blocked by the native tracker blocklist, by tracker.
+  ///
+  ///The requests are blocked before reaching the network once the tracker blocking is enabled
+  ///with [configureTrackerBlocking]. Main-frame navigations are never blocked,
+  ///and on Android versions older than 5.0 no request is blocked.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<Map<String, int>> getBlockedTrackerRequestCounts() {
+    throw UnimplementedError(
+        'getBlockedTrackerRequestCounts is not implemented on the current platform');
+  }
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.clearBlockedTrackerRequestCounts}
+  ///Resets the counts returned by [getBlockedTrackerRequestCounts].
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<void> clearBlockedTrackerRequestCounts() {
+    throw UnimplementedError(
+        'clearBlockedTrackerRequestCounts is not implemented on the current platform');
+  }
+
   ///{@template zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.setSettings}
   ///Sets the WebView settings with the new [settings] and evaluates them.
   ///
@@ -1795,6 +1934,39 @@ abstract class PlatformInAppWebViewController extends PlatformInterface
         'clearFormData is not implemented on the current platform');
   }
 
+  ///{@template zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.getConsoleMessages}
+  ///Gets and removes the console messages buffered natively because of [InAppWebViewSettings.consoleMessageBufferSize],
+  ///together with the number of messages dropped or filtered since the last call.
+  ///
+  ///Messages pulled with this method are not delivered to [PlatformWebViewCreationParams.onConsoleMessage].
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<ConsoleMessageBatch?> getConsoleMessages() {
+    throw UnimplementedError(
+        'getConsoleMessages is not implemented on the current platform');
+  }
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.getInterceptedRequestBody}
+  ///Gets the body of a request intercepted with [InAppWebViewSettings.lazyInterceptedRequestBody] enabled,
+  ///or larger than [InAppWebViewSettings.interceptedRequestBodyInlineThreshold],
+  ///using the [AjaxRequest.bodyId] or [FetchRequest.bodyId] of the intercepted request.
+  ///The body is available only until the interception event returns.
+  ///When supported by the WebView, binary bodies are transferred in chunks as raw bytes instead of JSON.
+  ///
+  ///It returns a [String] or a [Uint8List], or `null` if the body is no longer available.
+  ///
+  ///**NOTE**: it works only for requests intercepted in the main frame.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<dynamic> getInterceptedRequestBody({required int bodyId}) {
+    throw UnimplementedError(
+        'getInterceptedRequestBody is not implemented on the current platform');
+  }
+
   ///{@template zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.reloadFromOrigin}
   ///Reloads the current page, performing end-to-end revalidation using cache-validating conditionals if possible.
   ///
@@ -2312,6 +2484,115 @@ abstract class PlatformInAppWebViewController extends PlatformInterface
         'disposeKeepAlive is not implemented on the current platform');
   }
 
+  ///{@template zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.configureKeepAliveCache}
+  ///Configures the cache of the WebViews kept alive with an [InAppWebViewKeepAlive] instance.
+  ///
+  ///[capacity] is the maximum number of kept alive WebViews that are not displayed.
+  ///When it is exceeded, the least recently used ones are destroyed and their navigation history is saved,
+  ///to be restored when a widget with the same [InAppWebViewKeepAlive] instance is displayed again
+  ///(see [InAppWebViewKeepAlive.onEvicted] and [InAppWebViewKeepAlive.onRestored]).
+  ///Set it to `0` to not limit the number of kept alive WebViews, which is the default behavior.
+  ///
+  ///Kept alive WebViews that are not displayed are also evicted when the system is low on memory, whatever the capacity.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<void> configureKeepAliveCache({required int capacity}) {
+    throw UnimplementedError(
+        'configureKeepAliveCache is not implemented on the current platform');
+  }
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.configureHibernationPolicy}
+  ///Configures the automatic hibernation of the WebViews kept alive with an [InAppWebViewKeepAlive] instance
+  ///while they are not displayed, e.g. background tabs.
+  ///
+  ///Each level of the [policy] is applied after its delay since the WebView is not displayed anymore,
+  ///and the WebView is woken up when it is displayed again.
+  ///A destroyed WebView is restored, with its navigation history and scroll position,
+  ///when a widget with the same [InAppWebViewKeepAlive] instance is displayed again
+  ///(see [InAppWebViewKeepAlive.onEvicted] and [InAppWebViewKeepAlive.onRestored]).
+  ///Set [policy] to `null` to disable the automatic hibernation, which is the default behavior.
+  ///
+  ///Kept alive WebViews that are not displayed are also hibernated to [HibernationLevel.LOW_PRIORITY]
+  ///when the system is running low on memory.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<void> configureHibernationPolicy({HibernationPolicy? policy}) {
+    throw UnimplementedError(
+        'configureHibernationPolicy is not implemented on the current platform');
+  }
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.getKeepAliveThumbnail}
+  ///Gets the last thumbnail of the WebView kept alive with the [keepAlive] instance,
+  ///captured after [startThumbnailCapture], also when the WebView has been destroyed to free memory.
+  ///Useful to display a placeholder of a hibernated tab.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<Thumbnail?> getKeepAliveThumbnail(InAppWebViewKeepAlive keepAlive) {
+    throw UnimplementedError(
+        'getKeepAliveThumbnail is not implemented on the current platform');
+  }
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.configureTrackerBlocking}
+  ///Enables or disables the native tracker blocklist, shared by all the WebViews.
+  ///
+  ///When [enabled], the sub-resource requests to a blocked tracker get an empty response
+  ///before reaching the network, and are counted by [getBlockedTrackerRequestCounts].
+  ///Main-frame navigations are never blocked.
+  ///The trackers in [removedTrackers] are removed from the blocklist, then the ones in [addedTrackers]
+  ///are added to it. A tracker is a domain, which also matches its subdomains,
+  ///optionally followed by a path prefix, e.g. `facebook.com/tr`.
+  ///The tracker blocking is disabled by default.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<void> configureTrackerBlocking(
+      {required bool enabled,
+      List<String>? addedTrackers,
+      List<String>? removedTrackers}) {
+    throw UnimplementedError(
+        'configureTrackerBlocking is not implemented on the current platform');
+  }
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.getBlockedTrackers}
+  ///Gets the trackers of the native blocklist configured with [configureTrackerBlocking].
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<List<String>> getBlockedTrackers() {
+    throw UnimplementedError(
+        'getBlockedTrackers is not implemented on the current platform');
+  }
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.configureWarmWebViewPool}
+  ///Configures a pool of WebViews created in advance, when the UI thread is idle,
+  ///so that new `InAppWebView` widgets don't pay the native WebView construction on their creation.
+  ///The first WebView created by the pool also pays the initialization of the WebView engine.
+  ///
+  ///[size] is the number of WebViews to keep ready. Set it to `0` to destroy the pooled WebViews.
+  ///
+  ///[settings] are the base settings the pooled WebViews are created with.
+  ///When a pooled WebView is handed out, the initial settings of the widget are applied to it.
+  ///Pooled WebViews are not used by widgets with a different [InAppWebViewSettings.useHybridComposition] value,
+  ///or by widgets created for a new window.
+  ///The pool is refilled in idle time after each hand-out.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<void> configureWarmWebViewPool(
+      {required int size, InAppWebViewSettings? settings}) {
+    throw UnimplementedError(
+        'configureWarmWebViewPool is not implemented on the current platform');
+  }
+
   ///{@template zikzak_inappwebview_platform_interface.PlatformInAppWebViewController.clearAllCache}
   ///Clears the resource cache. Note that the cache is per-application, so this will clear the cache for all WebViews used.
   ///
@@ -4,6 +4,7 @@ import 'chrome_safari_browser/platform_chrome_safari_browser.dart';
 import 'find_interaction/platform_find_interaction_controller.dart';
 import 'in_app_browser/platform_in_app_browser.dart';
 import 'in_app_webview/platform_headless_in_app_webview.dart';
+import 'in_app_webview/platform_headless_webview_worker_pool.dart';
 import 'in_app_webview/platform_inappwebview_controller.dart';
 import 'in_app_webview/platform_inappwebview_widget.dart';
 import 'platform_cookie_manager.dart';
@@ -243,6 +244,17 @@ abstract class InAppWebViewPlatform extends PlatformInterface {
         'createPlatformHeadlessInAppWebView is not implemented on the current platform.');
   }
 
+  /// Creates a new [PlatformHeadlessWebViewWorkerPool].
+  ///
+  /// This function should only be called by the app-facing package.
+  /// Look at using [HeadlessWebViewWorkerPool] in `zikzak_inappwebview` instead.
+  PlatformHeadlessWebViewWorkerPool createPlatformHeadlessWebViewWorkerPool(
+    PlatformHeadlessWebViewWorkerPoolCreationParams params,
+  ) {
+    throw UnimplementedError(
+        'createPlatformHeadlessWebViewWorkerPool is not implemented on the current platform.');
+  }
+
   /// Creates a new [PlatformWebStorageManager].
   ///
   /// This function should only be called by the app-facing package.
@@ -372,6 +384,17 @@ abstract class InAppWebViewPlatform extends PlatformInterface {
         'createPlatformInternalStoragePathHandler is not implemented on the current platform.');
   }
 
+  /// Creates a new [PlatformArchivePathHandler].
+  ///
+  /// This function should only be called by the app-facing package.
+  /// Look at using [ArchivePathHandler] in `zikzak_inappwebview` instead.
+  PlatformArchivePathHandler createPlatformArchivePathHandler(
+    PlatformArchivePathHandlerCreationParams params,
+  ) {
+    throw UnimplementedError(
+        'createPlatformArchivePathHandler is not implemented on the current platform.');
+  }
+
   /// Creates a new [PlatformCustomPathHandler].
   ///
   /// This function should only be called by the app-facing package.
@@ -115,6 +115,24 @@ abstract class PlatformCookieManager extends PlatformInterface {
         'setCookie is not implemented on the current platform');
   }
 
+  ///{@template zikzak_inappwebview_platform_interface.PlatformCookieManager.setCookies}
+  ///Sets all the given [cookies], grouped by the URL they are set for, with a single call.
+  ///The cookie store is flushed only once, after all the cookies have been set.
+  ///
+  ///Only [Cookie.name], [Cookie.value], [Cookie.domain], [Cookie.path], [Cookie.expiresDate],
+  ///[Cookie.isSecure], [Cookie.isHttpOnly] and [Cookie.sameSite] are used.
+  ///If [Cookie.path] is `null`, `/` is used.
+  ///
+  ///The return value indicates whether all the cookies were set.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<bool> setCookies({required Map<WebUri, List<Cookie>> cookies}) {
+    throw UnimplementedError(
+        'setCookies is not implemented on the current platform');
+  }
+
   ///{@template zikzak_inappwebview_platform_interface.PlatformCookieManager.getCookies}
   ///Gets all the cookies for the given [url].
   ///
@@ -146,6 +164,19 @@ abstract class PlatformCookieManager extends PlatformInterface {
         'getCookies is not implemented on the current platform');
   }
 
+  ///{@template zikzak_inappwebview_platform_interface.PlatformCookieManager.getAllCookiesForUrls}
+  ///Gets all the cookies for each of the given [urls] with a single call.
+  ///The result can be restored later with [setCookies].
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<Map<WebUri, List<Cookie>>> getAllCookiesForUrls(
+      {required List<WebUri> urls}) {
+    throw UnimplementedError(
+        'getAllCookiesForUrls is not implemented on the current platform');
+  }
+
   ///{@template zikzak_inappwebview_platform_interface.PlatformCookieManager.getCookie}
   ///Gets a cookie by its [name] for the given [url].
   ///
@@ -302,4 +333,34 @@ abstract class PlatformCookieManager extends PlatformInterface {
     throw UnimplementedError(
         'removeSessionCookies is not implemented on the current platform');
   }
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformCookieManager.watchCookies}
+  ///Starts watching the given [cookies], a list of cookie names for each URL,
+  ///replacing the cookies watched before.
+  ///
+  ///Instead of polling [getCookies], the watched cookies are checked natively when a WebView finishes loading a page
+  ///or loads a resource with the same origin of a watched URL, and every [checkInterval] if not `null`.
+  ///[onCookiesChanged] is called only when at least one watched cookie has changed, with the list of changes.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<void> watchCookies(
+      {required Map<WebUri, List<String>> cookies,
+      Duration? checkInterval,
+      required void Function(List<CookieChange> changes) onCookiesChanged}) {
+    throw UnimplementedError(
+        'watchCookies is not implemented on the current platform');
+  }
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformCookieManager.stopWatchingCookies}
+  ///Stops watching the cookies given to [watchCookies].
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<void> stopWatchingCookies() {
+    throw UnimplementedError(
+        'stopWatchingCookies is not implemented on the current platform');
+  }
 }
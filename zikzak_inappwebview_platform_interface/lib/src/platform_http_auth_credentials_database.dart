@@ -103,6 +103,22 @@ abstract class PlatformHttpAuthCredentialDatabase extends PlatformInterface {
         'setHttpAuthCredential is not implemented on the current platform');
   }
 
+  ///{@template zikzak_inappwebview_platform_interface.PlatformHttpAuthCredentialDatabase.importHttpAuthCredentials}
+  ///Saves all the given HTTP auth [credentials] in a single database transaction.
+  ///Use it instead of [setHttpAuthCredential] to save the credentials of many protection spaces at once,
+  ///for example the result of [getAllAuthCredentials].
+  ///
+  ///The return value indicates whether all the credentials have been saved.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<bool> importHttpAuthCredentials(
+      {required List<URLProtectionSpaceHttpAuthCredentials> credentials}) {
+    throw UnimplementedError(
+        'importHttpAuthCredentials is not implemented on the current platform');
+  }
+
   ///{@template zikzak_inappwebview_platform_interface.PlatformHttpAuthCredentialDatabase.removeHttpAuthCredential}
   ///Removes an HTTP auth [credential] for that [protectionSpace].
   ///
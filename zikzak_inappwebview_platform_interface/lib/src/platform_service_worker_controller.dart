@@ -216,5 +216,35 @@ class ServiceWorkerClient {
   final Future<WebResourceResponse?> Function(WebResourceRequest request)?
       shouldInterceptRequest;
 
-  ServiceWorkerClient({this.shouldInterceptRequest});
+  ///{@template zikzak_inappwebview_platform_interface.ServiceWorkerClient.filter}
+  ///Filter evaluated natively before calling [shouldInterceptRequest].
+  ///Requests that don't match it are loaded as usual without calling [shouldInterceptRequest].
+  ///The patterns are Java regular expressions.
+  ///{@endtemplate}
+  final RequestInterceptionFilter? filter;
+
+  ///{@template zikzak_inappwebview_platform_interface.ServiceWorkerClient.timeout}
+  ///Maximum time to wait for the [shouldInterceptRequest] response.
+  ///When it expires, [timeoutResponse] is used. If `null`, the Service Worker waits indefinitely.
+  ///{@endtemplate}
+  final Duration? timeout;
+
+  ///{@template zikzak_inappwebview_platform_interface.ServiceWorkerClient.timeoutResponse}
+  ///Response used when [timeout] expires. If `null`, the Service Worker loads the resource as usual.
+  ///{@endtemplate}
+  final WebResourceResponse? timeoutResponse;
+
+  ///{@template zikzak_inappwebview_platform_interface.ServiceWorkerClient.cacheSize}
+  ///Maximum number of responses returned by [shouldInterceptRequest] for `GET` requests
+  ///that are kept natively and reused for the same URL without calling [shouldInterceptRequest] again.
+  ///Responses with a `Cache-Control: no-store` header are not kept. If `null` or `0`, no response is kept.
+  ///{@endtemplate}
+  final int? cacheSize;
+
+  ServiceWorkerClient(
+      {this.shouldInterceptRequest,
+      this.filter,
+      this.timeout,
+      this.timeoutResponse,
+      this.cacheSize});
 }
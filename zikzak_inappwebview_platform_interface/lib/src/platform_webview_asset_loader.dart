@@ -269,18 +269,22 @@ class PlatformInternalStoragePathHandlerCreationParams
       // This parameter prevents breaking changes later.
       // ignore: avoid_unused_constructor_parameters
       PlatformPathHandlerCreationParams params,
-      {required this.directory})
+      {required this.directory,
+      this.usePrecompressedFiles = false})
       : super(path: params.path);
 
   /// Creates a [PlatformInternalStoragePathHandlerCreationParams] instance based on [PlatformPathHandlerCreationParams].
   factory PlatformInternalStoragePathHandlerCreationParams.fromPlatformPathHandlerCreationParams(
       PlatformPathHandlerCreationParams params,
-      {required String directory}) {
+      {required String directory,
+      bool usePrecompressedFiles = false}) {
     return PlatformInternalStoragePathHandlerCreationParams(params,
-        directory: directory);
+        directory: directory, usePrecompressedFiles: usePrecompressedFiles);
   }
 
   final String directory;
+
+  final bool usePrecompressedFiles;
 }
 
 ///{@template zikzak_inappwebview_platform_interface.PlatformInternalStoragePathHandler}
@@ -302,6 +306,16 @@ class PlatformInternalStoragePathHandlerCreationParams
 ///[guessContentTypeFromName](https://developer.android.com/reference/java/net/URLConnection.html#guessContentTypeFromName-java.lang.String-).
 ///Developers should ensure that asset files are named using standard file extensions.
 ///If the file does not have a recognised extension, `text/plain` will be used by default.
+///
+///If [usePrecompressedFiles] is `true`, the gzip-compressed sibling of a requested file, `file.gz`,
+///is read instead of the file and decompressed natively, on the WebView IO thread, while it is served.
+///The response has no `Content-Encoding` header: the WebView isn't documented to decode the content encoding
+///of the responses of a path handler, so they are decoded before reaching it.
+///This reduces the data read from the storage, at the cost of the decompression time,
+///but not the parsing time of the page.
+///Brotli-compressed siblings, `file.br`, are not supported, as Android has no built-in Brotli decoder.
+///The directory is listed once on the first request, to build an in-memory manifest
+///of the compressed files and their MIME types, so the files added later are served uncompressed.
 ///{@endtemplate}
 abstract class PlatformInternalStoragePathHandler extends PlatformInterface
     implements PlatformPathHandler {
@@ -342,6 +356,100 @@ abstract class PlatformInternalStoragePathHandler extends PlatformInterface
   String get path => params.path;
 
   String get directory => params.directory;
+
+  bool get usePrecompressedFiles => params.usePrecompressedFiles;
+}
+
+/// Object specifying creation parameters for creating a [PlatformArchivePathHandler].
+///
+/// Platform specific implementations can add additional fields by extending
+/// this class.
+@immutable
+class PlatformArchivePathHandlerCreationParams
+    extends PlatformPathHandlerCreationParams {
+  /// Used by the platform implementation to create a new [PlatformArchivePathHandler].
+  PlatformArchivePathHandlerCreationParams(
+      // This parameter prevents breaking changes later.
+      // ignore: avoid_unused_constructor_parameters
+      PlatformPathHandlerCreationParams params,
+      {required this.archivePath,
+      this.cacheMaxAge})
+      : super(path: params.path);
+
+  /// Creates a [PlatformArchivePathHandlerCreationParams] instance based on [PlatformPathHandlerCreationParams].
+  factory PlatformArchivePathHandlerCreationParams.fromPlatformPathHandlerCreationParams(
+      PlatformPathHandlerCreationParams params,
+      {required String archivePath,
+      Duration? cacheMaxAge}) {
+    return PlatformArchivePathHandlerCreationParams(params,
+        archivePath: archivePath, cacheMaxAge: cacheMaxAge);
+  }
+
+  final String archivePath;
+
+  final Duration? cacheMaxAge;
+}
+
+///{@template zikzak_inappwebview_platform_interface.PlatformArchivePathHandler}
+///Handler class to open files from a zip archive stored on the device.
+///
+///Opens the requested file from the entries of the archive at [archivePath].
+///The archive is opened on the first request and its central directory is kept in memory,
+///so the entries are found without scanning the archive.
+///Stored entries are streamed directly from the archive file.
+///If the archive contains a `file.gz` entry and no `file` entry,
+///the gzip-compressed entry is decompressed and served for the `file` path.
+///If the requested path is empty or ends with `/`, the `index.html` file of that directory is served.
+///
+///The matched prefix path used shouldn't be a prefix of a real web path.
+///Thus, if the requested file cannot be found a [WebResourceResponse] object with a `null` data will be returned instead of `null`.
+///A [WebResourceResponse] with `null` data will be received as an HTTP response with status code `404` and no body.
+///
+///The MIME type for the file will be determined from the file's extension.
+///If [cacheMaxAge] is set, the responses will have a `Cache-Control: public, max-age` header with its value.
+///The responses also have an `ETag` header based on the CRC of the entry.
+///{@endtemplate}
+abstract class PlatformArchivePathHandler extends PlatformInterface
+    implements PlatformPathHandler {
+  /// Creates a new [PlatformArchivePathHandler]
+  factory PlatformArchivePathHandler(
+      PlatformArchivePathHandlerCreationParams params) {
+    assert(
+      InAppWebViewPlatform.instance != null,
+      'A platform implementation for `zikzak_inappwebview` has not been set. Please '
+      'ensure that an implementation of `InAppWebViewPlatform` has been set to '
+      '`InAppWebViewPlatform.instance` before use. For unit testing, '
+      '`InAppWebViewPlatform.instance` can be set with your own test implementation.',
+    );
+    final PlatformArchivePathHandler archivePathHandler = InAppWebViewPlatform
+        .instance!
+        .createPlatformArchivePathHandler(params);
+    PlatformInterface.verify(archivePathHandler, _token);
+    return archivePathHandler;
+  }
+
+  /// Used by the platform implementation to create a new [PlatformArchivePathHandler].
+  ///
+  /// Should only be used by platform implementations because they can't extend
+  /// a class that only contains a factory constructor.
+  @protected
+  PlatformArchivePathHandler.implementation(this.params)
+      : super(token: _token);
+
+  static final Object _token = Object();
+
+  /// The parameters used to initialize the [PlatformArchivePathHandler].
+  final PlatformArchivePathHandlerCreationParams params;
+
+  @override
+  String get type => 'ArchivePathHandler';
+
+  @override
+  String get path => params.path;
+
+  String get archivePath => params.archivePath;
+
+  Duration? get cacheMaxAge => params.cacheMaxAge;
 }
 
 /// Object specifying creation parameters for creating a [PlatformCustomPathHandler].
@@ -353,16 +461,25 @@ class PlatformCustomPathHandlerCreationParams
     extends PlatformPathHandlerCreationParams {
   /// Used by the platform implementation to create a new [PlatformCustomPathHandler].
   PlatformCustomPathHandlerCreationParams(
-    // This parameter prevents breaking changes later.
-    // ignore: avoid_unused_constructor_parameters
-    PlatformPathHandlerCreationParams params,
-  ) : super(path: params.path);
+      // This parameter prevents breaking changes later.
+      // ignore: avoid_unused_constructor_parameters
+      PlatformPathHandlerCreationParams params,
+      {this.timeout,
+      this.cacheSize})
+      : super(path: params.path);
 
   /// Creates a [PlatformCustomPathHandlerCreationParams] instance based on [PlatformPathHandlerCreationParams].
   factory PlatformCustomPathHandlerCreationParams.fromPlatformPathHandlerCreationParams(
-      PlatformPathHandlerCreationParams params) {
-    return PlatformCustomPathHandlerCreationParams(params);
+      PlatformPathHandlerCreationParams params,
+      {Duration? timeout,
+      int? cacheSize}) {
+    return PlatformCustomPathHandlerCreationParams(params,
+        timeout: timeout, cacheSize: cacheSize);
   }
+
+  final Duration? timeout;
+
+  final int? cacheSize;
 }
 
 ///{@template zikzak_inappwebview_platform_interface.PlatformCustomPathHandler}
@@ -377,6 +494,12 @@ class PlatformCustomPathHandlerCreationParams
 ///[guessContentTypeFromName](https://developer.android.com/reference/java/net/URLConnection.html#guessContentTypeFromName-java.lang.String-).
 ///Developers should ensure that asset files are named using standard file extensions.
 ///If the file does not have a recognised extension, `text/plain` will be used by default.
+///
+///The native side waits for the [PlatformPathHandlerEvents.handle] response on the WebView IO thread.
+///If [timeout] is set and expires, the path is handled as not found by this handler.
+///If [cacheSize] is set, the most recently used responses are kept natively and reused for the same path
+///without calling [PlatformPathHandlerEvents.handle] again.
+///Responses with a `Cache-Control: no-store` header are not kept.
 ///{@endtemplate}
 abstract class PlatformCustomPathHandler extends PlatformInterface
     implements PlatformPathHandler {
@@ -413,4 +536,30 @@ abstract class PlatformCustomPathHandler extends PlatformInterface
 
   @override
   String get path => params.path;
+
+  Duration? get timeout => params.timeout;
+
+  int? get cacheSize => params.cacheSize;
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformCustomPathHandler.prefetch}
+  ///Puts the given [responses], by path relative to [path], in the native cache,
+  ///so that they are served without calling [PlatformPathHandlerEvents.handle].
+  ///The responses are also kept for the WebViews created later with this path handler.
+  ///
+  ///The prefetched responses count towards [cacheSize]: only the [cacheSize] most recent ones are kept,
+  ///and an [ArgumentError] is thrown if [cacheSize] is not set.
+  ///{@endtemplate}
+  Future<void> prefetch(
+      {required Map<String, WebResourceResponse> responses}) {
+    throw UnimplementedError(
+        'prefetch is not implemented on the current platform');
+  }
+
+  ///{@template zikzak_inappwebview_platform_interface.PlatformCustomPathHandler.clearCache}
+  ///Removes all the responses from the native cache, including the prefetched ones.
+  ///{@endtemplate}
+  Future<void> clearCache() {
+    throw UnimplementedError(
+        'clearCache is not implemented on the current platform');
+  }
 }
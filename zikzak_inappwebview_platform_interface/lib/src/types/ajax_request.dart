@@ -78,6 +78,10 @@ class AjaxRequest_ {
   ///Indicates the [AjaxRequestAction] that can be used to control the `XMLHttpRequest` request.
   AjaxRequestAction_? action;
 
+  ///Identifier of the request body when [InAppWebViewSettings.lazyInterceptedRequestBody] is `true`.
+  ///In that case [data] is `null` and the body can be retrieved with [PlatformInAppWebViewController.getInterceptedRequestBody].
+  int? bodyId;
+
   AjaxRequest_(
       {this.data,
       this.method,
@@ -97,5 +101,6 @@ class AjaxRequest_ {
       this.statusText,
       this.responseHeaders,
       this.event,
-      this.action = AjaxRequestAction_.PROCEED});
+      this.action = AjaxRequestAction_.PROCEED,
+      this.bodyId});
 }
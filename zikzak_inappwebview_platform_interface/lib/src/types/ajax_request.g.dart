@@ -11,6 +11,10 @@ class AjaxRequest {
   ///Indicates the [AjaxRequestAction] that can be used to control the `XMLHttpRequest` request.
   AjaxRequestAction? action;
 
+  ///Identifier of the request body when [InAppWebViewSettings.lazyInterceptedRequestBody] is `true`.
+  ///In that case [data] is `null` and the body can be retrieved with [PlatformInAppWebViewController.getInterceptedRequestBody].
+  int? bodyId;
+
   ///Data passed as a parameter to the `XMLHttpRequest.send()` method.
   dynamic data;
 
@@ -76,6 +80,7 @@ class AjaxRequest {
   bool? withCredentials;
   AjaxRequest(
       {this.action = AjaxRequestAction.PROCEED,
+      this.bodyId,
       this.data,
       this.event,
       this.headers,
@@ -101,6 +106,7 @@ class AjaxRequest {
       return null;
     }
     final instance = AjaxRequest(
+      bodyId: map['bodyId'],
       data: map['data'],
       event: AjaxRequestEvent.fromMap(map['event']?.cast<String, dynamic>()),
       headers:
@@ -130,6 +136,7 @@ class AjaxRequest {
   Map<String, dynamic> toMap() {
     return {
       "action": action?.toNativeValue(),
+      "bodyId": bodyId,
       "data": data,
       "event": event?.toMap(),
       "headers": headers?.toMap(),
@@ -158,6 +165,6 @@ class AjaxRequest {
 
   @override
   String toString() {
-    return 'AjaxRequest{action: $action, data: $data, event: $event, headers: $headers, isAsync: $isAsync, method: $method, password: $password, readyState: $readyState, response: $response, responseHeaders: $responseHeaders, responseText: $responseText, responseType: $responseType, responseURL: $responseURL, responseXML: $responseXML, status: $status, statusText: $statusText, url: $url, user: $user, withCredentials: $withCredentials}';
+    return 'AjaxRequest{action: $action, bodyId: $bodyId, data: $data, event: $event, headers: $headers, isAsync: $isAsync, method: $method, password: $password, readyState: $readyState, response: $response, responseHeaders: $responseHeaders, responseText: $responseText, responseType: $responseType, responseURL: $responseURL, responseXML: $responseXML, status: $status, statusText: $statusText, url: $url, user: $user, withCredentials: $withCredentials}';
   }
 }
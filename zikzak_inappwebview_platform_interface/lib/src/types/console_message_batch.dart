@@ -0,0 +1,24 @@
+import 'package:zikzak_inappwebview_internal_annotations/zikzak_inappwebview_internal_annotations.dart';
+
+import '../in_app_webview/in_app_webview_settings.dart';
+import 'console_message.dart';
+
+part 'console_message_batch.g.dart';
+
+///Class that represents the console messages buffered natively when [InAppWebViewSettings.consoleMessageBufferSize] is greater than `0`.
+@ExchangeableObject()
+class ConsoleMessageBatch_ {
+  ///List of the buffered console messages, from the oldest to the newest.
+  List<ConsoleMessage_> messages;
+
+  ///Number of console messages discarded because the buffer was full, since the last time the buffer has been pulled.
+  int droppedCount;
+
+  ///Number of console messages discarded because their level was below [InAppWebViewSettings.consoleMessageMinimumLevel], since the last time the buffer has been pulled.
+  int filteredCount;
+
+  ConsoleMessageBatch_(
+      {required this.messages,
+      required this.droppedCount,
+      required this.filteredCount});
+}
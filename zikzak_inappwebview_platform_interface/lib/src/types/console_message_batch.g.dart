@@ -0,0 +1,56 @@
+// GENERATED CODE - DO NOT MODIFY BY HAND
+
+part of 'console_message_batch.dart';
+
+// **************************************************************************
+// ExchangeableObjectGenerator
+// **************************************************************************
+
+///Class that represents the console messages buffered natively when [InAppWebViewSettings.consoleMessageBufferSize] is greater than `0`.
+class ConsoleMessageBatch {
+  ///Number of console messages discarded because the buffer was full, since the last time the buffer has been pulled.
+  int droppedCount;
+
+  ///Number of console messages discarded because their level was below [InAppWebViewSettings.consoleMessageMinimumLevel], since the last time the buffer has been pulled.
+  int filteredCount;
+
+  ///List of the buffered console messages, from the oldest to the newest.
+  List<ConsoleMessage> messages;
+  ConsoleMessageBatch(
+      {required this.droppedCount,
+      required this.filteredCount,
+      required this.messages});
+
+  ///Gets a possible [ConsoleMessageBatch] instance from a [Map] value.
+  static ConsoleMessageBatch? fromMap(Map<String, dynamic>? map) {
+    if (map == null) {
+      return null;
+    }
+    final instance = ConsoleMessageBatch(
+      droppedCount: map['droppedCount'],
+      filteredCount: map['filteredCount'],
+      messages: List<ConsoleMessage>.from(map['messages']
+          .map((e) => ConsoleMessage.fromMap(e?.cast<String, dynamic>())!)),
+    );
+    return instance;
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toMap() {
+    return {
+      "droppedCount": droppedCount,
+      "filteredCount": filteredCount,
+      "messages": messages.map((e) => e.toMap()).toList(),
+    };
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toJson() {
+    return toMap();
+  }
+
+  @override
+  String toString() {
+    return 'ConsoleMessageBatch{droppedCount: $droppedCount, filteredCount: $filteredCount, messages: $messages}';
+  }
+}
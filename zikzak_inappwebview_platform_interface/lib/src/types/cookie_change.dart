@@ -0,0 +1,27 @@
+import 'package:zikzak_inappwebview_internal_annotations/zikzak_inappwebview_internal_annotations.dart';
+
+import '../platform_cookie_manager.dart';
+import '../web_uri.dart';
+import 'cookie.dart';
+
+part 'cookie_change.g.dart';
+
+///Class that represents a change of a cookie watched with [PlatformCookieManager.watchCookies].
+@ExchangeableObject()
+class CookieChange_ {
+  ///The watched URL.
+  WebUri url;
+
+  ///The watched cookie name.
+  String name;
+
+  ///The cookie before the change, or `null` if it was not set.
+  Cookie_? oldCookie;
+
+  ///The cookie after the change, or `null` if it has been removed.
+  Cookie_? newCookie;
+
+  @ExchangeableObjectConstructor()
+  CookieChange_(
+      {required this.url, required this.name, this.oldCookie, this.newCookie});
+}
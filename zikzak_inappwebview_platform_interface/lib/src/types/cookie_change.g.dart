@@ -0,0 +1,58 @@
+// GENERATED CODE - DO NOT MODIFY BY HAND
+
+part of 'cookie_change.dart';
+
+// **************************************************************************
+// ExchangeableObjectGenerator
+// **************************************************************************
+
+///Class that represents a change of a cookie watched with [PlatformCookieManager.watchCookies].
+class CookieChange {
+  ///The watched cookie name.
+  String name;
+
+  ///The cookie after the change, or `null` if it has been removed.
+  Cookie? newCookie;
+
+  ///The cookie before the change, or `null` if it was not set.
+  Cookie? oldCookie;
+
+  ///The watched URL.
+  WebUri url;
+  CookieChange(
+      {required this.url, required this.name, this.oldCookie, this.newCookie});
+
+  ///Gets a possible [CookieChange] instance from a [Map] value.
+  static CookieChange? fromMap(Map<String, dynamic>? map) {
+    if (map == null) {
+      return null;
+    }
+    final instance = CookieChange(
+      name: map['name'],
+      newCookie: Cookie.fromMap(map['newCookie']?.cast<String, dynamic>()),
+      oldCookie: Cookie.fromMap(map['oldCookie']?.cast<String, dynamic>()),
+      url: WebUri(map['url']),
+    );
+    return instance;
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toMap() {
+    return {
+      "name": name,
+      "newCookie": newCookie?.toMap(),
+      "oldCookie": oldCookie?.toMap(),
+      "url": url.toString(),
+    };
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toJson() {
+    return toMap();
+  }
+
+  @override
+  String toString() {
+    return 'CookieChange{name: $name, newCookie: $newCookie, oldCookie: $oldCookie, url: $url}';
+  }
+}
@@ -0,0 +1,30 @@
+import 'package:zikzak_inappwebview_internal_annotations/zikzak_inappwebview_internal_annotations.dart';
+import '../in_app_webview/platform_webview.dart';
+
+part 'event_throttling_policy.g.dart';
+
+///Class that represents the policy used to throttle and coalesce a high-frequency WebView event,
+///such as [PlatformWebViewCreationParams.onScrollChanged], before it is delivered to the Dart side.
+///
+///Intermediate values are dropped and only the latest one is delivered.
+@ExchangeableObject()
+class EventThrottlingPolicy_ {
+  ///If `true`, pending values are delivered at most once per display frame, aligned to the native frame callback.
+  ///The default value is `true`.
+  bool coalesceToFrame;
+
+  ///Minimum time, in milliseconds, between two consecutive deliveries of the event.
+  ///The latest value is always delivered once the interval has elapsed.
+  ///The default value is `0`.
+  int minimumInterval;
+
+  ///Minimum change of the event value, compared to the last delivered value, required to deliver the event.
+  ///For scroll events it is expressed in pixels, for progress events in percentage points and for zoom events as a scale factor.
+  ///The default value is `0.0`.
+  double minimumDelta;
+
+  EventThrottlingPolicy_(
+      {this.coalesceToFrame = true,
+      this.minimumInterval = 0,
+      this.minimumDelta = 0.0});
+}
@@ -0,0 +1,62 @@
+// GENERATED CODE - DO NOT MODIFY BY HAND
+
+part of 'event_throttling_policy.dart';
+
+// **************************************************************************
+// ExchangeableObjectGenerator
+// **************************************************************************
+
+///Class that represents the policy used to throttle and coalesce a high-frequency WebView event,
+///such as [PlatformWebViewCreationParams.onScrollChanged], before it is delivered to the Dart side.
+///
+///Intermediate values are dropped and only the latest one is delivered.
+class EventThrottlingPolicy {
+  ///If `true`, pending values are delivered at most once per display frame, aligned to the native frame callback.
+  ///The default value is `true`.
+  bool coalesceToFrame;
+
+  ///Minimum change of the event value, compared to the last delivered value, required to deliver the event.
+  ///For scroll events it is expressed in pixels, for progress events in percentage points and for zoom events as a scale factor.
+  ///The default value is `0.0`.
+  double minimumDelta;
+
+  ///Minimum time, in milliseconds, between two consecutive deliveries of the event.
+  ///The latest value is always delivered once the interval has elapsed.
+  ///The default value is `0`.
+  int minimumInterval;
+  EventThrottlingPolicy(
+      {this.coalesceToFrame = true,
+      this.minimumDelta = 0.0,
+      this.minimumInterval = 0});
+
+  ///Gets a possible [EventThrottlingPolicy] instance from a [Map] value.
+  static EventThrottlingPolicy? fromMap(Map<String, dynamic>? map) {
+    if (map == null) {
+      return null;
+    }
+    final instance = EventThrottlingPolicy();
+    instance.coalesceToFrame = map['coalesceToFrame'];
+    instance.minimumDelta = map['minimumDelta'];
+    instance.minimumInterval = map['minimumInterval'];
+    return instance;
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toMap() {
+    return {
+      "coalesceToFrame": coalesceToFrame,
+      "minimumDelta": minimumDelta,
+      "minimumInterval": minimumInterval,
+    };
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toJson() {
+    return toMap();
+  }
+
+  @override
+  String toString() {
+    return 'EventThrottlingPolicy{coalesceToFrame: $coalesceToFrame, minimumDelta: $minimumDelta, minimumInterval: $minimumInterval}';
+  }
+}
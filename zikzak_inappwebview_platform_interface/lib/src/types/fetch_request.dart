@@ -68,6 +68,10 @@ class FetchRequest_ {
   ///Indicates the [FetchRequestAction] that can be used to control the request.
   FetchRequestAction_? action;
 
+  ///Identifier of the request body when [InAppWebViewSettings.lazyInterceptedRequestBody] is `true`.
+  ///In that case [body] is `null` and the body can be retrieved with [PlatformInAppWebViewController.getInterceptedRequestBody].
+  int? bodyId;
+
   FetchRequest_(
       {this.url,
       this.method,
@@ -81,5 +85,6 @@ class FetchRequest_ {
       this.referrerPolicy,
       this.integrity,
       this.keepalive,
-      this.action = FetchRequestAction_.PROCEED});
+      this.action = FetchRequestAction_.PROCEED,
+      this.bodyId});
 }
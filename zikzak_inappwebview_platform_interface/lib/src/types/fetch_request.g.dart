@@ -14,6 +14,10 @@ class FetchRequest {
   ///Body of the request.
   dynamic body;
 
+  ///Identifier of the request body when [InAppWebViewSettings.lazyInterceptedRequestBody] is `true`.
+  ///In that case [body] is `null` and the body can be retrieved with [PlatformInAppWebViewController.getInterceptedRequestBody].
+  int? bodyId;
+
   ///The cache mode used by the request.
   String? cache;
 
@@ -49,6 +53,7 @@ class FetchRequest {
   FetchRequest(
       {this.action = FetchRequestAction.PROCEED,
       this.body,
+      this.bodyId,
       this.cache,
       this.credentials,
       this.headers,
@@ -68,6 +73,7 @@ class FetchRequest {
     }
     final instance = FetchRequest(
       body: map['body'],
+      bodyId: map['bodyId'],
       cache: map['cache'],
       credentials: _fetchRequestCredentialDeserializer(map['credentials']),
       headers: map['headers']?.cast<String, dynamic>(),
@@ -89,6 +95,7 @@ class FetchRequest {
     return {
       "action": action?.toNativeValue(),
       "body": body,
+      "bodyId": bodyId,
       "cache": cache,
       "credentials": credentials?.toMap(),
       "headers": headers,
@@ -110,6 +117,6 @@ class FetchRequest {
 
   @override
   String toString() {
-    return 'FetchRequest{action: $action, body: $body, cache: $cache, credentials: $credentials, headers: $headers, integrity: $integrity, keepalive: $keepalive, method: $method, mode: $mode, redirect: $redirect, referrer: $referrer, referrerPolicy: $referrerPolicy, url: $url}';
+    return 'FetchRequest{action: $action, body: $body, bodyId: $bodyId, cache: $cache, credentials: $credentials, headers: $headers, integrity: $integrity, keepalive: $keepalive, method: $method, mode: $mode, redirect: $redirect, referrer: $referrer, referrerPolicy: $referrerPolicy, url: $url}';
   }
 }
@@ -0,0 +1,35 @@
+import 'package:zikzak_inappwebview_internal_annotations/zikzak_inappwebview_internal_annotations.dart';
+
+import '../in_app_webview/platform_inappwebview_controller.dart';
+import 'compress_format.dart';
+
+part 'full_page_screenshot_configuration.g.dart';
+
+///Class that represents the configuration of a full-page screenshot taken with [PlatformInAppWebViewController.takeFullPageScreenshot].
+@ExchangeableObject()
+class FullPageScreenshotConfiguration_ {
+  ///The width of the captured image, in logical pixels. The height keeps the aspect ratio of the page.
+  ///If `null`, the width of the WebView is used.
+  double? snapshotWidth;
+
+  ///Maximum height of the page to capture, in logical pixels, starting from the top of the page.
+  ///If `null`, the whole page is captured.
+  double? maxHeight;
+
+  ///The compression format of each tile.
+  ///The default value is [CompressFormat.PNG].
+  CompressFormat_ compressFormat;
+
+  ///Hint to the compressor, `0-100`. The value is interpreted differently depending on the [CompressFormat].
+  ///The default value is `100`.
+  int quality;
+
+  @ExchangeableObjectConstructor()
+  FullPageScreenshotConfiguration_(
+      {this.snapshotWidth,
+      this.maxHeight,
+      this.compressFormat = CompressFormat_.PNG,
+      this.quality = 100}) {
+    assert(this.quality >= 0);
+  }
+}
@@ -0,0 +1,68 @@
+// GENERATED CODE - DO NOT MODIFY BY HAND
+
+part of 'full_page_screenshot_configuration.dart';
+
+// **************************************************************************
+// ExchangeableObjectGenerator
+// **************************************************************************
+
+///Class that represents the configuration of a full-page screenshot taken with [PlatformInAppWebViewController.takeFullPageScreenshot].
+class FullPageScreenshotConfiguration {
+  ///The compression format of each tile.
+  ///The default value is [CompressFormat.PNG].
+  CompressFormat compressFormat;
+
+  ///Maximum height of the page to capture, in logical pixels, starting from the top of the page.
+  ///If `null`, the whole page is captured.
+  double? maxHeight;
+
+  ///Hint to the compressor, `0-100`. The value is interpreted differently depending on the [CompressFormat].
+  ///The default value is `100`.
+  int quality;
+
+  ///The width of the captured image, in logical pixels. The height keeps the aspect ratio of the page.
+  ///If `null`, the width of the WebView is used.
+  double? snapshotWidth;
+  FullPageScreenshotConfiguration(
+      {this.snapshotWidth,
+      this.maxHeight,
+      this.compressFormat = CompressFormat.PNG,
+      this.quality = 100}) {
+    assert(this.quality >= 0);
+  }
+
+  ///Gets a possible [FullPageScreenshotConfiguration] instance from a [Map] value.
+  static FullPageScreenshotConfiguration? fromMap(Map<String, dynamic>? map) {
+    if (map == null) {
+      return null;
+    }
+    final instance = FullPageScreenshotConfiguration(
+      maxHeight: map['maxHeight'],
+      snapshotWidth: map['snapshotWidth'],
+    );
+    instance.compressFormat =
+        CompressFormat.fromNativeValue(map['compressFormat'])!;
+    instance.quality = map['quality'];
+    return instance;
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toMap() {
+    return {
+      "compressFormat": compressFormat.toNativeValue(),
+      "maxHeight": maxHeight,
+      "quality": quality,
+      "snapshotWidth": snapshotWidth,
+    };
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toJson() {
+    return toMap();
+  }
+
+  @override
+  String toString() {
+    return 'FullPageScreenshotConfiguration{compressFormat: $compressFormat, maxHeight: $maxHeight, quality: $quality, snapshotWidth: $snapshotWidth}';
+  }
+}
@@ -0,0 +1,21 @@
+import 'package:zikzak_inappwebview_internal_annotations/zikzak_inappwebview_internal_annotations.dart';
+
+import '../in_app_webview/platform_inappwebview_controller.dart';
+
+part 'full_page_screenshot_result.g.dart';
+
+///Class that represents the result of a full-page screenshot taken with [PlatformInAppWebViewController.takeFullPageScreenshot].
+@ExchangeableObject()
+class FullPageScreenshotResult_ {
+  ///Width of the full-page image in physical pixels.
+  int width;
+
+  ///Height of the full-page image in physical pixels.
+  int height;
+
+  ///Number of tiles of the full-page image.
+  int tileCount;
+
+  FullPageScreenshotResult_(
+      {required this.width, required this.height, required this.tileCount});
+}
@@ -0,0 +1,53 @@
+// GENERATED CODE - DO NOT MODIFY BY HAND
+
+part of 'full_page_screenshot_result.dart';
+
+// **************************************************************************
+// ExchangeableObjectGenerator
+// **************************************************************************
+
+///Class that represents the result of a full-page screenshot taken with [PlatformInAppWebViewController.takeFullPageScreenshot].
+class FullPageScreenshotResult {
+  ///Height of the full-page image in physical pixels.
+  int height;
+
+  ///Number of tiles of the full-page image.
+  int tileCount;
+
+  ///Width of the full-page image in physical pixels.
+  int width;
+  FullPageScreenshotResult(
+      {required this.height, required this.tileCount, required this.width});
+
+  ///Gets a possible [FullPageScreenshotResult] instance from a [Map] value.
+  static FullPageScreenshotResult? fromMap(Map<String, dynamic>? map) {
+    if (map == null) {
+      return null;
+    }
+    final instance = FullPageScreenshotResult(
+      height: map['height'],
+      tileCount: map['tileCount'],
+      width: map['width'],
+    );
+    return instance;
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toMap() {
+    return {
+      "height": height,
+      "tileCount": tileCount,
+      "width": width,
+    };
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toJson() {
+    return toMap();
+  }
+
+  @override
+  String toString() {
+    return 'FullPageScreenshotResult{height: $height, tileCount: $tileCount, width: $width}';
+  }
+}
@@ -0,0 +1,33 @@
+import 'dart:typed_data';
+
+import 'package:zikzak_inappwebview_internal_annotations/zikzak_inappwebview_internal_annotations.dart';
+
+import '../in_app_webview/platform_inappwebview_controller.dart';
+
+part 'full_page_screenshot_tile.g.dart';
+
+///Class that represents a tile of a full-page screenshot taken with [PlatformInAppWebViewController.takeFullPageScreenshot].
+@ExchangeableObject()
+class FullPageScreenshotTile_ {
+  ///Index of the tile, starting from `0` for the top of the page.
+  int index;
+
+  ///Vertical offset of the tile in the full-page image, in physical pixels.
+  int y;
+
+  ///Width of the tile in physical pixels.
+  int width;
+
+  ///Height of the tile in physical pixels.
+  int height;
+
+  ///The compressed image data of the tile.
+  Uint8List data;
+
+  FullPageScreenshotTile_(
+      {required this.index,
+      required this.y,
+      required this.width,
+      required this.height,
+      required this.data});
+}
@@ -0,0 +1,67 @@
+// GENERATED CODE - DO NOT MODIFY BY HAND
+
+part of 'full_page_screenshot_tile.dart';
+
+// **************************************************************************
+// ExchangeableObjectGenerator
+// **************************************************************************
+
+///Class that represents a tile of a full-page screenshot taken with [PlatformInAppWebViewController.takeFullPageScreenshot].
+class FullPageScreenshotTile {
+  ///The compressed image data of the tile.
+  Uint8List data;
+
+  ///Height of the tile in physical pixels.
+  int height;
+
+  ///Index of the tile, starting from `0` for the top of the page.
+  int index;
+
+  ///Width of the tile in physical pixels.
+  int width;
+
+  ///Vertical offset of the tile in the full-page image, in physical pixels.
+  int y;
+  FullPageScreenshotTile(
+      {required this.data,
+      required this.height,
+      required this.index,
+      required this.width,
+      required this.y});
+
+  ///Gets a possible [FullPageScreenshotTile] instance from a [Map] value.
+  static FullPageScreenshotTile? fromMap(Map<String, dynamic>? map) {
+    if (map == null) {
+      return null;
+    }
+    final instance = FullPageScreenshotTile(
+      data: map['data'],
+      height: map['height'],
+      index: map['index'],
+      width: map['width'],
+      y: map['y'],
+    );
+    return instance;
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toMap() {
+    return {
+      "data": data,
+      "height": height,
+      "index": index,
+      "width": width,
+      "y": y,
+    };
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toJson() {
+    return toMap();
+  }
+
+  @override
+  String toString() {
+    return 'FullPageScreenshotTile{data: $data, height: $height, index: $index, width: $width, y: $y}';
+  }
+}
@@ -0,0 +1,45 @@
+import 'package:zikzak_inappwebview_internal_annotations/zikzak_inappwebview_internal_annotations.dart';
+
+import '../in_app_webview/platform_headless_webview_worker_pool.dart';
+import '../in_app_webview/platform_inappwebview_controller.dart';
+import 'in_app_webview_initial_data.dart';
+import 'screenshot_configuration.dart';
+import 'url_request.dart';
+
+part 'headless_webview_job.g.dart';
+
+///Class that represents a job run by a [PlatformHeadlessWebViewWorkerPool].
+///
+///The page is loaded from [urlRequest] or [initialData], then [script] is run and a screenshot is taken, if set.
+@ExchangeableObject()
+class HeadlessWebViewJob_ {
+  ///Identifier of the job, used to match its [HeadlessWebViewJobResult].
+  String id;
+
+  ///The URL request to load.
+  URLRequest_? urlRequest;
+
+  ///The data to load, if [urlRequest] is `null`.
+  InAppWebViewInitialData_? initialData;
+
+  ///Body of an async JavaScript function run once the page is loaded, like [PlatformInAppWebViewController.callAsyncJavaScript].
+  ///Its returned value is available in [HeadlessWebViewJobResult.scriptValue].
+  String? script;
+
+  ///If not `null`, a screenshot is taken after the [script] with this configuration.
+  ScreenshotConfiguration_? screenshotConfiguration;
+
+  ///Maximum duration of the job, in milliseconds. If `null`, the job timeout of the pool is used.
+  int? timeout;
+
+  @ExchangeableObjectConstructor()
+  HeadlessWebViewJob_(
+      {required this.id,
+      this.urlRequest,
+      this.initialData,
+      this.script,
+      this.screenshotConfiguration,
+      this.timeout}) {
+    assert(this.urlRequest != null || this.initialData != null);
+  }
+}
@@ -0,0 +1,81 @@
+// GENERATED CODE - DO NOT MODIFY BY HAND
+
+part of 'headless_webview_job.dart';
+
+// **************************************************************************
+// ExchangeableObjectGenerator
+// **************************************************************************
+
+///Class that represents a job run by a [PlatformHeadlessWebViewWorkerPool].
+///
+///The page is loaded from [urlRequest] or [initialData], then [script] is run and a screenshot is taken, if set.
+class HeadlessWebViewJob {
+  ///Identifier of the job, used to match its [HeadlessWebViewJobResult].
+  String id;
+
+  ///The data to load, if [urlRequest] is `null`.
+  InAppWebViewInitialData? initialData;
+
+  ///If not `null`, a screenshot is taken after the [script] with this configuration.
+  ScreenshotConfiguration? screenshotConfiguration;
+
+  ///Body of an async JavaScript function run once the page is loaded, like [PlatformInAppWebViewController.callAsyncJavaScript].
+  ///Its returned value is available in [HeadlessWebViewJobResult.scriptValue].
+  String? script;
+
+  ///Maximum duration of the job, in milliseconds. If `null`, the job timeout of the pool is used.
+  int? timeout;
+
+  ///The URL request to load.
+  URLRequest? urlRequest;
+  HeadlessWebViewJob(
+      {required this.id,
+      this.urlRequest,
+      this.initialData,
+      this.script,
+      this.screenshotConfiguration,
+      this.timeout}) {
+    assert(this.urlRequest != null || this.initialData != null);
+  }
+
+  ///Gets a possible [HeadlessWebViewJob] instance from a [Map] value.
+  static HeadlessWebViewJob? fromMap(Map<String, dynamic>? map) {
+    if (map == null) {
+      return null;
+    }
+    final instance = HeadlessWebViewJob(
+      id: map['id'],
+      initialData: InAppWebViewInitialData.fromMap(
+          map['initialData']?.cast<String, dynamic>()),
+      screenshotConfiguration: ScreenshotConfiguration.fromMap(
+          map['screenshotConfiguration']?.cast<String, dynamic>()),
+      script: map['script'],
+      timeout: map['timeout'],
+      urlRequest:
+          URLRequest.fromMap(map['urlRequest']?.cast<String, dynamic>()),
+    );
+    return instance;
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toMap() {
+    return {
+      "id": id,
+      "initialData": initialData?.toMap(),
+      "screenshotConfiguration": screenshotConfiguration?.toMap(),
+      "script": script,
+      "timeout": timeout,
+      "urlRequest": urlRequest?.toMap(),
+    };
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toJson() {
+    return toMap();
+  }
+
+  @override
+  String toString() {
+    return 'HeadlessWebViewJob{id: $id, initialData: $initialData, screenshotConfiguration: $screenshotConfiguration, script: $script, timeout: $timeout, urlRequest: $urlRequest}';
+  }
+}
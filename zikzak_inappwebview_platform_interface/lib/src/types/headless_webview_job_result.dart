@@ -0,0 +1,65 @@
+import 'dart:typed_data';
+
+import 'package:zikzak_inappwebview_internal_annotations/zikzak_inappwebview_internal_annotations.dart';
+
+import '../in_app_webview/platform_headless_webview_worker_pool.dart';
+import '../web_uri.dart';
+
+part 'headless_webview_job_result.g.dart';
+
+///Class that represents the result of a [HeadlessWebViewJob] run by a [PlatformHeadlessWebViewWorkerPool].
+///
+///All the durations are in milliseconds.
+@ExchangeableObject()
+class HeadlessWebViewJobResult_ {
+  ///The [HeadlessWebViewJob.id] of the job.
+  String jobId;
+
+  ///Whether the job completed without errors.
+  bool success;
+
+  ///Description of the failure of the job, e.g. a load error, a script error or a timeout.
+  String? error;
+
+  ///The URL of the loaded page.
+  WebUri? url;
+
+  ///Value returned by the [HeadlessWebViewJob.script].
+  dynamic scriptValue;
+
+  ///The screenshot taken if [HeadlessWebViewJob.screenshotConfiguration] is set.
+  Uint8List? screenshot;
+
+  ///Index of the worker that ran the job.
+  int workerIndex;
+
+  ///Time spent in the queue before a worker was available.
+  int queueDuration;
+
+  ///Time spent loading the page.
+  int? loadDuration;
+
+  ///Time spent running the [HeadlessWebViewJob.script].
+  int? scriptDuration;
+
+  ///Time spent taking the screenshot.
+  int? screenshotDuration;
+
+  ///Time from the start of the job, excluding the [queueDuration], to its completion.
+  int totalDuration;
+
+  @ExchangeableObjectConstructor()
+  HeadlessWebViewJobResult_(
+      {required this.jobId,
+      required this.success,
+      this.error,
+      this.url,
+      this.scriptValue,
+      this.screenshot,
+      required this.workerIndex,
+      required this.queueDuration,
+      this.loadDuration,
+      this.scriptDuration,
+      this.screenshotDuration,
+      required this.totalDuration});
+}
@@ -0,0 +1,111 @@
+// GENERATED CODE - DO NOT MODIFY BY HAND
+
+part of 'headless_webview_job_result.dart';
+
+// **************************************************************************
+// ExchangeableObjectGenerator
+// **************************************************************************
+
+///Class that represents the result of a [HeadlessWebViewJob] run by a [PlatformHeadlessWebViewWorkerPool].
+///
+///All the durations are in milliseconds.
+class HeadlessWebViewJobResult {
+  ///Description of the failure of the job, e.g. a load error, a script error or a timeout.
+  String? error;
+
+  ///The [HeadlessWebViewJob.id] of the job.
+  String jobId;
+
+  ///Time spent loading the page.
+  int? loadDuration;
+
+  ///Time spent in the queue before a worker was available.
+  int queueDuration;
+
+  ///The screenshot taken if [HeadlessWebViewJob.screenshotConfiguration] is set.
+  Uint8List? screenshot;
+
+  ///Time spent taking the screenshot.
+  int? screenshotDuration;
+
+  ///Time spent running the [HeadlessWebViewJob.script].
+  int? scriptDuration;
+
+  ///Value returned by the [HeadlessWebViewJob.script].
+  dynamic scriptValue;
+
+  ///Whether the job completed without errors.
+  bool success;
+
+  ///Time from the start of the job, excluding the [queueDuration], to its completion.
+  int totalDuration;
+
+  ///The URL of the loaded page.
+  WebUri? url;
+
+  ///Index of the worker that ran the job.
+  int workerIndex;
+  HeadlessWebViewJobResult(
+      {required this.jobId,
+      required this.success,
+      this.error,
+      this.url,
+      this.scriptValue,
+      this.screenshot,
+      required this.workerIndex,
+      required this.queueDuration,
+      this.loadDuration,
+      this.scriptDuration,
+      this.screenshotDuration,
+      required this.totalDuration});
+
+  ///Gets a possible [HeadlessWebViewJobResult] instance from a [Map] value.
+  static HeadlessWebViewJobResult? fromMap(Map<String, dynamic>? map) {
+    if (map == null) {
+      return null;
+    }
+    final instance = HeadlessWebViewJobResult(
+      error: map['error'],
+      jobId: map['jobId'],
+      loadDuration: map['loadDuration'],
+      queueDuration: map['queueDuration'],
+      screenshot: map['screenshot'],
+      screenshotDuration: map['screenshotDuration'],
+      scriptDuration: map['scriptDuration'],
+      scriptValue: map['scriptValue'],
+      success: map['success'],
+      totalDuration: map['totalDuration'],
+      url: map['url'] != null ? WebUri(map['url']) : null,
+      workerIndex: map['workerIndex'],
+    );
+    return instance;
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toMap() {
+    return {
+      "error": error,
+      "jobId": jobId,
+      "loadDuration": loadDuration,
+      "queueDuration": queueDuration,
+      "screenshot": screenshot,
+      "screenshotDuration": screenshotDuration,
+      "scriptDuration": scriptDuration,
+      "scriptValue": scriptValue,
+      "success": success,
+      "totalDuration": totalDuration,
+      "url": url?.toString(),
+      "workerIndex": workerIndex,
+    };
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toJson() {
+    return toMap();
+  }
+
+  @override
+  String toString() {
+    return 'HeadlessWebViewJobResult{error: $error, jobId: $jobId, loadDuration: $loadDuration, queueDuration: $queueDuration, screenshot: $screenshot, screenshotDuration: $screenshotDuration, scriptDuration: $scriptDuration, scriptValue: $scriptValue, success: $success, totalDuration: $totalDuration, url: $url, workerIndex: $workerIndex}';
+  }
+}
@@ -0,0 +1,32 @@
+import 'package:zikzak_inappwebview_internal_annotations/zikzak_inappwebview_internal_annotations.dart';
+
+import '../in_app_webview/in_app_webview_keep_alive.dart';
+import '../in_app_webview/platform_inappwebview_controller.dart';
+
+part 'hibernation_level.g.dart';
+
+///Class that represents how much a WebView not displayed is hibernated.
+///Used by [PlatformInAppWebViewController.hibernate].
+@ExchangeableEnum()
+class HibernationLevel_ {
+  // ignore: unused_field
+  final int _value;
+  const HibernationLevel_._internal(this._value);
+
+  ///The WebView is running normally.
+  static const NONE = const HibernationLevel_._internal(0);
+
+  ///The WebView is paused: animations, geolocation and media are stopped.
+  static const PAUSED = const HibernationLevel_._internal(1);
+
+  ///The WebView is paused and the system is allowed to kill its renderer process to reclaim memory.
+  static const LOW_PRIORITY = const HibernationLevel_._internal(2);
+
+  ///The WebView is destroyed. Its state, scroll position and last thumbnail are saved
+  ///and restored when it is displayed again.
+  ///As for an eviction, [InAppWebViewKeepAlive.onEvicted] is fired and the controller state added at runtime is discarded.
+  ///
+  ///**NOTE**: only a WebView kept alive with an [InAppWebViewKeepAlive] that is not displayed can be destroyed.
+  ///Otherwise, it is the same as [LOW_PRIORITY].
+  static const DESTROYED = const HibernationLevel_._internal(3);
+}
@@ -0,0 +1,97 @@
+// GENERATED CODE - DO NOT MODIFY BY HAND
+
+part of 'hibernation_level.dart';
+
+// **************************************************************************
+// ExchangeableEnumGenerator
+// **************************************************************************
+
+///Class that represents how much a WebView not displayed is hibernated.
+///Used by [PlatformInAppWebViewController.hibernate].
+class HibernationLevel {
+  final int _value;
+  final int _nativeValue;
+  const HibernationLevel._internal(this._value, this._nativeValue);
+// ignore: unused_element
+  factory HibernationLevel._internalMultiPlatform(
+          int value, Function nativeValue) =>
+      HibernationLevel._internal(value, nativeValue());
+
+  ///The WebView is destroyed. Its state, scroll position and last thumbnail are saved
+  ///and restored when it is displayed again.
+  ///As for an eviction, [InAppWebViewKeepAlive.onEvicted] is fired and the controller state added at runtime is discarded.
+  ///
+  ///**NOTE**: only a WebView kept alive with an [InAppWebViewKeepAlive] that is not displayed can be destroyed.
+  ///Otherwise, it is the same as [LOW_PRIORITY].
+  static const DESTROYED = HibernationLevel._internal(3, 3);
+
+  ///The WebView is paused and the system is allowed to kill its renderer process to reclaim memory.
+  static const LOW_PRIORITY = HibernationLevel._internal(2, 2);
+
+  ///The WebView is running normally.
+  static const NONE = HibernationLevel._internal(0, 0);
+
+  ///The WebView is paused: animations, geolocation and media are stopped.
+  static const PAUSED = HibernationLevel._internal(1, 1);
+
+  ///Set of all values of [HibernationLevel].
+  static final Set<HibernationLevel> values = [
+    HibernationLevel.DESTROYED,
+    HibernationLevel.LOW_PRIORITY,
+    HibernationLevel.NONE,
+    HibernationLevel.PAUSED,
+  ].toSet();
+
+  ///Gets a possible [HibernationLevel] instance from [int] value.
+  static HibernationLevel? fromValue(int? value) {
+    if (value != null) {
+      try {
+        return HibernationLevel.values
+            .firstWhere((element) => element.toValue() == value);
+      } catch (e) {
+        return null;
+      }
+    }
+    return null;
+  }
+
+  ///Gets a possible [HibernationLevel] instance from a native value.
+  static HibernationLevel? fromNativeValue(int? value) {
+    if (value != null) {
+      try {
+        return HibernationLevel.values
+            .firstWhere((element) => element.toNativeValue() == value);
+      } catch (e) {
+        return null;
+      }
+    }
+    return null;
+  }
+
+  ///Gets [int] value.
+  int toValue() => _value;
+
+  ///Gets [int] native value.
+  int toNativeValue() => _nativeValue;
+
+  @override
+  int get hashCode => _value.hashCode;
+
+  @override
+  bool operator ==(value) => value == _value;
+
+  @override
+  String toString() {
+    switch (_value) {
+      case 3:
+        return 'DESTROYED';
+      case 2:
+        return 'LOW_PRIORITY';
+      case 0:
+        return 'NONE';
+      case 1:
+        return 'PAUSED';
+    }
+    return _value.toString();
+  }
+}
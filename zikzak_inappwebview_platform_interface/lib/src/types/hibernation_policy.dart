@@ -0,0 +1,27 @@
+import 'package:zikzak_inappwebview_internal_annotations/zikzak_inappwebview_internal_annotations.dart';
+
+import '../in_app_webview/platform_inappwebview_controller.dart';
+import 'hibernation_level.dart';
+
+part 'hibernation_policy.g.dart';
+
+///Class that represents the policy used by [PlatformInAppWebViewController.configureHibernationPolicy]
+///to hibernate the kept alive WebViews that are not displayed.
+///
+///Each delay is the time, in milliseconds, since the WebView is not displayed anymore.
+///A `null` delay disables the corresponding [HibernationLevel].
+@ExchangeableObject()
+class HibernationPolicy_ {
+  ///Delay before the WebView is hibernated to [HibernationLevel.PAUSED].
+  int? pauseDelay;
+
+  ///Delay before the WebView is hibernated to [HibernationLevel.LOW_PRIORITY].
+  int? lowPriorityDelay;
+
+  ///Delay before the WebView is hibernated to [HibernationLevel.DESTROYED].
+  int? destroyDelay;
+
+  @ExchangeableObjectConstructor()
+  HibernationPolicy_(
+      {this.pauseDelay, this.lowPriorityDelay, this.destroyDelay});
+}
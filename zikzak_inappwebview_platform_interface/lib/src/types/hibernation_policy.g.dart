@@ -0,0 +1,57 @@
+// GENERATED CODE - DO NOT MODIFY BY HAND
+
+part of 'hibernation_policy.dart';
+
+// **************************************************************************
+// ExchangeableObjectGenerator
+// **************************************************************************
+
+///Class that represents the policy used by [PlatformInAppWebViewController.configureHibernationPolicy]
+///to hibernate the kept alive WebViews that are not displayed.
+///
+///Each delay is the time, in milliseconds, since the WebView is not displayed anymore.
+///A `null` delay disables the corresponding [HibernationLevel].
+class HibernationPolicy {
+  ///Delay before the WebView is hibernated to [HibernationLevel.DESTROYED].
+  int? destroyDelay;
+
+  ///Delay before the WebView is hibernated to [HibernationLevel.LOW_PRIORITY].
+  int? lowPriorityDelay;
+
+  ///Delay before the WebView is hibernated to [HibernationLevel.PAUSED].
+  int? pauseDelay;
+  HibernationPolicy(
+      {this.pauseDelay, this.lowPriorityDelay, this.destroyDelay});
+
+  ///Gets a possible [HibernationPolicy] instance from a [Map] value.
+  static HibernationPolicy? fromMap(Map<String, dynamic>? map) {
+    if (map == null) {
+      return null;
+    }
+    final instance = HibernationPolicy(
+      destroyDelay: map['destroyDelay'],
+      lowPriorityDelay: map['lowPriorityDelay'],
+      pauseDelay: map['pauseDelay'],
+    );
+    return instance;
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toMap() {
+    return {
+      "destroyDelay": destroyDelay,
+      "lowPriorityDelay": lowPriorityDelay,
+      "pauseDelay": pauseDelay,
+    };
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toJson() {
+    return toMap();
+  }
+
+  @override
+  String toString() {
+    return 'HibernationPolicy{destroyDelay: $destroyDelay, lowPriorityDelay: $lowPriorityDelay, pauseDelay: $pauseDelay}';
+  }
+}
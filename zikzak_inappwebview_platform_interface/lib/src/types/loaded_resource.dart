@@ -20,6 +20,71 @@ class LoadedResource_ {
   ///Returns the [DOMHighResTimeStamp](https://developer.mozilla.org/en-US/docs/Web/API/DOMHighResTimeStamp) duration to fetch a resource.
   double? duration;
 
+  ///Returns the duration, in milliseconds, spent following redirects.
+  ///
+  ///**NOTE**: timing values are `null` for cross-origin resources that are not served with the `Timing-Allow-Origin` header.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  double? redirectDuration;
+
+  ///Returns the duration, in milliseconds, of the DNS lookup.
+  ///
+  ///**NOTE**: timing values are `null` for cross-origin resources that are not served with the `Timing-Allow-Origin` header.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  double? domainLookupDuration;
+
+  ///Returns the duration, in milliseconds, needed to establish the connection to the server, including the TLS handshake.
+  ///
+  ///**NOTE**: timing values are `null` for cross-origin resources that are not served with the `Timing-Allow-Origin` header.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  double? connectDuration;
+
+  ///Returns the duration, in milliseconds, of the TLS handshake.
+  ///
+  ///**NOTE**: timing values are `null` for cross-origin resources that are not served with the `Timing-Allow-Origin` header.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  double? secureConnectionDuration;
+
+  ///Returns the duration, in milliseconds, between the start of the request and the first byte of the response (TTFB).
+  ///
+  ///**NOTE**: timing values are `null` for cross-origin resources that are not served with the `Timing-Allow-Origin` header.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  double? timeToFirstByte;
+
+  ///Returns the duration, in milliseconds, needed to download the response.
+  ///
+  ///**NOTE**: timing values are `null` for cross-origin resources that are not served with the `Timing-Allow-Origin` header.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  double? responseDuration;
+
+  ///Returns the size, in bytes, of the fetched resource, including the response header fields and the response payload body.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  int? transferSize;
+
+  ///Returns the size, in bytes, of the payload body before removing any applied content encoding.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  int? encodedBodySize;
+
+  ///Returns the size, in bytes, of the payload body after removing any applied content encoding.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  int? decodedBodySize;
+
+  ///Returns the network protocol used to fetch the resource, for example `h2` or `http/1.1`.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  String? nextHopProtocol;
+
   LoadedResource_(
-      {this.initiatorType, this.url, this.startTime, this.duration});
+      {this.initiatorType,
+      this.url,
+      this.startTime,
+      this.duration,
+      this.redirectDuration,
+      this.domainLookupDuration,
+      this.connectDuration,
+      this.secureConnectionDuration,
+      this.timeToFirstByte,
+      this.responseDuration,
+      this.transferSize,
+      this.encodedBodySize,
+      this.decodedBodySize,
+      this.nextHopProtocol});
 }
@@ -9,18 +9,104 @@ part of 'loaded_resource.dart';
 ///Class representing a resource response of the `WebView`.
 ///It is used by the method [PlatformWebViewCreationParams.onLoadResource].
 class LoadedResource {
+  ///Returns the duration, in milliseconds, needed to establish the connection to the server, including the TLS handshake.
+  ///
+  ///**NOTE**: timing values are `null` for cross-origin resources that are not served with the `Timing-Allow-Origin` header.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  double? connectDuration;
+
+  ///Returns the size, in bytes, of the payload body after removing any applied content encoding.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  int? decodedBodySize;
+
+  ///Returns the duration, in milliseconds, of the DNS lookup.
+  ///
+  ///**NOTE**: timing values are `null` for cross-origin resources that are not served with the `Timing-Allow-Origin` header.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  double? domainLookupDuration;
+
   ///Returns the [DOMHighResTimeStamp](https://developer.mozilla.org/en-US/docs/Web/API/DOMHighResTimeStamp) duration to fetch a resource.
   double? duration;
 
+  ///Returns the size, in bytes, of the payload body before removing any applied content encoding.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  int? encodedBodySize;
+
   ///A string representing the type of resource.
   String? initiatorType;
 
+  ///Returns the network protocol used to fetch the resource, for example `h2` or `http/1.1`.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  String? nextHopProtocol;
+
+  ///Returns the duration, in milliseconds, spent following redirects.
+  ///
+  ///**NOTE**: timing values are `null` for cross-origin resources that are not served with the `Timing-Allow-Origin` header.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  double? redirectDuration;
+
+  ///Returns the duration, in milliseconds, needed to download the response.
+  ///
+  ///**NOTE**: timing values are `null` for cross-origin resources that are not served with the `Timing-Allow-Origin` header.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  double? responseDuration;
+
+  ///Returns the duration, in milliseconds, of the TLS handshake.
+  ///
+  ///**NOTE**: timing values are `null` for cross-origin resources that are not served with the `Timing-Allow-Origin` header.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  double? secureConnectionDuration;
+
   ///Returns the [DOMHighResTimeStamp](https://developer.mozilla.org/en-US/docs/Web/API/DOMHighResTimeStamp) for the time a resource fetch started.
   double? startTime;
 
+  ///Returns the duration, in milliseconds, between the start of the request and the first byte of the response (TTFB).
+  ///
+  ///**NOTE**: timing values are `null` for cross-origin resources that are not served with the `Timing-Allow-Origin` header.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  double? timeToFirstByte;
+
+  ///Returns the size, in bytes, of the fetched resource, including the response header fields and the response payload body.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  int? transferSize;
+
   ///Resource URL.
   WebUri? url;
-  LoadedResource({this.duration, this.initiatorType, this.startTime, this.url});
+  LoadedResource(
+      {this.connectDuration,
+      this.decodedBodySize,
+      this.domainLookupDuration,
+      this.duration,
+      this.encodedBodySize,
+      this.initiatorType,
+      this.nextHopProtocol,
+      this.redirectDuration,
+      this.responseDuration,
+      this.secureConnectionDuration,
+      this.startTime,
+      this.timeToFirstByte,
+      this.transferSize,
+      this.url});
 
   ///Gets a possible [LoadedResource] instance from a [Map] value.
   static LoadedResource? fromMap(Map<String, dynamic>? map) {
@@ -28,9 +114,19 @@ class LoadedResource {
       return null;
     }
     final instance = LoadedResource(
+      connectDuration: map['connectDuration'],
+      decodedBodySize: map['decodedBodySize'],
+      domainLookupDuration: map['domainLookupDuration'],
       duration: map['duration'],
+      encodedBodySize: map['encodedBodySize'],
       initiatorType: map['initiatorType'],
+      nextHopProtocol: map['nextHopProtocol'],
+      redirectDuration: map['redirectDuration'],
+      responseDuration: map['responseDuration'],
+      secureConnectionDuration: map['secureConnectionDuration'],
       startTime: map['startTime'],
+      timeToFirstByte: map['timeToFirstByte'],
+      transferSize: map['transferSize'],
       url: map['url'] != null ? WebUri(map['url']) : null,
     );
     return instance;
@@ -39,9 +135,19 @@ class LoadedResource {
   ///Converts instance to a map.
   Map<String, dynamic> toMap() {
     return {
+      "connectDuration": connectDuration,
+      "decodedBodySize": decodedBodySize,
+      "domainLookupDuration": domainLookupDuration,
       "duration": duration,
+      "encodedBodySize": encodedBodySize,
       "initiatorType": initiatorType,
+      "nextHopProtocol": nextHopProtocol,
+      "redirectDuration": redirectDuration,
+      "responseDuration": responseDuration,
+      "secureConnectionDuration": secureConnectionDuration,
       "startTime": startTime,
+      "timeToFirstByte": timeToFirstByte,
+      "transferSize": transferSize,
       "url": url?.toString(),
     };
   }
@@ -53,6 +159,6 @@ class LoadedResource {
 
   @override
   String toString() {
-    return 'LoadedResource{duration: $duration, initiatorType: $initiatorType, startTime: $startTime, url: $url}';
+    return 'LoadedResource{connectDuration: $connectDuration, decodedBodySize: $decodedBodySize, domainLookupDuration: $domainLookupDuration, duration: $duration, encodedBodySize: $encodedBodySize, initiatorType: $initiatorType, nextHopProtocol: $nextHopProtocol, redirectDuration: $redirectDuration, responseDuration: $responseDuration, secureConnectionDuration: $secureConnectionDuration, startTime: $startTime, timeToFirstByte: $timeToFirstByte, transferSize: $transferSize, url: $url}';
   }
 }
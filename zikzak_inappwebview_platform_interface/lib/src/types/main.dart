@@ -16,6 +16,7 @@ export 'client_cert_response.dart' show ClientCertResponse;
 export 'client_cert_response_action.dart' show ClientCertResponseAction;
 export 'compress_format.dart' show CompressFormat;
 export 'console_message.dart' show ConsoleMessage;
+export 'console_message_batch.dart' show ConsoleMessageBatch;
 export 'console_message_level.dart' show ConsoleMessageLevel;
 export 'content_blocker_action_type.dart' show ContentBlockerActionType;
 export 'content_blocker_trigger_load_type.dart'
@@ -24,6 +25,7 @@ export 'content_blocker_trigger_resource_type.dart'
     show ContentBlockerTriggerResourceType;
 export 'content_world.dart' show ContentWorld;
 export 'cookie.dart' show Cookie;
+export 'cookie_change.dart' show CookieChange;
 export 'create_window_action.dart' show CreateWindowAction;
 export 'cross_origin.dart' show CrossOrigin;
 export 'css_link_html_tag_attributes.dart' show CSSLinkHtmlTagAttributes;
@@ -34,6 +36,7 @@ export 'data_detector_types.dart'
 export 'dismiss_button_style.dart'
     show DismissButtonStyle, IOSSafariDismissButtonStyle;
 export 'download_start_request.dart' show DownloadStartRequest;
+export 'event_throttling_policy.dart' show EventThrottlingPolicy;
 export 'favicon.dart' show Favicon;
 export 'fetch_request.dart' show FetchRequest;
 export 'fetch_request_action.dart' show FetchRequestAction;
@@ -48,8 +51,16 @@ export 'force_dark.dart' show ForceDark, AndroidForceDark;
 export 'force_dark_strategy.dart' show ForceDarkStrategy;
 export 'form_resubmission_action.dart' show FormResubmissionAction;
 export 'frame_info.dart' show FrameInfo, IOSWKFrameInfo;
+export 'full_page_screenshot_configuration.dart'
+    show FullPageScreenshotConfiguration;
+export 'full_page_screenshot_result.dart' show FullPageScreenshotResult;
+export 'full_page_screenshot_tile.dart' show FullPageScreenshotTile;
 export 'geolocation_permission_show_prompt_response.dart'
     show GeolocationPermissionShowPromptResponse;
+export 'headless_webview_job.dart' show HeadlessWebViewJob;
+export 'headless_webview_job_result.dart' show HeadlessWebViewJobResult;
+export 'hibernation_level.dart' show HibernationLevel;
+export 'hibernation_policy.dart' show HibernationPolicy;
 export 'http_auth_response.dart' show HttpAuthResponse;
 export 'http_auth_response_action.dart' show HttpAuthResponseAction;
 export 'http_authentication_challenge.dart' show HttpAuthenticationChallenge;
@@ -123,11 +134,13 @@ export 'renderer_priority.dart' show RendererPriority;
 export 'renderer_priority_policy.dart' show RendererPriorityPolicy;
 export 'request_focus_node_href_result.dart' show RequestFocusNodeHrefResult;
 export 'request_image_ref_result.dart' show RequestImageRefResult;
+export 'request_interception_filter.dart' show RequestInterceptionFilter;
 export 'safe_browsing_response.dart' show SafeBrowsingResponse;
 export 'safe_browsing_response_action.dart' show SafeBrowsingResponseAction;
 export 'safe_browsing_threat.dart' show SafeBrowsingThreat;
 export 'sandbox.dart' show Sandbox;
 export 'screenshot_configuration.dart' show ScreenshotConfiguration;
+export 'screenshot_timings.dart' show ScreenshotTimings;
 export 'script_html_tag_attributes.dart' show ScriptHtmlTagAttributes;
 export 'scrollbar_style.dart' show ScrollBarStyle, AndroidScrollBarStyle;
 export 'scrollview_content_inset_adjustment_behavior.dart'
@@ -149,6 +162,8 @@ export 'ssl_certificate.dart' show SslCertificate;
 export 'ssl_certificate_dname.dart' show SslCertificateDName;
 export 'ssl_error.dart' show SslError;
 export 'ssl_error_type.dart' show SslErrorType, AndroidSslError, IOSSslError;
+export 'thumbnail.dart' show Thumbnail;
+export 'thumbnail_capture_configuration.dart' show ThumbnailCaptureConfiguration;
 export 'trusted_web_activity_default_display_mode.dart'
     show TrustedWebActivityDefaultDisplayMode;
 export 'trusted_web_activity_display_mode.dart'
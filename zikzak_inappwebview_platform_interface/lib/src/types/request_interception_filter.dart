@@ -0,0 +1,26 @@
+import 'package:zikzak_inappwebview_internal_annotations/zikzak_inappwebview_internal_annotations.dart';
+
+import '../platform_service_worker_controller.dart';
+
+part 'request_interception_filter.g.dart';
+
+///Class that represents the rules used to decide, directly inside the injected JavaScript,
+///which `fetch`/`XMLHttpRequest` requests are sent to the Dart side to be intercepted.
+///Requests that don't match are performed without crossing the JavaScript bridge.
+///It is also used natively by [ServiceWorkerClient.filter].
+///
+///A request matches if its method is in [methods] (when set), its absolute URL doesn't match any of the [denyList] patterns,
+///and matches at least one of the [allowList] patterns (when set).
+@ExchangeableObject()
+class RequestInterceptionFilter_ {
+  ///List of JavaScript regular expressions. If not empty, only the requests whose URL matches at least one of them are intercepted.
+  List<String>? allowList;
+
+  ///List of JavaScript regular expressions. Requests whose URL matches one of them are never intercepted.
+  List<String>? denyList;
+
+  ///List of HTTP methods, such as `POST`. If not empty, only the requests using one of them are intercepted.
+  List<String>? methods;
+
+  RequestInterceptionFilter_({this.allowList, this.denyList, this.methods});
+}
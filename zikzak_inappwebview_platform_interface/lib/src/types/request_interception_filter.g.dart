@@ -0,0 +1,64 @@
+// GENERATED CODE - DO NOT MODIFY BY HAND
+
+part of 'request_interception_filter.dart';
+
+// **************************************************************************
+// ExchangeableObjectGenerator
+// **************************************************************************
+
+///Class that represents the rules used to decide, directly inside the injected JavaScript,
+///which `fetch`/`XMLHttpRequest` requests are sent to the Dart side to be intercepted.
+///Requests that don't match are performed without crossing the JavaScript bridge.
+///It is also used natively by [ServiceWorkerClient.filter].
+///
+///A request matches if its method is in [methods] (when set), its absolute URL doesn't match any of the [denyList] patterns,
+///and matches at least one of the [allowList] patterns (when set).
+class RequestInterceptionFilter {
+  ///List of JavaScript regular expressions. If not empty, only the requests whose URL matches at least one of them are intercepted.
+  List<String>? allowList;
+
+  ///List of JavaScript regular expressions. Requests whose URL matches one of them are never intercepted.
+  List<String>? denyList;
+
+  ///List of HTTP methods, such as `POST`. If not empty, only the requests using one of them are intercepted.
+  List<String>? methods;
+  RequestInterceptionFilter({this.allowList, this.denyList, this.methods});
+
+  ///Gets a possible [RequestInterceptionFilter] instance from a [Map] value.
+  static RequestInterceptionFilter? fromMap(Map<String, dynamic>? map) {
+    if (map == null) {
+      return null;
+    }
+    final instance = RequestInterceptionFilter(
+      allowList: map['allowList'] != null
+          ? List<String>.from(map['allowList']!.cast<String>())
+          : null,
+      denyList: map['denyList'] != null
+          ? List<String>.from(map['denyList']!.cast<String>())
+          : null,
+      methods: map['methods'] != null
+          ? List<String>.from(map['methods']!.cast<String>())
+          : null,
+    );
+    return instance;
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toMap() {
+    return {
+      "allowList": allowList,
+      "denyList": denyList,
+      "methods": methods,
+    };
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toJson() {
+    return toMap();
+  }
+
+  @override
+  String toString() {
+    return 'RequestInterceptionFilter{allowList: $allowList, denyList: $denyList, methods: $methods}';
+  }
+}
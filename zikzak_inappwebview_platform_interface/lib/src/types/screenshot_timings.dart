@@ -0,0 +1,29 @@
+import 'package:zikzak_inappwebview_internal_annotations/zikzak_inappwebview_internal_annotations.dart';
+
+part 'screenshot_timings.g.dart';
+
+///Class that represents the duration, in milliseconds, of each stage of a screenshot taken with `takeScreenshot`.
+@ExchangeableObject()
+class ScreenshotTimings_ {
+  ///Time spent waiting for the UI thread before the capture started.
+  double queueDuration;
+
+  ///Time spent drawing the WebView on the UI thread.
+  double captureDuration;
+
+  ///Time spent scaling the captured image in background, including the hand-off to the background thread.
+  double scaleDuration;
+
+  ///Time spent compressing the image in background.
+  double compressDuration;
+
+  ///Total time from the request to the compressed image.
+  double totalDuration;
+
+  ScreenshotTimings_(
+      {required this.queueDuration,
+      required this.captureDuration,
+      required this.scaleDuration,
+      required this.compressDuration,
+      required this.totalDuration});
+}
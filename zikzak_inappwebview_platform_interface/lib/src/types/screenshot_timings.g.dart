@@ -0,0 +1,67 @@
+// GENERATED CODE - DO NOT MODIFY BY HAND
+
+part of 'screenshot_timings.dart';
+
+// **************************************************************************
+// ExchangeableObjectGenerator
+// **************************************************************************
+
+///Class that represents the duration, in milliseconds, of each stage of a screenshot taken with `takeScreenshot`.
+class ScreenshotTimings {
+  ///Time spent drawing the WebView on the UI thread.
+  double captureDuration;
+
+  ///Time spent compressing the image in background.
+  double compressDuration;
+
+  ///Time spent waiting for the UI thread before the capture started.
+  double queueDuration;
+
+  ///Time spent scaling the captured image in background, including the hand-off to the background thread.
+  double scaleDuration;
+
+  ///Total time from the request to the compressed image.
+  double totalDuration;
+  ScreenshotTimings(
+      {required this.captureDuration,
+      required this.compressDuration,
+      required this.queueDuration,
+      required this.scaleDuration,
+      required this.totalDuration});
+
+  ///Gets a possible [ScreenshotTimings] instance from a [Map] value.
+  static ScreenshotTimings? fromMap(Map<String, dynamic>? map) {
+    if (map == null) {
+      return null;
+    }
+    final instance = ScreenshotTimings(
+      captureDuration: map['captureDuration'],
+      compressDuration: map['compressDuration'],
+      queueDuration: map['queueDuration'],
+      scaleDuration: map['scaleDuration'],
+      totalDuration: map['totalDuration'],
+    );
+    return instance;
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toMap() {
+    return {
+      "captureDuration": captureDuration,
+      "compressDuration": compressDuration,
+      "queueDuration": queueDuration,
+      "scaleDuration": scaleDuration,
+      "totalDuration": totalDuration,
+    };
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toJson() {
+    return toMap();
+  }
+
+  @override
+  String toString() {
+    return 'ScreenshotTimings{captureDuration: $captureDuration, compressDuration: $compressDuration, queueDuration: $queueDuration, scaleDuration: $scaleDuration, totalDuration: $totalDuration}';
+  }
+}
@@ -0,0 +1,29 @@
+import 'dart:typed_data';
+
+import 'package:zikzak_inappwebview_internal_annotations/zikzak_inappwebview_internal_annotations.dart';
+
+import '../in_app_webview/platform_inappwebview_controller.dart';
+
+part 'thumbnail.g.dart';
+
+///Class that represents a thumbnail of the WebView captured after [PlatformInAppWebViewController.startThumbnailCapture].
+@ExchangeableObject()
+class Thumbnail_ {
+  ///The compressed image data.
+  Uint8List data;
+
+  ///Width of the image in physical pixels.
+  int width;
+
+  ///Height of the image in physical pixels.
+  int height;
+
+  ///Time of the capture, in milliseconds since epoch.
+  int captureTime;
+
+  Thumbnail_(
+      {required this.data,
+      required this.width,
+      required this.height,
+      required this.captureTime});
+}
@@ -0,0 +1,61 @@
+// GENERATED CODE - DO NOT MODIFY BY HAND
+
+part of 'thumbnail.dart';
+
+// **************************************************************************
+// ExchangeableObjectGenerator
+// **************************************************************************
+
+///Class that represents a thumbnail of the WebView captured after [PlatformInAppWebViewController.startThumbnailCapture].
+class Thumbnail {
+  ///Time of the capture, in milliseconds since epoch.
+  int captureTime;
+
+  ///The compressed image data.
+  Uint8List data;
+
+  ///Height of the image in physical pixels.
+  int height;
+
+  ///Width of the image in physical pixels.
+  int width;
+  Thumbnail(
+      {required this.captureTime,
+      required this.data,
+      required this.height,
+      required this.width});
+
+  ///Gets a possible [Thumbnail] instance from a [Map] value.
+  static Thumbnail? fromMap(Map<String, dynamic>? map) {
+    if (map == null) {
+      return null;
+    }
+    final instance = Thumbnail(
+      captureTime: map['captureTime'],
+      data: map['data'],
+      height: map['height'],
+      width: map['width'],
+    );
+    return instance;
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toMap() {
+    return {
+      "captureTime": captureTime,
+      "data": data,
+      "height": height,
+      "width": width,
+    };
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toJson() {
+    return toMap();
+  }
+
+  @override
+  String toString() {
+    return 'Thumbnail{captureTime: $captureTime, data: $data, height: $height, width: $width}';
+  }
+}
@@ -0,0 +1,37 @@
+import 'package:zikzak_inappwebview_internal_annotations/zikzak_inappwebview_internal_annotations.dart';
+
+import '../in_app_webview/platform_inappwebview_controller.dart';
+import 'compress_format.dart';
+
+part 'thumbnail_capture_configuration.g.dart';
+
+///Class that represents the configuration of the thumbnail capture started with [PlatformInAppWebViewController.startThumbnailCapture].
+@ExchangeableObject()
+class ThumbnailCaptureConfiguration_ {
+  ///Width of the thumbnail in logical pixels. The height keeps the aspect ratio of the WebView.
+  ///The default value is `160`.
+  double width;
+
+  ///Minimum interval, in milliseconds, between two captures.
+  ///The default value is `1000`.
+  int minimumInterval;
+
+  ///The compression format of the thumbnail.
+  ///The default value is [CompressFormat.JPEG].
+  CompressFormat_ compressFormat;
+
+  ///Hint to the compressor, `0-100`. The value is interpreted differently depending on the [CompressFormat].
+  ///The default value is `70`.
+  int quality;
+
+  @ExchangeableObjectConstructor()
+  ThumbnailCaptureConfiguration_(
+      {this.width = 160,
+      this.minimumInterval = 1000,
+      this.compressFormat = CompressFormat_.JPEG,
+      this.quality = 70}) {
+    assert(this.width > 0);
+    assert(this.minimumInterval >= 0);
+    assert(this.quality >= 0);
+  }
+}
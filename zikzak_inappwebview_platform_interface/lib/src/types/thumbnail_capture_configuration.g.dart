@@ -0,0 +1,69 @@
+// GENERATED CODE - DO NOT MODIFY BY HAND
+
+part of 'thumbnail_capture_configuration.dart';
+
+// **************************************************************************
+// ExchangeableObjectGenerator
+// **************************************************************************
+
+///Class that represents the configuration of the thumbnail capture started with [PlatformInAppWebViewController.startThumbnailCapture].
+class ThumbnailCaptureConfiguration {
+  ///The compression format of the thumbnail.
+  ///The default value is [CompressFormat.JPEG].
+  CompressFormat compressFormat;
+
+  ///Minimum interval, in milliseconds, between two captures.
+  ///The default value is `1000`.
+  int minimumInterval;
+
+  ///Hint to the compressor, `0-100`. The value is interpreted differently depending on the [CompressFormat].
+  ///The default value is `70`.
+  int quality;
+
+  ///Width of the thumbnail in logical pixels. The height keeps the aspect ratio of the WebView.
+  ///The default value is `160`.
+  double width;
+  ThumbnailCaptureConfiguration(
+      {this.width = 160,
+      this.minimumInterval = 1000,
+      this.compressFormat = CompressFormat.JPEG,
+      this.quality = 70}) {
+    assert(this.width > 0);
+    assert(this.minimumInterval >= 0);
+    assert(this.quality >= 0);
+  }
+
+  ///Gets a possible [ThumbnailCaptureConfiguration] instance from a [Map] value.
+  static ThumbnailCaptureConfiguration? fromMap(Map<String, dynamic>? map) {
+    if (map == null) {
+      return null;
+    }
+    final instance = ThumbnailCaptureConfiguration();
+    instance.compressFormat =
+        CompressFormat.fromNativeValue(map['compressFormat'])!;
+    instance.minimumInterval = map['minimumInterval'];
+    instance.quality = map['quality'];
+    instance.width = map['width'];
+    return instance;
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toMap() {
+    return {
+      "compressFormat": compressFormat.toNativeValue(),
+      "minimumInterval": minimumInterval,
+      "quality": quality,
+      "width": width,
+    };
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toJson() {
+    return toMap();
+  }
+
+  @override
+  String toString() {
+    return 'ThumbnailCaptureConfiguration{compressFormat: $compressFormat, minimumInterval: $minimumInterval, quality: $quality, width: $width}';
+  }
+}